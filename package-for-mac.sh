@@ -10,17 +10,17 @@ fi
 # This script is based on a tutorial:
 # https://cuneyt.aliustaoglu.biz/en/creating-standalone-macos-app-dmg-from-javafx/
 
-echo "Generate all Java and JavaFX files, those will be in the folder target/app"
+echo "Generate all Java and JavaFX files, those will be in the folder shrimp-ui/target/app"
 mvn clean install
-mvn javafx:jlink
+mvn -pl shrimp-ui javafx:jlink
 
 echo "Copy the necessary files into target"
-cp src/main/resources/packaging/macos/run.command target
-cp src/main/resources/packaging/macos/Info.plist target
-cp src/main/resources/packaging/shrimp_logo.icns target
+cp shrimp-ui/src/main/resources/packaging/macos/run.command shrimp-ui/target
+cp shrimp-ui/src/main/resources/packaging/macos/Info.plist shrimp-ui/target
+cp shrimp-ui/src/main/resources/packaging/shrimp_logo.icns shrimp-ui/target
 
 # Work inside the target directory from now on
-cd target
+cd shrimp-ui/target
 
 # Define constants
 RUN_COMMAND=run.command
@@ -55,4 +55,4 @@ mkdir "$DMG_DIR"
 mv "${APPNAME}.app" $DMG_DIR
 hdiutil create -volname "$APPNAME" -srcfolder $DMG_DIR -ov -format UDZO ${APPNAME}.dmg
 
-echo "Done creating the MacOS app, see target folder"
\ No newline at end of file
+echo "Done creating the MacOS app, see shrimp-ui/target folder"
\ No newline at end of file
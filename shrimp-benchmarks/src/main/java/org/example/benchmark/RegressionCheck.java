@@ -0,0 +1,282 @@
+package org.example.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a check of the results of a benchmark run against the results of a baseline run,
+ * which rejects the run if a benchmark got slower, or allocates more per operation, than the
+ * tolerance allows.
+ * <p>
+ * The results are read from the CSV files written by JMH with {@code -rf csv}. A result is the
+ * score of a benchmark with its parameters. The primary scores are compared by their mode: a
+ * throughput must not drop below the baseline, and the times of the other modes must not rise
+ * above it. Of the secondary scores, only {@code gc.alloc.rate.norm} of the GC profiler is
+ * compared, since it does not depend on the speed of the machine. Allocations below
+ * {@value #ALLOCATION_NOISE_BYTES} bytes per operation are taken as noise. A compared score of
+ * the baseline that is missing from the run, like a benchmark that was removed, renamed or
+ * failed, is reported too, so a regression cannot hide behind a benchmark that stopped running.
+ * <p>
+ * Record a baseline, then check a run against it:
+ * <pre>
+ * java -jar shrimp-benchmarks/target/benchmarks.jar -prof gc -rf csv -rff baseline.csv
+ * java -jar shrimp-benchmarks/target/benchmarks.jar -prof gc -rf csv -rff current.csv
+ * java -cp shrimp-benchmarks/target/benchmarks.jar org.example.benchmark.RegressionCheck \
+ *     baseline.csv current.csv 10
+ * </pre>
+ * The last command exits with the status {@code 1} if any benchmark regressed or is missing.
+ */
+public class RegressionCheck {
+    /**
+     * The tolerance used when none is given, in percent.
+     */
+    public static final double DEFAULT_TOLERANCE_PERCENT = 10;
+    /**
+     * The bytes allocated per operation that are taken as noise.
+     */
+    public static final double ALLOCATION_NOISE_BYTES = 16;
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private final double tolerance;
+
+    /**
+     * Represents the score of a benchmark with its parameters.
+     *
+     * @param benchmark the name of the benchmark, with the label of a secondary score.
+     * @param parameters the parameters of the benchmark, joined.
+     * @param mode the mode of the benchmark, like {@code thrpt} or {@code avgt}.
+     * @param score the score.
+     * @param unit the unit of the score.
+     */
+    public record Result(String benchmark, String parameters, String mode, double score,
+                         String unit) {
+        /**
+         * Gets the key telling the results of a run apart.
+         *
+         * @return the benchmark and its parameters.
+         */
+        public String key() {
+            return this.parameters.isEmpty() ? this.benchmark
+                                             : this.benchmark + " [" + this.parameters + "]";
+        }
+
+        /**
+         * Checks if this result is a primary score, rather than the score of a profiler.
+         *
+         * @return {@code true} if the result is a primary score, {@code false} otherwise.
+         */
+        public boolean isPrimary() {
+            return this.benchmark.indexOf(':') < 0;
+        }
+
+        /**
+         * Checks if this result is the bytes allocated per operation.
+         *
+         * @return {@code true} if the result is the allocation per operation,
+         *     {@code false} otherwise.
+         */
+        public boolean isAllocation() {
+            return this.benchmark.endsWith(ALLOCATION_METRIC);
+        }
+    }
+
+    /**
+     * Creates a new instance of {@code RegressionCheck}.
+     *
+     * @param tolerancePercent how much worse than the baseline a score may be, in percent.
+     * @throws IllegalArgumentException if the tolerance is negative or not a number.
+     */
+    public RegressionCheck(double tolerancePercent) throws IllegalArgumentException {
+        if (!(tolerancePercent >= 0)) {
+            throw new IllegalArgumentException("tolerancePercent cannot be less than 0");
+        }
+        this.tolerance = tolerancePercent / 100;
+    }
+
+    /**
+     * Compares the results of a run to the results of the baseline. Benchmarks missing from the
+     * baseline are not compared, and compared scores of the baseline missing from the run are
+     * reported after the regressions.
+     *
+     * @param baseline the results of the baseline.
+     * @param current the results of the run.
+     * @return a line describing every regression and missing score, which is empty if there
+     *     were none.
+     * @throws IllegalArgumentException if any of the parameters given are set to {@code null}.
+     */
+    public List<String> compare(List<Result> baseline, List<Result> current)
+            throws IllegalArgumentException {
+        if (baseline == null) {
+            throw new IllegalArgumentException("baseline cannot be set to null");
+        }
+        if (current == null) {
+            throw new IllegalArgumentException("current cannot be set to null");
+        }
+        Map<String, Result> baselineResults = new LinkedHashMap<String, Result>();
+        for (Result result : baseline) {
+            baselineResults.put(result.key(), result);
+        }
+        List<String> regressions = new ArrayList<String>();
+        for (Result result : current) {
+            Result before = baselineResults.remove(result.key());
+            if (before != null && this.isRegression(before, result)) {
+                regressions.add(String.format("%s: %.3f %s -> %.3f %s", result.key(),
+                                              before.score(), before.unit(), result.score(),
+                                              result.unit()));
+            }
+        }
+        for (Result missing : baselineResults.values()) {
+            if (missing.isPrimary() || missing.isAllocation()) {
+                regressions.add(String.format("%s: %.3f %s -> missing from the run",
+                                              missing.key(), missing.score(), missing.unit()));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Checks if a result is worse than the baseline by more than the tolerance.
+     *
+     * @param before the result of the baseline.
+     * @param after the result of the run.
+     * @return {@code true} if the result regressed, {@code false} otherwise.
+     */
+    private boolean isRegression(Result before, Result after) {
+        if (!before.unit().equals(after.unit())) {
+            return false;
+        }
+        if (after.isAllocation()) {
+            return after.score() > before.score() * (1 + this.tolerance) + ALLOCATION_NOISE_BYTES;
+        }
+        if (!after.isPrimary()) {
+            return false;
+        }
+        if (after.mode().equals("thrpt")) {
+            return after.score() < before.score() * (1 - this.tolerance);
+        }
+        return after.score() > before.score() * (1 + this.tolerance);
+    }
+
+    /**
+     * Reads the results from a CSV file written by JMH.
+     *
+     * @param path the path of the file.
+     * @return the results in the file.
+     * @throws IOException if the file could not be read, or is not a JMH CSV file.
+     */
+    public static List<Result> read(Path path) throws IOException {
+        return parse(Files.readAllLines(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses the lines of a CSV file written by JMH.
+     *
+     * @param lines the lines of the file, starting with the header.
+     * @return the results in the lines.
+     * @throws IOException if the lines are not a JMH CSV file.
+     */
+    static List<Result> parse(List<String> lines) throws IOException {
+        if (lines.isEmpty() || !splitLine(lines.get(0)).get(0).equals("Benchmark")) {
+            throw new IOException("Not a JMH CSV file");
+        }
+        List<String> header = splitLine(lines.get(0));
+        List<Result> results = new ArrayList<Result>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = splitLine(line);
+            if (fields.size() < 7) {
+                throw new IOException("Malformed line: " + line);
+            }
+            StringBuilder parameters = new StringBuilder();
+            for (int index = 7; index < fields.size() && index < header.size(); index++) {
+                if (!fields.get(index).isEmpty()) {
+                    if (parameters.length() > 0) {
+                        parameters.append(", ");
+                    }
+                    parameters.append(header.get(index).replace("Param: ", "")).append('=')
+                              .append(fields.get(index));
+                }
+            }
+            try {
+                results.add(new Result(fields.get(0).replace("·", ""), parameters.toString(),
+                                       fields.get(1), Double.parseDouble(fields.get(4)),
+                                       fields.get(6)));
+            }
+            catch (NumberFormatException exception) {
+                throw new IOException("Malformed score: " + line);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Splits a CSV line into its fields, removing the quotes around the fields.
+     *
+     * @param line the line.
+     * @return the fields of the line.
+     */
+    private static List<String> splitLine(String line) {
+        List<String> fields = new ArrayList<String>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            char character = line.charAt(index);
+            if (character == '"') {
+                if (quoted && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                    field.append('"');
+                    index++;
+                }
+                else {
+                    quoted = !quoted;
+                }
+            }
+            else if (character == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            }
+            else {
+                field.append(character);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Compares a run to a baseline, and exits with the status {@code 1} if any benchmark
+     * regressed or is missing from the run.
+     *
+     * @param args the baseline CSV file, the CSV file of the run, and optionally the tolerance
+     *             in percent.
+     * @throws IOException if the files could not be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: RegressionCheck <baseline.csv> <current.csv> "
+                               + "[tolerance percent]");
+            System.exit(2);
+        }
+        double tolerancePercent = args.length > 2 ? Double.parseDouble(args[2])
+                                                  : DEFAULT_TOLERANCE_PERCENT;
+        List<String> regressions = new RegressionCheck(tolerancePercent)
+                .compare(read(Path.of(args[0])), read(Path.of(args[1])));
+        if (regressions.isEmpty()) {
+            System.out.println("No benchmark regressed by more than " + tolerancePercent + "%.");
+        }
+        else {
+            System.out.println(regressions.size() + " benchmarks regressed by more than "
+                               + tolerancePercent + "% or are missing from the run:");
+            for (String regression : regressions) {
+                System.out.println("  " + regression);
+            }
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks finding out if the rounds of a game are communication rounds, the way the round
+ * timer and the game screens do at the start of every round. The {@link CommunicationSchedule}
+ * parses the communication rounds of the {@link GameSettings} once, where the screens used to
+ * split and parse them into a list for every round.
+ * <p>
+ * Run the benchmarks with
+ * {@code java -jar shrimp-benchmarks/target/benchmarks.jar CommunicationScheduleBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommunicationScheduleBenchmark {
+    private static final int NUMBER_OF_ROUNDS = 10;
+    private GameSettings gameSettings;
+
+    /**
+     * Creates the settings of a game of {@value #NUMBER_OF_ROUNDS} rounds with three
+     * communication rounds.
+     */
+    @Setup
+    public void setUp() {
+        this.gameSettings = new GameSettings(3, NUMBER_OF_ROUNDS, 60, "2+5+8", 30, 10, 50);
+    }
+
+    /**
+     * Finds the communication rounds by splitting and parsing the communication rounds for every
+     * round.
+     *
+     * @return the number of communication rounds found.
+     */
+    @Benchmark
+    public int splitAndParse() {
+        int found = 0;
+        for (int round = 1; round <= NUMBER_OF_ROUNDS; round++) {
+            List<Integer> commRoundNums = new ArrayList<Integer>();
+            for (String communicationRound : this.gameSettings.getCommunicationRounds()
+                                                              .split("\\+")) {
+                commRoundNums.add(Integer.parseInt(communicationRound));
+            }
+            if (commRoundNums.contains(round)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the communication rounds with the schedule of the settings.
+     *
+     * @return the number of communication rounds found.
+     */
+    @Benchmark
+    public int schedule() {
+        int found = 0;
+        CommunicationSchedule schedule = this.gameSettings.getCommunicationSchedule();
+        for (int round = 1; round <= NUMBER_OF_ROUNDS; round++) {
+            if (schedule.isCommunicationRound(round)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Runs the benchmarks with the GC profiler.
+     *
+     * @param args the command line arguments.
+     * @throws RunnerException if the benchmarks could not be run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CommunicationScheduleBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
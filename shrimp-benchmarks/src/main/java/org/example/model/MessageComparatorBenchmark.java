@@ -0,0 +1,121 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the sorting of a chat log with the {@link MessageComparator}, the way the game
+ * over screen sorts the messages of a game. The messages are decoded into {@link ChatMessage}s
+ * once, when they are received, so sorting only compares their parsed keys. The game adds the
+ * messages to a {@link ChatLog} one at a time instead, which places every message with a binary
+ * search. The messages are shuffled with a fixed seed, so every run sorts the same order.
+ * <p>
+ * Run the benchmarks with
+ * {@code java -jar shrimp-benchmarks/target/benchmarks.jar MessageComparatorBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageComparatorBenchmark {
+    @Param({"100", "10000"})
+    private int numberOfMessages;
+    private List<String> lines;
+    private List<ChatMessage> messages;
+
+    /**
+     * Creates the shuffled chat log.
+     */
+    @Setup
+    public void setUp() {
+        this.lines = new ArrayList<String>();
+        for (int index = 0; index < this.numberOfMessages; index++) {
+            int second = index % 86400;
+            this.lines.add("Player" + index % 3 + "☐message number " + index + "☐"
+                              + String.format("%02d:%02d:%02d", second / 3600, second / 60 % 60,
+                                              second % 60));
+        }
+        Collections.shuffle(this.lines, new Random(42));
+        this.messages = new ArrayList<ChatMessage>();
+        for (String line : this.lines) {
+            this.messages.add(ChatMessage.decode(line));
+        }
+    }
+
+    /**
+     * Sorts a copy of the chat log.
+     *
+     * @return the sorted chat log.
+     */
+    @Benchmark
+    public List<ChatMessage> sort() {
+        List<ChatMessage> sorted = new ArrayList<ChatMessage>(this.messages);
+        Collections.sort(sorted, new MessageComparator());
+        return sorted;
+    }
+
+    /**
+     * Adds the messages to a chat log one at a time, the way the game adds them as they are
+     * received.
+     *
+     * @return the chat log.
+     */
+    @Benchmark
+    public ChatLog addToChatLog() {
+        ChatLog chatLog = new ChatLog();
+        for (ChatMessage message : this.messages) {
+            chatLog.add(message);
+        }
+        return chatLog;
+    }
+
+    /**
+     * Decodes the chat log from the wire format, the way the messages are decoded as they are
+     * received.
+     *
+     * @return the messages decoded.
+     */
+    @Benchmark
+    public List<ChatMessage> decode() {
+        List<ChatMessage> decoded = new ArrayList<ChatMessage>(this.lines.size());
+        for (String line : this.lines) {
+            decoded.add(ChatMessage.decode(line));
+        }
+        return decoded;
+    }
+
+    /**
+     * Runs the benchmarks with the GC profiler.
+     *
+     * @param args the command line arguments.
+     * @throws RunnerException if the benchmarks could not be run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MessageComparatorBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the reads of {@link Round}s done when a scoreboard is rendered: the screens read
+ * the total amount of shrimp of a round, and look the players of the round up by name to read
+ * what each of them caught and earned. The rounds are recorded in a {@link GameLedger} the way a
+ * game records them, so the reads by name are array reads that should allocate nothing.
+ * <p>
+ * Run the benchmarks with
+ * {@code java -jar shrimp-benchmarks/target/benchmarks.jar RoundBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundBenchmark {
+    @Param({"3", "8"})
+    private int numberOfPlayers;
+    @Param({"10", "100"})
+    private int numberOfRounds;
+    private GameLedger ledger;
+    private List<Round> rounds;
+    private List<String> playerNames;
+
+    /**
+     * Creates the rounds of a game with the number of players and rounds benchmarked.
+     */
+    @Setup
+    public void setUp() {
+        this.playerNames = new ArrayList<String>();
+        List<Player> players = new ArrayList<Player>();
+        for (int index = 0; index < this.numberOfPlayers; index++) {
+            this.playerNames.add("Player" + index);
+            players.add(new Player("Player" + index, 100));
+        }
+        this.ledger = new GameLedger(players, this.numberOfRounds);
+        this.rounds = new ArrayList<Round>();
+        for (int number = 1; number <= this.numberOfRounds; number++) {
+            for (int index = 0; index < this.numberOfPlayers; index++) {
+                this.ledger.recordResult(number, this.playerNames.get(index),
+                                         10 + (number + index) % 40, 100 * index + number,
+                                         (100 * index + number) * number);
+            }
+            this.rounds.add(this.ledger.recordRound(number, 12));
+        }
+    }
+
+    /**
+     * Reads the total amount of shrimp of every round.
+     *
+     * @return the sum of the totals.
+     */
+    @Benchmark
+    public int totalAmountOfShrimp() {
+        int total = 0;
+        for (Round round : this.rounds) {
+            total += round.getTotalAmountOfShrimp();
+        }
+        return total;
+    }
+
+    /**
+     * Renders a scoreboard row of every round: the total amount of shrimp, and the shrimp caught
+     * and the money earned by every player, looked up by name.
+     *
+     * @return the sum of the values read.
+     */
+    @Benchmark
+    public long scoreboard() {
+        long sum = 0;
+        for (Round round : this.rounds) {
+            sum += round.getTotalAmountOfShrimp();
+            for (String playerName : this.playerNames) {
+                Player player = round.getPlayers().get(playerName);
+                sum += round.getPlayerShrimpCaughtMap().get(player);
+                sum += round.getPlayerMoneyMap().get(player);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Renders a scoreboard row of every round the way the scoreboard table does: the total
+     * amount of shrimp, and the shrimp caught, the money and the profit per kilogram of every
+     * player, read by name from the columns of the ledger.
+     *
+     * @return the sum of the values read.
+     */
+    @Benchmark
+    public long scoreboardByName() {
+        long sum = 0;
+        for (Round round : this.rounds) {
+            sum += round.getTotalAmountOfShrimp();
+            for (String playerName : this.playerNames) {
+                sum += round.getShrimpCaught(playerName);
+                sum += round.getMoney(playerName);
+                sum += round.getProfitPerKilogram(playerName);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the shrimp caught by every player over the whole game, scanning the columns of the
+     * ledger.
+     *
+     * @return the sum of the totals.
+     */
+    @Benchmark
+    public long totalShrimpCaughtPerPlayer() {
+        long sum = 0;
+        for (int index = 0; index < this.ledger.getNumberOfPlayers(); index++) {
+            sum += this.ledger.getTotalShrimpCaught(index);
+        }
+        return sum;
+    }
+
+    /**
+     * Runs the benchmarks with the GC profiler.
+     *
+     * @param args the command line arguments.
+     * @throws RunnerException if the benchmarks could not be run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RoundBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.example.model.Lobby;
+import org.example.network.protocol.ProtocolCodec;
+import org.example.network.protocol.ServerMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the decoding of server packets with {@link PacketTokenizer} against the decoding
+ * with {@link String#split(String)} that the {@code ServerUpdateListener} used before. The
+ * lobby update is decoded through the {@link ProtocolCodec}, which is the path the listener
+ * takes.
+ * <p>
+ * The benchmarks are run with the GC profiler, so {@code gc.alloc.rate.norm} shows the bytes
+ * allocated per packet before and after. Run them with the main method of this class, or with
+ * {@code java -jar shrimp-benchmarks/target/benchmarks.jar PacketTokenizerBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketTokenizerBenchmark {
+    private static final int NUMBER_OF_LOBBIES = 50;
+    private String lobbyPacket;
+    private String roundFinishedPacket;
+    private ProtocolCodec codec;
+    private PacketTokenizer packet;
+
+    /**
+     * Creates the packets decoded by the benchmarks.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder("UPDATE LOBBY");
+        for (int index = 0; index < NUMBER_OF_LOBBIES; index++) {
+            builder.append(" Lobby").append(index).append('.').append(index % 3).append(".3");
+        }
+        this.lobbyPacket = builder.toString();
+        this.roundFinishedPacket = "UPDATE ROUND_FINISHED 12 Atari 40 480 Nova 35 420 Zeta 50 600";
+        this.codec = new ProtocolCodec();
+        this.packet = new PacketTokenizer();
+    }
+
+    /**
+     * Decodes an UPDATE LOBBY packet by splitting it.
+     *
+     * @return the lobbies decoded.
+     */
+    @Benchmark
+    public List<Lobby> splitLobbyUpdate() {
+        String[] packetData = this.lobbyPacket.split(" ");
+        List<Lobby> lobbiesInServer = new ArrayList<Lobby>();
+        for (int index = 2; index < packetData.length; index++) {
+            String[] lobby = packetData[index].split("\\.");
+            lobbiesInServer.add(
+                    new Lobby(lobby[0], Integer.parseInt(lobby[1]), Integer.parseInt(lobby[2])));
+        }
+        return lobbiesInServer;
+    }
+
+    /**
+     * Decodes an UPDATE LOBBY packet with the codec.
+     *
+     * @return the update decoded.
+     */
+    @Benchmark
+    public ServerMessage tokenizeLobbyUpdate() {
+        return this.codec.decode(this.lobbyPacket);
+    }
+
+    /**
+     * Decodes the numbers of an UPDATE ROUND_FINISHED packet by splitting it.
+     *
+     * @param blackhole consumes the values decoded.
+     */
+    @Benchmark
+    public void splitRoundFinished(Blackhole blackhole) {
+        String[] packetData = this.roundFinishedPacket.split(" ");
+        blackhole.consume(Integer.parseInt(packetData[2]));
+        for (int index = 3; index < packetData.length; index += 3) {
+            blackhole.consume(packetData[index].equals("Atari"));
+            blackhole.consume(Integer.parseInt(packetData[index + 1]));
+            blackhole.consume(Integer.parseInt(packetData[index + 2]));
+        }
+    }
+
+    /**
+     * Decodes the numbers of an UPDATE ROUND_FINISHED packet with the tokenizer.
+     *
+     * @param blackhole consumes the values decoded.
+     */
+    @Benchmark
+    public void tokenizeRoundFinished(Blackhole blackhole) {
+        this.packet.reset(this.roundFinishedPacket);
+        this.packet.skip(' ');
+        this.packet.skip(' ');
+        blackhole.consume(this.packet.nextInt(' '));
+        while (this.packet.hasMoreTokens()) {
+            blackhole.consume(this.packet.nextEquals(' ', "Atari"));
+            blackhole.consume(this.packet.nextInt(' '));
+            blackhole.consume(this.packet.nextInt(' '));
+        }
+    }
+
+    /**
+     * Runs the benchmarks with the GC profiler.
+     *
+     * @param args the command line arguments.
+     * @throws RunnerException if the benchmarks could not be run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PacketTokenizerBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.network;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the sending and receiving of lines by a {@link ServerConnection} over a loopback
+ * socket. The other end of the socket is an echo server, so every benchmarked operation is a
+ * line sent and the same line received, through the transport benchmarked.
+ * <p>
+ * Run the benchmarks with
+ * {@code java -jar shrimp-benchmarks/target/benchmarks.jar ServerConnectionBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerConnectionBenchmark {
+    @Param({"BLOCKING", "NIO"})
+    private String transport;
+    @Param({"CATCH_SHRIMP 25",
+            "CHAT_MESSAGE let⁞us⁞all⁞catch⁞less⁞shrimp⁞this⁞round⁞so⁞the⁞price⁞goes⁞up"})
+    private String line;
+    private ServerSocket serverSocket;
+    private Thread echoThread;
+    private ServerConnection serverConnection;
+
+    /**
+     * Starts the echo server and connects to it.
+     *
+     * @throws IOException if the server could not be started.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        this.echoThread = new Thread(this::echo, "echo-server");
+        this.echoThread.setDaemon(true);
+        this.echoThread.start();
+        Transport connectionTransport = this.transport.equals("NIO")
+                                        ? new NioSocketTransport() : new BlockingSocketTransport();
+        this.serverConnection = new ServerConnection(
+                InetAddress.getLoopbackAddress().getHostAddress(), this.serverSocket.getLocalPort(),
+                connectionTransport);
+        this.serverConnection.connect();
+    }
+
+    /**
+     * Accepts a connection and writes every line read back to it.
+     */
+    private void echo() {
+        try (Socket socket = this.serverSocket.accept();
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter writer = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            String echoed = reader.readLine();
+            while (echoed != null) {
+                writer.write(echoed);
+                writer.newLine();
+                writer.flush();
+                echoed = reader.readLine();
+            }
+        }
+        catch (IOException exception) {
+            // The connection was closed by the benchmark.
+        }
+    }
+
+    /**
+     * Disconnects and stops the echo server.
+     *
+     * @throws IOException if the server could not be closed.
+     * @throws InterruptedException if the thread was interrupted while waiting for the server.
+     */
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        this.serverConnection.disconnect();
+        this.serverSocket.close();
+        this.echoThread.join(1000);
+    }
+
+    /**
+     * Sends a line and receives it back.
+     *
+     * @return the line received.
+     */
+    @Benchmark
+    public String roundTrip() {
+        this.serverConnection.send(this.line);
+        return this.serverConnection.receive();
+    }
+
+    /**
+     * Runs the benchmarks with the GC profiler.
+     *
+     * @param args the command line arguments.
+     * @throws RunnerException if the benchmarks could not be run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ServerConnectionBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
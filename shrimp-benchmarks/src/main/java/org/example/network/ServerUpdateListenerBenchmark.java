@@ -0,0 +1,180 @@
+package org.example.network;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.network.protocol.FinishedGame;
+import org.example.network.protocol.GameStarted;
+import org.example.network.protocol.LobbyUpdate;
+import org.example.network.protocol.MessageSent;
+import org.example.network.protocol.ProtocolCodec;
+import org.example.network.protocol.RoundFinished;
+import org.example.network.protocol.ServerMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the handling of every type of packet the {@link ServerUpdateListener} receives.
+ * The packets are decoded with a {@link ProtocolCodec} alone, and handled by the listener, which
+ * decodes them and publishes them to a {@link GameEventSink} that consumes the events directly,
+ * or hands the replies to the {@link ServerConnection}.
+ * <p>
+ * The packets are sized like the ones of a game of three players: a lobby list of 50 lobbies,
+ * and a finished game of 10 rounds with a message per round. Run the benchmarks with
+ * {@code java -jar shrimp-benchmarks/target/benchmarks.jar ServerUpdateListenerBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerUpdateListenerBenchmark {
+    private static final int NUMBER_OF_LOBBIES = 50;
+    private static final int NUMBER_OF_ROUNDS = 10;
+    @Param({"LOBBY", "GAME_STARTED", "ROUND_FINISHED", "MESSAGE_SENT", "FINISHED_GAME",
+            "LOBBY_LIST", "STATUS"})
+    private String messageType;
+    private String packet;
+    private ProtocolCodec codec;
+    private ServerConnection serverConnection;
+    private ServerUpdateListener listener;
+
+    /**
+     * Creates the packet of the type benchmarked.
+     */
+    @Setup
+    public void setUp() {
+        this.packet = switch (this.messageType) {
+            case "LOBBY" -> "UPDATE LOBBY" + createLobbies();
+            case "GAME_STARTED" -> "UPDATE GAME_STARTED Nova Zeta 8 60 5+8 30 10 50 2 Ocean";
+            case "ROUND_FINISHED" -> "UPDATE ROUND_FINISHED 12 Atari 40 480 Nova 35 420 Zeta 50 600";
+            case "MESSAGE_SENT" -> "UPDATE MESSAGE_SENT Atari let⁞us⁞all⁞catch⁞less 12:00:01";
+            case "FINISHED_GAME" -> createFinishedGame();
+            case "LOBBY_LIST" -> "LOBBY_LIST" + createLobbies();
+            case "STATUS" -> "CAUGHT_SUCCESSFULLY";
+            default -> throw new IllegalArgumentException("Unknown message type " + this.messageType);
+        };
+        this.codec = new ProtocolCodec();
+    }
+
+    /**
+     * Creates the listener, publishing to a sink that consumes the events.
+     *
+     * @param blackhole consumes the events published.
+     */
+    @Setup
+    public void setUpListener(Blackhole blackhole) {
+        this.serverConnection = new ServerConnection("localhost", 0);
+        GameEventSink sink = new GameEventSink() {
+            @Override
+            public void lobbiesUpdated(LobbyUpdate lobbyUpdate) {
+                blackhole.consume(lobbyUpdate);
+            }
+
+            @Override
+            public void gameStarted(GameStarted gameStarted) {
+                blackhole.consume(gameStarted);
+            }
+
+            @Override
+            public void roundFinished(RoundFinished roundFinished) {
+                blackhole.consume(roundFinished);
+            }
+
+            @Override
+            public void messageSent(MessageSent messageSent) {
+                blackhole.consume(messageSent);
+            }
+
+            @Override
+            public void gameFinished(FinishedGame finishedGame) {
+                blackhole.consume(finishedGame);
+            }
+        };
+        this.listener = new ServerUpdateListener(this.serverConnection, sink);
+    }
+
+    /**
+     * Creates the lobbies of a lobby packet, each after a space.
+     *
+     * @return the lobbies.
+     */
+    private static String createLobbies() {
+        StringBuilder builder = new StringBuilder();
+        for (int index = 0; index < NUMBER_OF_LOBBIES; index++) {
+            builder.append(" Lobby").append(index).append('.').append(index % 3).append(".3");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Creates an UPDATE FINISHED_GAME packet in the format sent by the server.
+     *
+     * @return the packet.
+     */
+    private static String createFinishedGame() {
+        StringBuilder rounds = new StringBuilder();
+        StringBuilder chat = new StringBuilder();
+        for (int round = 1; round <= NUMBER_OF_ROUNDS; round++) {
+            if (round > 1) {
+                rounds.append(',');
+                chat.append('◊');
+            }
+            rounds.append(round).append(".40.35.50.125.12.1.480.").append(480 * round)
+                  .append(".420.").append(420 * round).append(".600.").append(600 * round);
+            chat.append("Atari☐let⁞us⁞all⁞catch⁞less☐12:00:").append(10 + round);
+        }
+        return "UPDATE FINISHED_GAME Ocean 1 Atari.Nova.Zeta " + rounds + " 3." + NUMBER_OF_ROUNDS
+               + ".60.1.30.10.50 " + chat;
+    }
+
+    /**
+     * Decodes the packet of the type benchmarked.
+     *
+     * @return the message decoded.
+     */
+    @Benchmark
+    public ServerMessage decode() {
+        return this.codec.decode(this.packet);
+    }
+
+    /**
+     * Handles the packet of the type benchmarked with the listener. The replies handed to the
+     * connection are taken again, so the queue of unmatched replies does not fill up.
+     *
+     * @return the reply handed to the connection, or {@code null} for an update.
+     */
+    @Benchmark
+    public Reply handle() {
+        this.listener.handle(this.packet);
+        return this.serverConnection.getUnmatchedReplies().poll();
+    }
+
+    /**
+     * Runs the benchmarks with the GC profiler.
+     *
+     * @param args the command line arguments.
+     * @throws RunnerException if the benchmarks could not be run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ServerUpdateListenerBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.network.protocol;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.model.GameResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the construction of a {@link GameResult} from an {@code UPDATE FINISHED_GAME}
+ * packet, the way it is done when an admin receives a finished game: the packet is decoded into
+ * a {@link FinishedGame}, and its CSV data is built.
+ * <p>
+ * The games are of three players with a message per round. Run the benchmarks with
+ * {@code java -jar shrimp-benchmarks/target/benchmarks.jar FinishedGameBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FinishedGameBenchmark {
+    @Param({"10", "100"})
+    private int numberOfRounds;
+    private String packet;
+    private FinishedGame finishedGame;
+    private ProtocolCodec codec;
+
+    /**
+     * Creates the packet of a finished game with the number of rounds benchmarked.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder rounds = new StringBuilder();
+        StringBuilder chat = new StringBuilder();
+        for (int round = 1; round <= this.numberOfRounds; round++) {
+            if (round > 1) {
+                rounds.append(',');
+                chat.append('◊');
+            }
+            rounds.append(round).append(".40.35.50.125.12.1.480.").append(480 * round)
+                  .append(".420.").append(420 * round).append(".600.").append(600 * round);
+            chat.append("Atari☐let⁞us⁞all⁞catch⁞less☐12:").append(10 + round / 60).append(':')
+                .append(10 + round % 50);
+        }
+        this.packet = "UPDATE FINISHED_GAME Ocean 1 Atari.Nova.Zeta " + rounds + " 3."
+                      + this.numberOfRounds + ".60.1.30.10.50 " + chat;
+        this.codec = new ProtocolCodec();
+        this.finishedGame = (FinishedGame) this.codec.decode(this.packet);
+    }
+
+    /**
+     * Builds the CSV data of a decoded game.
+     *
+     * @return the game result.
+     */
+    @Benchmark
+    public GameResult buildCsvData() {
+        return new GameResult(this.finishedGame.resultName(), this.finishedGame.numberOfRounds(),
+                              this.finishedGame.toCsvData(), "12:30:00");
+    }
+
+    /**
+     * Decodes the packet and builds the CSV data of the game.
+     *
+     * @return the game result.
+     */
+    @Benchmark
+    public GameResult decodeAndBuildCsvData() {
+        FinishedGame decoded = (FinishedGame) this.codec.decode(this.packet);
+        return new GameResult(decoded.resultName(), decoded.numberOfRounds(),
+                              decoded.toCsvData(), "12:30:00");
+    }
+
+    /**
+     * Runs the benchmarks with the GC profiler.
+     *
+     * @param args the command line arguments.
+     * @throws RunnerException if the benchmarks could not be run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FinishedGameBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link RegressionCheck} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for reading the results of a JMH CSV file.</li>
+ * <li>Test for finding the benchmarks that got slower or allocate more than the tolerance
+ * allows, and the benchmarks of the baseline missing from the run.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for reading files that are not JMH CSV files, and creating instances of
+ * {@link RegressionCheck} where the tolerance is invalid.</li>
+ * </ul>
+ */
+public class RegressionCheckTest {
+    private static final String HEADER = "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\","
+            + "\"Score\",\"Score Error (99.9%)\",\"Unit\",\"Param: messageType\"";
+
+    /**
+     * Positive test where the {@link RegressionCheck} class is able to read a JMH CSV file.
+     * <p>
+     * Tests that the parameters are joined into the key of a result, and that the scores of the
+     * GC profiler are told apart from the primary scores.
+     */
+    @Test
+    public void testParse() throws IOException {
+        List<RegressionCheck.Result> results = RegressionCheck.parse(List.of(
+                HEADER,
+                "\"org.example.Decode.decode\",\"thrpt\",1,5,146.457970,1.2,\"ops/ms\",LOBBY",
+                "\"org.example.Decode.decode:·gc.alloc.rate.norm\",\"thrpt\",1,5,4560.0,0.1,"
+                + "\"B/op\",LOBBY",
+                "",
+                "\"org.example.Sort.sort\",\"avgt\",1,5,2.5,NaN,\"ms/op\","));
+
+        assertEquals(3, results.size());
+        assertEquals("org.example.Decode.decode [messageType=LOBBY]", results.get(0).key());
+        assertEquals(146.45797, results.get(0).score());
+        assertTrue(results.get(0).isPrimary());
+        assertTrue(results.get(1).isAllocation());
+        assertEquals("org.example.Decode.decode:gc.alloc.rate.norm [messageType=LOBBY]",
+                     results.get(1).key());
+        assertEquals("org.example.Sort.sort", results.get(2).key());
+    }
+
+    /**
+     * Positive test where the {@link RegressionCheck} class is able to find regressions.
+     * <p>
+     * Tests that a drop in throughput, a rise in time and a rise in allocation beyond the
+     * tolerance are regressions, that a benchmark and an allocation of the baseline missing
+     * from the run are reported after them, and that changes within the tolerance,
+     * improvements, rates and benchmarks missing from the baseline are not.
+     */
+    @Test
+    public void testCompare() {
+        List<RegressionCheck.Result> baseline = List.of(
+                new RegressionCheck.Result("A.fast", "", "thrpt", 100, "ops/ms"),
+                new RegressionCheck.Result("A.slow", "", "thrpt", 100, "ops/ms"),
+                new RegressionCheck.Result("A.slow:gc.alloc.rate.norm", "", "thrpt", 0, "B/op"),
+                new RegressionCheck.Result("A.slow:gc.alloc.rate", "", "thrpt", 100, "MB/sec"),
+                new RegressionCheck.Result("B.time", "n=1", "avgt", 10, "ms/op"),
+                new RegressionCheck.Result("B.time", "n=2", "avgt", 10, "ms/op"),
+                new RegressionCheck.Result("B.time:gc.alloc.rate.norm", "n=2", "avgt", 1000,
+                                           "B/op"),
+                new RegressionCheck.Result("D.removed", "", "thrpt", 100, "ops/ms"),
+                new RegressionCheck.Result("D.removed:gc.alloc.rate.norm", "", "thrpt", 24,
+                                           "B/op"),
+                new RegressionCheck.Result("D.removed:gc.alloc.rate", "", "thrpt", 100,
+                                           "MB/sec"));
+        List<RegressionCheck.Result> current = List.of(
+                new RegressionCheck.Result("A.fast", "", "thrpt", 95, "ops/ms"),
+                new RegressionCheck.Result("A.slow", "", "thrpt", 80, "ops/ms"),
+                new RegressionCheck.Result("A.slow:gc.alloc.rate.norm", "", "thrpt", 8, "B/op"),
+                new RegressionCheck.Result("A.slow:gc.alloc.rate", "", "thrpt", 500, "MB/sec"),
+                new RegressionCheck.Result("B.time", "n=1", "avgt", 5, "ms/op"),
+                new RegressionCheck.Result("B.time", "n=2", "avgt", 12, "ms/op"),
+                new RegressionCheck.Result("B.time:gc.alloc.rate.norm", "n=2", "avgt", 2000,
+                                           "B/op"),
+                new RegressionCheck.Result("C.new", "", "thrpt", 1, "ops/ms"));
+
+        List<String> regressions = new RegressionCheck(10).compare(baseline, current);
+
+        assertEquals(5, regressions.size());
+        assertTrue(regressions.get(0).startsWith("A.slow: 100.000 ops/ms -> 80.000 ops/ms"));
+        assertTrue(regressions.get(1).startsWith("B.time [n=2]:"));
+        assertTrue(regressions.get(2).startsWith("B.time:gc.alloc.rate.norm [n=2]:"));
+        assertEquals("D.removed: 100.000 ops/ms -> missing from the run", regressions.get(3));
+        assertTrue(regressions.get(4).startsWith("D.removed:gc.alloc.rate.norm:"));
+        assertEquals(3, new RegressionCheck(50).compare(baseline, current).size());
+    }
+
+    /**
+     * Negative test where the {@link RegressionCheck} class is given invalid input.
+     * <p>
+     * Tests that files that are not JMH CSV files and invalid tolerances are refused.
+     */
+    @Test
+    public void testInvalidInput() {
+        assertThrows(IOException.class, () -> RegressionCheck.parse(List.of()));
+        assertThrows(IOException.class, () -> RegressionCheck.parse(List.of("name,score")));
+        assertThrows(IOException.class,
+                     () -> RegressionCheck.parse(List.of(HEADER, "\"A.a\",\"thrpt\",1")));
+        assertThrows(IOException.class, () -> RegressionCheck.parse(
+                List.of(HEADER, "\"A.a\",\"thrpt\",1,5,fast,0,\"ops/ms\",")));
+        assertThrows(IllegalArgumentException.class, () -> new RegressionCheck(-1));
+        assertThrows(IllegalArgumentException.class, () -> new RegressionCheck(Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new RegressionCheck(10).compare(null, List.of()));
+    }
+}
@@ -0,0 +1,5 @@
+module org.example.core {
+    exports org.example.model;
+    exports org.example.network;
+    exports org.example.network.protocol;
+}
@@ -0,0 +1,177 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The ChatLog class holds the chat messages of a game, ordered from the oldest to the newest,
+ * the reverse of the order the {@link MessageComparator} shows them in.
+ * <p>
+ * Every message added is placed at its position with a binary search over the seconds of the
+ * day the messages were sent at, before the messages sent at the same second, so the log is never
+ * sorted again. Messages mostly arrive in the order they were sent, so they are placed at or near
+ * the end of the log and no message is moved. When the log holds more messages than it keeps, the
+ * oldest is dropped by moving the start of the log past it, and the messages dropped are only
+ * cleared once they make up the messages kept, so removing the oldest moves no message either.
+ * The {@link Listener}s are told about every message inserted and removed along with its
+ * position, so a view of the log only adds or removes one row per change. The log can be changed
+ * and read from any thread, and the listeners are told about the changes in the order they were
+ * made, on the thread that made them.
+ */
+public class ChatLog {
+  /**
+   * Represents a listener told about the changes of a chat log.
+   */
+  public interface Listener {
+    /**
+     * Called when a message was inserted into the log.
+     *
+     * @param index   the position the message was inserted at.
+     * @param message the message inserted.
+     */
+    void messageInserted(int index, ChatMessage message);
+
+    /**
+     * Called when a message was removed from the log.
+     *
+     * @param index   the position the message was removed from.
+     * @param message the message removed.
+     */
+    void messageRemoved(int index, ChatMessage message);
+  }
+
+  private final int maxMessages;
+  private final List<ChatMessage> messages;
+  private final List<Listener> listeners;
+  private int first;
+
+  /**
+   * Creates a new instance of {@code ChatLog} without messages, keeping every message added.
+   */
+  public ChatLog() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new instance of {@code ChatLog} without messages.
+   *
+   * @param maxMessages the number of messages kept.
+   * @throws IllegalArgumentException if the number of messages kept is less than {@code 1}.
+   */
+  public ChatLog(int maxMessages) throws IllegalArgumentException {
+    if (maxMessages < 1) {
+      throw new IllegalArgumentException("maxMessages cannot be less than 1");
+    }
+    this.maxMessages = maxMessages;
+    this.messages = new ArrayList<ChatMessage>();
+    this.listeners = new CopyOnWriteArrayList<Listener>();
+    this.first = 0;
+  }
+
+  /**
+   * Adds a message at its position in the log, removing the oldest message if the log holds
+   * more messages than it keeps.
+   *
+   * @param message the message to add.
+   * @return the position of the message in the log once it is added, counted from the oldest
+   *     message, or {@code -1} if it was the oldest message and was not kept.
+   * @throws IllegalArgumentException if the message given is set to {@code null}.
+   */
+  public synchronized int add(ChatMessage message) throws IllegalArgumentException {
+    if (message == null) {
+      throw new IllegalArgumentException("message cannot be set to null");
+    }
+    int index = this.insertionIndex(message.secondOfDay());
+    if (index == 0 && this.size() == this.maxMessages) {
+      return -1;
+    }
+    this.messages.add(this.first + index, message);
+    for (Listener listener : this.listeners) {
+      listener.messageInserted(index, message);
+    }
+    if (this.size() > this.maxMessages) {
+      ChatMessage removed = this.messages.get(this.first);
+      this.first++;
+      if (this.first >= this.maxMessages) {
+        this.messages.subList(0, this.first).clear();
+        this.first = 0;
+      }
+      index--;
+      for (Listener listener : this.listeners) {
+        listener.messageRemoved(0, removed);
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Adds a listener told about the changes of the log, and gets the messages the log holds when
+   * it is added, so the listener can show them before the changes it is told about.
+   *
+   * @param listener the listener to add.
+   * @return the messages in the log, from the oldest to the newest.
+   * @throws IllegalArgumentException if the listener given is set to {@code null}.
+   */
+  public synchronized List<ChatMessage> addListener(Listener listener)
+      throws IllegalArgumentException {
+    if (listener == null) {
+      throw new IllegalArgumentException("listener cannot be set to null");
+    }
+    this.listeners.add(listener);
+    return this.getMessages();
+  }
+
+  /**
+   * Removes a listener, which is no longer told about the changes of the log.
+   *
+   * @param listener the listener to remove.
+   */
+  public void removeListener(Listener listener) {
+    this.listeners.remove(listener);
+  }
+
+  /**
+   * Gets the messages in the log.
+   *
+   * @return a copy of the messages, from the oldest to the newest.
+   */
+  public synchronized List<ChatMessage> getMessages() {
+    return List.copyOf(this.messages.subList(this.first, this.messages.size()));
+  }
+
+  /**
+   * Gets the number of messages in the log.
+   *
+   * @return the number of messages.
+   */
+  public synchronized int size() {
+    return this.messages.size() - this.first;
+  }
+
+  /**
+   * Finds the position of a new message with a binary search: after the messages sent earlier,
+   * and before the messages sent at the same second or later. A message sent after every message
+   * in the log is placed at the end without searching.
+   *
+   * @param secondOfDay the second of the day the new message was sent at.
+   * @return the position of the new message, counted from the oldest message.
+   */
+  private int insertionIndex(int secondOfDay) {
+    int low = this.first;
+    int high = this.messages.size();
+    if (low == high || this.messages.get(high - 1).secondOfDay() < secondOfDay) {
+      return high - this.first;
+    }
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (this.messages.get(middle).secondOfDay() < secondOfDay) {
+        low = middle + 1;
+      }
+      else {
+        high = middle;
+      }
+    }
+    return low - this.first;
+  }
+}
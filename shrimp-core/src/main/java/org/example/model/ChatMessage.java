@@ -0,0 +1,117 @@
+package org.example.model;
+
+/**
+ * Represents a chat message sent by a player during a game.
+ * <p>
+ * The time of the message is parsed once, when the message is created, into the second of the
+ * day it was sent at, so sorting a chat log compares two {@code int} keys instead of parsing the
+ * times on every comparison. A message is converted to and from the wire format
+ * {@code <sender>☐<text>☐<time>} with {@link #encode()} and {@link #decode(String)}.
+ *
+ * @param sender      the name of the player sending the message.
+ * @param text        the text of the message.
+ * @param time        the time the message was sent, as {@code HH:mm:ss} or {@code HH:mm}.
+ * @param secondOfDay the second of the day the message was sent at, or {@code -1} if the time
+ *                    could not be parsed.
+ */
+public record ChatMessage(String sender, String text, String time, int secondOfDay) {
+  /**
+   * The separator between the fields of a message in the wire format.
+   */
+  public static final char SEPARATOR = '☐';
+
+  /**
+   * Creates a new instance of {@code ChatMessage}.
+   *
+   * @throws IllegalArgumentException if the sender, the text or the time are set to
+   *                                  {@code null}.
+   */
+  public ChatMessage {
+    if (sender == null) {
+      throw new IllegalArgumentException("sender cannot be set to null");
+    }
+    if (text == null) {
+      throw new IllegalArgumentException("text cannot be set to null");
+    }
+    if (time == null) {
+      throw new IllegalArgumentException("time cannot be set to null");
+    }
+  }
+
+  /**
+   * Creates a new instance of {@code ChatMessage}, parsing the second of the day it was sent at
+   * from its time.
+   *
+   * @param sender the name of the player sending the message.
+   * @param text   the text of the message.
+   * @param time   the time the message was sent, as {@code HH:mm:ss} or {@code HH:mm}.
+   * @throws IllegalArgumentException if any of the parameters given are set to {@code null}.
+   */
+  public ChatMessage(String sender, String text, String time) throws IllegalArgumentException {
+    this(sender, text, time, parseSecondOfDay(time));
+  }
+
+  /**
+   * Decodes a message from the wire format {@code <sender>☐<text>☐<time>}.
+   *
+   * @param line the message in the wire format.
+   * @return the message decoded.
+   * @throws IllegalArgumentException if the line is set to {@code null} or does not hold the
+   *                                  three fields of a message.
+   */
+  public static ChatMessage decode(String line) throws IllegalArgumentException {
+    if (line == null) {
+      throw new IllegalArgumentException("line cannot be set to null");
+    }
+    int textStart = line.indexOf(SEPARATOR) + 1;
+    int timeStart = line.lastIndexOf(SEPARATOR) + 1;
+    if (textStart == 0 || timeStart == textStart) {
+      throw new IllegalArgumentException("line is not a chat message: " + line);
+    }
+    return new ChatMessage(line.substring(0, textStart - 1),
+                           line.substring(textStart, timeStart - 1), line.substring(timeStart));
+  }
+
+  /**
+   * Encodes the message in the wire format {@code <sender>☐<text>☐<time>}.
+   *
+   * @return the message encoded.
+   */
+  public String encode() {
+    return this.sender + SEPARATOR + this.text + SEPARATOR + this.time;
+  }
+
+  /**
+   * Parses the second of the day of a time given as {@code HH:mm:ss} or {@code HH:mm}.
+   *
+   * @param time the time.
+   * @return the second of the day, or {@code -1} if the time could not be parsed.
+   */
+  private static int parseSecondOfDay(String time) {
+    int secondOfDay = -1;
+    if (time != null && (time.length() == 5 || time.length() == 8)) {
+      int hours = parseTwoDigits(time, 0);
+      int minutes = parseTwoDigits(time, 3);
+      int seconds = time.length() == 8 ? parseTwoDigits(time, 6) : 0;
+      boolean separated = time.charAt(2) == ':' && (time.length() == 5 || time.charAt(5) == ':');
+      if (separated && hours >= 0 && hours < 24 && minutes >= 0 && minutes < 60 && seconds >= 0
+          && seconds < 60) {
+        secondOfDay = hours * 3600 + minutes * 60 + seconds;
+      }
+    }
+    return secondOfDay;
+  }
+
+  /**
+   * Parses two decimal digits of a time.
+   *
+   * @param time  the time.
+   * @param start the position of the first digit.
+   * @return the number, or {@code -1} if the characters are not digits.
+   */
+  private static int parseTwoDigits(String time, int start) {
+    int tens = Character.digit(time.charAt(start), 10);
+    int ones = Character.digit(time.charAt(start + 1), 10);
+    return tens < 0 || ones < 0 ? -1 : tens * 10 + ones;
+  }
+}
@@ -0,0 +1,240 @@
+package org.example.model;
+
+import java.util.BitSet;
+import java.util.StringJoiner;
+
+/**
+ * The CommunicationSchedule class holds the communication rounds of a game, in which the players
+ * are allowed to chat and have more time to catch shrimp.
+ * <p>
+ * The rounds are given as numbers separated by {@code +}, like {@code 5+8}, or by {@code ,}, the
+ * way they are typed when a game is created. They are parsed once into a {@link BitSet} with a
+ * bit per round, so finding out if a round is a communication round does not split and parse the
+ * rounds again. The timeline of the game is computed at the same time: the offset at which every
+ * round starts and the time it lasts, counting only the time of the rounds themselves.
+ * <p>
+ * The constructor refuses rounds that are malformed or outside the game, for the rounds typed
+ * when a game is created. The rounds sent by a server are parsed with
+ * {@link #lenient(String, int, int, int)}, which ignores the parts that are not rounds of the
+ * game, so a game the server started is never refused by the client.
+ */
+public class CommunicationSchedule {
+  private final int numberOfRounds;
+  private final BitSet communicationRounds;
+  private final int[] roundStarts;
+
+  /**
+   * Creates a new instance of {@code CommunicationSchedule}, parsing the communication rounds
+   * given.
+   *
+   * @param communicationRounds    the communication rounds, separated by {@code +} or
+   *                               {@code ,}. An empty string is a game without communication
+   *                               rounds.
+   * @param numberOfRounds         the number of rounds in the game.
+   * @param roundTime              the time (in seconds) for each round.
+   * @param communicationRoundTime the extra time (in seconds) for communication rounds.
+   * @throws IllegalArgumentException if the communication rounds are set to {@code null}, are
+   *                                  not numbers separated by {@code +} or {@code ,}, or are not
+   *                                  rounds of the game, or if the number of rounds is less than
+   *                                  {@code 1} or the times are less than {@code 0}.
+   */
+  public CommunicationSchedule(String communicationRounds, int numberOfRounds, int roundTime,
+                               int communicationRoundTime) throws IllegalArgumentException {
+    this(communicationRounds, numberOfRounds, roundTime, communicationRoundTime, true);
+  }
+
+  /**
+   * Creates a new instance of {@code CommunicationSchedule}, parsing the communication rounds
+   * given strictly or leniently.
+   *
+   * @param communicationRounds    the communication rounds.
+   * @param numberOfRounds         the number of rounds in the game.
+   * @param roundTime              the time (in seconds) for each round.
+   * @param communicationRoundTime the extra time (in seconds) for communication rounds.
+   * @param strict                 {@code true} to refuse malformed rounds and rounds outside the
+   *                               game, or {@code false} to ignore them.
+   * @throws IllegalArgumentException if the communication rounds are set to {@code null}, if
+   *                                  they are refused by a strict parse, or if the number of
+   *                                  rounds is less than {@code 1} or the times are less than
+   *                                  {@code 0}.
+   */
+  private CommunicationSchedule(String communicationRounds, int numberOfRounds, int roundTime,
+                                int communicationRoundTime, boolean strict)
+      throws IllegalArgumentException {
+    if (communicationRounds == null) {
+      throw new IllegalArgumentException("communication rounds cannot be set to null");
+    }
+    if (numberOfRounds < 1) {
+      throw new IllegalArgumentException("number of rounds cannot be less than 1");
+    }
+    if (roundTime < 0 || communicationRoundTime < 0) {
+      throw new IllegalArgumentException("round times cannot be less than 0");
+    }
+    this.numberOfRounds = numberOfRounds;
+    this.communicationRounds = parseRounds(communicationRounds, numberOfRounds, strict);
+    this.roundStarts = new int[numberOfRounds + 1];
+    for (int round = 1; round <= numberOfRounds; round++) {
+      int duration = roundTime;
+      if (this.communicationRounds.get(round)) {
+        duration += communicationRoundTime;
+      }
+      this.roundStarts[round] = this.roundStarts[round - 1] + duration;
+    }
+  }
+
+  /**
+   * Creates a new instance of {@code CommunicationSchedule} from communication rounds sent by a
+   * server, ignoring every part of them that is not a round of the game: any character other
+   * than a digit separates rounds, and rounds outside the game are left out.
+   *
+   * @param communicationRounds    the communication rounds.
+   * @param numberOfRounds         the number of rounds in the game.
+   * @param roundTime              the time (in seconds) for each round.
+   * @param communicationRoundTime the extra time (in seconds) for communication rounds.
+   * @return the schedule of the rounds of the game found in the communication rounds.
+   * @throws IllegalArgumentException if the communication rounds are set to {@code null}, or if
+   *                                  the number of rounds is less than {@code 1} or the times
+   *                                  are less than {@code 0}.
+   */
+  public static CommunicationSchedule lenient(String communicationRounds, int numberOfRounds,
+                                              int roundTime, int communicationRoundTime)
+      throws IllegalArgumentException {
+    return new CommunicationSchedule(communicationRounds, numberOfRounds, roundTime,
+                                     communicationRoundTime, false);
+  }
+
+  /**
+   * Checks if a round is a communication round.
+   *
+   * @param round the number of the round, starting at {@code 1}.
+   * @return {@code true} if the round is a communication round, or {@code false} if it is not or
+   *     is not a round of the game.
+   */
+  public boolean isCommunicationRound(int round) {
+    return round >= 1 && this.communicationRounds.get(round);
+  }
+
+  /**
+   * Gets the first communication round at or after a round.
+   *
+   * @param round the number of the round, starting at {@code 1}.
+   * @return the number of the communication round, or {@code -1} if there is none left.
+   */
+  public int nextCommunicationRound(int round) {
+    return this.communicationRounds.nextSetBit(Math.max(round, 1));
+  }
+
+  /**
+   * Gets the number of communication rounds in the game.
+   *
+   * @return the number of communication rounds.
+   */
+  public int getNumberOfCommunicationRounds() {
+    return this.communicationRounds.cardinality();
+  }
+
+  /**
+   * Gets the time a round lasts, which is longer in communication rounds.
+   *
+   * @param round the number of the round, starting at {@code 1}.
+   * @return the time (in seconds) the round lasts.
+   * @throws IllegalArgumentException if the round is not a round of the game.
+   */
+  public int getRoundDuration(int round) throws IllegalArgumentException {
+    this.checkRound(round);
+    return this.roundStarts[round] - this.roundStarts[round - 1];
+  }
+
+  /**
+   * Gets the time at which a round starts, counted from the start of the first round.
+   *
+   * @param round the number of the round, starting at {@code 1}.
+   * @return the offset (in seconds) at which the round starts.
+   * @throws IllegalArgumentException if the round is not a round of the game.
+   */
+  public int getRoundStart(int round) throws IllegalArgumentException {
+    this.checkRound(round);
+    return this.roundStarts[round - 1];
+  }
+
+  /**
+   * Gets the time all the rounds of the game last together.
+   *
+   * @return the time (in seconds) of all the rounds.
+   */
+  public int getGameDuration() {
+    return this.roundStarts[this.numberOfRounds];
+  }
+
+  /**
+   * Formats the communication rounds, from the first to the last.
+   *
+   * @param separator the separator between the rounds.
+   * @return the communication rounds, like {@code 5+8} with {@code +} as the separator.
+   */
+  public String format(String separator) {
+    StringJoiner joiner = new StringJoiner(separator);
+    for (int round = this.nextCommunicationRound(1); round != -1;
+         round = this.nextCommunicationRound(round + 1)) {
+      joiner.add(String.valueOf(round));
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * Checks that a round is a round of the game.
+   *
+   * @param round the number of the round.
+   * @throws IllegalArgumentException if the round is not a round of the game.
+   */
+  private void checkRound(int round) throws IllegalArgumentException {
+    if (round < 1 || round > this.numberOfRounds) {
+      throw new IllegalArgumentException(
+          "round " + round + " is not a round of the game, the rounds go from 1 to "
+          + this.numberOfRounds);
+    }
+  }
+
+  /**
+   * Parses the communication rounds into a set with a bit per round.
+   *
+   * @param communicationRounds the communication rounds, separated by {@code +} or {@code ,}.
+   * @param numberOfRounds      the number of rounds in the game.
+   * @param strict              {@code true} to refuse malformed rounds and rounds outside the
+   *                            game, or {@code false} to ignore them.
+   * @return the set of communication rounds.
+   * @throws IllegalArgumentException if the parse is strict and the communication rounds are not
+   *                                  numbers separated by {@code +} or {@code ,}, or are not
+   *                                  rounds of the game.
+   */
+  private static BitSet parseRounds(String communicationRounds, int numberOfRounds,
+                                    boolean strict) throws IllegalArgumentException {
+    BitSet rounds = new BitSet(numberOfRounds + 1);
+    int round = 0;
+    boolean digits = false;
+    for (int index = 0; index <= communicationRounds.length(); index++) {
+      char character =
+          index < communicationRounds.length() ? communicationRounds.charAt(index) : '+';
+      if (character >= '0' && character <= '9') {
+        round = Math.min(round * 10 + character - '0', numberOfRounds + 1);
+        digits = true;
+      }
+      else if (digits && (character == '+' || character == ',' || !strict)) {
+        if (round >= 1 && round <= numberOfRounds) {
+          rounds.set(round);
+        }
+        else if (strict) {
+          throw new IllegalArgumentException(
+              "communication rounds have to be between 1 and " + numberOfRounds);
+        }
+        round = 0;
+        digits = false;
+      }
+      else if (strict && !communicationRounds.isEmpty()) {
+        throw new IllegalArgumentException(
+            "communication rounds can only be numbers separated by '+' or ','");
+      }
+    }
+    return rounds;
+  }
+}
@@ -5,20 +5,24 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.example.network.protocol.RoundFinished;
+
 /**
  * The Game class represents a game with a unique identifier, name, game
  * settings, timer, amount of rounds, current round, messages, and a list of
  * players.
  */
 public class Game {
+  private static final int MAX_CHAT_MESSAGES = 1000;
   private String name;
-  private Timer roundTimer;
+  private RoundTimer roundTimer;
   private GameSettings settings;
   private final int number;
   private final Map<Integer, Round> rounds;
+  private final GameLedger ledger;
   private int currentRoundNum;
   private Map<String, Player> players;
-  private final List<String> messages;
+  private final ChatLog chatLog;
 
   /**
    * Creates a new instance of the Game class with specified name, settings, players and identifier.
@@ -33,8 +37,9 @@ public class Game {
     this.setName(name);
     this.setSettings(settings);
     this.setPlayers(players);
-    this.messages = new ArrayList<String>();
+    this.chatLog = new ChatLog(MAX_CHAT_MESSAGES);
     this.rounds = new HashMap<Integer, Round>();
+    this.ledger = new GameLedger(players.values(), settings.getNumberOfRounds());
     this.setCurrentRoundNum(1);
     this.number = number;
   }
@@ -96,6 +101,15 @@ public class Game {
     return this.rounds;
   }
 
+  /**
+   * Gets the ledger holding the results of the rounds of the game.
+   *
+   * @return the game ledger.
+   */
+  public GameLedger getLedger() {
+    return this.ledger;
+  }
+
   /**
    * Gets the game's identifier.
    * 
@@ -115,12 +129,28 @@ public class Game {
   }
 
   /**
-   * Gets the messages from the game.
+   * Gets the players of the game other than a player, in the order they were given.
+   *
+   * @param playerName the name of the player left out.
+   * @return the other players of the game.
+   */
+  public List<Player> getOtherPlayers(String playerName) {
+    List<Player> otherPlayers = new ArrayList<Player>();
+    for (Player player : this.players.values()) {
+      if (!player.getName().equals(playerName)) {
+        otherPlayers.add(player);
+      }
+    }
+    return otherPlayers;
+  }
+
+  /**
+   * Gets the chat log of the game.
    * 
    * @return the messages between players during the game.
    */
-  public List<String> getMessages() {
-    return this.messages;
+  public ChatLog getChatLog() {
+    return this.chatLog;
   }
 
   /**
@@ -155,20 +185,53 @@ public class Game {
   }
 
   /**
-   * Gets the {@code Timer} for the round.
+   * Records the results of the current round, as sent in an UPDATE ROUND_FINISHED packet, and
+   * moves the game on to the next round. Each player in the results has their catch, profit and
+   * total money updated, and the round is added to the ledger and the rounds of the game.
+   * Results for players not in the game are ignored.
+   *
+   * @param roundFinished the results of the round.
+   * @return the round that was recorded.
+   * @throws IllegalArgumentException if the results are {@code null}, or the current round has
+   *                                  already been recorded.
+   */
+  public Round recordRound(RoundFinished roundFinished) throws IllegalArgumentException {
+    if (roundFinished == null) {
+      throw new IllegalArgumentException("roundFinished cannot be set to null");
+    }
+    int roundNum = this.currentRoundNum;
+    for (RoundFinished.PlayerResult playerResult : roundFinished.playerResults()) {
+      Player player = this.players.get(playerResult.playerName());
+      if (player != null) {
+        player.setShrimpCaught(playerResult.shrimpCaught());
+        player.setRoundProfit(playerResult.roundProfit());
+        player.setPreviousTotalMoney(player.getCurrentTotalMoney());
+        player.setCurrentTotalMoney(player.getCurrentTotalMoney() + player.getRoundProfit());
+        this.ledger.recordResult(roundNum, player.getName(), playerResult.shrimpCaught(),
+                                 playerResult.roundProfit(), player.getCurrentTotalMoney());
+      }
+    }
+    Round round = this.ledger.recordRound(roundNum, roundFinished.shrimpPrice());
+    this.rounds.put(roundNum, round);
+    this.setCurrentRoundNum(roundNum + 1);
+    return round;
+  }
+
+  /**
+   * Gets the {@code RoundTimer} for the round.
    * 
-   * @return a {@code Timer} object for the round.
+   * @return a {@code RoundTimer} object for the round.
    */
-  public Timer getRoundTimer() {
+  public RoundTimer getRoundTimer() {
     return this.roundTimer;
   }
 
   /**
-   * Sets the {@code Timer} for the round.
+   * Sets the {@code RoundTimer} for the round.
    * 
-   * @param roundTimer a {@code Timer} object for the round.
+   * @param roundTimer a {@code RoundTimer} object for the round.
    */
-  public void setRoundTimer(Timer roundTimer) {
+  public void setRoundTimer(RoundTimer roundTimer) {
     this.roundTimer = roundTimer;
   }
 }
@@ -0,0 +1,282 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The GameLedger class holds the results of every round of a game as columns of primitive
+ * values, indexed by round and player.
+ * <p>
+ * Every player of the game is given an index when the ledger is created. The shrimp caught, the
+ * round profit and the total money of a player in a round are kept at the same position of three
+ * {@code int} columns, and the shrimp price of a round in a fourth, so the results of a game take
+ * a few arrays instead of maps of player copies per round, and the scoreboards and statistics
+ * read them with simple array scans. The {@link Round} instances of the game are views over the
+ * ledger. The columns grow if a round after the number of rounds given is recorded.
+ */
+public class GameLedger {
+  private final String[] playerNames;
+  private final int[] expenses;
+  private final Map<String, Integer> playerIndexes;
+  private int[] shrimpPrices;
+  private int[] shrimpCaught;
+  private int[] roundProfits;
+  private int[] totalMoney;
+  private int recordedRounds;
+
+  /**
+   * Creates a new instance of {@code GameLedger} without results.
+   *
+   * @param players        the players of the game, given an index in the order given.
+   * @param numberOfRounds the number of rounds to make room for.
+   * @throws IllegalArgumentException if the players given are set to {@code null} or hold two
+   *                                  players with the same name, or if the number of rounds is
+   *                                  negative.
+   */
+  public GameLedger(Collection<Player> players, int numberOfRounds)
+      throws IllegalArgumentException {
+    if (players == null) {
+      throw new IllegalArgumentException("players cannot be set to null");
+    }
+    if (numberOfRounds < 0) {
+      throw new IllegalArgumentException("number of rounds cannot be less than 0");
+    }
+    this.playerNames = new String[players.size()];
+    this.expenses = new int[players.size()];
+    this.playerIndexes = new HashMap<String, Integer>();
+    for (Player player : players) {
+      int index = this.playerIndexes.size();
+      if (this.playerIndexes.putIfAbsent(player.getName(), index) != null) {
+        throw new IllegalArgumentException("players cannot hold the same name twice");
+      }
+      this.playerNames[index] = player.getName();
+      this.expenses[index] = player.getExpenses();
+    }
+    this.shrimpPrices = new int[numberOfRounds];
+    this.shrimpCaught = new int[numberOfRounds * this.playerNames.length];
+    this.roundProfits = new int[this.shrimpCaught.length];
+    this.totalMoney = new int[this.shrimpCaught.length];
+    this.recordedRounds = 0;
+  }
+
+  /**
+   * Records the result of a player in a round.
+   *
+   * @param roundNumber  the number of the round, from {@code 1}.
+   * @param playerName   the name of the player.
+   * @param shrimpCaught the amount of shrimp caught by the player.
+   * @param roundProfit  the profit of the player in the round.
+   * @param totalMoney   the total money of the player after the round.
+   * @throws IllegalArgumentException if the round number is less than {@code 1}, or if the
+   *                                  player is not in the ledger.
+   */
+  public void recordResult(int roundNumber, String playerName, int shrimpCaught, int roundProfit,
+                           int totalMoney) throws IllegalArgumentException {
+    this.ensureRound(roundNumber);
+    int playerIndex = this.getPlayerIndex(playerName);
+    if (playerIndex < 0) {
+      throw new IllegalArgumentException("player " + playerName + " is not in the ledger");
+    }
+    int cell = this.cell(roundNumber, playerIndex);
+    this.shrimpCaught[cell] = shrimpCaught;
+    this.roundProfits[cell] = roundProfit;
+    this.totalMoney[cell] = totalMoney;
+  }
+
+  /**
+   * Records the shrimp price of a round once the results of its players are recorded, and gets
+   * the round as a view over the ledger.
+   *
+   * @param roundNumber the number of the round, from {@code 1}.
+   * @param shrimpPrice the shrimp price of the round.
+   * @return the round recorded.
+   * @throws IllegalArgumentException if the round number is less than {@code 1}, or if the
+   *                                  shrimp price is negative.
+   */
+  public Round recordRound(int roundNumber, int shrimpPrice) throws IllegalArgumentException {
+    this.recordShrimpPrice(roundNumber, shrimpPrice);
+    return new Round(this, roundNumber, roundNumber);
+  }
+
+  /**
+   * Records the shrimp price of a round, marking the round as recorded.
+   *
+   * @param roundNumber the number of the round, from {@code 1}.
+   * @param shrimpPrice the shrimp price of the round.
+   * @throws IllegalArgumentException if the round number is less than {@code 1}, or if the
+   *                                  shrimp price is negative.
+   */
+  void recordShrimpPrice(int roundNumber, int shrimpPrice) throws IllegalArgumentException {
+    if (shrimpPrice < 0) {
+      throw new IllegalArgumentException("shrimp price cannot be less than 0");
+    }
+    this.ensureRound(roundNumber);
+    this.shrimpPrices[roundNumber - 1] = shrimpPrice;
+    this.recordedRounds = Math.max(this.recordedRounds, roundNumber);
+  }
+
+  /**
+   * Gets the number of the last round recorded.
+   *
+   * @return the number of the last round, or {@code 0} if no round is recorded.
+   */
+  public int getRecordedRounds() {
+    return this.recordedRounds;
+  }
+
+  /**
+   * Gets the number of players in the ledger.
+   *
+   * @return the number of players.
+   */
+  public int getNumberOfPlayers() {
+    return this.playerNames.length;
+  }
+
+  /**
+   * Gets the index of a player.
+   *
+   * @param playerName the name of the player.
+   * @return the index of the player, or {@code -1} if the player is not in the ledger.
+   */
+  public int getPlayerIndex(String playerName) {
+    Integer index = this.playerIndexes.get(playerName);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Gets the name of a player.
+   *
+   * @param playerIndex the index of the player.
+   * @return the name of the player.
+   */
+  public String getPlayerName(int playerIndex) {
+    return this.playerNames[playerIndex];
+  }
+
+  /**
+   * Gets the expenses of a player.
+   *
+   * @param playerIndex the index of the player.
+   * @return the expenses of the player.
+   */
+  public int getExpenses(int playerIndex) {
+    return this.expenses[playerIndex];
+  }
+
+  /**
+   * Gets the shrimp price of a round.
+   *
+   * @param roundNumber the number of the round.
+   * @return the shrimp price, or {@code 0} if the round is not recorded.
+   */
+  public int getShrimpPrice(int roundNumber) {
+    return this.hasRound(roundNumber) ? this.shrimpPrices[roundNumber - 1] : 0;
+  }
+
+  /**
+   * Gets the amount of shrimp caught by a player in a round.
+   *
+   * @param roundNumber the number of the round.
+   * @param playerIndex the index of the player.
+   * @return the amount of shrimp caught, or {@code 0} if the round is not recorded.
+   */
+  public int getShrimpCaught(int roundNumber, int playerIndex) {
+    return this.hasRound(roundNumber) ? this.shrimpCaught[this.cell(roundNumber, playerIndex)] : 0;
+  }
+
+  /**
+   * Gets the profit of a player in a round.
+   *
+   * @param roundNumber the number of the round.
+   * @param playerIndex the index of the player.
+   * @return the round profit, or {@code 0} if the round is not recorded.
+   */
+  public int getRoundProfit(int roundNumber, int playerIndex) {
+    return this.hasRound(roundNumber) ? this.roundProfits[this.cell(roundNumber, playerIndex)] : 0;
+  }
+
+  /**
+   * Gets the total money of a player after a round.
+   *
+   * @param roundNumber the number of the round.
+   * @param playerIndex the index of the player.
+   * @return the total money, or {@code 0} if the round is not recorded.
+   */
+  public int getTotalMoney(int roundNumber, int playerIndex) {
+    return this.hasRound(roundNumber) ? this.totalMoney[this.cell(roundNumber, playerIndex)] : 0;
+  }
+
+  /**
+   * Gets the total amount of shrimp caught by the players in a round.
+   *
+   * @param roundNumber the number of the round.
+   * @return the total amount of shrimp, or {@code 0} if the round is not recorded.
+   */
+  public int getTotalAmountOfShrimp(int roundNumber) {
+    int total = 0;
+    if (this.hasRound(roundNumber)) {
+      int from = this.cell(roundNumber, 0);
+      for (int cell = from; cell < from + this.playerNames.length; cell++) {
+        total += this.shrimpCaught[cell];
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Gets the total amount of shrimp caught by a player in the rounds recorded.
+   *
+   * @param playerIndex the index of the player.
+   * @return the total amount of shrimp.
+   */
+  public int getTotalShrimpCaught(int playerIndex) {
+    int total = 0;
+    for (int roundNumber = 1; roundNumber <= this.recordedRounds; roundNumber++) {
+      total += this.shrimpCaught[this.cell(roundNumber, playerIndex)];
+    }
+    return total;
+  }
+
+  /**
+   * Checks whether the columns hold a round.
+   *
+   * @param roundNumber the number of the round.
+   * @return {@code true} if the columns hold the round, or {@code false} otherwise.
+   */
+  private boolean hasRound(int roundNumber) {
+    return roundNumber >= 1 && roundNumber <= this.shrimpPrices.length;
+  }
+
+  /**
+   * Grows the columns to hold a round, if they do not hold it already.
+   *
+   * @param roundNumber the number of the round.
+   * @throws IllegalArgumentException if the round number is less than {@code 1}.
+   */
+  private void ensureRound(int roundNumber) throws IllegalArgumentException {
+    if (roundNumber < 1) {
+      throw new IllegalArgumentException("round number cannot be less than 1");
+    }
+    if (roundNumber > this.shrimpPrices.length) {
+      int rounds = Math.max(roundNumber, this.shrimpPrices.length * 2);
+      this.shrimpPrices = Arrays.copyOf(this.shrimpPrices, rounds);
+      this.shrimpCaught = Arrays.copyOf(this.shrimpCaught, rounds * this.playerNames.length);
+      this.roundProfits = Arrays.copyOf(this.roundProfits, this.shrimpCaught.length);
+      this.totalMoney = Arrays.copyOf(this.totalMoney, this.shrimpCaught.length);
+    }
+  }
+
+  /**
+   * Gets the position of the result of a player in a round in the columns.
+   *
+   * @param roundNumber the number of the round.
+   * @param playerIndex the index of the player.
+   * @return the position in the columns.
+   */
+  private int cell(int roundNumber, int playerIndex) {
+    return (roundNumber - 1) * this.playerNames.length + playerIndex;
+  }
+}
@@ -5,7 +5,11 @@ package org.example.model;
  * <p>
  * It contains information such as the number of players, number of rounds, round time, 
  * communication rounds, communication round time minimum shrimp kilograms to catch, and 
- * maximum shrimp kilograms to catch.
+ * maximum shrimp kilograms to catch. The communication rounds are parsed once into a
+ * {@link CommunicationSchedule}, which is queried for the communication rounds and the time
+ * every round lasts. The settings of a game are given by the server, so the communication rounds
+ * are parsed leniently: the parts that are not rounds of the game are ignored instead of
+ * refusing the game.
  */
 public class GameSettings {
   private int numberOfPlayers;
@@ -13,6 +17,7 @@ public class GameSettings {
   private int roundTime;
   private String communicationRounds;
   private int communicationRoundTime;
+  private CommunicationSchedule communicationSchedule;
   private int minShrimpKilograms;
   private int maxShrimpKilograms;
 
@@ -22,6 +27,8 @@ public class GameSettings {
    * @param numberOfPlayers the number of players in the game.
    * @param numberOfRounds  the number of rounds in the game.
    * @param roundTime       the time (in seconds) for each round.
+   * @param communicationRounds the communication rounds, separated by {@code +} or {@code ,}.
+   * @param communicationRoundTime the extra time (in seconds) for communication rounds.
    * @param minShrimpKilograms the minimum amount of shrimp kilograms that can be caught in a round.
    * @param maxShrimpKilograms the maximum amount of shrimp kilograms that can be caught in a round.
    * @throws IllegalArgumentException if any of the provided parameters are invalid.
@@ -36,6 +43,8 @@ public class GameSettings {
     this.setCommunicationRoundTime(communicationRoundTime);
     this.setMinShrimpKilograms(minShrimpKilograms);
     this.setMaxShrimpKilograms(maxShrimpKilograms);
+    this.communicationSchedule = CommunicationSchedule.lenient(communicationRounds, numberOfRounds,
+                                                               roundTime, communicationRoundTime);
   }
 
   /**
@@ -150,6 +159,21 @@ public class GameSettings {
       throw new IllegalArgumentException("communication round time cannot be less than 0");
     }
     this.communicationRoundTime = communicationRoundTime;
+    if (this.communicationSchedule != null) {
+      this.communicationSchedule = CommunicationSchedule.lenient(this.communicationRounds,
+                                                                 this.numberOfRounds,
+                                                                 this.roundTime,
+                                                                 communicationRoundTime);
+    }
+  }
+
+  /**
+   * Gets the schedule of the communication rounds, with the time every round lasts.
+   *
+   * @return the schedule of the communication rounds.
+   */
+  public CommunicationSchedule getCommunicationSchedule() {
+    return this.communicationSchedule;
   }
 
   /**
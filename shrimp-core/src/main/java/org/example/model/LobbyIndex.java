@@ -0,0 +1,183 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the lobbies in the server, keyed by their name.
+ * <p>
+ * The lobbies are kept in the order they were added. Every change is reported to a
+ * {@link Listener}, so a view of the lobbies can apply the change alone instead of being filled
+ * again. A whole lobby list sent by a server without lobby deltas is compared to the lobbies
+ * kept, and only the lobbies added, removed or changed are reported.
+ */
+public class LobbyIndex {
+  /**
+   * Represents a listener told about the changes of the lobbies.
+   */
+  public interface Listener {
+    /**
+     * Called when a lobby was added.
+     *
+     * @param lobby the lobby added.
+     */
+    void lobbyAdded(Lobby lobby);
+
+    /**
+     * Called when a lobby was removed.
+     *
+     * @param lobby the lobby removed.
+     */
+    void lobbyRemoved(Lobby lobby);
+
+    /**
+     * Called when a lobby was replaced by a lobby with the same name.
+     *
+     * @param previousLobby the lobby replaced.
+     * @param lobby         the lobby replacing it.
+     */
+    void lobbyReplaced(Lobby previousLobby, Lobby lobby);
+  }
+
+  private final Map<String, Lobby> lobbies;
+  private final Listener listener;
+
+  /**
+   * Creates a new instance of {@code LobbyIndex} without lobbies.
+   *
+   * @param listener the listener told about the changes of the lobbies.
+   * @throws IllegalArgumentException if the listener given is set to {@code null}.
+   */
+  public LobbyIndex(Listener listener) throws IllegalArgumentException {
+    if (listener == null) {
+      throw new IllegalArgumentException("listener cannot be set to null");
+    }
+    this.lobbies = new LinkedHashMap<String, Lobby>();
+    this.listener = listener;
+  }
+
+  /**
+   * Adds a lobby, or replaces the lobby with the same name. Nothing is reported if the lobby
+   * kept has the same number of players and maximum number of players.
+   *
+   * @param lobby the lobby.
+   * @throws IllegalArgumentException if the lobby given is set to {@code null}.
+   */
+  public void put(Lobby lobby) throws IllegalArgumentException {
+    if (lobby == null) {
+      throw new IllegalArgumentException("lobby cannot be set to null");
+    }
+    Lobby previousLobby = this.lobbies.get(lobby.getLobbyName());
+    if (previousLobby == null) {
+      this.lobbies.put(lobby.getLobbyName(), lobby);
+      this.listener.lobbyAdded(lobby);
+    }
+    else if (previousLobby.getNumPlayers() != lobby.getNumPlayers()
+        || previousLobby.getMaxPlayers() != lobby.getMaxPlayers()) {
+      this.lobbies.put(lobby.getLobbyName(), lobby);
+      this.listener.lobbyReplaced(previousLobby, lobby);
+    }
+  }
+
+  /**
+   * Removes the lobby with a name, if it is kept.
+   *
+   * @param lobbyName the name of the lobby.
+   * @return the lobby removed, or {@code null} if no lobby has the name.
+   * @throws IllegalArgumentException if the lobby name given is set to {@code null}.
+   */
+  public Lobby remove(String lobbyName) throws IllegalArgumentException {
+    if (lobbyName == null) {
+      throw new IllegalArgumentException("lobbyName cannot be set to null");
+    }
+    Lobby lobby = this.lobbies.remove(lobbyName);
+    if (lobby != null) {
+      this.listener.lobbyRemoved(lobby);
+    }
+    return lobby;
+  }
+
+  /**
+   * Sets the number of players of the lobby with a name, if it is kept.
+   *
+   * @param lobbyName       the name of the lobby.
+   * @param numberOfPlayers the number of players in the lobby.
+   * @return {@code true} if a lobby has the name, or {@code false} otherwise.
+   * @throws IllegalArgumentException if the lobby name given is set to {@code null}, or if the
+   *                                  number of players is less than {@code 0}.
+   */
+  public boolean setNumberOfPlayers(String lobbyName, int numberOfPlayers)
+      throws IllegalArgumentException {
+    if (lobbyName == null) {
+      throw new IllegalArgumentException("lobbyName cannot be set to null");
+    }
+    Lobby lobby = this.lobbies.get(lobbyName);
+    if (lobby == null) {
+      return false;
+    }
+    this.put(new Lobby(lobbyName, numberOfPlayers, lobby.getMaxPlayers()));
+    return true;
+  }
+
+  /**
+   * Replaces the lobbies kept by a whole lobby list, reporting only the lobbies removed, added
+   * or changed.
+   *
+   * @param lobbies the lobbies in the server.
+   * @throws IllegalArgumentException if the lobbies given are set to {@code null}.
+   */
+  public void replaceAll(Collection<Lobby> lobbies) throws IllegalArgumentException {
+    if (lobbies == null) {
+      throw new IllegalArgumentException("lobbies cannot be set to null");
+    }
+    Set<String> lobbyNames = new HashSet<String>();
+    for (Lobby lobby : lobbies) {
+      lobbyNames.add(lobby.getLobbyName());
+    }
+    Iterator<Lobby> iterator = this.lobbies.values().iterator();
+    while (iterator.hasNext()) {
+      Lobby lobby = iterator.next();
+      if (!lobbyNames.contains(lobby.getLobbyName())) {
+        iterator.remove();
+        this.listener.lobbyRemoved(lobby);
+      }
+    }
+    for (Lobby lobby : lobbies) {
+      this.put(lobby);
+    }
+  }
+
+  /**
+   * Gets the lobby with a name.
+   *
+   * @param lobbyName the name of the lobby.
+   * @return the lobby, or {@code null} if no lobby has the name.
+   */
+  public Lobby get(String lobbyName) {
+    return this.lobbies.get(lobbyName);
+  }
+
+  /**
+   * Gets the number of lobbies kept.
+   *
+   * @return the number of lobbies.
+   */
+  public int size() {
+    return this.lobbies.size();
+  }
+
+  /**
+   * Gets the lobbies kept, in the order they were added.
+   *
+   * @return a copy of the lobbies.
+   */
+  public List<Lobby> getLobbies() {
+    return new ArrayList<Lobby>(this.lobbies.values());
+  }
+}
@@ -0,0 +1,17 @@
+package org.example.model;
+
+import java.util.Comparator;
+
+/**
+ * Represents a message comparator, which orders chat messages from the newest to the oldest by
+ * the second of the day they were sent at.
+ * <p>
+ * The comparator only compares the keys parsed when the messages were created, so it keeps no
+ * state and can be shared between threads.
+ */
+public class MessageComparator implements Comparator<ChatMessage> {
+  @Override
+  public int compare(ChatMessage message1, ChatMessage message2) {
+    return Integer.compare(message2.secondOfDay(), message1.secondOfDay());
+  }
+}
@@ -0,0 +1,233 @@
+package org.example.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The Round class represents a single round in the game, including the round number, round name, the shrimp price,
+ * and the player actions for the round.
+ * <p>
+ * A round is a view over the results of the round in a {@link GameLedger}, which are not
+ * changed once the round is recorded, so the scoreboards read the values of the players by name
+ * straight from its columns. A round created from maps of results copies them into a ledger of
+ * its own, and reads by player name work for both maps even when they are keyed by different
+ * copies of the same player. The maps of results of a round recorded in a game ledger are only
+ * created when they are first read.
+ */
+public class Round {
+  private final GameLedger ledger;
+  private final int ledgerRound;
+  private final int number;
+  private final String name;
+  private Map<Player, Integer> playerShrimpCaughtMap;
+  private Map<Player, Integer> playerMoneyMap;
+  private Map<String, Player> players;
+
+  /**
+   * Creates a new instance of {@code Round}.
+   * 
+   * @param number the round number.
+   * @param shrimpPrice the price of the shrimp.
+   * @param playerShrimpCaughtMap the amount of shrimp caught per player.
+   * @param playerMoneyMap the amount of money per player.
+   * @throws IllegalArgumentException if any of the parameters given are invalid.
+   */
+  public Round(int number, int shrimpPrice, Map<Player, Integer> playerShrimpCaughtMap,
+               Map<Player, Integer> playerMoneyMap) throws IllegalArgumentException {
+    if (number < 0) {
+      throw new IllegalArgumentException("round number cannot be less than 0");
+    }
+    if (shrimpPrice < 0) {
+      throw new IllegalArgumentException("shrimp price cannot be less than 0");
+    }
+    if (playerShrimpCaughtMap == null) {
+      throw new IllegalArgumentException("map of amount of shrimp caught per player cannot be set to null");
+    }
+    if (playerMoneyMap == null) {
+      throw new IllegalArgumentException("map of amount of money per player cannot be set to null");
+    }
+    this.number = number;
+    this.name = "Round " + number;
+    this.playerShrimpCaughtMap = Collections.unmodifiableMap(
+        new HashMap<Player, Integer>(playerShrimpCaughtMap));
+    this.playerMoneyMap = Collections.unmodifiableMap(new HashMap<Player, Integer>(playerMoneyMap));
+
+    Map<String, Player> playersByName = new LinkedHashMap<String, Player>();
+    Map<String, Integer> shrimpCaughtByName = new HashMap<String, Integer>();
+    Map<String, Integer> moneyByName = new HashMap<String, Integer>();
+    for (Map.Entry<Player, Integer> entry : this.playerShrimpCaughtMap.entrySet()) {
+      playersByName.put(entry.getKey().getName(), entry.getKey());
+      shrimpCaughtByName.put(entry.getKey().getName(), entry.getValue());
+    }
+    for (Map.Entry<Player, Integer> entry : this.playerMoneyMap.entrySet()) {
+      playersByName.putIfAbsent(entry.getKey().getName(), entry.getKey());
+      moneyByName.put(entry.getKey().getName(), entry.getValue());
+    }
+    this.players = Collections.unmodifiableMap(playersByName);
+    this.ledger = new GameLedger(playersByName.values(), 1);
+    this.ledgerRound = 1;
+    for (Player player : playersByName.values()) {
+      this.ledger.recordResult(this.ledgerRound, player.getName(),
+                               shrimpCaughtByName.getOrDefault(player.getName(), 0),
+                               moneyByName.getOrDefault(player.getName(), 0),
+                               player.getCurrentTotalMoney());
+    }
+    this.ledger.recordShrimpPrice(this.ledgerRound, shrimpPrice);
+  }
+
+  /**
+   * Creates a new instance of {@code Round} reading the results of a round in a ledger.
+   *
+   * @param ledger      the ledger holding the results.
+   * @param ledgerRound the number of the round in the ledger.
+   * @param number      the round number.
+   */
+  Round(GameLedger ledger, int ledgerRound, int number) {
+    this.ledger = ledger;
+    this.ledgerRound = ledgerRound;
+    this.number = number;
+    this.name = "Round " + number;
+  }
+
+  /**
+   * Gets the number of the round.
+   * 
+   * @return the round number.
+   */
+  public int getNumber() {
+    return this.number;
+  }
+
+  /**
+   * Gets the name of the round.
+   * 
+   * @return the round name.
+   */
+  public String getName()
+  {
+    return this.name;
+  }
+
+  /**
+   * Gets a {@link Map} of the amount of shrimp caught per player.
+   * 
+   * @return the amount of shrimp caught per player
+   */
+  public synchronized Map<Player, Integer> getPlayerShrimpCaughtMap() {
+    if (this.playerShrimpCaughtMap == null) {
+      Map<Player, Integer> shrimpCaught = new HashMap<Player, Integer>();
+      for (Player player : this.getPlayers().values()) {
+        shrimpCaught.put(player, player.getShrimpCaught());
+      }
+      this.playerShrimpCaughtMap = Collections.unmodifiableMap(shrimpCaught);
+    }
+    return this.playerShrimpCaughtMap;
+  }
+
+  /**
+   * Gets a {@link Map} of the amount of money per player.
+   * 
+   * @return the amount of money per player
+   */
+  public synchronized Map<Player, Integer> getPlayerMoneyMap() {
+    if (this.playerMoneyMap == null) {
+      Map<Player, Integer> money = new HashMap<Player, Integer>();
+      for (Player player : this.getPlayers().values()) {
+        money.put(player, player.getRoundProfit());
+      }
+      this.playerMoneyMap = Collections.unmodifiableMap(money);
+    }
+    return this.playerMoneyMap;
+  }
+
+  /**
+   * Gets a {@link Map} of the players in the round.
+   * 
+   * @return the players in the round, by name.
+   */
+  public synchronized Map<String, Player> getPlayers()
+  {
+    if (this.players == null) {
+      Map<String, Player> playersByName = new LinkedHashMap<String, Player>();
+      for (int index = 0; index < this.ledger.getNumberOfPlayers(); index++) {
+        Player player = new Player(this.ledger.getPlayerName(index),
+                                   this.ledger.getExpenses(index));
+        int totalMoney = this.ledger.getTotalMoney(this.ledgerRound, index);
+        int roundProfit = this.ledger.getRoundProfit(this.ledgerRound, index);
+        player.setShrimpCaught(this.ledger.getShrimpCaught(this.ledgerRound, index));
+        player.setRoundProfit(roundProfit);
+        player.setPreviousTotalMoney(totalMoney - roundProfit);
+        player.setCurrentTotalMoney(totalMoney);
+        playersByName.put(player.getName(), player);
+      }
+      this.players = Collections.unmodifiableMap(playersByName);
+    }
+    return this.players;
+  }
+
+  /**
+   * Gets the amount of shrimp caught by a player.
+   *
+   * @param playerName the name of the player.
+   * @return the amount of shrimp caught, or {@code 0} if the player is not in the round.
+   */
+  public int getShrimpCaught(String playerName) {
+    int index = this.ledger.getPlayerIndex(playerName);
+    return index < 0 ? 0 : this.ledger.getShrimpCaught(this.ledgerRound, index);
+  }
+
+  /**
+   * Gets the amount of money of a player, which is the profit of the player in the round.
+   *
+   * @param playerName the name of the player.
+   * @return the amount of money, or {@code 0} if the player is not in the round.
+   */
+  public int getMoney(String playerName) {
+    int index = this.ledger.getPlayerIndex(playerName);
+    return index < 0 ? 0 : this.ledger.getRoundProfit(this.ledgerRound, index);
+  }
+
+  /**
+   * Gets the total money of a player after the round.
+   *
+   * @param playerName the name of the player.
+   * @return the total money, or {@code 0} if the player is not in the round.
+   */
+  public int getTotalMoney(String playerName) {
+    int index = this.ledger.getPlayerIndex(playerName);
+    return index < 0 ? 0 : this.ledger.getTotalMoney(this.ledgerRound, index);
+  }
+
+  /**
+   * Gets the profit per kilogram of shrimp of a player, which is the shrimp price less the
+   * expenses of the player.
+   *
+   * @param playerName the name of the player.
+   * @return the profit per kilogram, or {@code 0} if the player is not in the round.
+   */
+  public int getProfitPerKilogram(String playerName) {
+    int index = this.ledger.getPlayerIndex(playerName);
+    return index < 0 ? 0 : this.getShrimpPrice() - this.ledger.getExpenses(index);
+  }
+
+  /**
+   * Gets the shrimp price of the round.
+   * 
+   * @return the shrimp price.
+   */
+  public int getShrimpPrice() {
+    return this.ledger.getShrimpPrice(this.ledgerRound);
+  }
+
+  /**
+   * Gets the total amount of shrimp caught.
+   * 
+   * @return the total amount of shrimp.
+   */
+  public int getTotalAmountOfShrimp()
+  {
+    return this.ledger.getTotalAmountOfShrimp(this.ledgerRound);
+  }
+}
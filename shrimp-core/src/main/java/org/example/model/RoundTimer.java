@@ -0,0 +1,40 @@
+package org.example.model;
+
+/**
+ * Represents the timer counting down the seconds of the current round of a game.
+ * <p>
+ * The model only keeps the timer of its game, so the countdown itself is left to the
+ * implementations, like the one of the user interface showing the time left on the screens.
+ */
+public interface RoundTimer {
+  /**
+   * Starts counting down.
+   */
+  void start();
+
+  /**
+   * Stops counting down.
+   */
+  void stop();
+
+  /**
+   * Gets the remaining seconds.
+   *
+   * @return the seconds remaining.
+   */
+  int getSecondsLeft();
+
+  /**
+   * Sets the remaining seconds.
+   *
+   * @param secondsLeft the remaining seconds to assign to the timer.
+   */
+  void setSecondsLeft(int secondsLeft);
+
+  /**
+   * Checks if the timer is finished counting down.
+   *
+   * @return {@code true} if there are no seconds remaining, or {@code false} if there is.
+   */
+  boolean isFinished();
+}
@@ -0,0 +1,110 @@
+package org.example.network;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Represents a {@link Transport} built on a blocking {@link Socket}.
+ * <p>
+ * Lines are read with {@link BufferedReader#readLine()}. Messages are handed to a
+ * {@link CoalescingWriter}, whose writer thread writes the messages queued in a burst to the
+ * socket in a single write, so a slow socket never blocks the thread sending the message. This
+ * is the default transport of the client.
+ * <p>
+ * The transport counts as disconnected once the socket is closed or the server has closed the
+ * stream, so it can be connected again.
+ */
+public class BlockingSocketTransport implements Transport {
+  private final TransportOptions transportOptions;
+  private final SendMetrics sendMetrics;
+  private Socket socket;
+  private CoalescingWriter coalescingWriter;
+  private BufferedReader bufferedReader;
+  private volatile boolean endOfStream;
+
+  /**
+   * Creates a new instance of {@code BlockingSocketTransport} with the default options.
+   */
+  public BlockingSocketTransport() {
+    this(new TransportOptions());
+  }
+
+  /**
+   * Creates a new instance of {@code BlockingSocketTransport}.
+   *
+   * @param transportOptions the socket options of the transport.
+   * @throws IllegalArgumentException if the options given are set to {@code null}.
+   */
+  public BlockingSocketTransport(TransportOptions transportOptions)
+      throws IllegalArgumentException {
+    if (transportOptions == null) {
+      throw new IllegalArgumentException("transportOptions cannot be set to null");
+    }
+    this.transportOptions = transportOptions;
+    this.sendMetrics = new SendMetrics();
+  }
+
+  @Override
+  public void connect(String hostname, int port, int timeoutMillis) throws IOException {
+    this.close();
+    this.socket = new Socket();
+    this.socket.setTcpNoDelay(this.transportOptions.isTcpNoDelay());
+    if (this.transportOptions.getSendBufferSize() > 0) {
+      this.socket.setSendBufferSize(this.transportOptions.getSendBufferSize());
+    }
+    if (this.transportOptions.getReceiveBufferSize() > 0) {
+      this.socket.setReceiveBufferSize(this.transportOptions.getReceiveBufferSize());
+    }
+    this.socket.connect(new InetSocketAddress(hostname, port), timeoutMillis);
+    this.socket.setSoTimeout(this.transportOptions.getReadTimeoutMillis());
+    this.endOfStream = false;
+    this.coalescingWriter = new CoalescingWriter(this.socket.getOutputStream(), this.sendMetrics,
+                                                 this.transportOptions.getMaxBatchBytes(),
+                                                 this.transportOptions.getExecutionMode());
+    this.coalescingWriter.start();
+    this.bufferedReader = new BufferedReader(
+        new InputStreamReader(this.socket.getInputStream(), StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void send(String message) throws IOException {
+    this.coalescingWriter.enqueue(message);
+  }
+
+  @Override
+  public String receive() throws IOException {
+    String line = this.bufferedReader.readLine();
+    if (line == null) {
+      this.endOfStream = true;
+    }
+    return line;
+  }
+
+  @Override
+  public boolean isConnected() {
+    boolean isConnected = false;
+    if (this.socket != null) {
+      isConnected = this.socket.isConnected() && !this.socket.isClosed() && !this.endOfStream;
+    }
+    return isConnected;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (this.coalescingWriter != null) {
+      this.coalescingWriter.close();
+    }
+    if (this.socket != null) {
+      this.socket.close();
+    }
+  }
+
+  @Override
+  public SendMetrics getSendMetrics() {
+    return this.sendMetrics;
+  }
+}
@@ -0,0 +1,190 @@
+package org.example.network;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Represents a writer thread that drains a queue of outbound messages to an
+ * {@link OutputStream}.
+ * <p>
+ * {@link #enqueue(String)} only adds the message to the queue, so the calling thread, often the
+ * JavaFX application thread, never waits for the socket. The writer thread takes every message
+ * queued at the time it wakes up, up to the maximum batch size, encodes them into one buffer with
+ * their {@code \r\n} terminators and writes and flushes the buffer at once. Commands sent in a
+ * burst therefore cost a single write instead of one write and flush each.
+ * <p>
+ * The queue holds at most {@value #MAX_QUEUED_MESSAGES} messages, so a socket that stops
+ * draining cannot grow it without bound; a message that does not fit is refused. The writer
+ * thread is started by {@link #start()}.
+ * <p>
+ * If a write fails, with an {@link IOException} or any other exception, the writer drops the
+ * messages still queued, closes the stream and stops, and every later call to
+ * {@link #enqueue(String)} throws the failure. Closing the stream of a socket closes the socket,
+ * so the thread receiving from it fails as well and the requests still waiting for a reply are
+ * failed instead of waiting for a reply to a request that was never sent.
+ */
+public class CoalescingWriter implements Runnable {
+  /**
+   * The maximum number of messages waiting in the queue to be written.
+   */
+  public static final int MAX_QUEUED_MESSAGES = 4096;
+  private static final byte[] LINE_TERMINATOR = {'\r', '\n'};
+  private final OutputStream outputStream;
+  private final SendMetrics sendMetrics;
+  private final int maxBatchBytes;
+  private final BlockingQueue<String> queuedMessages;
+  private final ByteArrayOutputStream batch;
+  private final Thread writerThread;
+  private volatile IOException failure;
+  private volatile boolean closed;
+
+  /**
+   * Creates a new instance of {@code CoalescingWriter} whose writer thread runs on a platform
+   * thread.
+   *
+   * @param outputStream  the stream to write the messages to.
+   * @param sendMetrics   the metrics to record the writes in.
+   * @param maxBatchBytes the maximum number of bytes coalesced into a single write.
+   * @throws IllegalArgumentException if the stream or the metrics is {@code null}, or the maximum
+   *                                  batch size is less than {@code 1}.
+   */
+  public CoalescingWriter(OutputStream outputStream, SendMetrics sendMetrics, int maxBatchBytes)
+      throws IllegalArgumentException {
+    this(outputStream, sendMetrics, maxBatchBytes, ExecutionMode.PLATFORM);
+  }
+
+  /**
+   * Creates a new instance of {@code CoalescingWriter}. The writer thread is not started until
+   * {@link #start()} is called.
+   *
+   * @param outputStream  the stream to write the messages to.
+   * @param sendMetrics   the metrics to record the writes in.
+   * @param maxBatchBytes the maximum number of bytes coalesced into a single write.
+   * @param executionMode the kind of thread the writer runs on.
+   * @throws IllegalArgumentException if the stream, the metrics or the execution mode is
+   *                                  {@code null}, or the maximum batch size is less than
+   *                                  {@code 1}.
+   */
+  public CoalescingWriter(OutputStream outputStream, SendMetrics sendMetrics, int maxBatchBytes,
+                          ExecutionMode executionMode) throws IllegalArgumentException {
+    if (outputStream == null) {
+      throw new IllegalArgumentException("outputStream cannot be set to null");
+    }
+    if (sendMetrics == null) {
+      throw new IllegalArgumentException("sendMetrics cannot be set to null");
+    }
+    if (maxBatchBytes < 1) {
+      throw new IllegalArgumentException("max batch bytes cannot be less than 1");
+    }
+    if (executionMode == null) {
+      throw new IllegalArgumentException("executionMode cannot be set to null");
+    }
+    this.outputStream = outputStream;
+    this.sendMetrics = sendMetrics;
+    this.maxBatchBytes = maxBatchBytes;
+    this.queuedMessages = new ArrayBlockingQueue<String>(MAX_QUEUED_MESSAGES);
+    this.batch = new ByteArrayOutputStream(maxBatchBytes);
+    this.writerThread = executionMode.newThread("Shrimp Game Writer", this);
+  }
+
+  /**
+   * Starts the writer thread.
+   *
+   * @throws IllegalStateException if the writer thread was already started.
+   */
+  public void start() throws IllegalStateException {
+    this.writerThread.start();
+  }
+
+  /**
+   * Adds a message to the queue of the writer thread without waiting for it to be written.
+   *
+   * @param message the message to send, without its line terminator.
+   * @throws IOException if the writer is closed, an earlier write failed or the queue is full.
+   */
+  public void enqueue(String message) throws IOException {
+    if (this.failure != null) {
+      throw new IOException("Failed to write to the server", this.failure);
+    }
+    if (this.closed) {
+      throw new IOException("Writer is closed");
+    }
+    if (!this.queuedMessages.offer(message)) {
+      throw new IOException("Too many messages are waiting to be written to the server");
+    }
+    this.sendMetrics.recordQueued();
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (!this.closed) {
+        this.writeBatch(this.queuedMessages.take());
+      }
+    }
+    catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+    catch (IOException exception) {
+      this.fail(exception);
+    }
+    catch (RuntimeException exception) {
+      this.fail(new IOException("Writer failed", exception));
+    }
+  }
+
+  /**
+   * Stops the writer after a failed write. The messages still queued are dropped, and the stream
+   * is closed so the connection is seen as lost by the thread receiving from it.
+   *
+   * @param exception the reason the write failed.
+   */
+  private void fail(IOException exception) {
+    this.failure = exception;
+    this.queuedMessages.clear();
+    try {
+      this.outputStream.close();
+    }
+    catch (IOException closeException) {
+      exception.addSuppressed(closeException);
+    }
+  }
+
+  /**
+   * Writes a message together with every message queued after it, up to the maximum batch
+   * size, in a single write.
+   *
+   * @param firstMessage the message taken from the queue.
+   * @throws IOException if the batch could not be written.
+   */
+  private void writeBatch(String firstMessage) throws IOException {
+    this.batch.reset();
+    int messages = 0;
+    String message = firstMessage;
+    while (message != null) {
+      this.batch.writeBytes(message.getBytes(StandardCharsets.UTF_8));
+      this.batch.writeBytes(LINE_TERMINATOR);
+      messages++;
+      message = null;
+      if (this.batch.size() < this.maxBatchBytes) {
+        message = this.queuedMessages.poll();
+      }
+    }
+    long startNanos = System.nanoTime();
+    this.batch.writeTo(this.outputStream);
+    this.outputStream.flush();
+    this.sendMetrics.recordWrite(messages, this.batch.size(), System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Stops the writer thread. Messages still queued are not written.
+   */
+  public void close() {
+    this.closed = true;
+    this.writerThread.interrupt();
+  }
+}
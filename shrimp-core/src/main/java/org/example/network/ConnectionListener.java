@@ -0,0 +1,37 @@
+package org.example.network;
+
+import java.util.List;
+import org.example.model.Lobby;
+
+/**
+ * Represents a listener told about the connection to the server being lost and restored by a
+ * {@link ConnectionSupervisor}. The methods are called on the thread of the supervisor.
+ */
+public interface ConnectionListener {
+  /**
+   * Called when the connection to the server was lost.
+   *
+   * @param cause the reason the connection was lost.
+   */
+  void connectionLost(Throwable cause);
+
+  /**
+   * Called before an attempt to connect to the server again.
+   *
+   * @param attempt     the number of the attempt, starting at {@code 1}.
+   * @param delayMillis the time waited before the attempt in milliseconds.
+   */
+  void reconnecting(int attempt, long delayMillis);
+
+  /**
+   * Called when the connection to the server was restored and the state of the client was
+   * requested again.
+   *
+   * @param username the username of the client.
+   * @param admin    {@code true} if the client is an admin, or {@code false} if it is not.
+   * @param resumed  {@code true} if the session of the previous connection was resumed, or
+   *                 {@code false} if the client starts a new session.
+   * @param lobbies  the lobbies in the server.
+   */
+  void connectionRestored(String username, boolean admin, boolean resumed, List<Lobby> lobbies);
+}
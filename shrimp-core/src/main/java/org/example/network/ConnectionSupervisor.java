@@ -0,0 +1,137 @@
+package org.example.network;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a supervisor that connects to the server again after the connection was lost.
+ * <p>
+ * The attempts to connect are spaced by a {@link ReconnectBackoff}. Once connected, the state of
+ * the client is requested again without waiting for the replies, since the replies are received
+ * by the same thread that called {@link #reconnect(Throwable)}: the username is requested first,
+ * then the session of the previous connection is resumed if the server lists the
+ * {@value #RESUME_CAPABILITY} capability, and then the lobbies are requested. If one of the
+ * requests fails, the connection is closed so the loss is detected again.
+ */
+public class ConnectionSupervisor {
+  /**
+   * The capability of servers that can hand the session of a lost connection over to a new one.
+   */
+  public static final String RESUME_CAPABILITY = "RESUME";
+  private final ServerConnection serverConnection;
+  private final ReconnectBackoff backoff;
+  private final ConnectionListener listener;
+  private volatile boolean stopped;
+
+  /**
+   * Creates a new instance of {@code ConnectionSupervisor}.
+   *
+   * @param serverConnection the connection to supervise.
+   * @param backoff          the delays between the attempts to connect.
+   * @param listener         the listener told about the connection being lost and restored.
+   * @throws IllegalArgumentException if a parameter is {@code null}.
+   */
+  public ConnectionSupervisor(ServerConnection serverConnection, ReconnectBackoff backoff,
+                              ConnectionListener listener) throws IllegalArgumentException {
+    if (serverConnection == null) {
+      throw new IllegalArgumentException("server connection cannot be set to null");
+    }
+    if (backoff == null) {
+      throw new IllegalArgumentException("backoff cannot be set to null");
+    }
+    if (listener == null) {
+      throw new IllegalArgumentException("listener cannot be set to null");
+    }
+    this.serverConnection = serverConnection;
+    this.backoff = backoff;
+    this.listener = listener;
+    this.stopped = false;
+  }
+
+  /**
+   * Connects to the server again after the connection was lost, waiting between the attempts
+   * until the connection is established or the supervisor is stopped. The requests waiting for
+   * a reply on the lost connection are failed first.
+   *
+   * @param cause the reason the connection was lost.
+   * @return {@code true} if the connection was established again, or {@code false} if the
+   *     supervisor was stopped.
+   */
+  public boolean reconnect(Throwable cause) {
+    String previousUsername = this.serverConnection.getUsername();
+    this.serverConnection.failPendingRequests(
+        new IOException("Connection to the server was lost", cause));
+    this.serverConnection.disconnect();
+    if (this.stopped) {
+      return false;
+    }
+    this.listener.connectionLost(cause);
+    int attempt = 0;
+    while (!this.stopped && !this.serverConnection.isConnected()) {
+      long delayMillis = this.backoff.delayMillis(attempt);
+      attempt++;
+      this.listener.reconnecting(attempt, delayMillis);
+      try {
+        Thread.sleep(delayMillis);
+        this.serverConnection.connect();
+      }
+      catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        this.stopped = true;
+      }
+      catch (RuntimeException exception) {
+        // The server is still unreachable, so the next attempt waits longer.
+      }
+    }
+    if (this.stopped) {
+      this.serverConnection.disconnect();
+      return false;
+    }
+    this.restoreSession(previousUsername);
+    return true;
+  }
+
+  /**
+   * Requests the state of the client again after connecting, without waiting for the replies.
+   *
+   * @param previousUsername the username of the lost connection, or {@code null} if it had none.
+   */
+  private void restoreSession(String previousUsername) {
+    this.serverConnection.sendUsernameRequestAsync().thenCompose(user ->
+        {
+          CompletableFuture<Boolean> resumed = CompletableFuture.completedFuture(false);
+          if (previousUsername != null
+              && this.serverConnection.hasCapability(RESUME_CAPABILITY)) {
+            resumed = this.serverConnection.sendResumeRequestAsync(previousUsername);
+          }
+          return resumed.thenCombine(this.serverConnection.getExistingLobbiesAsync(),
+              (wasResumed, lobbies) ->
+              {
+                String username = wasResumed ? previousUsername : user[0];
+                this.listener.connectionRestored(username, Boolean.parseBoolean(user[1]),
+                    wasResumed, lobbies);
+                return null;
+              });
+        }).exceptionally(exception ->
+        {
+          this.serverConnection.disconnect();
+          return null;
+        });
+  }
+
+  /**
+   * Stops connecting to the server again, for example when the application is closed.
+   */
+  public void stop() {
+    this.stopped = true;
+  }
+
+  /**
+   * Checks if the supervisor was stopped.
+   *
+   * @return {@code true} if the supervisor was stopped, or {@code false} if it was not.
+   */
+  public boolean isStopped() {
+    return this.stopped;
+  }
+}
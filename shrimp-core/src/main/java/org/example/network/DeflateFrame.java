@@ -0,0 +1,239 @@
+package org.example.network;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Represents the frames of lines sent deflate-compressed, like large {@code FINISHED_GAME}
+ * updates.
+ * <p>
+ * A frame is a line of the form {@code DEFLATE <length> <payload>}, where the payload is the
+ * original line encoded in UTF-8, compressed with DEFLATE and encoded in base64, and the length is
+ * the number of bytes of the original line. The server only sends frames to clients that enabled
+ * compression after it listed the {@value #CAPABILITY} capability.
+ * <p>
+ * The payload is decoded as a stream: the base64 characters are read straight from the frame and
+ * inflated into a buffer that starts at most {@value #INITIAL_CAPACITY} bytes long and grows up to
+ * the length, so neither the compressed bytes nor an untrusted length are ever allocated in full.
+ * The inflated bytes are decoded into the line in a single copy.
+ */
+public final class DeflateFrame {
+  /**
+   * The capability of servers that can send frames.
+   */
+  public static final String CAPABILITY = "DEFLATE";
+  /**
+   * The maximum length of the original line of a frame in bytes, which guards the client against
+   * frames that inflate without end.
+   */
+  public static final int MAX_LENGTH = 16 * 1024 * 1024;
+  /**
+   * The maximum number of bytes allocated for the original line before any of it is inflated.
+   */
+  public static final int INITIAL_CAPACITY = 16 * 1024;
+  private static final String PREFIX = CAPABILITY + " ";
+
+  /**
+   * Prevents instances of {@code DeflateFrame} from being created.
+   */
+  private DeflateFrame() {
+  }
+
+  /**
+   * Checks if a line is a frame.
+   *
+   * @param line the line received.
+   * @return {@code true} if the line is a frame, or {@code false} if it is not.
+   */
+  public static boolean isFrame(String line) {
+    return line.startsWith(PREFIX);
+  }
+
+  /**
+   * Encodes a line into a frame.
+   *
+   * @param line the line to encode.
+   * @return the frame.
+   * @throws IllegalArgumentException if the line is {@code null}.
+   */
+  public static String encode(String line) throws IllegalArgumentException {
+    if (line == null) {
+      throw new IllegalArgumentException("line cannot be set to null");
+    }
+    byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 16);
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(compressed, deflater)) {
+      deflaterStream.write(bytes);
+    }
+    catch (IOException exception) {
+      throw new RuntimeException("Failed to compress the line.", exception);
+    }
+    finally {
+      // A stream given its deflater leaves it to the caller to release the native memory.
+      deflater.end();
+    }
+    return PREFIX + bytes.length + " "
+           + Base64.getEncoder().encodeToString(compressed.toByteArray());
+  }
+
+  /**
+   * Decodes a frame into the original line.
+   *
+   * @param frame the frame received.
+   * @return the original line.
+   * @throws IOException if the frame is malformed, its payload is corrupt, or the original line
+   *                     is longer than {@link #MAX_LENGTH} or than the length in the frame.
+   */
+  public static String decode(String frame) throws IOException {
+    if (!isFrame(frame)) {
+      throw new IOException("Not a " + CAPABILITY + " frame");
+    }
+    int payloadStart = frame.indexOf(' ', PREFIX.length());
+    if (payloadStart < 0) {
+      throw new IOException("Missing payload of the frame");
+    }
+    int length;
+    try {
+      length = Integer.parseInt(frame, PREFIX.length(), payloadStart, 10);
+    }
+    catch (NumberFormatException exception) {
+      throw new IOException("Invalid length of the frame", exception);
+    }
+    if (length < 0 || length > MAX_LENGTH) {
+      throw new IOException("Length of the frame out of range: " + length);
+    }
+    byte[] bytes = new byte[Math.min(length, INITIAL_CAPACITY)];
+    int inflated = 0;
+    InputStream payload = new AsciiInputStream(frame, payloadStart + 1);
+    try (InputStream inflater = new BoundedInputStream(
+        new InflaterInputStream(Base64.getDecoder().wrap(payload)), length)) {
+      while (inflated < length) {
+        if (inflated == bytes.length) {
+          bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+        }
+        int read = inflater.read(bytes, inflated, bytes.length - inflated);
+        if (read == -1) {
+          throw new IOException("Frame inflated to " + inflated + " bytes instead of " + length);
+        }
+        inflated += read;
+      }
+      if (inflater.read() != -1) {
+        throw new IOException("Frame inflated to more than " + length + " bytes");
+      }
+    }
+    catch (IllegalArgumentException exception) {
+      throw new IOException("Invalid base64 payload of the frame", exception);
+    }
+    return new String(bytes, 0, inflated, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Represents a stream of the bytes of ASCII characters read from a string, without copying the
+   * string.
+   */
+  private static class AsciiInputStream extends InputStream {
+    private final String source;
+    private int position;
+
+    /**
+     * Creates a new instance of {@code AsciiInputStream}.
+     *
+     * @param source the string to read.
+     * @param start  the index of the first character to read.
+     */
+    private AsciiInputStream(String source, int start) {
+      this.source = source;
+      this.position = start;
+    }
+
+    @Override
+    public int read() {
+      int value = -1;
+      if (this.position < this.source.length()) {
+        value = this.source.charAt(this.position++) & 0xFF;
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      int count = Math.min(length, this.source.length() - this.position);
+      if (count <= 0) {
+        return length == 0 ? 0 : -1;
+      }
+      for (int index = 0; index < count; index++) {
+        bytes[offset + index] = (byte) this.source.charAt(this.position++);
+      }
+      return count;
+    }
+  }
+
+  /**
+   * Represents a stream that fails once more bytes than expected were read from it.
+   */
+  private static class BoundedInputStream extends InputStream {
+    private final InputStream inputStream;
+    private final long limit;
+    private long count;
+
+    /**
+     * Creates a new instance of {@code BoundedInputStream}.
+     *
+     * @param inputStream the stream to read.
+     * @param limit       the number of bytes expected.
+     */
+    private BoundedInputStream(InputStream inputStream, long limit) {
+      this.inputStream = inputStream;
+      this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int value = this.inputStream.read();
+      this.count(value == -1 ? -1 : 1);
+      return value;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      int read = this.inputStream.read(bytes, offset,
+                                       (int) Math.min(length, this.limit - this.count + 1));
+      this.count(read);
+      return read;
+    }
+
+    /**
+     * Counts the bytes read, checking them against the expected number at the end of the stream.
+     *
+     * @param read the number of bytes read, or {@code -1} at the end of the stream.
+     * @throws IOException if more or fewer bytes than expected were read.
+     */
+    private void count(int read) throws IOException {
+      if (read == -1) {
+        if (this.count != this.limit) {
+          throw new IOException("Frame inflated to " + this.count + " bytes instead of "
+                                + this.limit);
+        }
+      }
+      else {
+        this.count += read;
+        if (this.count > this.limit) {
+          throw new IOException("Frame inflated to more than " + this.limit + " bytes");
+        }
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.inputStream.close();
+    }
+  }
+}
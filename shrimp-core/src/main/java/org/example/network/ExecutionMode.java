@@ -0,0 +1,165 @@
+package org.example.network;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents the kind of threads the receive loop, the writers and the background jobs run on.
+ * <p>
+ * {@link #VIRTUAL} threads are only available from Java 21, while the client is built for
+ * Java 17, so they are created through reflection. When they are not available,
+ * {@link #fromSystemProperties()} falls back to {@link #PLATFORM} threads, so the client still
+ * runs on Java 17. Blocking on a virtual thread does not hold on to an operating system thread,
+ * which lets code wait for replies in a blocking style and lets one JVM run thousands of clients.
+ */
+public enum ExecutionMode {
+  /**
+   * Runs the work on daemon platform threads.
+   */
+  PLATFORM,
+  /**
+   * Runs the work on virtual threads.
+   */
+  VIRTUAL;
+
+  /**
+   * The system property selecting the execution mode, either {@code platform} or
+   * {@code virtual}.
+   */
+  public static final String EXECUTION_MODE_PROPERTY = "shrimpgame.executionMode";
+  private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+  private static final Method NEW_VIRTUAL_EXECUTOR =
+      findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+  private static final Method BUILDER_NAME = findBuilderMethod("name", String.class);
+  private static final Method BUILDER_UNSTARTED = findBuilderMethod("unstarted", Runnable.class);
+
+  /**
+   * Gets the execution mode given by the system property, falling back to {@link #PLATFORM} if
+   * the property is not set or virtual threads are not available.
+   *
+   * @return the execution mode to use.
+   * @throws IllegalArgumentException if the property is not a valid execution mode.
+   */
+  public static ExecutionMode fromSystemProperties() throws IllegalArgumentException {
+    ExecutionMode executionMode = PLATFORM;
+    String property = System.getProperty(EXECUTION_MODE_PROPERTY);
+    if (property != null) {
+      executionMode = ExecutionMode.valueOf(property.trim().toUpperCase());
+    }
+    if (!executionMode.isSupported()) {
+      executionMode = PLATFORM;
+    }
+    return executionMode;
+  }
+
+  /**
+   * Checks if threads of this kind can be created by the running JVM.
+   *
+   * @return {@code true} if the threads can be created, or {@code false} if they cannot.
+   */
+  public boolean isSupported() {
+    boolean supported = true;
+    if (this == VIRTUAL) {
+      try {
+        supported = OF_VIRTUAL != null && NEW_VIRTUAL_EXECUTOR != null && BUILDER_NAME != null
+                    && BUILDER_UNSTARTED != null && OF_VIRTUAL.invoke(null) != null;
+      }
+      catch (ReflectiveOperationException | RuntimeException exception) {
+        // Virtual threads are a preview feature that is not enabled.
+        supported = false;
+      }
+    }
+    return supported;
+  }
+
+  /**
+   * Creates a thread of this kind that is not started yet.
+   *
+   * @param name the name of the thread.
+   * @param task the task run by the thread.
+   * @return the thread created.
+   * @throws IllegalStateException if threads of this kind are not supported.
+   */
+  public Thread newThread(String name, Runnable task) throws IllegalStateException {
+    Thread thread;
+    if (this == VIRTUAL) {
+      try {
+        Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), name);
+        thread = (Thread) BUILDER_UNSTARTED.invoke(builder, task);
+      }
+      catch (ReflectiveOperationException | RuntimeException exception) {
+        throw new IllegalStateException("Virtual threads are not supported.", exception);
+      }
+    }
+    else {
+      thread = new Thread(task, name);
+      thread.setDaemon(true);
+    }
+    return thread;
+  }
+
+  /**
+   * Creates an executor running every task on a thread of this kind. Platform threads are reused
+   * between tasks, while virtual threads are created for every task.
+   *
+   * @param name the name of the threads, which platform threads follow with a number.
+   * @return the executor created.
+   * @throws IllegalStateException if threads of this kind are not supported.
+   */
+  public ExecutorService newExecutor(String name) throws IllegalStateException {
+    ExecutorService executor;
+    if (this == VIRTUAL) {
+      try {
+        executor = (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(null);
+      }
+      catch (ReflectiveOperationException | RuntimeException exception) {
+        throw new IllegalStateException("Virtual threads are not supported.", exception);
+      }
+    }
+    else {
+      AtomicInteger threadNumber = new AtomicInteger();
+      executor = Executors.newCachedThreadPool(
+          task -> this.newThread(name + " " + threadNumber.incrementAndGet(), task));
+    }
+    return executor;
+  }
+
+  /**
+   * Finds a public method, which may not exist in the running JVM.
+   *
+   * @param type           the class of the method.
+   * @param name           the name of the method.
+   * @param parameterTypes the types of the parameters of the method.
+   * @return the method, or {@code null} if it does not exist.
+   */
+  private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+    Method method;
+    try {
+      method = type.getMethod(name, parameterTypes);
+    }
+    catch (NoSuchMethodException exception) {
+      method = null;
+    }
+    return method;
+  }
+
+  /**
+   * Finds a method of {@code Thread.Builder}, which does not exist before Java 19.
+   *
+   * @param name           the name of the method.
+   * @param parameterTypes the types of the parameters of the method.
+   * @return the method, or {@code null} if it does not exist.
+   */
+  private static Method findBuilderMethod(String name, Class<?>... parameterTypes) {
+    Method method;
+    try {
+      method = findMethod(Class.forName("java.lang.Thread$Builder"), name, parameterTypes);
+    }
+    catch (ClassNotFoundException exception) {
+      method = null;
+    }
+    return method;
+  }
+}
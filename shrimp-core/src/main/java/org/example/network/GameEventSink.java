@@ -0,0 +1,85 @@
+package org.example.network;
+
+import org.example.network.protocol.FinishedGame;
+import org.example.network.protocol.GameStarted;
+import org.example.network.protocol.LobbyAdded;
+import org.example.network.protocol.LobbyPlayersChanged;
+import org.example.network.protocol.LobbyRemoved;
+import org.example.network.protocol.LobbyUpdate;
+import org.example.network.protocol.MessageSent;
+import org.example.network.protocol.RoundFinished;
+
+/**
+ * Represents the receiver of the game events published by a {@link ServerUpdateListener}, one
+ * method per type of update sent by the server.
+ * <p>
+ * The methods are called on the thread of the listener, in the order the updates arrived. An
+ * implementation that updates a user interface hands the events over to its thread, while a
+ * headless implementation, like a test or a benchmark, can consume them directly. The methods
+ * ignore the event by default, so an implementation only overrides the events it needs.
+ */
+public interface GameEventSink {
+  /**
+   * Called when the lobbies in the server changed, with the whole lobby list.
+   *
+   * @param lobbyUpdate the lobbies in the server.
+   */
+  default void lobbiesUpdated(LobbyUpdate lobbyUpdate) {
+  }
+
+  /**
+   * Called when a lobby was created, if lobby deltas are enabled.
+   *
+   * @param lobbyAdded the lobby created.
+   */
+  default void lobbyAdded(LobbyAdded lobbyAdded) {
+  }
+
+  /**
+   * Called when a lobby stopped waiting for players, if lobby deltas are enabled.
+   *
+   * @param lobbyRemoved the name of the lobby.
+   */
+  default void lobbyRemoved(LobbyRemoved lobbyRemoved) {
+  }
+
+  /**
+   * Called when a player joined or left a lobby, if lobby deltas are enabled.
+   *
+   * @param lobbyPlayersChanged the name of the lobby and its number of players.
+   */
+  default void lobbyPlayersChanged(LobbyPlayersChanged lobbyPlayersChanged) {
+  }
+
+  /**
+   * Called when the lobby of the user is full and its game started.
+   *
+   * @param gameStarted the settings and players of the game.
+   */
+  default void gameStarted(GameStarted gameStarted) {
+  }
+
+  /**
+   * Called when a round of the game of the user ended.
+   *
+   * @param roundFinished the shrimp price and the results of the players.
+   */
+  default void roundFinished(RoundFinished roundFinished) {
+  }
+
+  /**
+   * Called when a player of the game of the user sent a chat message.
+   *
+   * @param messageSent the message.
+   */
+  default void messageSent(MessageSent messageSent) {
+  }
+
+  /**
+   * Called when a game in the server ended, if the user is an admin.
+   *
+   * @param finishedGame the results of the game.
+   */
+  default void gameFinished(FinishedGame finishedGame) {
+  }
+}
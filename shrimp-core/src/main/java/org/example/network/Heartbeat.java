@@ -0,0 +1,131 @@
+package org.example.network;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.example.network.protocol.ClientCommands;
+
+/**
+ * Represents a heartbeat that measures the round-trip time to the server at a fixed interval.
+ * <p>
+ * A server listing the {@value #PING_CAPABILITY} capability is sent {@code PING}, which it answers
+ * with {@code PONG}. Older servers are sent {@code REQUEST_LOBBY_LIST} instead, which changes
+ * nothing in the server. The round-trip times are recorded in a {@link LatencyHistogram}.
+ * <p>
+ * A heartbeat still waiting for its reply when the next one is due counts as missed. After too
+ * many missed heartbeats in a row the connection is closed, so the {@link ServerUpdateListener}
+ * sees the connection as lost and the {@link ConnectionSupervisor} connects again.
+ */
+public class Heartbeat {
+  /**
+   * The capability of servers that answer {@code PING} with {@code PONG}.
+   */
+  public static final String PING_CAPABILITY = "PING";
+  private final ServerConnection serverConnection;
+  private final LatencyHistogram latencyHistogram;
+  private final long intervalMillis;
+  private final int maxMissedHeartbeats;
+  private ScheduledExecutorService scheduler;
+  private CompletableFuture<Reply> pendingHeartbeat;
+  private volatile int missedHeartbeats;
+
+  /**
+   * Creates a new instance of {@code Heartbeat}.
+   *
+   * @param serverConnection    the connection to the server.
+   * @param intervalMillis      the time between two heartbeats in milliseconds.
+   * @param maxMissedHeartbeats the number of missed heartbeats in a row after which the connection
+   *                            is closed.
+   * @throws IllegalArgumentException if the connection is {@code null}, or the interval or the
+   *                                  number of missed heartbeats is less than {@code 1}.
+   */
+  public Heartbeat(ServerConnection serverConnection, long intervalMillis,
+                   int maxMissedHeartbeats) throws IllegalArgumentException {
+    if (serverConnection == null) {
+      throw new IllegalArgumentException("server connection cannot be set to null");
+    }
+    if (intervalMillis < 1) {
+      throw new IllegalArgumentException("interval cannot be less than 1");
+    }
+    if (maxMissedHeartbeats < 1) {
+      throw new IllegalArgumentException("max missed heartbeats cannot be less than 1");
+    }
+    this.serverConnection = serverConnection;
+    this.latencyHistogram = new LatencyHistogram();
+    this.intervalMillis = intervalMillis;
+    this.maxMissedHeartbeats = maxMissedHeartbeats;
+    this.missedHeartbeats = 0;
+  }
+
+  /**
+   * Starts sending heartbeats on a thread of their own. Starting a heartbeat that was already
+   * started does nothing.
+   */
+  public synchronized void start() {
+    if (this.scheduler == null) {
+      this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+          {
+            Thread thread = new Thread(runnable, "Shrimp Game Heartbeat");
+            thread.setDaemon(true);
+            return thread;
+          });
+      this.scheduler.scheduleWithFixedDelay(this::beat, this.intervalMillis,
+                                            this.intervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Stops sending heartbeats.
+   */
+  public synchronized void stop() {
+    if (this.scheduler != null) {
+      this.scheduler.shutdownNow();
+      this.scheduler = null;
+    }
+  }
+
+  /**
+   * Sends a heartbeat, unless the previous one is still waiting for its reply, in which case it
+   * is counted as missed. Nothing is sent while the connection is down.
+   */
+  synchronized void beat() {
+    if (!this.serverConnection.isConnected()) {
+      this.pendingHeartbeat = null;
+      this.missedHeartbeats = 0;
+    }
+    else if (this.pendingHeartbeat != null && !this.pendingHeartbeat.isDone()) {
+      this.missedHeartbeats++;
+      if (this.missedHeartbeats >= this.maxMissedHeartbeats) {
+        this.serverConnection.disconnect();
+      }
+    }
+    else {
+      this.missedHeartbeats = 0;
+      String command = this.serverConnection.hasCapability(PING_CAPABILITY)
+                       ? ClientCommands.ping() : ClientCommands.requestLobbyList();
+      long sentAt = System.nanoTime();
+      this.pendingHeartbeat = this.serverConnection.sendRequest(command);
+      this.pendingHeartbeat.thenRun(
+          () -> this.latencyHistogram.record(System.nanoTime() - sentAt));
+    }
+  }
+
+  /**
+   * Gets the histogram of the round-trip times measured.
+   *
+   * @return the histogram of the round-trip times.
+   */
+  public LatencyHistogram getLatencyHistogram() {
+    return this.latencyHistogram;
+  }
+
+  /**
+   * Gets the number of heartbeats missed in a row.
+   *
+   * @return the number of heartbeats still waiting for a reply when the next one was due.
+   */
+  public int getMissedHeartbeats() {
+    return this.missedHeartbeats;
+  }
+}
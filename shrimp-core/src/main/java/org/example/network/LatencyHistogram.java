@@ -0,0 +1,172 @@
+package org.example.network;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Represents a histogram of round-trip times in the style of an HDR histogram.
+ * <p>
+ * Values below {@code 128} nanoseconds get a bucket each. Above that, every power of two is split
+ * into {@code 64} buckets of equal width, so a recorded value is off by less than 1.6% whatever its
+ * magnitude, and the whole range of a {@code long} fits into a few thousand counters. Recording
+ * takes no locks, so the histogram can be read while the heartbeat records into it.
+ */
+public class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 6;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;
+  private static final int BUCKET_COUNT =
+      (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+  private final AtomicLongArray counts;
+  private final AtomicLong totalCount;
+  private final AtomicLong totalNanos;
+  private final AtomicLong maxNanos;
+
+  /**
+   * Creates a new, empty instance of {@code LatencyHistogram}.
+   */
+  public LatencyHistogram() {
+    this.counts = new AtomicLongArray(BUCKET_COUNT);
+    this.totalCount = new AtomicLong();
+    this.totalNanos = new AtomicLong();
+    this.maxNanos = new AtomicLong();
+  }
+
+  /**
+   * Records a round-trip time.
+   *
+   * @param nanos the round-trip time in nanoseconds.
+   * @throws IllegalArgumentException if the time is negative.
+   */
+  public void record(long nanos) throws IllegalArgumentException {
+    if (nanos < 0) {
+      throw new IllegalArgumentException("nanos cannot be less than 0");
+    }
+    this.counts.incrementAndGet(bucketIndex(nanos));
+    this.totalNanos.addAndGet(nanos);
+    this.maxNanos.accumulateAndGet(nanos, Math::max);
+    this.totalCount.incrementAndGet();
+  }
+
+  /**
+   * Gets the number of round-trip times recorded.
+   *
+   * @return the number of round-trip times recorded.
+   */
+  public long getCount() {
+    return this.totalCount.get();
+  }
+
+  /**
+   * Gets the longest round-trip time recorded, which is kept exactly.
+   *
+   * @return the longest round-trip time in nanoseconds, or {@code 0} if none was recorded.
+   */
+  public long getMaxNanos() {
+    return this.maxNanos.get();
+  }
+
+  /**
+   * Gets the mean of the round-trip times recorded.
+   *
+   * @return the mean round-trip time in nanoseconds, or {@code 0} if none was recorded.
+   */
+  public double getMeanNanos() {
+    long count = this.totalCount.get();
+    return count == 0 ? 0 : (double) this.totalNanos.get() / count;
+  }
+
+  /**
+   * Gets the round-trip time at a percentile, that is the highest time of the bucket the
+   * percentile falls into. The result is never more than the longest time recorded.
+   *
+   * @param percentile the percentile, from {@code 0} to {@code 100}.
+   * @return the round-trip time in nanoseconds, or {@code 0} if none was recorded.
+   * @throws IllegalArgumentException if the percentile is not between {@code 0} and {@code 100}.
+   */
+  public long getValueAtPercentile(double percentile) throws IllegalArgumentException {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100");
+    }
+    long count = this.totalCount.get();
+    if (count == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long seen = 0;
+    int index = 0;
+    while (index < BUCKET_COUNT - 1 && seen + this.counts.get(index) < rank) {
+      seen += this.counts.get(index);
+      index++;
+    }
+    return Math.min(highestValueOf(index), this.maxNanos.get());
+  }
+
+  /**
+   * Removes every round-trip time recorded.
+   */
+  public void reset() {
+    for (int index = 0; index < BUCKET_COUNT; index++) {
+      this.counts.set(index, 0);
+    }
+    this.totalCount.set(0);
+    this.totalNanos.set(0);
+    this.maxNanos.set(0);
+  }
+
+  /**
+   * Gets the bucket a value is counted in.
+   *
+   * @param value the value, which is not negative.
+   * @return the index of the bucket.
+   */
+  static int bucketIndex(long value) {
+    int index;
+    if (value < LINEAR_LIMIT) {
+      index = (int) value;
+    }
+    else {
+      int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - 1 - SUB_BUCKET_BITS;
+      index = shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+    return index;
+  }
+
+  /**
+   * Gets the highest value counted in a bucket.
+   *
+   * @param index the index of the bucket.
+   * @return the highest value of the bucket.
+   */
+  static long highestValueOf(int index) {
+    long value;
+    if (index < LINEAR_LIMIT) {
+      value = index;
+    }
+    else {
+      int shift = index / SUB_BUCKET_COUNT - 1;
+      long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+      value = (subBucket << shift) + (1L << shift) - 1;
+    }
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("p50 %.1f ms, p99 %.1f ms, max %.1f ms (%d samples)",
+                         toMillis(this.getValueAtPercentile(50)),
+                         toMillis(this.getValueAtPercentile(99)), toMillis(this.getMaxNanos()),
+                         this.getCount());
+  }
+
+  /**
+   * Converts nanoseconds to fractional milliseconds.
+   *
+   * @param nanos the time in nanoseconds.
+   * @return the time in milliseconds.
+   */
+  private static double toMillis(long nanos) {
+    return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
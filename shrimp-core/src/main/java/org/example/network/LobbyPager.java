@@ -0,0 +1,281 @@
+package org.example.network;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.example.model.Lobby;
+import org.example.network.protocol.LobbyPage;
+
+/**
+ * Represents a pager that loads the lobby list of the server one page at a time, as the lobbies
+ * are read.
+ * <p>
+ * Reading a lobby of a page that is not loaded requests the page without waiting for the reply,
+ * and the next page is requested along with it, so scrolling down finds it loaded. Only the
+ * pages read last are kept, so the whole lobby list is never held when the server has many
+ * lobbies. When the lobbies change, {@link #refresh()} loads the pages kept again. The
+ * {@link Listener} is told about every page loaded, on the thread that received the reply.
+ * <p>
+ * A page whose request failed is no longer counted as being loaded, so reading it requests it
+ * again, but not before a delay that grows with every failure of the page, spaced by a
+ * {@link ReconnectBackoff}, so a failing server is not asked for the page on every read.
+ */
+public class LobbyPager {
+  /**
+   * Represents a listener told about the pages loaded.
+   */
+  public interface Listener {
+    /**
+     * Called when a page of lobbies was loaded.
+     *
+     * @param fromIndex    the position of the first lobby of the page.
+     * @param toIndex      the position after the last lobby of the page.
+     * @param totalLobbies the number of lobbies in the server.
+     */
+    void lobbiesLoaded(int fromIndex, int toIndex, int totalLobbies);
+  }
+
+  /**
+   * Represents the failures of the requests of a page since it was last loaded.
+   *
+   * @param failures     the number of requests that failed.
+   * @param retryAtNanos the time from which the page is requested again.
+   */
+  private record PageRetry(int failures, long retryAtNanos) {
+  }
+
+  /**
+   * The delay (in milliseconds) before a page is requested again after its first failure.
+   */
+  public static final long RETRY_INITIAL_DELAY_MILLIS = 250;
+  /**
+   * The maximum delay (in milliseconds) before a page is requested again after a failure.
+   */
+  public static final long RETRY_MAX_DELAY_MILLIS = 10000;
+
+  private final ServerConnection serverConnection;
+  private final int pageSize;
+  private final Listener listener;
+  private final Map<Integer, List<Lobby>> pages;
+  private final Set<Integer> loadingPages;
+  private final Set<Integer> stalePages;
+  private final Map<Integer, PageRetry> pageRetries;
+  private final ReconnectBackoff retryBackoff;
+  private final LongSupplier nanoClock;
+  private int totalLobbies;
+
+  /**
+   * Creates a new instance of {@code LobbyPager} without pages loaded.
+   *
+   * @param serverConnection the connection the pages are requested through.
+   * @param pageSize         the number of lobbies in a page.
+   * @param maxCachedPages   the number of pages kept.
+   * @param listener         the listener told about the pages loaded.
+   * @throws IllegalArgumentException if the connection or the listener given are set to
+   *                                  {@code null}, or if the page size or the number of pages
+   *                                  kept are less than {@code 1}.
+   */
+  public LobbyPager(ServerConnection serverConnection, int pageSize, int maxCachedPages,
+                    Listener listener) throws IllegalArgumentException {
+    this(serverConnection, pageSize, maxCachedPages, listener,
+         new ReconnectBackoff(RETRY_INITIAL_DELAY_MILLIS, RETRY_MAX_DELAY_MILLIS, new Random()),
+         System::nanoTime);
+  }
+
+  /**
+   * Creates a new instance of {@code LobbyPager} without pages loaded, spacing the requests of
+   * failed pages with the backoff and the clock given.
+   *
+   * @param serverConnection the connection the pages are requested through.
+   * @param pageSize         the number of lobbies in a page.
+   * @param maxCachedPages   the number of pages kept.
+   * @param listener         the listener told about the pages loaded.
+   * @param retryBackoff     the delays before a failed page is requested again.
+   * @param nanoClock        the clock of the delays, in nanoseconds.
+   * @throws IllegalArgumentException if any of the objects given are set to {@code null}, or if
+   *                                  the page size or the number of pages kept are less than
+   *                                  {@code 1}.
+   */
+  LobbyPager(ServerConnection serverConnection, int pageSize, int maxCachedPages,
+             Listener listener, ReconnectBackoff retryBackoff, LongSupplier nanoClock)
+      throws IllegalArgumentException {
+    if (serverConnection == null) {
+      throw new IllegalArgumentException("serverConnection cannot be set to null");
+    }
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("pageSize cannot be less than 1");
+    }
+    if (maxCachedPages < 1) {
+      throw new IllegalArgumentException("maxCachedPages cannot be less than 1");
+    }
+    if (listener == null) {
+      throw new IllegalArgumentException("listener cannot be set to null");
+    }
+    if (retryBackoff == null) {
+      throw new IllegalArgumentException("retryBackoff cannot be set to null");
+    }
+    if (nanoClock == null) {
+      throw new IllegalArgumentException("nanoClock cannot be set to null");
+    }
+    this.serverConnection = serverConnection;
+    this.pageSize = pageSize;
+    this.listener = listener;
+    this.pages = new LinkedHashMap<Integer, List<Lobby>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, List<Lobby>> eldest) {
+        return this.size() > maxCachedPages;
+      }
+    };
+    this.loadingPages = new HashSet<Integer>();
+    this.stalePages = new HashSet<Integer>();
+    this.pageRetries = new HashMap<Integer, PageRetry>();
+    this.retryBackoff = retryBackoff;
+    this.nanoClock = nanoClock;
+    this.totalLobbies = 0;
+  }
+
+  /**
+   * Gets the lobby at a position of the lobby list, requesting its page and the next page if
+   * they are not loaded.
+   *
+   * @param index the position of the lobby.
+   * @return the lobby, or {@code null} if its page is not loaded yet.
+   */
+  public Lobby getLobby(int index) {
+    int page = index / this.pageSize;
+    Lobby lobby = null;
+    List<Integer> pagesToRequest = new ArrayList<Integer>();
+    synchronized (this) {
+      List<Lobby> lobbies = this.pages.get(page);
+      if (lobbies == null) {
+        this.addPageToRequest(page, pagesToRequest);
+      }
+      else if (index % this.pageSize < lobbies.size()) {
+        lobby = lobbies.get(index % this.pageSize);
+      }
+      int nextPage = page + 1;
+      if (nextPage * this.pageSize < this.totalLobbies && !this.pages.containsKey(nextPage)) {
+        this.addPageToRequest(nextPage, pagesToRequest);
+      }
+    }
+    this.requestPages(pagesToRequest);
+    return lobby;
+  }
+
+  /**
+   * Loads the pages kept again, and the first page if no page is kept. A page still being
+   * loaded is requested again once its reply arrives.
+   */
+  public void refresh() {
+    List<Integer> pagesToRequest = new ArrayList<Integer>();
+    synchronized (this) {
+      Set<Integer> pagesToRefresh = new HashSet<Integer>(this.pages.keySet());
+      pagesToRefresh.add(0);
+      for (int page : pagesToRefresh) {
+        if (!this.loadingPages.add(page)) {
+          this.stalePages.add(page);
+        }
+        else {
+          pagesToRequest.add(page);
+        }
+      }
+    }
+    this.requestPages(pagesToRequest);
+  }
+
+  /**
+   * Gets the number of lobbies in the server, as of the last page loaded.
+   *
+   * @return the number of lobbies.
+   */
+  public synchronized int getTotalLobbies() {
+    return this.totalLobbies;
+  }
+
+  /**
+   * Gets the number of pages kept.
+   *
+   * @return the number of pages.
+   */
+  public synchronized int getCachedPages() {
+    return this.pages.size();
+  }
+
+  /**
+   * Adds a page to the pages to request, unless it is being loaded already or its last request
+   * failed less than the delay of its failures ago.
+   *
+   * @param page           the number of the page.
+   * @param pagesToRequest the pages to request.
+   */
+  private void addPageToRequest(int page, List<Integer> pagesToRequest) {
+    PageRetry pageRetry = this.pageRetries.get(page);
+    boolean due = pageRetry == null
+                  || this.nanoClock.getAsLong() - pageRetry.retryAtNanos() >= 0;
+    if (due && this.loadingPages.add(page)) {
+      pagesToRequest.add(page);
+    }
+  }
+
+  /**
+   * Requests pages from the server without waiting for the replies.
+   *
+   * @param pagesToRequest the numbers of the pages.
+   */
+  private void requestPages(List<Integer> pagesToRequest) {
+    for (int page : pagesToRequest) {
+      this.serverConnection.getLobbyPageAsync(page * this.pageSize, this.pageSize).whenComplete(
+          (lobbyPage, exception) -> this.pageLoaded(page, lobbyPage));
+    }
+  }
+
+  /**
+   * Keeps a page that was loaded and tells the listener about it, requesting it again if the
+   * lobbies changed while it was loaded. A page whose request failed is requested again by the
+   * first read after the delay of its failures.
+   *
+   * @param page      the number of the page.
+   * @param lobbyPage the page received, or {@code null} if the request failed.
+   */
+  private void pageLoaded(int page, LobbyPage lobbyPage) {
+    boolean stale;
+    synchronized (this) {
+      this.loadingPages.remove(page);
+      stale = this.stalePages.remove(page);
+      if (lobbyPage != null) {
+        this.pages.put(page, lobbyPage.lobbies());
+        this.pageRetries.remove(page);
+        this.totalLobbies = lobbyPage.totalLobbies();
+        this.pages.keySet().removeIf(cachedPage -> cachedPage * this.pageSize >= this.totalLobbies
+                                                   && cachedPage > 0);
+      }
+      else {
+        PageRetry previousRetry = this.pageRetries.get(page);
+        int failures = previousRetry == null ? 0 : previousRetry.failures();
+        long delayNanos =
+            TimeUnit.MILLISECONDS.toNanos(this.retryBackoff.delayMillis(failures));
+        this.pageRetries.put(page,
+                             new PageRetry(failures + 1, this.nanoClock.getAsLong() + delayNanos));
+        stale = false;
+      }
+      if (stale) {
+        this.loadingPages.add(page);
+      }
+    }
+    if (lobbyPage != null) {
+      int fromIndex = page * this.pageSize;
+      this.listener.lobbiesLoaded(fromIndex, fromIndex + lobbyPage.lobbies().size(),
+                                  lobbyPage.totalLobbies());
+    }
+    if (stale) {
+      this.requestPages(List.of(page));
+    }
+  }
+}
@@ -0,0 +1,308 @@
+package org.example.network;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a non-blocking {@link Transport} built on a {@link SocketChannel} and a
+ * {@link Selector}.
+ * <p>
+ * Received bytes are collected in a direct {@link ByteBuffer} and lines are detected in place
+ * by scanning for the {@code \n} terminator (an optional {@code \r} before it is stripped), so
+ * only complete lines are decoded into strings. The selector is driven by the thread calling
+ * {@link #receive()}, which means no thread is needed besides the one that already listens for
+ * server updates.
+ * <p>
+ * {@link #send(String)} never blocks the calling thread. While the receiving thread is waiting
+ * in the selector, the message is only queued and write interest is registered, so every
+ * message sent before the selector wakes up is coalesced into a single write by the receiving
+ * thread. When no thread is waiting in the selector, the message is written as far as the socket
+ * accepts it right away, and whatever is left over is written once the channel becomes
+ * writable.
+ */
+public class NioSocketTransport implements Transport {
+  private static final int INITIAL_BUFFER_SIZE = 8192;
+  private static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+  private static final byte[] LINE_TERMINATOR = {'\r', '\n'};
+  private SocketChannel channel;
+  private Selector selector;
+  private SelectionKey selectionKey;
+  private ByteBuffer readBuffer;
+  private final ByteBuffer writeBuffer;
+  private final Deque<byte[]> pendingWrites;
+  private final Object writeLock;
+  private final TransportOptions transportOptions;
+  private final SendMetrics sendMetrics;
+  private volatile boolean selecting;
+  private boolean writeScheduled;
+  private int messagesInWriteBuffer;
+  private int pendingWriteOffset;
+  private int scanPosition;
+  private byte[] frameBytes;
+  private volatile boolean endOfStream;
+
+  /**
+   * Creates a new instance of {@code NioSocketTransport} with the default options.
+   */
+  public NioSocketTransport() {
+    this(new TransportOptions());
+  }
+
+  /**
+   * Creates a new instance of {@code NioSocketTransport}.
+   *
+   * @param transportOptions the socket options of the transport.
+   * @throws IllegalArgumentException if the options given are set to {@code null}.
+   */
+  public NioSocketTransport(TransportOptions transportOptions) throws IllegalArgumentException {
+    if (transportOptions == null) {
+      throw new IllegalArgumentException("transportOptions cannot be set to null");
+    }
+    this.transportOptions = transportOptions;
+    this.sendMetrics = new SendMetrics();
+    this.readBuffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+    this.writeBuffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+    this.pendingWrites = new ArrayDeque<byte[]>();
+    this.writeLock = new Object();
+    this.frameBytes = new byte[INITIAL_BUFFER_SIZE];
+  }
+
+  @Override
+  public void connect(String hostname, int port, int timeoutMillis) throws IOException {
+    this.close();
+    this.channel = SocketChannel.open();
+    try {
+      this.channel.socket().setTcpNoDelay(this.transportOptions.isTcpNoDelay());
+      if (this.transportOptions.getSendBufferSize() > 0) {
+        this.channel.socket().setSendBufferSize(this.transportOptions.getSendBufferSize());
+      }
+      if (this.transportOptions.getReceiveBufferSize() > 0) {
+        this.channel.socket().setReceiveBufferSize(this.transportOptions.getReceiveBufferSize());
+      }
+      this.channel.socket().connect(new InetSocketAddress(hostname, port), timeoutMillis);
+      this.channel.configureBlocking(false);
+      this.selector = Selector.open();
+      this.selectionKey = this.channel.register(this.selector, SelectionKey.OP_READ);
+    }
+    catch (IOException exception) {
+      this.channel.close();
+      throw exception;
+    }
+    this.readBuffer.clear();
+    this.writeBuffer.clear();
+    this.writeScheduled = false;
+    synchronized (this.writeLock) {
+      this.pendingWrites.clear();
+      this.pendingWriteOffset = 0;
+      this.messagesInWriteBuffer = 0;
+    }
+    this.scanPosition = 0;
+    this.endOfStream = false;
+  }
+
+  @Override
+  public void send(String message) throws IOException {
+    byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+    this.sendMetrics.recordQueued();
+    synchronized (this.writeLock) {
+      this.pendingWrites.add(bytes);
+      this.pendingWrites.add(LINE_TERMINATOR);
+      if (!this.writeScheduled && (this.selecting || !this.flushPendingWrites())) {
+        this.selectionKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        this.writeScheduled = true;
+        this.selector.wakeup();
+      }
+    }
+  }
+
+  @Override
+  public String receive() throws IOException {
+    String frame = this.nextFrame();
+    int readTimeoutMillis = this.transportOptions.getReadTimeoutMillis();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(readTimeoutMillis);
+    while (frame == null && !this.endOfStream) {
+      if (readTimeoutMillis > 0 && System.nanoTime() - deadline >= 0) {
+        throw new SocketTimeoutException("No line received in " + readTimeoutMillis + " ms");
+      }
+      this.selecting = true;
+      try {
+        this.selector.select(readTimeoutMillis);
+      }
+      finally {
+        this.selecting = false;
+      }
+      Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+      while (keys.hasNext()) {
+        SelectionKey key = keys.next();
+        keys.remove();
+        if (key.isValid() && key.isWritable()) {
+          synchronized (this.writeLock) {
+            if (this.flushPendingWrites()) {
+              key.interestOps(SelectionKey.OP_READ);
+              this.writeScheduled = false;
+            }
+          }
+        }
+        if (key.isValid() && key.isReadable()) {
+          this.readAvailableBytes();
+        }
+      }
+      frame = this.nextFrame();
+    }
+    if (frame == null && this.readBuffer.position() > 0) {
+      frame = this.decodeFrame(this.readBuffer.position(), this.readBuffer.position());
+    }
+    return frame;
+  }
+
+  @Override
+  public boolean isConnected() {
+    boolean isConnected = false;
+    if (this.channel != null) {
+      isConnected = this.channel.isOpen() && this.channel.isConnected() && !this.endOfStream;
+    }
+    return isConnected;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (this.selector != null) {
+      this.selector.close();
+    }
+    if (this.channel != null) {
+      this.channel.close();
+    }
+  }
+
+  /**
+   * Reads every byte currently available on the channel into the read buffer, growing the
+   * buffer if a single line does not fit into it.
+   *
+   * @throws IOException if the bytes could not be read or a line exceeds the maximum frame size.
+   */
+  private void readAvailableBytes() throws IOException {
+    int bytesRead;
+    do {
+      if (!this.readBuffer.hasRemaining()) {
+        this.growReadBuffer();
+      }
+      bytesRead = this.channel.read(this.readBuffer);
+    }
+    while (bytesRead > 0 && !this.readBuffer.hasRemaining());
+    if (bytesRead < 0) {
+      this.endOfStream = true;
+    }
+  }
+
+  /**
+   * Doubles the capacity of the read buffer while keeping the bytes already received.
+   *
+   * @throws IOException if the buffer would grow beyond the maximum frame size.
+   */
+  private void growReadBuffer() throws IOException {
+    int capacity = this.readBuffer.capacity() * 2;
+    if (capacity > MAX_FRAME_SIZE) {
+      throw new IOException("Received a line larger than " + MAX_FRAME_SIZE + " bytes.");
+    }
+    ByteBuffer grownBuffer = ByteBuffer.allocateDirect(capacity);
+    this.readBuffer.flip();
+    grownBuffer.put(this.readBuffer);
+    this.readBuffer = grownBuffer;
+  }
+
+  /**
+   * Scans the received bytes for the next line terminator.
+   *
+   * @return the next complete line, or {@code null} if no complete line has been received yet.
+   */
+  private String nextFrame() {
+    String frame = null;
+    int end = this.readBuffer.position();
+    int index = this.scanPosition;
+    while (frame == null && index < end) {
+      if (this.readBuffer.get(index) == '\n') {
+        int frameLength = index;
+        if (frameLength > 0 && this.readBuffer.get(frameLength - 1) == '\r') {
+          frameLength--;
+        }
+        frame = this.decodeFrame(frameLength, index + 1);
+      }
+      index++;
+    }
+    if (frame == null) {
+      this.scanPosition = end;
+    }
+    return frame;
+  }
+
+  /**
+   * Decodes the first bytes of the read buffer into a line and discards the consumed bytes.
+   *
+   * @param frameLength   the number of bytes belonging to the line.
+   * @param consumedBytes the number of bytes to discard, including the line terminator.
+   * @return the decoded line.
+   */
+  private String decodeFrame(int frameLength, int consumedBytes) {
+    if (this.frameBytes.length < frameLength) {
+      this.frameBytes = new byte[Math.max(frameLength, this.frameBytes.length * 2)];
+    }
+    this.readBuffer.get(0, this.frameBytes, 0, frameLength);
+    String frame = new String(this.frameBytes, 0, frameLength, StandardCharsets.UTF_8);
+    this.readBuffer.flip();
+    this.readBuffer.position(consumedBytes);
+    this.readBuffer.compact();
+    this.scanPosition = 0;
+    return frame;
+  }
+
+  /**
+   * Writes as many of the pending messages as the socket currently accepts. Must be called while
+   * holding the write lock.
+   *
+   * @return {@code true} if every pending message has been written, or {@code false} if the
+   *     socket is full and the rest has to wait until the channel becomes writable.
+   * @throws IOException if the messages could not be written.
+   */
+  private boolean flushPendingWrites() throws IOException {
+    boolean socketFull = false;
+    while (!socketFull && (!this.pendingWrites.isEmpty() || this.writeBuffer.position() > 0)) {
+      while (!this.pendingWrites.isEmpty() && this.writeBuffer.hasRemaining()) {
+        byte[] pendingWrite = this.pendingWrites.peek();
+        int length = Math.min(pendingWrite.length - this.pendingWriteOffset,
+                              this.writeBuffer.remaining());
+        this.writeBuffer.put(pendingWrite, this.pendingWriteOffset, length);
+        this.pendingWriteOffset += length;
+        if (this.pendingWriteOffset == pendingWrite.length) {
+          if (this.pendingWrites.poll() == LINE_TERMINATOR) {
+            this.messagesInWriteBuffer++;
+          }
+          this.pendingWriteOffset = 0;
+        }
+      }
+      this.writeBuffer.flip();
+      long startNanos = System.nanoTime();
+      int bytesWritten = this.channel.write(this.writeBuffer);
+      socketFull = this.writeBuffer.hasRemaining();
+      int messagesWritten = socketFull ? 0 : this.messagesInWriteBuffer;
+      this.messagesInWriteBuffer -= messagesWritten;
+      this.sendMetrics.recordWrite(messagesWritten, bytesWritten, System.nanoTime() - startNanos);
+      this.writeBuffer.compact();
+    }
+    return !socketFull;
+  }
+
+  @Override
+  public SendMetrics getSendMetrics() {
+    return this.sendMetrics;
+  }
+}
@@ -0,0 +1,329 @@
+package org.example.network;
+
+/**
+ * Represents a reusable tokenizer that reads the fields of a packet in place.
+ * <p>
+ * The tokenizer keeps a cursor over a {@link CharSequence} and moves it from one token to the
+ * next, where the caller chooses the delimiter of every token. Numbers are parsed and tokens are
+ * compared without creating substrings or arrays, so decoding a packet only allocates the
+ * strings and objects the caller actually keeps. Nested fields, like the {@code .} separated
+ * parts of a lobby, are read by resetting a second tokenizer over the current token with
+ * {@link #nextField(char, PacketTokenizer)}.
+ * <p>
+ * Two delimiters next to each other give an empty token, and the delimiter at the end of the
+ * range does not start another token, so {@code "a,,b,"} gives {@code a}, an empty token and
+ * {@code b}. Unlike {@link String#split(String)}, empty tokens at the end of the range are kept
+ * up to the last delimiter, so {@code "a,,"} gives {@code a} and an empty token where splitting
+ * gives {@code a} alone, and an empty range gives no token where splitting gives one empty
+ * string. The tokens only match splitting when the range is not empty and does not end with
+ * two delimiters.
+ */
+public class PacketTokenizer {
+  private CharSequence source;
+  private int position;
+  private int limit;
+  private int tokenStart;
+  private int tokenEnd;
+  private PacketTokenizer nested;
+
+  /**
+   * Creates a new instance of {@code PacketTokenizer} without a source.
+   */
+  public PacketTokenizer() {
+    this.source = "";
+  }
+
+  /**
+   * Places the tokenizer at the beginning of a new source.
+   *
+   * @param source the characters to tokenize.
+   * @return this tokenizer.
+   * @throws IllegalArgumentException if the source given is set to {@code null}.
+   */
+  public PacketTokenizer reset(CharSequence source) throws IllegalArgumentException {
+    if (source == null) {
+      throw new IllegalArgumentException("source cannot be set to null");
+    }
+    return this.reset(source, 0, source.length());
+  }
+
+  /**
+   * Places the tokenizer at the beginning of a range of a source.
+   *
+   * @param source the characters to tokenize.
+   * @param start  the index of the first character of the range.
+   * @param end    the index after the last character of the range.
+   * @return this tokenizer.
+   * @throws IllegalArgumentException if the source is {@code null} or the range is invalid.
+   */
+  public PacketTokenizer reset(CharSequence source, int start, int end)
+      throws IllegalArgumentException {
+    if (source == null) {
+      throw new IllegalArgumentException("source cannot be set to null");
+    }
+    if (start < 0 || end > source.length() || start > end) {
+      throw new IllegalArgumentException("the range of the source is invalid");
+    }
+    this.source = source;
+    this.position = start;
+    this.limit = end;
+    this.tokenStart = start;
+    this.tokenEnd = start;
+    return this;
+  }
+
+  /**
+   * Checks if there are tokens left to read.
+   *
+   * @return {@code true} if there is another token, or {@code false} if there is not.
+   */
+  public boolean hasMoreTokens() {
+    return this.position < this.limit;
+  }
+
+  /**
+   * Counts the tokens left to read without moving the cursor, so a decoder can find where the
+   * fields at the end of a packet start.
+   *
+   * @param delimiter the character ending the tokens.
+   * @return the number of tokens left.
+   */
+  public int countTokens(char delimiter) {
+    int tokens = 0;
+    if (this.hasMoreTokens()) {
+      tokens = 1;
+      for (int index = this.position; index < this.limit - 1; index++) {
+        if (this.source.charAt(index) == delimiter) {
+          tokens++;
+        }
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * Moves the cursor to the next token ending at the given delimiter or at the end of the range.
+   *
+   * @param delimiter the character ending the token.
+   * @return this tokenizer.
+   * @throws IllegalStateException if there are no tokens left.
+   */
+  public PacketTokenizer next(char delimiter) throws IllegalStateException {
+    if (!this.hasMoreTokens()) {
+      throw new IllegalStateException("there are no tokens left");
+    }
+    int index = this.position;
+    while (index < this.limit && this.source.charAt(index) != delimiter) {
+      index++;
+    }
+    this.tokenStart = this.position;
+    this.tokenEnd = index;
+    this.position = index + 1;
+    return this;
+  }
+
+  /**
+   * Skips the next token.
+   *
+   * @param delimiter the character ending the token.
+   * @throws IllegalStateException if there are no tokens left.
+   */
+  public void skip(char delimiter) throws IllegalStateException {
+    this.next(delimiter);
+  }
+
+  /**
+   * Reads the next token as an {@code int}.
+   *
+   * @param delimiter the character ending the token.
+   * @return the value of the token.
+   * @throws IllegalStateException if there are no tokens left.
+   * @throws NumberFormatException if the token is not a valid {@code int}.
+   */
+  public int nextInt(char delimiter) throws IllegalStateException, NumberFormatException {
+    return this.next(delimiter).tokenAsInt();
+  }
+
+  /**
+   * Reads the next token as a {@link String}.
+   *
+   * @param delimiter the character ending the token.
+   * @return the token.
+   * @throws IllegalStateException if there are no tokens left.
+   */
+  public String nextString(char delimiter) throws IllegalStateException {
+    return this.next(delimiter).tokenAsString();
+  }
+
+  /**
+   * Reads the next token and checks if it is equal to the given text.
+   *
+   * @param delimiter the character ending the token.
+   * @param expected  the text to compare the token with.
+   * @return {@code true} if the token is equal to the text, or {@code false} if it is not.
+   * @throws IllegalStateException if there are no tokens left.
+   */
+  public boolean nextEquals(char delimiter, String expected) throws IllegalStateException {
+    return this.next(delimiter).tokenEquals(expected);
+  }
+
+  /**
+   * Reads the next token and places another tokenizer over it, so the fields nested in the token
+   * can be read.
+   *
+   * @param delimiter the character ending the token.
+   * @param field     the tokenizer to place over the token.
+   * @return the tokenizer placed over the token.
+   * @throws IllegalStateException if there are no tokens left.
+   */
+  public PacketTokenizer nextField(char delimiter, PacketTokenizer field)
+      throws IllegalStateException {
+    this.next(delimiter);
+    return field.reset(this.source, this.tokenStart, this.tokenEnd);
+  }
+
+  /**
+   * Gets the tokenizer this tokenizer keeps for reading fields nested in the fields it is placed
+   * over, so a decoder can read three levels of fields without creating tokenizers. The nested
+   * tokenizer is created the first time it is asked for and reused after.
+   *
+   * @return the nested tokenizer.
+   */
+  public PacketTokenizer getNestedTokenizer() {
+    if (this.nested == null) {
+      this.nested = new PacketTokenizer();
+    }
+    return this.nested;
+  }
+
+  /**
+   * Gets the current token as an {@code int}.
+   *
+   * @return the value of the current token.
+   * @throws NumberFormatException if the token is not a valid {@code int}.
+   */
+  public int tokenAsInt() throws NumberFormatException {
+    int index = this.tokenStart;
+    boolean negative = false;
+    if (index < this.tokenEnd
+        && (this.source.charAt(index) == '-' || this.source.charAt(index) == '+')) {
+      negative = this.source.charAt(index) == '-';
+      index++;
+    }
+    if (index == this.tokenEnd) {
+      throw new NumberFormatException("For input string: \"" + this.tokenAsString() + "\"");
+    }
+    long value = 0;
+    while (index < this.tokenEnd) {
+      int digit = this.source.charAt(index) - '0';
+      if (digit < 0 || digit > 9) {
+        throw new NumberFormatException("For input string: \"" + this.tokenAsString() + "\"");
+      }
+      value = value * 10 + digit;
+      if (value > (long) Integer.MAX_VALUE + 1) {
+        throw new NumberFormatException("For input string: \"" + this.tokenAsString() + "\"");
+      }
+      index++;
+    }
+    if (negative) {
+      value = -value;
+    }
+    if (value > Integer.MAX_VALUE) {
+      throw new NumberFormatException("For input string: \"" + this.tokenAsString() + "\"");
+    }
+    return (int) value;
+  }
+
+  /**
+   * Gets the current token as a {@link String}.
+   *
+   * @return the current token.
+   */
+  public String tokenAsString() {
+    return this.source.subSequence(this.tokenStart, this.tokenEnd).toString();
+  }
+
+  /**
+   * Checks if the current token is equal to the given text without creating a substring.
+   *
+   * @param expected the text to compare the token with.
+   * @return {@code true} if the token is equal to the text, or {@code false} if it is not.
+   */
+  public boolean tokenEquals(String expected) {
+    boolean equal = expected.length() == this.tokenEnd - this.tokenStart;
+    int index = 0;
+    while (equal && index < expected.length()) {
+      equal = this.source.charAt(this.tokenStart + index) == expected.charAt(index);
+      index++;
+    }
+    return equal;
+  }
+
+  /**
+   * Computes the hash of the current token without creating a substring. The hash is the same as
+   * the {@link String#hashCode()} of the token.
+   *
+   * @return the hash of the current token.
+   */
+  public int tokenHashCode() {
+    int hash = 0;
+    for (int index = this.tokenStart; index < this.tokenEnd; index++) {
+      hash = 31 * hash + this.source.charAt(index);
+    }
+    return hash;
+  }
+
+  /**
+   * Appends the current token to a {@link StringBuilder}.
+   *
+   * @param builder the builder to append the token to.
+   * @return the builder given.
+   */
+  public StringBuilder appendToken(StringBuilder builder) {
+    return builder.append(this.source, this.tokenStart, this.tokenEnd);
+  }
+
+  /**
+   * Appends the current token to a {@link StringBuilder}, replacing every occurrence of a
+   * character with another one.
+   *
+   * @param builder     the builder to append the token to.
+   * @param target      the character to replace.
+   * @param replacement the character to replace it with.
+   * @return the builder given.
+   */
+  public StringBuilder appendToken(StringBuilder builder, char target, char replacement) {
+    for (int index = this.tokenStart; index < this.tokenEnd; index++) {
+      char character = this.source.charAt(index);
+      builder.append(character == target ? replacement : character);
+    }
+    return builder;
+  }
+
+  /**
+   * Gets the index of the first character of the current token in the source.
+   *
+   * @return the start of the current token.
+   */
+  public int getTokenStart() {
+    return this.tokenStart;
+  }
+
+  /**
+   * Gets the index after the last character of the current token in the source.
+   *
+   * @return the end of the current token.
+   */
+  public int getTokenEnd() {
+    return this.tokenEnd;
+  }
+
+  /**
+   * Gets the source the tokenizer is placed over.
+   *
+   * @return the source of the tokenizer.
+   */
+  public CharSequence getSource() {
+    return this.source;
+  }
+}
@@ -0,0 +1,57 @@
+package org.example.network;
+
+import java.util.Random;
+
+/**
+ * Represents the delays between the attempts to connect to the server again after the connection
+ * was lost.
+ * <p>
+ * The delay doubles with every attempt up to a maximum, and half of it is random ("equal
+ * jitter"), so clients that lost the connection at the same moment do not all connect again at
+ * the same moment.
+ */
+public class ReconnectBackoff {
+  private final long initialDelayMillis;
+  private final long maxDelayMillis;
+  private final Random random;
+
+  /**
+   * Creates a new instance of {@code ReconnectBackoff}.
+   *
+   * @param initialDelayMillis the delay before the first attempt in milliseconds.
+   * @param maxDelayMillis     the maximum delay before an attempt in milliseconds.
+   * @param random             the source of the jitter.
+   * @throws IllegalArgumentException if a delay is less than {@code 1}, the maximum delay is less
+   *                                  than the initial delay, or the random is {@code null}.
+   */
+  public ReconnectBackoff(long initialDelayMillis, long maxDelayMillis, Random random)
+      throws IllegalArgumentException {
+    if (initialDelayMillis < 1) {
+      throw new IllegalArgumentException("initial delay cannot be less than 1");
+    }
+    if (maxDelayMillis < initialDelayMillis) {
+      throw new IllegalArgumentException("max delay cannot be less than the initial delay");
+    }
+    if (random == null) {
+      throw new IllegalArgumentException("random cannot be set to null");
+    }
+    this.initialDelayMillis = initialDelayMillis;
+    this.maxDelayMillis = maxDelayMillis;
+    this.random = random;
+  }
+
+  /**
+   * Gets the delay before an attempt to connect again.
+   *
+   * @param attempt the number of attempts made before this one, starting at {@code 0}.
+   * @return the delay in milliseconds, between half of the capped delay and the capped delay.
+   */
+  public long delayMillis(int attempt) {
+    long cap = this.maxDelayMillis;
+    if (attempt < Long.numberOfLeadingZeros(this.initialDelayMillis) - 1) {
+      cap = Math.min(this.maxDelayMillis, this.initialDelayMillis << Math.max(attempt, 0));
+    }
+    long half = cap / 2;
+    return cap - half + (long) (this.random.nextDouble() * (half + 1));
+  }
+}
@@ -0,0 +1,112 @@
+package org.example.network;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+
+/**
+ * Represents a {@link Transport} that records every line sent and received through another
+ * transport with a {@link TrafficRecorder}.
+ * <p>
+ * Lines are recorded as they are on the wire, so deflate-compressed frames are recorded
+ * compressed and inflated again by the {@link ServerConnection} when they are replayed. Closing
+ * the transport leaves the recorder open, so a recording goes on across reconnects until the
+ * owner of the recorder closes it.
+ * <p>
+ * The recording is a side channel of the connection: if a line cannot be recorded, the failure
+ * is logged once, the recording stops, and the line is still sent or received.
+ */
+public class RecordingTransport implements Transport {
+  private static final Logger LOGGER = System.getLogger(RecordingTransport.class.getName());
+  private final Transport transport;
+  private final TrafficRecorder trafficRecorder;
+  private volatile boolean recording;
+
+  /**
+   * Creates a new instance of {@code RecordingTransport}.
+   *
+   * @param transport       the transport to record.
+   * @param trafficRecorder the recorder to write the lines to.
+   * @throws IllegalArgumentException if any of the parameters given are {@code null}.
+   */
+  public RecordingTransport(Transport transport, TrafficRecorder trafficRecorder)
+      throws IllegalArgumentException {
+    if (transport == null) {
+      throw new IllegalArgumentException("transport cannot be set to null");
+    }
+    if (trafficRecorder == null) {
+      throw new IllegalArgumentException("trafficRecorder cannot be set to null");
+    }
+    this.transport = transport;
+    this.trafficRecorder = trafficRecorder;
+    this.recording = true;
+  }
+
+  @Override
+  public void connect(String hostname, int port, int timeoutMillis) throws IOException {
+    this.transport.connect(hostname, port, timeoutMillis);
+  }
+
+  @Override
+  public void send(String message) throws IOException {
+    this.transport.send(message);
+    if (this.recording) {
+      try {
+        this.trafficRecorder.recordSent(message);
+      }
+      catch (IOException exception) {
+        this.stopRecording(exception);
+      }
+    }
+  }
+
+  @Override
+  public String receive() throws IOException {
+    String line = this.transport.receive();
+    if (line != null && this.recording) {
+      try {
+        this.trafficRecorder.recordReceived(line);
+      }
+      catch (IOException exception) {
+        this.stopRecording(exception);
+      }
+    }
+    return line;
+  }
+
+  @Override
+  public boolean isConnected() {
+    return this.transport.isConnected();
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.transport.close();
+  }
+
+  @Override
+  public SendMetrics getSendMetrics() {
+    return this.transport.getSendMetrics();
+  }
+
+  /**
+   * Checks if the lines are still recorded.
+   *
+   * @return {@code true} if the lines are recorded, or {@code false} if recording a line failed.
+   */
+  public boolean isRecording() {
+    return this.recording;
+  }
+
+  /**
+   * Stops recording after a line could not be recorded, logging the failure the first time.
+   *
+   * @param exception the reason the line could not be recorded.
+   */
+  private void stopRecording(IOException exception) {
+    if (this.recording) {
+      this.recording = false;
+      LOGGER.log(Level.WARNING, "Stopped recording the traffic", exception);
+    }
+  }
+}
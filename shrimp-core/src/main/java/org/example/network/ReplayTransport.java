@@ -0,0 +1,183 @@
+package org.example.network;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a {@link Transport} that plays back the lines a client received in a
+ * {@link TrafficRecording}, so a session can be replayed into the {@link ServerUpdateListener}
+ * without a server.
+ * <p>
+ * Each line is handed out when its recorded time, divided by the speed, has passed since the
+ * first connect, so a speed of {@code 10} replays a session ten times faster and an infinite
+ * speed replays it as fast as it is read. The lines sent by the client are counted but not
+ * compared to the recording, and the replies in the recording complete the requests in the order
+ * they were sent. Once every line is handed out, receiving blocks until the transport is closed,
+ * leaving the client as the session ended. A transport closed and connected again carries on
+ * where it was.
+ */
+public class ReplayTransport implements Transport {
+  /**
+   * The speed that replays a recording as fast as it is read.
+   */
+  public static final double MAX_SPEED = Double.POSITIVE_INFINITY;
+  private final List<TrafficRecording.RecordedLine> receivedLines;
+  private final double speed;
+  private final SendMetrics sendMetrics;
+  private final Object lock;
+  private int nextLine;
+  private long startNanos;
+  private boolean started;
+  private boolean connected;
+
+  /**
+   * Creates a new instance of {@code ReplayTransport}.
+   *
+   * @param trafficRecording the recording to replay.
+   * @param speed            the speed of the replay, {@code 1} for the recorded pace or
+   *                         {@link #MAX_SPEED} for no delays.
+   * @throws IllegalArgumentException if the recording is {@code null} or the speed is not
+   *                                  greater than {@code 0}.
+   */
+  public ReplayTransport(TrafficRecording trafficRecording, double speed)
+      throws IllegalArgumentException {
+    if (trafficRecording == null) {
+      throw new IllegalArgumentException("trafficRecording cannot be set to null");
+    }
+    if (!(speed > 0)) {
+      throw new IllegalArgumentException("speed must be greater than 0");
+    }
+    this.receivedLines = new ArrayList<TrafficRecording.RecordedLine>();
+    for (TrafficRecording.RecordedLine recordedLine : trafficRecording.lines()) {
+      if (!recordedLine.sent()) {
+        this.receivedLines.add(recordedLine);
+      }
+    }
+    this.speed = speed;
+    this.sendMetrics = new SendMetrics();
+    this.lock = new Object();
+    this.nextLine = 0;
+    this.started = false;
+    this.connected = false;
+  }
+
+  /**
+   * Parses the speed of a replay, given as a number like {@code 10}, optionally followed by
+   * {@code x}, or as {@code max}.
+   *
+   * @param speed the speed to parse.
+   * @return the speed parsed.
+   * @throws IllegalArgumentException if the speed is not a number greater than {@code 0} or
+   *                                  {@code max}.
+   */
+  public static double parseSpeed(String speed) throws IllegalArgumentException {
+    if (speed == null) {
+      throw new IllegalArgumentException("speed cannot be set to null");
+    }
+    double parsedSpeed;
+    String trimmedSpeed = speed.trim().toLowerCase();
+    if (trimmedSpeed.equals("max")) {
+      parsedSpeed = MAX_SPEED;
+    }
+    else {
+      if (trimmedSpeed.endsWith("x")) {
+        trimmedSpeed = trimmedSpeed.substring(0, trimmedSpeed.length() - 1);
+      }
+      try {
+        parsedSpeed = Double.parseDouble(trimmedSpeed);
+      }
+      catch (NumberFormatException exception) {
+        throw new IllegalArgumentException("Invalid replay speed: " + speed);
+      }
+      if (!(parsedSpeed > 0)) {
+        throw new IllegalArgumentException("Invalid replay speed: " + speed);
+      }
+    }
+    return parsedSpeed;
+  }
+
+  @Override
+  public void connect(String hostname, int port, int timeoutMillis) {
+    synchronized (this.lock) {
+      if (!this.started) {
+        this.started = true;
+        this.startNanos = System.nanoTime();
+      }
+      this.connected = true;
+    }
+  }
+
+  @Override
+  public void send(String message) throws IOException {
+    if (!this.isConnected()) {
+      throw new IOException("The replay is not connected.");
+    }
+    this.sendMetrics.recordQueued();
+    this.sendMetrics.recordWrite(1, message.getBytes(StandardCharsets.UTF_8).length + 2, 0);
+  }
+
+  @Override
+  public String receive() throws IOException {
+    synchronized (this.lock) {
+      String line = null;
+      boolean waiting = this.connected;
+      try {
+        while (waiting) {
+          long remainingNanos = Long.MAX_VALUE;
+          if (this.nextLine < this.receivedLines.size()) {
+            TrafficRecording.RecordedLine recordedLine = this.receivedLines.get(this.nextLine);
+            remainingNanos = this.startNanos + (long) (recordedLine.nanos() / this.speed)
+                             - System.nanoTime();
+            if (remainingNanos <= 0) {
+              line = recordedLine.line();
+              this.nextLine++;
+            }
+          }
+          if (line == null) {
+            TimeUnit.NANOSECONDS.timedWait(this.lock, remainingNanos);
+          }
+          waiting = line == null && this.connected;
+        }
+      }
+      catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while waiting for the next line of the replay.");
+      }
+      return line;
+    }
+  }
+
+  @Override
+  public boolean isConnected() {
+    synchronized (this.lock) {
+      return this.connected;
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (this.lock) {
+      this.connected = false;
+      this.lock.notifyAll();
+    }
+  }
+
+  @Override
+  public SendMetrics getSendMetrics() {
+    return this.sendMetrics;
+  }
+
+  /**
+   * Checks if every line of the recording was handed out.
+   *
+   * @return {@code true} if the replay is finished, or {@code false} if it is not.
+   */
+  public boolean isFinished() {
+    synchronized (this.lock) {
+      return this.nextLine == this.receivedLines.size();
+    }
+  }
+}
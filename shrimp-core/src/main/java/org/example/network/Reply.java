@@ -0,0 +1,128 @@
+package org.example.network;
+
+import java.util.function.Function;
+import org.example.network.protocol.ServerMessage;
+
+/**
+ * Represents a reply received from the server in response to a request.
+ * <p>
+ * Servers that support correlation ids prefix every reply with {@code @<id> }, where the id is
+ * the one given with the request. Replies from servers that do not support correlation ids have
+ * no prefix and are matched to the requests in the order the requests were sent.
+ * <p>
+ * The line is decoded into its {@link ServerMessage} once, by whoever parses the reply, and the
+ * message is kept with the reply.
+ */
+public class Reply {
+  private static final int NO_CORRELATION_ID = -1;
+  private final int correlationId;
+  private final String line;
+  private final ServerMessage message;
+
+  /**
+   * Creates a new instance of {@code Reply}.
+   *
+   * @param correlationId the id of the request the reply belongs to, or {@code -1} if the reply
+   *                      has no correlation id.
+   * @param line          the line of the reply without the correlation id.
+   * @param message       the line decoded.
+   * @throws IllegalArgumentException if the line or the message given are set to {@code null}.
+   */
+  public Reply(int correlationId, String line, ServerMessage message)
+      throws IllegalArgumentException {
+    if (line == null) {
+      throw new IllegalArgumentException("line cannot be set to null");
+    }
+    if (message == null) {
+      throw new IllegalArgumentException("message cannot be set to null");
+    }
+    this.correlationId = correlationId;
+    this.line = line;
+    this.message = message;
+  }
+
+  /**
+   * Parses a packet received from the server into a {@code Reply}, decoding the line without
+   * the correlation id.
+   *
+   * @param packet  the packet received from the server.
+   * @param decoder the function decoding the line of the reply.
+   * @return the reply contained in the packet.
+   * @throws IllegalArgumentException if the packet or the decoder given are set to
+   *                                  {@code null}.
+   */
+  public static Reply parse(String packet, Function<String, ? extends ServerMessage> decoder)
+      throws IllegalArgumentException {
+    if (packet == null) {
+      throw new IllegalArgumentException("packet cannot be set to null");
+    }
+    if (decoder == null) {
+      throw new IllegalArgumentException("decoder cannot be set to null");
+    }
+    int correlationId = NO_CORRELATION_ID;
+    String line = packet;
+    if (packet.startsWith("@")) {
+      int idEnd = packet.indexOf(' ');
+      try {
+        correlationId = Integer.parseInt(
+            idEnd == -1 ? packet.substring(1) : packet.substring(1, idEnd));
+        line = idEnd == -1 ? "" : packet.substring(idEnd + 1);
+      }
+      catch (NumberFormatException exception) {
+        correlationId = NO_CORRELATION_ID;
+      }
+    }
+    return new Reply(correlationId, line, decoder.apply(line));
+  }
+
+  /**
+   * Checks if the reply carries a correlation id.
+   *
+   * @return {@code true} if the reply has a correlation id, or {@code false} if it does not.
+   */
+  public boolean hasCorrelationId() {
+    return this.correlationId != NO_CORRELATION_ID;
+  }
+
+  /**
+   * Gets the id of the request the reply belongs to.
+   *
+   * @return the correlation id, or {@code -1} if the reply has no correlation id.
+   */
+  public int getCorrelationId() {
+    return this.correlationId;
+  }
+
+  /**
+   * Gets the line of the reply without the correlation id.
+   *
+   * @return the line of the reply.
+   */
+  public String getLine() {
+    return this.line;
+  }
+
+  /**
+   * Gets the type of the reply, which is the first word of the line.
+   *
+   * @return the type of the reply.
+   */
+  public String getType() {
+    int typeEnd = this.line.indexOf(' ');
+    return typeEnd == -1 ? this.line : this.line.substring(0, typeEnd);
+  }
+
+  /**
+   * Gets the line of the reply decoded into a {@link ServerMessage}.
+   *
+   * @return the message of the reply.
+   */
+  public ServerMessage getMessage() {
+    return this.message;
+  }
+
+  @Override
+  public String toString() {
+    return this.line;
+  }
+}
@@ -0,0 +1,262 @@
+package org.example.network;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Represents a bounded queue of replies received from the server.
+ * <p>
+ * The queue is a lock-free ring buffer with a single producer, the thread listening for server
+ * updates, and any number of consumers. A consumed slot is cleared right away so the reply can be
+ * garbage collected. Consumers waiting for a reply are parked and unparked by the producer when a
+ * reply is added.
+ * <p>
+ * When the queue is full, the {@link OverflowPolicy} decides whether the oldest reply is dropped
+ * to make room for the new one or the new reply is dropped.
+ */
+public class ReplyQueue {
+  /**
+   * Represents what happens to a reply added to a full queue.
+   */
+  public enum OverflowPolicy {
+    /**
+     * The oldest reply in the queue is dropped to make room for the new reply.
+     */
+    DROP_OLDEST,
+    /**
+     * The new reply is dropped.
+     */
+    DROP_NEWEST
+  }
+
+  private final AtomicReferenceArray<Reply> slots;
+  private final int capacity;
+  private final OverflowPolicy overflowPolicy;
+  private final AtomicLong head;
+  private final AtomicLong tail;
+  private final AtomicLong droppedReplies;
+  private final Queue<Thread> waitingConsumers;
+  private volatile int highWaterMark;
+
+  /**
+   * Creates a new instance of {@code ReplyQueue}.
+   *
+   * @param capacity       the maximum number of replies held by the queue.
+   * @param overflowPolicy what happens to a reply added to a full queue.
+   * @throws IllegalArgumentException if the capacity is less than {@code 1} or the overflow
+   *                                  policy is {@code null}.
+   */
+  public ReplyQueue(int capacity, OverflowPolicy overflowPolicy) throws IllegalArgumentException {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity cannot be less than 1");
+    }
+    if (overflowPolicy == null) {
+      throw new IllegalArgumentException("overflow policy cannot be set to null");
+    }
+    this.slots = new AtomicReferenceArray<Reply>(capacity);
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.head = new AtomicLong();
+    this.tail = new AtomicLong();
+    this.droppedReplies = new AtomicLong();
+    this.waitingConsumers = new ConcurrentLinkedQueue<Thread>();
+    this.highWaterMark = 0;
+  }
+
+  /**
+   * Adds a reply to the queue. Must only be called by the single producer thread.
+   *
+   * @param reply the reply to add.
+   * @return {@code true} if the reply was added, or {@code false} if it was dropped because the
+   *     queue is full.
+   * @throws IllegalArgumentException if the reply given is set to {@code null}.
+   */
+  public boolean offer(Reply reply) throws IllegalArgumentException {
+    if (reply == null) {
+      throw new IllegalArgumentException("reply cannot be set to null");
+    }
+    long tailIndex = this.tail.get();
+    boolean added = true;
+    long headIndex = this.head.get();
+    while (added && tailIndex - headIndex >= this.capacity) {
+      if (this.overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+        added = false;
+        this.droppedReplies.incrementAndGet();
+      }
+      else if (this.head.compareAndSet(headIndex, headIndex + 1)) {
+        this.droppedReplies.incrementAndGet();
+      }
+      headIndex = this.head.get();
+    }
+    if (added) {
+      this.slots.set(this.slotIndex(tailIndex), reply);
+      this.tail.set(tailIndex + 1);
+      int size = (int) (tailIndex + 1 - this.head.get());
+      if (size > this.highWaterMark) {
+        this.highWaterMark = size;
+      }
+      Thread waitingConsumer = this.waitingConsumers.poll();
+      if (waitingConsumer != null) {
+        LockSupport.unpark(waitingConsumer);
+      }
+    }
+    return added;
+  }
+
+  /**
+   * Removes the oldest reply from the queue without waiting.
+   *
+   * @return the oldest reply, or {@code null} if the queue is empty.
+   */
+  public Reply poll() {
+    Reply reply = null;
+    boolean empty = false;
+    while (reply == null && !empty) {
+      long headIndex = this.head.get();
+      if (headIndex >= this.tail.get()) {
+        empty = true;
+      }
+      else {
+        int slotIndex = this.slotIndex(headIndex);
+        Reply candidate = this.slots.get(slotIndex);
+        if (candidate != null && this.head.compareAndSet(headIndex, headIndex + 1)) {
+          // Only clears the slot if the producer has not already reused it.
+          this.slots.compareAndSet(slotIndex, candidate, null);
+          reply = candidate;
+        }
+      }
+    }
+    return reply;
+  }
+
+  /**
+   * Removes the oldest reply from the queue, waiting until a reply is available.
+   *
+   * @return the oldest reply.
+   * @throws InterruptedException if the thread was interrupted while waiting.
+   */
+  public Reply take() throws InterruptedException {
+    Reply reply = this.poll();
+    while (reply == null) {
+      reply = this.awaitReply(0);
+    }
+    return reply;
+  }
+
+  /**
+   * Removes the oldest reply from the queue, waiting up to the given time for a reply to become
+   * available.
+   *
+   * @param timeout the maximum time to wait.
+   * @param unit    the unit of the timeout.
+   * @return the oldest reply, or {@code null} if no reply became available in time.
+   * @throws InterruptedException if the thread was interrupted while waiting.
+   */
+  public Reply poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    Reply reply = this.poll();
+    long remainingNanos = deadline - System.nanoTime();
+    while (reply == null && remainingNanos > 0) {
+      reply = this.awaitReply(remainingNanos);
+      remainingNanos = deadline - System.nanoTime();
+    }
+    return reply;
+  }
+
+  /**
+   * Parks the current thread until the producer adds a reply, then tries to remove one.
+   *
+   * @param nanos the maximum time to park, or {@code 0} to park until unparked.
+   * @return the oldest reply, or {@code null} if the queue is still empty.
+   * @throws InterruptedException if the thread was interrupted while waiting.
+   */
+  private Reply awaitReply(long nanos) throws InterruptedException {
+    Thread currentThread = Thread.currentThread();
+    this.waitingConsumers.add(currentThread);
+    // Checks again after registering, so a reply added in between is not missed.
+    Reply reply = this.poll();
+    if (reply == null) {
+      if (nanos > 0) {
+        LockSupport.parkNanos(this, nanos);
+      }
+      else {
+        LockSupport.park(this);
+      }
+      reply = this.poll();
+    }
+    this.waitingConsumers.remove(currentThread);
+    if (reply == null && Thread.interrupted()) {
+      throw new InterruptedException("Thread was interrupted");
+    }
+    return reply;
+  }
+
+  /**
+   * Maps a position in the queue to its slot in the ring buffer.
+   *
+   * @param index the position in the queue.
+   * @return the slot of the position.
+   */
+  private int slotIndex(long index) {
+    return (int) (index % this.capacity);
+  }
+
+  /**
+   * Gets the number of replies currently in the queue.
+   *
+   * @return the number of replies in the queue.
+   */
+  public int size() {
+    long headIndex = this.head.get();
+    return (int) Math.max(0, this.tail.get() - headIndex);
+  }
+
+  /**
+   * Gets the maximum number of replies held by the queue.
+   *
+   * @return the capacity of the queue.
+   */
+  public int getCapacity() {
+    return this.capacity;
+  }
+
+  /**
+   * Gets the policy applied when a reply is added to a full queue.
+   *
+   * @return the overflow policy of the queue.
+   */
+  public OverflowPolicy getOverflowPolicy() {
+    return this.overflowPolicy;
+  }
+
+  /**
+   * Gets the largest number of replies the queue has held at once.
+   *
+   * @return the high-water mark of the queue.
+   */
+  public int getHighWaterMark() {
+    return this.highWaterMark;
+  }
+
+  /**
+   * Gets the number of replies dropped because the queue was full.
+   *
+   * @return the number of dropped replies.
+   */
+  public long getDroppedReplies() {
+    return this.droppedReplies.get();
+  }
+
+  /**
+   * Gets the number of replies that have been added to the queue.
+   *
+   * @return the number of replies added.
+   */
+  public long getAddedReplies() {
+    return this.tail.get();
+  }
+}
@@ -0,0 +1,141 @@
+package org.example.network;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents the metrics of the messages sent by a {@link Transport}.
+ * <p>
+ * A message is counted as queued when it is handed to the transport, and as sent when the
+ * write containing it has completed, so the difference is the depth of the outbound queue. The
+ * latency of a write is the time spent writing and flushing one batch of messages to the socket.
+ */
+public class SendMetrics {
+  private final LongAdder messagesQueued;
+  private final LongAdder messagesSent;
+  private final LongAdder bytesSent;
+  private final LongAdder writes;
+  private final LongAdder writeNanos;
+  private final LongAccumulator maxWriteNanos;
+  private final long createdNanos;
+
+  /**
+   * Creates a new instance of {@code SendMetrics} with every metric set to {@code 0}.
+   */
+  public SendMetrics() {
+    this.messagesQueued = new LongAdder();
+    this.messagesSent = new LongAdder();
+    this.bytesSent = new LongAdder();
+    this.writes = new LongAdder();
+    this.writeNanos = new LongAdder();
+    this.maxWriteNanos = new LongAccumulator(Math::max, 0);
+    this.createdNanos = System.nanoTime();
+  }
+
+  /**
+   * Records a message handed to the transport.
+   */
+  public void recordQueued() {
+    this.messagesQueued.increment();
+  }
+
+  /**
+   * Records a completed write of a batch of messages.
+   *
+   * @param messages the number of messages completed by the write.
+   * @param bytes    the number of bytes written.
+   * @param nanos    the time spent writing, in nanoseconds.
+   */
+  public void recordWrite(int messages, int bytes, long nanos) {
+    this.messagesSent.add(messages);
+    this.bytesSent.add(bytes);
+    this.writes.increment();
+    this.writeNanos.add(nanos);
+    this.maxWriteNanos.accumulate(nanos);
+  }
+
+  /**
+   * Gets the number of messages queued but not yet written.
+   *
+   * @return the depth of the outbound queue.
+   */
+  public long getQueueDepth() {
+    long messagesSent = this.messagesSent.sum();
+    return Math.max(0, this.messagesQueued.sum() - messagesSent);
+  }
+
+  /**
+   * Gets the number of messages written.
+   *
+   * @return the number of messages sent.
+   */
+  public long getMessagesSent() {
+    return this.messagesSent.sum();
+  }
+
+  /**
+   * Gets the number of bytes written.
+   *
+   * @return the number of bytes sent.
+   */
+  public long getBytesSent() {
+    return this.bytesSent.sum();
+  }
+
+  /**
+   * Gets the number of writes to the socket.
+   *
+   * @return the number of writes.
+   */
+  public long getWriteCount() {
+    return this.writes.sum();
+  }
+
+  /**
+   * Gets the average number of messages coalesced into a single write.
+   *
+   * @return the average number of messages per write, or {@code 0} if nothing was written.
+   */
+  public double getMessagesPerWrite() {
+    long writes = this.writes.sum();
+    return writes == 0 ? 0 : (double) this.messagesSent.sum() / writes;
+  }
+
+  /**
+   * Gets the average number of bytes sent per second since the metrics were created.
+   *
+   * @return the throughput in bytes per second.
+   */
+  public double getBytesPerSecond() {
+    long elapsedNanos = Math.max(1, System.nanoTime() - this.createdNanos);
+    return this.bytesSent.sum() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+  }
+
+  /**
+   * Gets the average latency of a write.
+   *
+   * @return the average latency in nanoseconds, or {@code 0} if nothing was written.
+   */
+  public long getAverageWriteLatencyNanos() {
+    long writes = this.writes.sum();
+    return writes == 0 ? 0 : this.writeNanos.sum() / writes;
+  }
+
+  /**
+   * Gets the longest latency of a write.
+   *
+   * @return the longest latency in nanoseconds.
+   */
+  public long getMaxWriteLatencyNanos() {
+    return this.maxWriteNanos.get();
+  }
+
+  @Override
+  public String toString() {
+    return "queueDepth=" + this.getQueueDepth() + ", messagesSent=" + this.getMessagesSent()
+           + ", writes=" + this.getWriteCount() + ", bytesPerSecond="
+           + Math.round(this.getBytesPerSecond()) + ", averageWriteLatencyNanos="
+           + this.getAverageWriteLatencyNanos();
+  }
+}
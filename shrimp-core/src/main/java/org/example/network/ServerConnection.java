@@ -0,0 +1,689 @@
+package org.example.network;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.example.model.Lobby;
+import org.example.network.protocol.ClientCommands;
+import org.example.network.protocol.LobbyList;
+import org.example.network.protocol.LobbyPage;
+import org.example.network.protocol.ProtocolCodec;
+import org.example.network.protocol.ServerMessage;
+import org.example.network.protocol.StatusReply;
+import org.example.network.protocol.UsernameAssigned;
+
+/**
+ * The ServerConnection class represents a connection to a server using Java sockets.
+ * <p>
+ * The lines are exchanged through a {@link Transport}. By default a
+ * {@link BlockingSocketTransport} is used, but a non-blocking {@link NioSocketTransport} can be
+ * given instead.
+ * <p>
+ * Requests are sent with {@link #sendRequest(String)}, which returns a {@link CompletableFuture}
+ * that is completed with the {@link Reply} of the server, so several requests can be outstanding
+ * at the same time. If the server lists the {@code CORRELATION_ID} capability in its
+ * {@code USERNAME} reply, every request is prefixed with {@code @<id> } and the replies are
+ * matched by that id. Otherwise the replies are matched to the requests in the order the
+ * requests were sent.
+ * <p>
+ * The commands are encoded by {@link ClientCommands}, and the replies are decoded once, by
+ * the {@link ServerUpdateListener} receiving them, into the records of the {@code protocol}
+ * package, which {@link Reply#getMessage()} returns.
+ * <p>
+ * When the connection is lost, {@link #failPendingRequests(Throwable)} fails every request still
+ * waiting for a reply, and the {@link ConnectionSupervisor} connects again. A server listing the
+ * {@code RESUME} capability can hand the session of the previous connection over to the new one
+ * with {@link #sendResumeRequestAsync(String)}.
+ * <p>
+ * The round-trip time to the server is measured by a {@link Heartbeat}.
+ * <p>
+ * A server listing the {@code DEFLATE} capability is asked to send large lines, like finished
+ * games, as {@link DeflateFrame}s, which {@link #receive()} inflates back into the original line.
+ * A server listing the {@value #LOBBY_DELTAS_CAPABILITY} capability is asked to send the lobbies
+ * that were added, removed or changed instead of the whole lobby list, and a server listing the
+ * {@value #LOBBY_PAGES_CAPABILITY} capability can send the lobby list one page at a time.
+ * <p>
+ * Protocol (spaces inside free text are sent as {@code ⁞}):
+ * Client to Server Messages:
+ * <ul>
+ *     <li>REQUEST_USERNAME {@code <version>}: Request a username and the capabilities of the
+ *     server.</li>
+ *     <li>BECOME_ADMIN {@code <password>}: Authenticate user as admin.</li>
+ *     <li>REQUEST_LOBBY_LIST: Request the lobbies waiting for players.</li>
+ *     <li>REQUEST_LOBBY_LIST {@code <offset> <limit>}: Request a page of the lobbies waiting
+ *     for players, sent to servers listing the {@code LOBBY_PAGES} capability.</li>
+ *     <li>CREATE_LOBBY {@code <name> <players> <rounds> <round_time> <communication_rounds>
+ *     <communication_time> <min_shrimp> <max_shrimp>}: Create a lobby, where the communication
+ *     rounds are separated by {@code +}.</li>
+ *     <li>JOIN_LOBBY {@code <name>}: Join the lobby with the specified name.</li>
+ *     <li>LEAVE_LOBBY: Leave the current lobby.</li>
+ *     <li>CATCH_SHRIMP {@code <amount>}: Choose the amount of shrimp to catch in the current
+ *     round.</li>
+ *     <li>CHAT_MESSAGE {@code <message>}: Send a message to the other players.</li>
+ *     <li>RESUME {@code <username>}, PING, ENABLE_COMPRESSION DEFLATE and ENABLE_LOBBY_DELTAS:
+ *     Sent to servers listing the matching capability.</li>
+ * </ul>
+ * <p>
+ * Server to Client Messages:
+ * <ul>
+ *     <li>USERNAME {@code <username> <admin> <capabilities...>}: The reply to
+ *     REQUEST_USERNAME.</li>
+ *     <li>LOBBY_LIST {@code <name>.<players>.<max_players>...}: The reply to
+ *     REQUEST_LOBBY_LIST.</li>
+ *     <li>LOBBY_PAGE {@code <offset> <total> <name>.<players>.<max_players>...}: The reply to
+ *     REQUEST_LOBBY_LIST {@code <offset> <limit>}.</li>
+ *     <li>The statuses listed in {@code StatusReply}, like CREATE_LOBBY_SUCCESS, JOIN_SUCCESS,
+ *     LOBBY_FULL, CAUGHT_SUCCESSFULLY or BECOME_ADMIN_FAILED: The replies to the other
+ *     commands.</li>
+ *     <li>UPDATE LOBBY {@code <lobbies...>}: Sent when the lobbies change.</li>
+ *     <li>UPDATE LOBBY_ADDED {@code <name>.<players>.<max_players>}, UPDATE LOBBY_REMOVED
+ *     {@code <name>} and UPDATE LOBBY_PLAYERS {@code <name>.<players>}: Sent instead of UPDATE
+ *     LOBBY once lobby deltas are enabled.</li>
+ *     <li>UPDATE GAME_STARTED {@code <opponents...> <rounds> <round_time>
+ *     <communication_rounds> <communication_time> <min_shrimp> <max_shrimp> <island>
+ *     <name>}: Sent to the players of a lobby when it is full.</li>
+ *     <li>UPDATE ROUND_FINISHED {@code <shrimp_price> (<player> <shrimp_caught>
+ *     <round_profit>)...}: Sent when a round ends, listing the receiving player first.</li>
+ *     <li>UPDATE MESSAGE_SENT {@code <username> <message> <time>}: Sent to the players of a
+ *     game when one of them chats.</li>
+ *     <li>UPDATE FINISHED_GAME {@code <name> <number> <players> <rounds> <settings> <chat>}:
+ *     Sent to the admins when a game ends.</li>
+ * </ul>
+ */
+public class ServerConnection {
+  /**
+   * The capability of servers that can send the changes of the lobbies instead of the whole
+   * lobby list.
+   */
+  public static final String LOBBY_DELTAS_CAPABILITY = "LOBBY_DELTAS";
+  /**
+   * The capability of servers that can send the lobby list one page at a time.
+   */
+  public static final String LOBBY_PAGES_CAPABILITY = "LOBBY_PAGES";
+  private static final Logger LOGGER = System.getLogger(ServerConnection.class.getName());
+  private final String hostname;
+  private final int port;
+  private final Transport transport;
+  private static final int REPLY_QUEUE_CAPACITY = 64;
+  private final ReplyQueue unmatchedReplies;
+  private final Map<Integer, CompletableFuture<Reply>> correlatedRequests;
+  private final Queue<CompletableFuture<Reply>> uncorrelatedRequests;
+  private final AtomicInteger nextCorrelationId;
+  private final Object requestLock;
+  private final Function<String, ServerMessage> replyDecoder;
+  private volatile Set<String> serverCapabilities;
+  private volatile String username;
+
+  /**
+   * Constructs a new {@code ServerConnection} object with the specified IP address and port number.
+   * The connection uses a {@link BlockingSocketTransport}.
+   *
+   * @param hostname the IP address of the server to connect to
+   * @param port     the port number to connect to on the server
+   */
+  public ServerConnection(String hostname, int port) {
+    this(hostname, port, new BlockingSocketTransport());
+  }
+
+  /**
+   * Constructs a new {@code ServerConnection} object with the specified IP address, port number
+   * and transport.
+   *
+   * @param hostname  the IP address of the server to connect to
+   * @param port      the port number to connect to on the server
+   * @param transport the transport used to exchange messages with the server
+   * @throws IllegalArgumentException if the transport given is set to {@code null}.
+   */
+  public ServerConnection(String hostname, int port, Transport transport)
+      throws IllegalArgumentException {
+    if (transport == null) {
+      throw new IllegalArgumentException("transport cannot be set to null");
+    }
+    this.hostname = hostname;
+    this.port = port;
+    this.transport = transport;
+    this.unmatchedReplies =
+        new ReplyQueue(REPLY_QUEUE_CAPACITY, ReplyQueue.OverflowPolicy.DROP_OLDEST);
+    this.correlatedRequests = new ConcurrentHashMap<Integer, CompletableFuture<Reply>>();
+    this.uncorrelatedRequests = new ConcurrentLinkedQueue<CompletableFuture<Reply>>();
+    this.nextCorrelationId = new AtomicInteger();
+    this.requestLock = new Object();
+    this.replyDecoder = new ProtocolCodec()::decode;
+    this.serverCapabilities = Collections.emptySet();
+  }
+
+  /**
+   * Gets the queue of replies that did not match any request.
+   *
+   * @return the queue of unmatched replies.
+   */
+  public ReplyQueue getUnmatchedReplies() {
+    return this.unmatchedReplies;
+  }
+
+  /**
+   * Establishes a connection with the server using the provided hostname and port number.
+   *
+   * @throws RuntimeException if there is a failure to connect to the server
+   */
+  public void connect() {
+    if (!this.isConnected()) {
+      try {
+        this.transport.connect(this.hostname, this.port, 5000);
+      }
+      catch (IOException exception) {
+        throw new RuntimeException("Failed to connect to the server.");
+      }
+    }
+  }
+
+  /**
+   * Closes the connection to the server. Failures to close the connection are ignored, since
+   * the connection is of no use either way.
+   */
+  public void disconnect() {
+    try {
+      this.transport.close();
+    }
+    catch (IOException exception) {
+      // The connection is closed as far as the client is concerned.
+    }
+  }
+
+  /**
+   * Completes every request still waiting for a reply exceptionally, so nobody waits for a reply
+   * that will never arrive.
+   *
+   * @param cause the reason the replies will not arrive.
+   */
+  public void failPendingRequests(Throwable cause) {
+    synchronized (this.requestLock) {
+      CompletableFuture<Reply> request = this.uncorrelatedRequests.poll();
+      while (request != null) {
+        request.completeExceptionally(cause);
+        request = this.uncorrelatedRequests.poll();
+      }
+      for (Integer correlationId : this.correlatedRequests.keySet()) {
+        request = this.correlatedRequests.remove(correlationId);
+        if (request != null) {
+          request.completeExceptionally(cause);
+        }
+      }
+    }
+  }
+
+  /**
+   * Sends a message to the server through the established connection.
+   *
+   * @param message the message to be sent to the server.
+   * @throws RuntimeException if there is a failure to send the message to the server.
+   */
+  public void send(String message) {
+    try {
+      this.transport.send(message);
+    }
+    catch (IOException exception) {
+      throw new RuntimeException("Failed to send message to the server.");
+    }
+  }
+
+  /**
+   * Receives a message from the server through the established connection. A deflate-compressed
+   * frame is inflated into the line it holds. A frame that cannot be inflated is logged and
+   * skipped like any other line that cannot be decoded, and the next line is received instead,
+   * so a single corrupt frame does not drop the connection.
+   *
+   * @return the message received from the server, or {@code null} if the server closed the
+   *     connection.
+   * @throws RuntimeException if there is a failure to receive the message from the server.
+   */
+  public String receive() {
+    try {
+      String line = this.transport.receive();
+      String message = null;
+      while (line != null && message == null) {
+        if (DeflateFrame.isFrame(line)) {
+          try {
+            message = DeflateFrame.decode(line);
+          }
+          catch (IOException exception) {
+            LOGGER.log(Level.WARNING, "Skipped a corrupt frame from the server", exception);
+            line = this.transport.receive();
+          }
+        }
+        else {
+          message = line;
+        }
+      }
+      return message;
+    }
+    catch (IOException exception) {
+      throw new RuntimeException("Failed to receive message from the server.");
+    }
+  }
+
+  /**
+   * Waits for the next reply from the server that did not match any request.
+   *
+   * @return the line of the reply.
+   * @throws RuntimeException if the thread was interrupted while waiting.
+   */
+  public String getNextServerPacket() {
+    try {
+      return this.unmatchedReplies.take().getLine();
+    }
+    catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Thread was interrupted");
+    }
+  }
+
+  /**
+   * Gets the metrics of the messages sent to the server, like the depth of the outbound queue and
+   * the latency of the writes.
+   *
+   * @return the send metrics of the transport.
+   */
+  public SendMetrics getSendMetrics() {
+    return this.transport.getSendMetrics();
+  }
+
+  /**
+   * Checks if the socket is connected to the server.
+   *
+   * @return {@code true} if the socket is connected to the server, {@code false} otherwise.
+   */
+  public boolean isConnected() {
+    return this.transport.isConnected();
+  }
+
+  /**
+   * Gets the capabilities the server listed in its {@code USERNAME} reply.
+   *
+   * @return the capabilities of the server.
+   */
+  public Set<String> getServerCapabilities() {
+    return this.serverCapabilities;
+  }
+
+  /**
+   * Checks if the server listed the given capability in its {@code USERNAME} reply.
+   *
+   * @param capability the capability to check.
+   * @return {@code true} if the server supports the capability, or {@code false} if it does not.
+   */
+  public boolean hasCapability(String capability) {
+    return this.serverCapabilities.contains(capability);
+  }
+
+  /**
+   * Sends a request to the server and returns a {@link CompletableFuture} that is completed with
+   * the reply of the server. The request does not wait for the replies of earlier requests, so
+   * several requests can be sent before the first reply arrives.
+   *
+   * @param command the command to send to the server.
+   * @return a {@code CompletableFuture} that is completed with the reply to the request, or
+   *     completed exceptionally if the request could not be sent.
+   */
+  public CompletableFuture<Reply> sendRequest(String command) {
+    CompletableFuture<Reply> reply = new CompletableFuture<Reply>();
+    synchronized (this.requestLock) {
+      try {
+        if (this.hasCapability("CORRELATION_ID")) {
+          int correlationId = this.nextCorrelationId.incrementAndGet();
+          this.correlatedRequests.put(correlationId, reply);
+          try {
+            this.send("@" + correlationId + " " + command);
+          }
+          catch (RuntimeException exception) {
+            this.correlatedRequests.remove(correlationId);
+            throw exception;
+          }
+        }
+        else {
+          this.uncorrelatedRequests.add(reply);
+          try {
+            this.send(command);
+          }
+          catch (RuntimeException exception) {
+            this.uncorrelatedRequests.remove(reply);
+            throw exception;
+          }
+        }
+      }
+      catch (RuntimeException exception) {
+        reply.completeExceptionally(exception);
+      }
+    }
+    return reply;
+  }
+
+  /**
+   * Hands a reply received from the server to the request it belongs to. Replies with a
+   * correlation id are matched by that id, and replies without one are matched to the oldest
+   * request still waiting for an uncorrelated reply. A reply that matches no request is added to
+   * the queue of unmatched replies. The packet is decoded with the codec of the connection, so
+   * packets must only be handed over by the thread receiving them.
+   *
+   * @param serverPacket the packet received from the server.
+   */
+  public void handleReply(String serverPacket) {
+    this.handleReply(Reply.parse(serverPacket, this.replyDecoder));
+  }
+
+  /**
+   * Hands a reply received from the server, already decoded, to the request it belongs to.
+   * Replies with a correlation id are matched by that id, and replies without one are matched
+   * to the oldest request still waiting for an uncorrelated reply. A reply that matches no
+   * request is added to the queue of unmatched replies.
+   *
+   * @param reply the reply received from the server.
+   */
+  public void handleReply(Reply reply) {
+    CompletableFuture<Reply> request = null;
+    if (reply.hasCorrelationId()) {
+      request = this.correlatedRequests.remove(reply.getCorrelationId());
+    }
+    else {
+      request = this.uncorrelatedRequests.poll();
+    }
+    if (request != null) {
+      request.complete(reply);
+    }
+    else {
+      this.unmatchedReplies.offer(reply);
+    }
+  }
+
+  /**
+   * Waits for the reply to a request sent with {@link #sendRequest(String)}.
+   *
+   * @param request the {@code CompletableFuture} returned when the request was sent.
+   * @return the reply to the request.
+   * @throws RuntimeException if the request failed or the thread was interrupted.
+   */
+  public Reply awaitReply(CompletableFuture<Reply> request) throws RuntimeException {
+    try {
+      return request.join();
+    }
+    catch (CompletionException exception) {
+      throw new RuntimeException(exception.getCause().getMessage());
+    }
+  }
+
+  /**
+   * Sends a request to the server for the username associated with the current client without
+   * waiting for the reply. If the server lists the {@code DEFLATE} capability, compression is
+   * enabled, and if it lists the {@value #LOBBY_DELTAS_CAPABILITY} capability, lobby deltas are
+   * enabled, before the future is completed.
+   *
+   * @return a {@code CompletableFuture} that is completed with the username and whether the user
+   *     is an admin or not.
+   */
+  public CompletableFuture<String[]> sendUsernameRequestAsync() {
+    return this.sendRequest(ClientCommands.requestUsername(ClientCommands.VERSION)).thenApply(
+        reply ->
+        {
+          if (!(reply.getMessage() instanceof UsernameAssigned usernameAssigned)) {
+            throw new RuntimeException("Unrecognized reply from the server: " + reply.getLine());
+          }
+          this.serverCapabilities = usernameAssigned.capabilities();
+          this.username = usernameAssigned.username();
+          return new String[] {usernameAssigned.username(),
+              String.valueOf(usernameAssigned.admin())};
+        }).thenCompose(user ->
+        {
+          CompletableFuture<String[]> enabled = CompletableFuture.completedFuture(user);
+          if (this.hasCapability(DeflateFrame.CAPABILITY)) {
+            enabled = this.sendRequest(ClientCommands.enableCompression()).thenApply(
+                reply -> user);
+          }
+          if (this.hasCapability(LOBBY_DELTAS_CAPABILITY)) {
+            CompletableFuture<Reply> deltasEnabled =
+                this.sendRequest(ClientCommands.enableLobbyDeltas());
+            enabled = enabled.thenCombine(deltasEnabled, (enabledUser, reply) -> enabledUser);
+          }
+          return enabled;
+        });
+  }
+
+  /**
+   * Sends a request to the server for the username associated with the current client.
+   *
+   * @return the username associated with the current client.
+   * @throws RuntimeException if there is a failure to send the username request to the server
+   *                          or if an unrecognized reply is received from the server.
+   */
+  public String[] sendUsernameRequest() {
+    try {
+      return this.sendUsernameRequestAsync().join();
+    }
+    catch (RuntimeException exception) {
+      throw new RuntimeException("Failed to send username request to the server.");
+    }
+  }
+
+  /**
+   * Gets the username assigned by the server in the last {@code USERNAME} reply.
+   *
+   * @return the username, or {@code null} if no username has been assigned yet.
+   */
+  public String getUsername() {
+    return this.username;
+  }
+
+  /**
+   * Sends a request to resume the session of a previous connection without waiting for the
+   * reply. The server must list the {@code RESUME} capability.
+   *
+   * @param previousUsername the username of the previous connection.
+   * @return a {@code CompletableFuture} that is completed with {@code true} if the session was
+   *     resumed, or {@code false} if it was not.
+   */
+  public CompletableFuture<Boolean> sendResumeRequestAsync(String previousUsername) {
+    return this.sendRequest(ClientCommands.resume(previousUsername)).thenApply(reply ->
+        {
+          boolean resumed = reply.getMessage().equals(StatusReply.RESUME_SUCCESS);
+          if (resumed) {
+            this.username = previousUsername;
+          }
+          return resumed;
+        });
+  }
+
+  /**
+   * Sends a request to the server to become an administrator using the provided password.
+   *
+   * @param password the password required to become an administrator.
+   * @return a {@code CompletableFuture} that is completed with the reply of the server.
+   */
+  public CompletableFuture<Reply> sendBecomeAdminRequest(String password) {
+    return this.sendRequest(ClientCommands.becomeAdmin(password));
+  }
+
+  /**
+   * Sends a request to the server to create a new lobby with the provided parameters.
+   *
+   * @param lobbyName           the name of the lobby to be created.
+   * @param numPlayers          the maximum number of players allowed in the lobby.
+   * @param numRounds           the number of rounds to be played in the lobby.
+   * @param roundTime           the time limit in seconds for each round.
+   * @param communicationRounds the communication rounds of the game.
+   * @param commRoundTime       the time (in seconds) during the communication rounds.
+   * @param minShrimpKilograms  the minimum amount of shrimp kilograms required to win a round.
+   * @param maxShrimpKilograms  the maximum amount of shrimp kilograms required to win a round.
+   * @return a {@code CompletableFuture} that is completed with the reply of the server.
+   */
+  public CompletableFuture<Reply> sendCreateLobbyRequest(String lobbyName, int numPlayers,
+                                                         int numRounds, int roundTime,
+                                                         String communicationRounds,
+                                                         int commRoundTime,
+                                                         int minShrimpKilograms,
+                                                         int maxShrimpKilograms) {
+    return this.sendRequest(
+        ClientCommands.createLobby(lobbyName, numPlayers, numRounds, roundTime,
+                                   communicationRounds, commRoundTime, minShrimpKilograms,
+                                   maxShrimpKilograms));
+  }
+
+  /**
+   * Gets the existing lobbies by sending a REQUEST_LOBBY_LIST request to the server without
+   * waiting for the reply.
+   *
+   * @return a {@code CompletableFuture} that is completed with the existing lobbies.
+   */
+  public CompletableFuture<List<Lobby>> getExistingLobbiesAsync() {
+    return this.sendRequest(ClientCommands.requestLobbyList()).thenApply(reply ->
+        {
+          List<Lobby> lobbies = new ArrayList<Lobby>();
+          if (reply.getMessage() instanceof LobbyList lobbyList) {
+            lobbies = lobbyList.lobbies();
+          }
+          return lobbies;
+        });
+  }
+
+  /**
+   * Gets a page of the existing lobbies without waiting for the reply. If the server does not
+   * list the {@value #LOBBY_PAGES_CAPABILITY} capability, the whole lobby list is requested and
+   * the page is cut from it.
+   *
+   * @param offset the position of the first lobby of the page.
+   * @param limit  the maximum number of lobbies in the page.
+   * @return a {@code CompletableFuture} that is completed with the page of lobbies.
+   * @throws IllegalArgumentException if the offset is less than {@code 0} or the limit is less
+   *                                  than {@code 1}.
+   */
+  public CompletableFuture<LobbyPage> getLobbyPageAsync(int offset, int limit)
+      throws IllegalArgumentException {
+    if (offset < 0) {
+      throw new IllegalArgumentException("offset cannot be less than 0");
+    }
+    if (limit < 1) {
+      throw new IllegalArgumentException("limit cannot be less than 1");
+    }
+    CompletableFuture<LobbyPage> lobbyPage;
+    if (this.hasCapability(LOBBY_PAGES_CAPABILITY)) {
+      lobbyPage = this.sendRequest(ClientCommands.requestLobbyList(offset, limit)).thenApply(
+          reply -> reply.getMessage() instanceof LobbyPage page
+                   ? page : new LobbyPage(offset, 0, List.of()));
+    }
+    else {
+      lobbyPage = this.getExistingLobbiesAsync().thenApply(lobbies ->
+          {
+            int fromIndex = Math.min(offset, lobbies.size());
+            int toIndex = Math.min(offset + limit, lobbies.size());
+            return new LobbyPage(offset, lobbies.size(),
+                                 new ArrayList<Lobby>(lobbies.subList(fromIndex, toIndex)));
+          });
+    }
+    return lobbyPage;
+  }
+
+  /**
+   * Gets the existing lobbies by sending a REQUEST_LOBBY_LIST request to the server.
+   *
+   * @return the existing lobbies.
+   */
+  public List<Lobby> getExistingLobbies() {
+    List<Lobby> lobbies = new ArrayList<Lobby>();
+    try {
+      lobbies = this.getExistingLobbiesAsync().join();
+    }
+    // TODO: unhandled exceptions
+    catch (RuntimeException exception) {
+      //throw new RuntimeException(exception.getMessage());
+    }
+    return lobbies;
+  }
+
+  /**
+   * Sends a JOIN_LOBBY request to the server with the given lobby name without waiting for the
+   * reply. The returned {@code CompletableFuture} is completed exceptionally if the lobby is full
+   * or does not exist.
+   *
+   * @param lobbyName the name of the lobby to join.
+   * @return a {@code CompletableFuture} that is completed with the reply of the server.
+   */
+  public CompletableFuture<Reply> sendJoinLobbyRequestAsync(String lobbyName) {
+    return this.sendRequest(ClientCommands.joinLobby(lobbyName)).thenApply(reply ->
+        {
+          if (reply.getMessage().equals(StatusReply.LOBBY_FULL)) {
+            throw new RuntimeException("Failed to join the lobby because the lobby is full.");
+          }
+          else if (reply.getMessage().equals(StatusReply.LOBBY_NOT_EXIST)) {
+            throw new RuntimeException(
+                "Failed to join the lobby because the lobby does not " + "exist.");
+          }
+          return reply;
+        });
+  }
+
+  /**
+   * Sends a JOIN_LOBBY request to the server with the given lobby name, waits for a response,
+   * and throws an exception if the lobby is full or does not exist.
+   *
+   * @param lobbyName the name of the lobby to join.
+   * @throws RuntimeException if the lobby is full or does not exist.
+   */
+  public void sendJoinLobbyRequest(String lobbyName) {
+    this.awaitReply(this.sendJoinLobbyRequestAsync(lobbyName));
+  }
+
+  /**
+   * Sends a LEAVE_LOBBY request to the server without waiting for the reply. The returned
+   * {@code CompletableFuture} is completed exceptionally if the lobby could not be left.
+   *
+   * @return a {@code CompletableFuture} that is completed with the reply of the server.
+   */
+  public CompletableFuture<Reply> sendLeaveLobbyRequestAsync() {
+    return this.sendRequest(ClientCommands.leaveLobby()).thenApply(reply ->
+        {
+          if (!reply.getMessage().equals(StatusReply.LEFT_SUCCESS)) {
+            throw new RuntimeException("Failed to leave the lobby.");
+          }
+          return reply;
+        });
+  }
+
+  /**
+   * Sends a LEAVE_LOBBY request to the server.
+   *
+   * @throws RuntimeException if there is a failure to send the message to the server.
+   */
+  public void sendLeaveLobbyRequest() throws RuntimeException {
+    this.awaitReply(this.sendLeaveLobbyRequestAsync());
+  }
+
+  /**
+   * Sends a catch shrimp message to the server with a specified amount of shrimp to catch.
+   *
+   * @param shrimpToCatch the amount of shrimp to catch.
+   * @return a {@code CompletableFuture} that is completed with the reply of the server.
+   */
+  public CompletableFuture<Reply> sendCatchShrimpRequest(int shrimpToCatch) {
+    return this.sendRequest(ClientCommands.catchShrimp(shrimpToCatch));
+  }
+
+  /**
+   * Sends a specified written message to the server.
+   *
+   * @param message the message to send.
+   * @return a {@code CompletableFuture} that is completed with the reply of the server.
+   */
+  public CompletableFuture<Reply> sendMessageRequest(String message) {
+    return this.sendRequest(ClientCommands.chatMessage(message));
+  }
+}
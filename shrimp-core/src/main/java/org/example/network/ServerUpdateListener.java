@@ -0,0 +1,160 @@
+package org.example.network;
+
+import java.util.function.Function;
+import org.example.network.protocol.FinishedGame;
+import org.example.network.protocol.GameStarted;
+import org.example.network.protocol.LobbyAdded;
+import org.example.network.protocol.LobbyPlayersChanged;
+import org.example.network.protocol.LobbyRemoved;
+import org.example.network.protocol.LobbyUpdate;
+import org.example.network.protocol.MessageSent;
+import org.example.network.protocol.ProtocolCodec;
+import org.example.network.protocol.RoundFinished;
+import org.example.network.protocol.ServerMessage;
+import org.example.network.protocol.ServerUpdate;
+import org.example.network.protocol.Unknown;
+
+/**
+ * Represents a listener that listens to server updates.
+ * <p>
+ * The packets are decoded into {@link ServerMessage}s by a {@link ProtocolCodec}. Updates are
+ * published as events to a {@link GameEventSink}, and every other packet is handed to the
+ * {@link ServerConnection} as the reply to a request. When the connection is lost, the
+ * {@link ConnectionSupervisor} connects again before the listener goes on. The events are
+ * published on the thread of the listener, so the receive path does not wait for a user
+ * interface, and can be driven without one through {@link #handle(String)}. A caller that
+ * receives the packets itself creates the listener without a supervisor.
+ */
+public class ServerUpdateListener implements Runnable {
+  private final ServerConnection serverConnection;
+  private final ConnectionSupervisor connectionSupervisor;
+  private final GameEventSink gameEventSink;
+  private final Function<String, ServerMessage> decoder;
+
+  /**
+   * Creates a new instance of {@code ServerUpdateListener}.
+   *
+   * @param serverConnection     the connection to listen to.
+   * @param connectionSupervisor the supervisor connecting again after the connection was lost.
+   * @param gameEventSink        the sink the updates are published to.
+   * @throws IllegalArgumentException if any of the parameters given are set to {@code null}.
+   */
+  public ServerUpdateListener(ServerConnection serverConnection,
+                              ConnectionSupervisor connectionSupervisor,
+                              GameEventSink gameEventSink)
+      throws IllegalArgumentException {
+    this(serverConnection, gameEventSink, connectionSupervisor);
+    if (connectionSupervisor == null) {
+      throw new IllegalArgumentException("connectionSupervisor cannot be set to null");
+    }
+  }
+
+  /**
+   * Creates a new instance of {@code ServerUpdateListener} without a supervisor, for a caller
+   * that receives the packets itself and hands them to {@link #handle(String)}. If it is run,
+   * the listener stops once the connection is lost.
+   *
+   * @param serverConnection the connection the replies are handed to.
+   * @param gameEventSink    the sink the updates are published to.
+   * @throws IllegalArgumentException if any of the parameters given are set to {@code null}.
+   */
+  public ServerUpdateListener(ServerConnection serverConnection, GameEventSink gameEventSink)
+      throws IllegalArgumentException {
+    this(serverConnection, gameEventSink, null);
+  }
+
+  /**
+   * Creates a new instance of {@code ServerUpdateListener} with or without a supervisor.
+   *
+   * @param serverConnection     the connection to listen to.
+   * @param gameEventSink        the sink the updates are published to.
+   * @param connectionSupervisor the supervisor connecting again after the connection was lost,
+   *                             or {@code null} to stop once the connection is lost.
+   * @throws IllegalArgumentException if the connection or the sink are set to {@code null}.
+   */
+  private ServerUpdateListener(ServerConnection serverConnection, GameEventSink gameEventSink,
+                               ConnectionSupervisor connectionSupervisor)
+      throws IllegalArgumentException {
+    if (serverConnection == null) {
+      throw new IllegalArgumentException("serverConnection cannot be set to null");
+    }
+    if (gameEventSink == null) {
+      throw new IllegalArgumentException("gameEventSink cannot be set to null");
+    }
+    this.serverConnection = serverConnection;
+    this.connectionSupervisor = connectionSupervisor;
+    this.gameEventSink = gameEventSink;
+    this.decoder = new ProtocolCodec()::decode;
+  }
+
+  @Override
+  public void run() {
+    boolean connected = true;
+    while (connected) {
+      String serverPacket;
+      try {
+        serverPacket = this.serverConnection.receive();
+        if (serverPacket == null) {
+          throw new RuntimeException("The server closed the connection.");
+        }
+      }
+      catch (RuntimeException exception) {
+        connected = this.connectionSupervisor != null
+                    && this.connectionSupervisor.reconnect(exception);
+        continue;
+      }
+      this.handle(serverPacket);
+    }
+  }
+
+  /**
+   * Handles a packet received from the server, by publishing the update it holds to the sink,
+   * or by handing it to the connection as a reply. Unknown updates are ignored. The packet is
+   * decoded once, and a reply is handed over with its decoded message.
+   *
+   * @param serverPacket the packet received.
+   * @throws IllegalArgumentException if the packet given is set to {@code null}.
+   */
+  public void handle(String serverPacket) throws IllegalArgumentException {
+    Reply reply = Reply.parse(serverPacket, this.decoder);
+    ServerMessage message = reply.getMessage();
+    if (message instanceof ServerUpdate update) {
+      this.publish(update);
+    }
+    else if (!(message instanceof Unknown unknown && unknown.isUpdate())) {
+      this.serverConnection.handleReply(reply);
+    }
+  }
+
+  /**
+   * Publishes an update to the sink as the event of its type.
+   *
+   * @param update the update to publish.
+   */
+  private void publish(ServerUpdate update) {
+    if (update instanceof LobbyUpdate lobbyUpdate) {
+      this.gameEventSink.lobbiesUpdated(lobbyUpdate);
+    }
+    else if (update instanceof LobbyAdded lobbyAdded) {
+      this.gameEventSink.lobbyAdded(lobbyAdded);
+    }
+    else if (update instanceof LobbyRemoved lobbyRemoved) {
+      this.gameEventSink.lobbyRemoved(lobbyRemoved);
+    }
+    else if (update instanceof LobbyPlayersChanged lobbyPlayersChanged) {
+      this.gameEventSink.lobbyPlayersChanged(lobbyPlayersChanged);
+    }
+    else if (update instanceof GameStarted gameStarted) {
+      this.gameEventSink.gameStarted(gameStarted);
+    }
+    else if (update instanceof RoundFinished roundFinished) {
+      this.gameEventSink.roundFinished(roundFinished);
+    }
+    else if (update instanceof MessageSent messageSent) {
+      this.gameEventSink.messageSent(messageSent);
+    }
+    else if (update instanceof FinishedGame finishedGame) {
+      this.gameEventSink.gameFinished(finishedGame);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package org.example.network;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a writer of the protocol lines of a session into a {@link TrafficRecording} file.
+ * <p>
+ * Every line is stamped with {@link System#nanoTime()}, which only moves forward, and appended
+ * to a buffer of the file. The buffer is flushed by the first line recorded
+ * {@value #FLUSH_INTERVAL_MILLIS} milliseconds after the previous flush, and when the recorder is
+ * flushed or closed, so the threads of the connection do not wait for the disk on every line
+ * while a crash of the client only loses the last moments of a recording. The recorder is shared
+ * by the reading and the writing thread of a connection, so recording is synchronized.
+ */
+public class TrafficRecorder implements Closeable, Flushable {
+  /**
+   * The time (in milliseconds) after a flush from which the next line recorded flushes the
+   * buffer again.
+   */
+  public static final long FLUSH_INTERVAL_MILLIS = 1000;
+  private static final long FLUSH_INTERVAL_NANOS =
+      TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MILLIS);
+  private final OutputStream outputStream;
+  private final ByteArrayOutputStream entry;
+  private long previousNanos;
+  private long flushedNanos;
+  private boolean closed;
+
+  /**
+   * Creates a new recording file, replacing any file at the path given.
+   *
+   * @param path the path of the file.
+   * @throws IOException if the file could not be created.
+   */
+  public TrafficRecorder(Path path) throws IOException {
+    this(new BufferedOutputStream(Files.newOutputStream(path)));
+  }
+
+  /**
+   * Creates a new recording written to a stream.
+   *
+   * @param outputStream the stream to write the recording to.
+   * @throws IllegalArgumentException if the stream is {@code null}.
+   * @throws IOException if the header could not be written.
+   */
+  public TrafficRecorder(OutputStream outputStream) throws IllegalArgumentException, IOException {
+    if (outputStream == null) {
+      throw new IllegalArgumentException("outputStream cannot be set to null");
+    }
+    this.outputStream = outputStream;
+    this.entry = new ByteArrayOutputStream();
+    this.previousNanos = System.nanoTime();
+    this.flushedNanos = this.previousNanos;
+    this.closed = false;
+    TrafficRecording.writeHeader(this.outputStream);
+    this.outputStream.flush();
+  }
+
+  /**
+   * Records a line sent to the server.
+   *
+   * @param line the line sent, without its terminator.
+   * @throws IOException if the line could not be written.
+   */
+  public void recordSent(String line) throws IOException {
+    this.record(true, line);
+  }
+
+  /**
+   * Records a line received from the server.
+   *
+   * @param line the line received, without its terminator.
+   * @throws IOException if the line could not be written.
+   */
+  public void recordReceived(String line) throws IOException {
+    this.record(false, line);
+  }
+
+  /**
+   * Writes the lines still held in the buffer to the file.
+   *
+   * @throws IOException if the lines could not be written or the recorder is closed.
+   */
+  @Override
+  public synchronized void flush() throws IOException {
+    if (this.closed) {
+      throw new IOException("The traffic recorder is closed.");
+    }
+    this.outputStream.flush();
+    this.flushedNanos = System.nanoTime();
+  }
+
+  /**
+   * Closes the recording file, writing the lines still held in the buffer.
+   *
+   * @throws IOException if the file could not be closed.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (!this.closed) {
+      this.closed = true;
+      this.outputStream.close();
+    }
+  }
+
+  /**
+   * Appends an entry for a line to the buffer of the file, in a single write, and flushes the
+   * buffer if the last flush was {@value #FLUSH_INTERVAL_MILLIS} milliseconds ago or more.
+   *
+   * @param sent {@code true} if the client sent the line, or {@code false} if it received it.
+   * @param line the line, without its terminator.
+   * @throws IOException if the line could not be written or the recorder is closed.
+   */
+  private synchronized void record(boolean sent, String line) throws IOException {
+    if (this.closed) {
+      throw new IOException("The traffic recorder is closed.");
+    }
+    long now = System.nanoTime();
+    long elapsedNanos = Math.max(0, now - this.previousNanos);
+    this.previousNanos = now;
+    byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+    this.entry.reset();
+    TrafficRecording.writeVarLong(this.entry, elapsedNanos << 1 | (sent ? 1 : 0));
+    TrafficRecording.writeVarLong(this.entry, bytes.length);
+    this.entry.write(bytes);
+    this.entry.writeTo(this.outputStream);
+    if (now - this.flushedNanos >= FLUSH_INTERVAL_NANOS) {
+      this.outputStream.flush();
+      this.flushedNanos = now;
+    }
+  }
+}
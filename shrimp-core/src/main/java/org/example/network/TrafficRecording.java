@@ -0,0 +1,176 @@
+package org.example.network;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the protocol lines of a session, recorded by a {@link TrafficRecorder} and played
+ * back by a {@link ReplayTransport}.
+ * <p>
+ * A recording file starts with the magic bytes {@code SGTR} and a version byte, followed by one
+ * entry per line. An entry holds a variable-length integer with the nanoseconds since the
+ * previous entry shifted left by one, whose lowest bit is set for a line sent by the client,
+ * then a variable-length integer with the length of the line in bytes, then the line in UTF-8.
+ * The variable-length integers use 7 bits per byte, lowest bits first, with the high bit set on
+ * every byte but the last. A file cut short by a crash is read up to its last whole entry.
+ *
+ * @param lines the lines of the session, in the order they were recorded.
+ */
+public record TrafficRecording(List<RecordedLine> lines) {
+  /**
+   * The version of the format written by this client.
+   */
+  static final int VERSION = 1;
+  private static final int MAX_LINE_BYTES = 4 * DeflateFrame.MAX_LENGTH;
+  private static final byte[] MAGIC = "SGTR".getBytes(StandardCharsets.US_ASCII);
+
+  /**
+   * Represents a line of a recording.
+   *
+   * @param nanos the nanoseconds since the recording started.
+   * @param sent  {@code true} if the client sent the line, or {@code false} if it received it.
+   * @param line  the line, without its terminator.
+   */
+  public record RecordedLine(long nanos, boolean sent, String line) {
+  }
+
+  /**
+   * Creates a new instance of {@code TrafficRecording}.
+   *
+   * @param lines the lines of the session, in the order they were recorded.
+   * @throws IllegalArgumentException if the lines are {@code null}.
+   */
+  public TrafficRecording {
+    if (lines == null) {
+      throw new IllegalArgumentException("lines cannot be set to null");
+    }
+    lines = Collections.unmodifiableList(new ArrayList<RecordedLine>(lines));
+  }
+
+  /**
+   * Reads a recording from a file.
+   *
+   * @param path the path of the file.
+   * @return the recording read.
+   * @throws IOException if the file could not be read or is not a recording.
+   */
+  public static TrafficRecording read(Path path) throws IOException {
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+      return read(inputStream);
+    }
+  }
+
+  /**
+   * Reads a recording from a stream.
+   *
+   * @param inputStream the stream to read.
+   * @return the recording read.
+   * @throws IOException if the stream could not be read or is not a recording.
+   */
+  public static TrafficRecording read(InputStream inputStream) throws IOException {
+    DataInputStream input = new DataInputStream(inputStream);
+    byte[] magic = new byte[MAGIC.length];
+    try {
+      input.readFully(magic);
+    }
+    catch (EOFException exception) {
+      throw new IOException("The file is not a traffic recording.");
+    }
+    if (!Arrays.equals(magic, MAGIC)) {
+      throw new IOException("The file is not a traffic recording.");
+    }
+    int version = input.read();
+    if (version != VERSION) {
+      throw new IOException("Unsupported traffic recording version: " + version);
+    }
+    List<RecordedLine> lines = new ArrayList<RecordedLine>();
+    long nanos = 0;
+    boolean complete = true;
+    while (complete) {
+      try {
+        long header = readVarLong(input);
+        long length = header < 0 ? -1 : readVarLong(input);
+        if (length > MAX_LINE_BYTES) {
+          throw new IOException("The traffic recording is corrupt.");
+        }
+        else if (length < 0) {
+          complete = false;
+        }
+        else {
+          byte[] bytes = new byte[(int) length];
+          input.readFully(bytes);
+          nanos += header >>> 1;
+          lines.add(new RecordedLine(nanos, (header & 1) == 1,
+                                     new String(bytes, StandardCharsets.UTF_8)));
+        }
+      }
+      catch (EOFException exception) {
+        complete = false;
+      }
+    }
+    return new TrafficRecording(lines);
+  }
+
+  /**
+   * Writes the header of a recording.
+   *
+   * @param outputStream the stream to write to.
+   * @throws IOException if the header could not be written.
+   */
+  static void writeHeader(OutputStream outputStream) throws IOException {
+    outputStream.write(MAGIC);
+    outputStream.write(VERSION);
+  }
+
+  /**
+   * Writes a variable-length integer.
+   *
+   * @param outputStream the stream to write to.
+   * @param value        the value to write, which must not be negative.
+   * @throws IOException if the value could not be written.
+   */
+  static void writeVarLong(OutputStream outputStream, long value) throws IOException {
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      outputStream.write((int) (remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    outputStream.write((int) remaining);
+  }
+
+  /**
+   * Reads a variable-length integer.
+   *
+   * @param input the stream to read.
+   * @return the value read, or {@code -1} if the stream ended before the first byte.
+   * @throws IOException if the stream ended inside the value or could not be read.
+   */
+  private static long readVarLong(DataInputStream input) throws IOException {
+    int value = input.read();
+    long result = -1;
+    if (value != -1) {
+      result = value & 0x7F;
+      int shift = 7;
+      while ((value & 0x80) != 0) {
+        if (shift > 63) {
+          throw new IOException("The traffic recording is corrupt.");
+        }
+        value = input.readUnsignedByte();
+        result |= (long) (value & 0x7F) << shift;
+        shift += 7;
+      }
+    }
+    return result;
+  }
+}
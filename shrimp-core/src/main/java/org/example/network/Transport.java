@@ -0,0 +1,61 @@
+package org.example.network;
+
+import java.io.IOException;
+
+/**
+ * Represents the transport used by a {@link ServerConnection} to exchange protocol lines with
+ * the server.
+ * <p>
+ * Every message is a single line of text. Implementations are responsible for framing the
+ * lines on the wire (terminated by {@code \r\n}) and for stripping the terminator again when a
+ * line is received.
+ */
+public interface Transport {
+  /**
+   * Opens the connection to the server.
+   *
+   * @param hostname      the hostname or IP address of the server.
+   * @param port          the port number of the server.
+   * @param timeoutMillis the time (in milliseconds) to wait for the connection to be established.
+   * @throws IOException if the connection could not be established.
+   */
+  void connect(String hostname, int port, int timeoutMillis) throws IOException;
+
+  /**
+   * Sends a single message to the server. The line terminator is added by the transport.
+   *
+   * @param message the message to send.
+   * @throws IOException if the message could not be sent.
+   */
+  void send(String message) throws IOException;
+
+  /**
+   * Blocks until the next complete line has been received from the server.
+   *
+   * @return the line received without its terminator, or {@code null} if the end of the stream
+   *     has been reached.
+   * @throws IOException if the line could not be received.
+   */
+  String receive() throws IOException;
+
+  /**
+   * Checks if the transport is connected to the server.
+   *
+   * @return {@code true} if the transport is connected, or {@code false} if it is not.
+   */
+  boolean isConnected();
+
+  /**
+   * Closes the connection to the server.
+   *
+   * @throws IOException if the connection could not be closed.
+   */
+  void close() throws IOException;
+
+  /**
+   * Gets the metrics of the messages sent through the transport.
+   *
+   * @return the send metrics of the transport.
+   */
+  SendMetrics getSendMetrics();
+}
@@ -0,0 +1,210 @@
+package org.example.network;
+
+/**
+ * Represents the socket options of a {@link Transport}.
+ * <p>
+ * The transports coalesce queued messages into a single write themselves, so Nagle's algorithm
+ * is disabled by default to send every batch right away. A buffer size of {@code 0} leaves the
+ * buffer size of the operating system as it is, and a read timeout of {@code 0} waits for a line
+ * forever. The threads of a transport, like the writer thread, are of the kind given by the
+ * {@link ExecutionMode}.
+ */
+public class TransportOptions {
+  /**
+   * The system property disabling or enabling {@code TCP_NODELAY}.
+   */
+  public static final String TCP_NO_DELAY_PROPERTY = "shrimpgame.tcpNoDelay";
+  /**
+   * The system property setting the size of the send buffer of the socket in bytes.
+   */
+  public static final String SEND_BUFFER_SIZE_PROPERTY = "shrimpgame.sendBufferSize";
+  /**
+   * The system property setting the size of the receive buffer of the socket in bytes.
+   */
+  public static final String RECEIVE_BUFFER_SIZE_PROPERTY = "shrimpgame.receiveBufferSize";
+  /**
+   * The system property setting the maximum number of bytes coalesced into a single write.
+   */
+  public static final String MAX_BATCH_BYTES_PROPERTY = "shrimpgame.maxBatchBytes";
+  /**
+   * The system property setting the time in milliseconds to wait for a line before the
+   * connection is considered lost.
+   */
+  public static final String READ_TIMEOUT_PROPERTY = "shrimpgame.readTimeoutMillis";
+  private static final int DEFAULT_MAX_BATCH_BYTES = 8192;
+  private boolean tcpNoDelay;
+  private int sendBufferSize;
+  private int receiveBufferSize;
+  private int maxBatchBytes;
+  private int readTimeoutMillis;
+  private ExecutionMode executionMode;
+
+  /**
+   * Creates a new instance of {@code TransportOptions} with the default options.
+   */
+  public TransportOptions() {
+    this.tcpNoDelay = true;
+    this.sendBufferSize = 0;
+    this.receiveBufferSize = 0;
+    this.maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+    this.readTimeoutMillis = 0;
+    this.executionMode = ExecutionMode.PLATFORM;
+  }
+
+  /**
+   * Creates the options given by the system properties, using the default option for every
+   * property that is not set.
+   *
+   * @return the options given by the system properties.
+   * @throws IllegalArgumentException if a property is not a valid option.
+   */
+  public static TransportOptions fromSystemProperties() throws IllegalArgumentException {
+    TransportOptions options = new TransportOptions();
+    String tcpNoDelay = System.getProperty(TCP_NO_DELAY_PROPERTY);
+    if (tcpNoDelay != null) {
+      options.setTcpNoDelay(Boolean.parseBoolean(tcpNoDelay));
+    }
+    options.setSendBufferSize(
+        Integer.getInteger(SEND_BUFFER_SIZE_PROPERTY, options.getSendBufferSize()));
+    options.setReceiveBufferSize(
+        Integer.getInteger(RECEIVE_BUFFER_SIZE_PROPERTY, options.getReceiveBufferSize()));
+    options.setMaxBatchBytes(
+        Integer.getInteger(MAX_BATCH_BYTES_PROPERTY, options.getMaxBatchBytes()));
+    options.setReadTimeoutMillis(
+        Integer.getInteger(READ_TIMEOUT_PROPERTY, options.getReadTimeoutMillis()));
+    options.setExecutionMode(ExecutionMode.fromSystemProperties());
+    return options;
+  }
+
+  /**
+   * Checks if {@code TCP_NODELAY} is enabled.
+   *
+   * @return {@code true} if Nagle's algorithm is disabled, or {@code false} if it is not.
+   */
+  public boolean isTcpNoDelay() {
+    return this.tcpNoDelay;
+  }
+
+  /**
+   * Enables or disables {@code TCP_NODELAY}.
+   *
+   * @param tcpNoDelay {@code true} to disable Nagle's algorithm, or {@code false} to enable it.
+   */
+  public void setTcpNoDelay(boolean tcpNoDelay) {
+    this.tcpNoDelay = tcpNoDelay;
+  }
+
+  /**
+   * Gets the size of the send buffer of the socket.
+   *
+   * @return the size in bytes, or {@code 0} if the size of the operating system is used.
+   */
+  public int getSendBufferSize() {
+    return this.sendBufferSize;
+  }
+
+  /**
+   * Sets the size of the send buffer of the socket.
+   *
+   * @param sendBufferSize the size in bytes, or {@code 0} to use the size of the operating
+   *                       system.
+   * @throws IllegalArgumentException if the size is negative.
+   */
+  public void setSendBufferSize(int sendBufferSize) throws IllegalArgumentException {
+    if (sendBufferSize < 0) {
+      throw new IllegalArgumentException("send buffer size cannot be less than 0");
+    }
+    this.sendBufferSize = sendBufferSize;
+  }
+
+  /**
+   * Gets the size of the receive buffer of the socket.
+   *
+   * @return the size in bytes, or {@code 0} if the size of the operating system is used.
+   */
+  public int getReceiveBufferSize() {
+    return this.receiveBufferSize;
+  }
+
+  /**
+   * Sets the size of the receive buffer of the socket.
+   *
+   * @param receiveBufferSize the size in bytes, or {@code 0} to use the size of the operating
+   *                          system.
+   * @throws IllegalArgumentException if the size is negative.
+   */
+  public void setReceiveBufferSize(int receiveBufferSize) throws IllegalArgumentException {
+    if (receiveBufferSize < 0) {
+      throw new IllegalArgumentException("receive buffer size cannot be less than 0");
+    }
+    this.receiveBufferSize = receiveBufferSize;
+  }
+
+  /**
+   * Gets the maximum number of bytes coalesced into a single write.
+   *
+   * @return the maximum size of a batch in bytes.
+   */
+  public int getMaxBatchBytes() {
+    return this.maxBatchBytes;
+  }
+
+  /**
+   * Sets the maximum number of bytes coalesced into a single write. A single message larger
+   * than the maximum is still written, in a batch of its own.
+   *
+   * @param maxBatchBytes the maximum size of a batch in bytes.
+   * @throws IllegalArgumentException if the size is less than {@code 1}.
+   */
+  public void setMaxBatchBytes(int maxBatchBytes) throws IllegalArgumentException {
+    if (maxBatchBytes < 1) {
+      throw new IllegalArgumentException("max batch bytes cannot be less than 1");
+    }
+    this.maxBatchBytes = maxBatchBytes;
+  }
+
+  /**
+   * Gets the time to wait for a line before the connection is considered lost.
+   *
+   * @return the read timeout in milliseconds, or {@code 0} if there is no timeout.
+   */
+  public int getReadTimeoutMillis() {
+    return this.readTimeoutMillis;
+  }
+
+  /**
+   * Sets the time to wait for a line before the connection is considered lost. A timeout should
+   * only be set when the server sends lines regularly, for example replies to heartbeats.
+   *
+   * @param readTimeoutMillis the read timeout in milliseconds, or {@code 0} for no timeout.
+   * @throws IllegalArgumentException if the timeout is negative.
+   */
+  public void setReadTimeoutMillis(int readTimeoutMillis) throws IllegalArgumentException {
+    if (readTimeoutMillis < 0) {
+      throw new IllegalArgumentException("read timeout cannot be less than 0");
+    }
+    this.readTimeoutMillis = readTimeoutMillis;
+  }
+
+  /**
+   * Gets the kind of threads the transport runs on.
+   *
+   * @return the execution mode of the transport.
+   */
+  public ExecutionMode getExecutionMode() {
+    return this.executionMode;
+  }
+
+  /**
+   * Sets the kind of threads the transport runs on.
+   *
+   * @param executionMode the execution mode of the transport.
+   * @throws IllegalArgumentException if the execution mode is {@code null}.
+   */
+  public void setExecutionMode(ExecutionMode executionMode) throws IllegalArgumentException {
+    if (executionMode == null) {
+      throw new IllegalArgumentException("executionMode cannot be set to null");
+    }
+    this.executionMode = executionMode;
+  }
+}
@@ -0,0 +1,163 @@
+package org.example.network.protocol;
+
+/**
+ * Represents the encoders of the commands the client sends to the server.
+ */
+public final class ClientCommands {
+  /**
+   * The version of the client, sent when requesting a username.
+   */
+  public static final String VERSION = "1.7.7";
+  /**
+   * The character sent in place of a space in free text, since spaces separate the fields.
+   */
+  public static final char ENCODED_SPACE = '⁞';
+
+  /**
+   * Prevents instances of {@code ClientCommands} from being created.
+   */
+  private ClientCommands() {
+  }
+
+  /**
+   * Encodes a request for the username of the client.
+   *
+   * @param version the version of the client.
+   * @return the command encoded.
+   */
+  public static String requestUsername(String version) {
+    return "REQUEST_USERNAME " + version;
+  }
+
+  /**
+   * Encodes a request for the lobbies in the server.
+   *
+   * @return the command encoded.
+   */
+  public static String requestLobbyList() {
+    return "REQUEST_LOBBY_LIST";
+  }
+
+  /**
+   * Encodes a request for a page of the lobbies in the server, sent to servers that list the
+   * {@code LOBBY_PAGES} capability.
+   *
+   * @param offset the position of the first lobby of the page.
+   * @param limit  the maximum number of lobbies in the page.
+   * @return the command encoded.
+   */
+  public static String requestLobbyList(int offset, int limit) {
+    return "REQUEST_LOBBY_LIST " + offset + " " + limit;
+  }
+
+  /**
+   * Encodes a request to send large lines as deflate-compressed frames, sent to servers that list
+   * the {@code DEFLATE} capability.
+   *
+   * @return the command encoded.
+   */
+  public static String enableCompression() {
+    return "ENABLE_COMPRESSION DEFLATE";
+  }
+
+  /**
+   * Encodes a request to be sent the changes of the lobbies instead of the whole lobby list, sent
+   * to servers that list the {@code LOBBY_DELTAS} capability.
+   *
+   * @return the command encoded.
+   */
+  public static String enableLobbyDeltas() {
+    return "ENABLE_LOBBY_DELTAS";
+  }
+
+  /**
+   * Encodes a heartbeat, which servers listing the {@code PING} capability answer with
+   * {@code PONG}.
+   *
+   * @return the command encoded.
+   */
+  public static String ping() {
+    return "PING";
+  }
+
+  /**
+   * Encodes a request to become an admin.
+   *
+   * @param password the password of the admins.
+   * @return the command encoded.
+   */
+  public static String becomeAdmin(String password) {
+    return "BECOME_ADMIN " + password;
+  }
+
+  /**
+   * Encodes a request to create a lobby.
+   *
+   * @param lobbyName           the name of the lobby.
+   * @param numPlayers          the maximum number of players in the lobby.
+   * @param numRounds           the number of rounds of the game.
+   * @param roundTime           the time of each round in seconds.
+   * @param communicationRounds the communication rounds, separated by {@code +}.
+   * @param commRoundTime       the extra time of a communication round in seconds.
+   * @param minShrimpKilograms  the minimum amount of shrimp kilograms to catch.
+   * @param maxShrimpKilograms  the maximum amount of shrimp kilograms to catch.
+   * @return the command encoded.
+   */
+  public static String createLobby(String lobbyName, int numPlayers, int numRounds, int roundTime,
+                                   String communicationRounds, int commRoundTime,
+                                   int minShrimpKilograms, int maxShrimpKilograms) {
+    return "CREATE_LOBBY " + lobbyName + " " + numPlayers + " " + numRounds + " " + roundTime
+           + " " + communicationRounds + " " + commRoundTime + " " + minShrimpKilograms + " "
+           + maxShrimpKilograms;
+  }
+
+  /**
+   * Encodes a request to join a lobby.
+   *
+   * @param lobbyName the name of the lobby.
+   * @return the command encoded.
+   */
+  public static String joinLobby(String lobbyName) {
+    return "JOIN_LOBBY " + lobbyName;
+  }
+
+  /**
+   * Encodes a request to leave the current lobby.
+   *
+   * @return the command encoded.
+   */
+  public static String leaveLobby() {
+    return "LEAVE_LOBBY";
+  }
+
+  /**
+   * Encodes a request to catch shrimp in the current round.
+   *
+   * @param shrimpToCatch the shrimp kilograms to catch.
+   * @return the command encoded.
+   */
+  public static String catchShrimp(int shrimpToCatch) {
+    return "CATCH_SHRIMP " + shrimpToCatch;
+  }
+
+  /**
+   * Encodes a chat message, sending the spaces of the message as {@link #ENCODED_SPACE}.
+   *
+   * @param message the message to send.
+   * @return the command encoded.
+   */
+  public static String chatMessage(String message) {
+    return "CHAT_MESSAGE " + message.replace(' ', ENCODED_SPACE);
+  }
+
+  /**
+   * Encodes a request to resume the session of a previous connection, sent after reconnecting
+   * to a server that lists the {@code RESUME} capability.
+   *
+   * @param username the username of the previous connection.
+   * @return the command encoded.
+   */
+  public static String resume(String username) {
+    return "RESUME " + username;
+  }
+}
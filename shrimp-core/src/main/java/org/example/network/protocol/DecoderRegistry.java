@@ -0,0 +1,119 @@
+package org.example.network.protocol;
+
+import org.example.network.PacketTokenizer;
+
+/**
+ * Represents a table of {@link ServerMessageDecoder}s keyed by the type of the message.
+ * <p>
+ * The table is an open addressing hash table using the same hash as {@link String#hashCode()},
+ * so a decoder can be looked up in constant time directly from the current token of a
+ * {@link PacketTokenizer}, without creating a string for the type.
+ */
+public class DecoderRegistry {
+  private static final int INITIAL_CAPACITY = 16;
+  private String[] types;
+  private ServerMessageDecoder[] decoders;
+  private int size;
+
+  /**
+   * Creates a new instance of {@code DecoderRegistry} without decoders.
+   */
+  public DecoderRegistry() {
+    this.types = new String[INITIAL_CAPACITY];
+    this.decoders = new ServerMessageDecoder[INITIAL_CAPACITY];
+    this.size = 0;
+  }
+
+  /**
+   * Registers the decoder of a type of message, replacing the decoder already registered for
+   * the type.
+   *
+   * @param type    the type of the message.
+   * @param decoder the decoder of the message.
+   * @throws IllegalArgumentException if the type or the decoder is {@code null}.
+   */
+  public void register(String type, ServerMessageDecoder decoder)
+      throws IllegalArgumentException {
+    if (type == null) {
+      throw new IllegalArgumentException("type cannot be set to null");
+    }
+    if (decoder == null) {
+      throw new IllegalArgumentException("decoder cannot be set to null");
+    }
+    if ((this.size + 1) * 2 > this.types.length) {
+      this.grow();
+    }
+    int slot = this.slotOf(type.hashCode());
+    while (this.types[slot] != null && !this.types[slot].equals(type)) {
+      slot = (slot + 1) & (this.types.length - 1);
+    }
+    if (this.types[slot] == null) {
+      this.size++;
+    }
+    this.types[slot] = type;
+    this.decoders[slot] = decoder;
+  }
+
+  /**
+   * Gets the decoder of a type of message.
+   *
+   * @param type the type of the message.
+   * @return the decoder of the message, or {@code null} if no decoder is registered.
+   */
+  public ServerMessageDecoder get(String type) {
+    int slot = this.slotOf(type.hashCode());
+    while (this.types[slot] != null && !this.types[slot].equals(type)) {
+      slot = (slot + 1) & (this.types.length - 1);
+    }
+    return this.decoders[slot];
+  }
+
+  /**
+   * Gets the decoder of the type of message held by the current token of a tokenizer.
+   *
+   * @param token the tokenizer whose current token is the type of the message.
+   * @return the decoder of the message, or {@code null} if no decoder is registered.
+   */
+  public ServerMessageDecoder get(PacketTokenizer token) {
+    int slot = this.slotOf(token.tokenHashCode());
+    while (this.types[slot] != null && !token.tokenEquals(this.types[slot])) {
+      slot = (slot + 1) & (this.types.length - 1);
+    }
+    return this.decoders[slot];
+  }
+
+  /**
+   * Gets the number of decoders registered.
+   *
+   * @return the number of decoders.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Maps a hash to a slot of the table.
+   *
+   * @param hash the hash of a type.
+   * @return the slot of the hash.
+   */
+  private int slotOf(int hash) {
+    return (hash ^ (hash >>> 16)) & (this.types.length - 1);
+  }
+
+  /**
+   * Doubles the capacity of the table.
+   */
+  private void grow() {
+    String[] oldTypes = this.types;
+    ServerMessageDecoder[] oldDecoders = this.decoders;
+    this.types = new String[oldTypes.length * 2];
+    this.decoders = new ServerMessageDecoder[oldTypes.length * 2];
+    this.size = 0;
+    for (int index = 0; index < oldTypes.length; index++) {
+      if (oldTypes[index] != null) {
+        this.register(oldTypes[index], oldDecoders[index]);
+      }
+    }
+  }
+}
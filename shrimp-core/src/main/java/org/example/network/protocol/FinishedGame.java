@@ -0,0 +1,95 @@
+package org.example.network.protocol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents an {@code UPDATE FINISHED_GAME} update, sent to admins when a game is finished.
+ *
+ * @param gameName    the name of the game.
+ * @param gameNumber  the number of the game, telling games with the same name apart.
+ * @param playerNames the names of the players in the game.
+ * @param rounds      the fields of every round, in the order of the CSV columns.
+ * @param settings    the settings of the game, in the order of the CSV columns.
+ * @param chat        the chat messages of the game, which is empty if there were none.
+ */
+public record FinishedGame(String gameName, String gameNumber, List<String> playerNames,
+                           List<List<String>> rounds, List<String> settings,
+                           List<ChatEntry> chat) implements ServerUpdate {
+  /**
+   * Represents a chat message sent during the game.
+   *
+   * @param username the name of the player sending the message.
+   * @param message  the message, with the encoded spaces decoded.
+   * @param time     the time the message was sent.
+   */
+  public record ChatEntry(String username, String message, String time) {
+  }
+
+  /**
+   * Gets the name of the game result, which is the name and the number of the game.
+   *
+   * @return the name of the game result.
+   */
+  public String resultName() {
+    return this.gameName + " " + this.gameNumber;
+  }
+
+  /**
+   * Gets the number of rounds of the game from its settings.
+   *
+   * @return the number of rounds of the game.
+   * @throws NumberFormatException if the setting is not a number.
+   */
+  public int numberOfRounds() throws NumberFormatException {
+    return Integer.parseInt(this.settings.get(1));
+  }
+
+  /**
+   * Builds the lines of the CSV file of the game result.
+   *
+   * @return the lines of the CSV file.
+   */
+  public List<String> toCsvData() {
+    List<String> csvData = new ArrayList<>();
+    csvData.add("Game Name");
+    csvData.add(this.resultName());
+    csvData.add("");
+    csvData.add("Game/Lobby Settings");
+    csvData.add("Number of Players in Lobby,Number of Rounds,Round Time,Communication "
+                + "Rounds,Comm Round Time,Minimum Shrimp kg,Maximum Shrimp kg");
+    csvData.add(String.join(",", this.settings));
+    csvData.add("");
+    csvData.add("");
+    csvData.add("");
+    csvData.add("");
+    StringBuilder header = new StringBuilder("Rounds,");
+    for (String playerName : this.playerNames) {
+      header.append(playerName).append(" Shrimp Caught,");
+    }
+    header.append("Total Shrimp Caught,Shrimp Price,Profit / Shrimp kg");
+    for (String playerName : this.playerNames) {
+      header.append(',').append(playerName).append(" Round Profit,").append(playerName)
+            .append(" Total Profit");
+    }
+    csvData.add(header.toString());
+    for (List<String> round : this.rounds) {
+      csvData.add(String.join(",", round));
+    }
+    csvData.add("");
+    csvData.add("");
+    csvData.add("");
+    csvData.add("");
+    csvData.add("Game Chat");
+    csvData.add("Player,Message,Time");
+    if (!this.chat.isEmpty()) {
+      for (ChatEntry chatEntry : this.chat) {
+        csvData.add(chatEntry.username() + "," + chatEntry.message() + "," + chatEntry.time());
+      }
+    }
+    else {
+      csvData.add("No Chat");
+    }
+    return csvData;
+  }
+}
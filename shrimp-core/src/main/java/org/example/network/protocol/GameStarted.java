@@ -0,0 +1,23 @@
+package org.example.network.protocol;
+
+import java.util.List;
+
+/**
+ * Represents an {@code UPDATE GAME_STARTED} update, sent when the lobby of the client starts a
+ * game.
+ *
+ * @param opponentNames          the names of the other players in the game.
+ * @param numberOfRounds         the number of rounds in the game.
+ * @param roundTime              the time of each round in seconds.
+ * @param communicationRounds    the communication rounds, separated by {@code +}.
+ * @param communicationRoundTime the extra time of a communication round in seconds.
+ * @param minShrimp              the minimum amount of shrimp kilograms to catch.
+ * @param maxShrimp              the maximum amount of shrimp kilograms to catch.
+ * @param islandNum              the number of the island the game is played on.
+ * @param gameName               the name of the game.
+ */
+public record GameStarted(List<String> opponentNames, int numberOfRounds, int roundTime,
+                          String communicationRounds, int communicationRoundTime, int minShrimp,
+                          int maxShrimp, int islandNum, String gameName)
+    implements ServerUpdate {
+}
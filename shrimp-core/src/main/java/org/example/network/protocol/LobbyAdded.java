@@ -0,0 +1,12 @@
+package org.example.network.protocol;
+
+import org.example.model.Lobby;
+
+/**
+ * Represents an {@code UPDATE LOBBY_ADDED <name>.<players>.<max players>} update, sent instead of
+ * the whole lobby list to clients that enabled lobby deltas when a lobby is created.
+ *
+ * @param lobby the lobby created.
+ */
+public record LobbyAdded(Lobby lobby) implements ServerUpdate {
+}
@@ -0,0 +1,13 @@
+package org.example.network.protocol;
+
+import java.util.List;
+import org.example.model.Lobby;
+
+/**
+ * Represents a {@code LOBBY_LIST <name>.<players>.<max players> ...} reply, sent in response to a
+ * {@code REQUEST_LOBBY_LIST} request.
+ *
+ * @param lobbies the lobbies in the server.
+ */
+public record LobbyList(List<Lobby> lobbies) implements ServerReply {
+}
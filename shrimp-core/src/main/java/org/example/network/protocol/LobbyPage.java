@@ -0,0 +1,16 @@
+package org.example.network.protocol;
+
+import java.util.List;
+import org.example.model.Lobby;
+
+/**
+ * Represents a {@code LOBBY_PAGE <offset> <total> <name>.<players>.<max players> ...} reply, sent
+ * in response to a {@code REQUEST_LOBBY_LIST <offset> <limit>} request by servers that list the
+ * {@code LOBBY_PAGES} capability.
+ *
+ * @param offset       the position of the first lobby of the page in the lobby list.
+ * @param totalLobbies the number of lobbies in the server.
+ * @param lobbies      the lobbies of the page.
+ */
+public record LobbyPage(int offset, int totalLobbies, List<Lobby> lobbies) implements ServerReply {
+}
@@ -0,0 +1,11 @@
+package org.example.network.protocol;
+
+/**
+ * Represents an {@code UPDATE LOBBY_PLAYERS <name>.<players>} update, sent instead of the whole
+ * lobby list to clients that enabled lobby deltas when a player joins or leaves a lobby.
+ *
+ * @param lobbyName       the name of the lobby.
+ * @param numberOfPlayers the number of players in the lobby.
+ */
+public record LobbyPlayersChanged(String lobbyName, int numberOfPlayers) implements ServerUpdate {
+}
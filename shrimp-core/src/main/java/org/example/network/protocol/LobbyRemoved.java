@@ -0,0 +1,10 @@
+package org.example.network.protocol;
+
+/**
+ * Represents an {@code UPDATE LOBBY_REMOVED <name>} update, sent instead of the whole lobby list
+ * to clients that enabled lobby deltas when a lobby stops waiting for players.
+ *
+ * @param lobbyName the name of the lobby removed.
+ */
+public record LobbyRemoved(String lobbyName) implements ServerUpdate {
+}
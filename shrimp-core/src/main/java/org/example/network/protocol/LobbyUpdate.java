@@ -0,0 +1,13 @@
+package org.example.network.protocol;
+
+import java.util.List;
+import org.example.model.Lobby;
+
+/**
+ * Represents an {@code UPDATE LOBBY <name>.<players>.<max players> ...} update, sent when the
+ * lobbies in the server change.
+ *
+ * @param lobbies the lobbies in the server.
+ */
+public record LobbyUpdate(List<Lobby> lobbies) implements ServerUpdate {
+}
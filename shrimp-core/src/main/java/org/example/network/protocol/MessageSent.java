@@ -0,0 +1,12 @@
+package org.example.network.protocol;
+
+/**
+ * Represents an {@code UPDATE MESSAGE_SENT <username> <message> <date>} update, sent when a
+ * player in the game sends a chat message.
+ *
+ * @param username the name of the player sending the message.
+ * @param message  the message, with the encoded spaces decoded.
+ * @param date     the time the message was sent.
+ */
+public record MessageSent(String username, String message, String date) implements ServerUpdate {
+}
@@ -0,0 +1,271 @@
+package org.example.network.protocol;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.example.model.Lobby;
+import org.example.network.PacketTokenizer;
+
+/**
+ * Represents the decoder of the lines received from the server into {@link ServerMessage}s.
+ * <p>
+ * The type of a line is looked up in a {@link DecoderRegistry}, one for the updates, which are
+ * prefixed with {@code UPDATE}, and one for the replies. The decoder found reads the fields of
+ * the line with a {@link PacketTokenizer}. Lines without a decoder, and lines whose fields could
+ * not be read, are decoded as {@link Unknown}.
+ * <p>
+ * The decoders are shared, but every codec has its own tokenizers, so a codec must only be used
+ * by one thread at a time.
+ */
+public class ProtocolCodec {
+  private static final int GAME_STARTED_SETTINGS = 8;
+  private static final DecoderRegistry UPDATE_DECODERS = createUpdateDecoders();
+  private static final DecoderRegistry REPLY_DECODERS = createReplyDecoders();
+  private final PacketTokenizer packet;
+  private final PacketTokenizer field;
+
+  /**
+   * Creates a new instance of {@code ProtocolCodec}.
+   */
+  public ProtocolCodec() {
+    this.packet = new PacketTokenizer();
+    this.field = new PacketTokenizer();
+  }
+
+  /**
+   * Decodes a line received from the server.
+   *
+   * @param line the line received from the server.
+   * @return the message decoded.
+   * @throws IllegalArgumentException if the line given is set to {@code null}.
+   */
+  public ServerMessage decode(String line) throws IllegalArgumentException {
+    if (line == null) {
+      throw new IllegalArgumentException("line cannot be set to null");
+    }
+    this.packet.reset(line);
+    ServerMessageDecoder decoder = null;
+    if (this.packet.hasMoreTokens()) {
+      this.packet.next(' ');
+      if (!this.packet.tokenEquals("UPDATE")) {
+        decoder = REPLY_DECODERS.get(this.packet);
+      }
+      else if (this.packet.hasMoreTokens()) {
+        decoder = UPDATE_DECODERS.get(this.packet.next(' '));
+      }
+    }
+    ServerMessage message = null;
+    if (decoder != null) {
+      try {
+        message = decoder.decode(this.packet, this.field);
+      }
+      catch (IllegalStateException | IllegalArgumentException exception) {
+        message = null;
+      }
+    }
+    if (message == null) {
+      message = new Unknown(line);
+    }
+    return message;
+  }
+
+  /**
+   * Creates the registry of the decoders of the updates.
+   *
+   * @return the registry of the decoders of the updates.
+   */
+  private static DecoderRegistry createUpdateDecoders() {
+    DecoderRegistry decoders = new DecoderRegistry();
+    decoders.register("LOBBY", (packet, field) -> new LobbyUpdate(readLobbies(packet, field)));
+    decoders.register("LOBBY_ADDED", (packet, field) ->
+        new LobbyAdded(readLobby(packet.nextField(' ', field))));
+    decoders.register("LOBBY_REMOVED", (packet, field) -> new LobbyRemoved(packet.nextString(' ')));
+    decoders.register("LOBBY_PLAYERS", ProtocolCodec::decodeLobbyPlayersChanged);
+    decoders.register("GAME_STARTED", ProtocolCodec::decodeGameStarted);
+    decoders.register("ROUND_FINISHED", ProtocolCodec::decodeRoundFinished);
+    decoders.register("MESSAGE_SENT", (packet, field) ->
+        new MessageSent(packet.nextString(' '), decodeText(packet.next(' ')),
+                        packet.nextString(' ')));
+    decoders.register("FINISHED_GAME", ProtocolCodec::decodeFinishedGame);
+    return decoders;
+  }
+
+  /**
+   * Creates the registry of the decoders of the replies.
+   *
+   * @return the registry of the decoders of the replies.
+   */
+  private static DecoderRegistry createReplyDecoders() {
+    DecoderRegistry decoders = new DecoderRegistry();
+    decoders.register("USERNAME", ProtocolCodec::decodeUsernameAssigned);
+    decoders.register("LOBBY_LIST", (packet, field) -> new LobbyList(readLobbies(packet, field)));
+    decoders.register("LOBBY_PAGE", (packet, field) ->
+        new LobbyPage(packet.nextInt(' '), packet.nextInt(' '), readLobbies(packet, field)));
+    for (StatusReply statusReply : StatusReply.KNOWN_STATUSES) {
+      decoders.register(statusReply.status(), (packet, field) -> statusReply);
+    }
+    return decoders;
+  }
+
+  /**
+   * Reads the remaining tokens of a line as lobbies in the format
+   * {@code <name>.<players>.<max players>}.
+   *
+   * @param packet the tokenizer placed over the line, positioned before the first lobby.
+   * @param field  the tokenizer used to read the fields of each lobby.
+   * @return the lobbies read.
+   */
+  private static List<Lobby> readLobbies(PacketTokenizer packet, PacketTokenizer field) {
+    List<Lobby> lobbies = new ArrayList<Lobby>();
+    while (packet.hasMoreTokens()) {
+      lobbies.add(readLobby(packet.nextField(' ', field)));
+    }
+    return lobbies;
+  }
+
+  /**
+   * Reads a lobby in the format {@code <name>.<players>.<max players>}.
+   *
+   * @param lobby the tokenizer placed over the field of the lobby.
+   * @return the lobby read.
+   */
+  private static Lobby readLobby(PacketTokenizer lobby) {
+    return new Lobby(lobby.nextString('.'), lobby.nextInt('.'), lobby.nextInt('.'));
+  }
+
+  /**
+   * Decodes the fields of a {@code LOBBY_PLAYERS} update.
+   *
+   * @param packet the tokenizer placed over the line, positioned after the type.
+   * @param field  a tokenizer for nested fields.
+   * @return the update decoded.
+   */
+  private static ServerMessage decodeLobbyPlayersChanged(PacketTokenizer packet,
+                                                         PacketTokenizer field) {
+    PacketTokenizer lobby = packet.nextField(' ', field);
+    return new LobbyPlayersChanged(lobby.nextString('.'), lobby.nextInt('.'));
+  }
+
+  /**
+   * Decodes the fields of a {@code GAME_STARTED} update. Any number of opponents may come
+   * before the settings of the game, which are always the last fields, so the opponents are
+   * the fields left before the settings once the fields are counted, and the settings are read
+   * in place.
+   *
+   * @param packet the tokenizer placed over the line, positioned after the type.
+   * @param field  a tokenizer for nested fields.
+   * @return the update decoded.
+   * @throws IllegalStateException if the update has fewer fields than the settings of a game.
+   * @throws NumberFormatException if a numeric setting is not a valid {@code int}.
+   */
+  private static ServerMessage decodeGameStarted(PacketTokenizer packet, PacketTokenizer field)
+      throws IllegalStateException, NumberFormatException {
+    int opponents = packet.countTokens(' ') - GAME_STARTED_SETTINGS;
+    if (opponents < 0) {
+      throw new IllegalStateException("GAME_STARTED is missing the settings of the game");
+    }
+    List<String> opponentNames = new ArrayList<>(opponents);
+    for (int opponent = 0; opponent < opponents; opponent++) {
+      opponentNames.add(packet.nextString(' '));
+    }
+    return new GameStarted(Collections.unmodifiableList(opponentNames), packet.nextInt(' '),
+                           packet.nextInt(' '), packet.nextString(' '), packet.nextInt(' '),
+                           packet.nextInt(' '), packet.nextInt(' '), packet.nextInt(' '),
+                           packet.nextString(' '));
+  }
+
+  /**
+   * Decodes the fields of a {@code ROUND_FINISHED} update.
+   *
+   * @param packet the tokenizer placed over the line, positioned after the type.
+   * @param field  a tokenizer for nested fields.
+   * @return the update decoded.
+   */
+  private static ServerMessage decodeRoundFinished(PacketTokenizer packet,
+                                                   PacketTokenizer field) {
+    int shrimpPrice = packet.nextInt(' ');
+    List<RoundFinished.PlayerResult> playerResults = new ArrayList<>();
+    while (packet.hasMoreTokens()) {
+      playerResults.add(new RoundFinished.PlayerResult(packet.nextString(' '),
+                                                       packet.nextInt(' '),
+                                                       packet.nextInt(' ')));
+    }
+    return new RoundFinished(shrimpPrice, playerResults);
+  }
+
+  /**
+   * Decodes the fields of a {@code FINISHED_GAME} update. The rounds and the chat are read with
+   * the nested tokenizer of the field tokenizer, so no tokenizer is created.
+   *
+   * @param packet the tokenizer placed over the line, positioned after the type.
+   * @param field  a tokenizer for nested fields.
+   * @return the update decoded.
+   */
+  private static ServerMessage decodeFinishedGame(PacketTokenizer packet, PacketTokenizer field) {
+    String gameName = packet.nextString(' ');
+    String gameNumber = packet.nextString(' ');
+    List<String> playerNames = readFields(packet.nextField(' ', field), '.');
+    List<List<String>> rounds = new ArrayList<>();
+    PacketTokenizer roundsField = packet.nextField(' ', field.getNestedTokenizer());
+    while (roundsField.hasMoreTokens()) {
+      rounds.add(readFields(roundsField.nextField(',', field), '.'));
+    }
+    List<String> settings = readFields(packet.nextField(' ', field), '.');
+    List<FinishedGame.ChatEntry> chat = new ArrayList<>();
+    PacketTokenizer chatField = packet.nextField(' ', field.getNestedTokenizer());
+    if (!packet.tokenEquals("NO_CHAT")) {
+      while (chatField.hasMoreTokens()) {
+        PacketTokenizer chatEntry = chatField.nextField('◊', field);
+        chat.add(new FinishedGame.ChatEntry(chatEntry.nextString('☐'),
+                                            decodeText(chatEntry.next('☐')),
+                                            chatEntry.nextString('☐')));
+      }
+    }
+    return new FinishedGame(gameName, gameNumber, playerNames, rounds, settings, chat);
+  }
+
+  /**
+   * Decodes the fields of a {@code USERNAME} reply.
+   *
+   * @param packet the tokenizer placed over the line, positioned after the type.
+   * @param field  a tokenizer for nested fields.
+   * @return the reply decoded.
+   */
+  private static ServerMessage decodeUsernameAssigned(PacketTokenizer packet,
+                                                      PacketTokenizer field) {
+    String username = packet.nextString(' ');
+    boolean admin = Boolean.parseBoolean(packet.nextString(' '));
+    Set<String> capabilities = new HashSet<String>();
+    while (packet.hasMoreTokens()) {
+      capabilities.add(packet.nextString(' '));
+    }
+    return new UsernameAssigned(username, admin, Collections.unmodifiableSet(capabilities));
+  }
+
+  /**
+   * Reads the remaining tokens of a field as strings.
+   *
+   * @param field     the tokenizer placed over the field.
+   * @param delimiter the character separating the tokens.
+   * @return the tokens read.
+   */
+  private static List<String> readFields(PacketTokenizer field, char delimiter) {
+    List<String> fields = new ArrayList<String>();
+    while (field.hasMoreTokens()) {
+      fields.add(field.nextString(delimiter));
+    }
+    return fields;
+  }
+
+  /**
+   * Decodes the current token as text, where spaces are sent as {@code ⁞}.
+   *
+   * @param token the tokenizer whose current token is the text.
+   * @return the text decoded.
+   */
+  private static String decodeText(PacketTokenizer token) {
+    return token.appendToken(new StringBuilder(), ClientCommands.ENCODED_SPACE, ' ').toString();
+  }
+}
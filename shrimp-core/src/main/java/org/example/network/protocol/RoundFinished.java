@@ -0,0 +1,23 @@
+package org.example.network.protocol;
+
+import java.util.List;
+
+/**
+ * Represents an {@code UPDATE ROUND_FINISHED <shrimp price> <name> <caught> <profit> ...}
+ * update, sent when every player has caught shrimp in the current round.
+ *
+ * @param shrimpPrice   the price of shrimp in the round.
+ * @param playerResults the results of the players in the order they were sent.
+ */
+public record RoundFinished(int shrimpPrice, List<PlayerResult> playerResults)
+    implements ServerUpdate {
+  /**
+   * Represents the result of a player in the round.
+   *
+   * @param playerName   the name of the player.
+   * @param shrimpCaught the shrimp kilograms caught by the player.
+   * @param roundProfit  the profit of the player in the round.
+   */
+  public record PlayerResult(String playerName, int shrimpCaught, int roundProfit) {
+  }
+}
@@ -0,0 +1,11 @@
+package org.example.network.protocol;
+
+/**
+ * Represents a message received from the server.
+ * <p>
+ * A message is either a {@link ServerUpdate} pushed by the server with the {@code UPDATE}
+ * prefix, a {@link ServerReply} to a request sent by the client, or an {@link Unknown} message
+ * that could not be decoded.
+ */
+public sealed interface ServerMessage permits ServerUpdate, ServerReply, Unknown {
+}
@@ -0,0 +1,21 @@
+package org.example.network.protocol;
+
+import org.example.network.PacketTokenizer;
+
+/**
+ * Represents a decoder of one type of {@link ServerMessage}.
+ */
+@FunctionalInterface
+public interface ServerMessageDecoder {
+  /**
+   * Decodes the fields of a message.
+   *
+   * @param packet the tokenizer placed over the line, positioned after the type of the message.
+   * @param field  a tokenizer the decoder can use to read nested fields.
+   * @return the message decoded.
+   * @throws IllegalStateException if a field is missing.
+   * @throws NumberFormatException if a numeric field is not a number.
+   */
+  ServerMessage decode(PacketTokenizer packet, PacketTokenizer field)
+      throws IllegalStateException, NumberFormatException;
+}
@@ -0,0 +1,9 @@
+package org.example.network.protocol;
+
+/**
+ * Represents a reply sent by the server in response to a request, sent as
+ * {@code <type> <fields>}.
+ */
+public sealed interface ServerReply extends ServerMessage
+    permits UsernameAssigned, LobbyList, LobbyPage, StatusReply {
+}
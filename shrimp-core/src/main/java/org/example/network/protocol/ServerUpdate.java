@@ -0,0 +1,9 @@
+package org.example.network.protocol;
+
+/**
+ * Represents an update pushed by the server, sent as {@code UPDATE <type> <fields>}.
+ */
+public sealed interface ServerUpdate extends ServerMessage
+    permits LobbyUpdate, LobbyAdded, LobbyRemoved, LobbyPlayersChanged, GameStarted,
+    RoundFinished, MessageSent, FinishedGame {
+}
@@ -0,0 +1,76 @@
+package org.example.network.protocol;
+
+import java.util.List;
+
+/**
+ * Represents a reply without fields that tells the outcome of a request, like
+ * {@code CAUGHT_SUCCESSFULLY} or {@code LOBBY_FULL}.
+ *
+ * @param status the status sent by the server.
+ */
+public record StatusReply(String status) implements ServerReply {
+  /**
+   * Sent after a lobby was created.
+   */
+  public static final StatusReply CREATE_LOBBY_SUCCESS = new StatusReply("CREATE_LOBBY_SUCCESS");
+  /**
+   * Sent after the client joined a lobby.
+   */
+  public static final StatusReply JOIN_SUCCESS = new StatusReply("JOIN_SUCCESS");
+  /**
+   * Sent when the lobby the client tried to join is full.
+   */
+  public static final StatusReply LOBBY_FULL = new StatusReply("LOBBY_FULL");
+  /**
+   * Sent when the lobby the client tried to join does not exist.
+   */
+  public static final StatusReply LOBBY_NOT_EXIST = new StatusReply("LOBBY_NOT_EXIST");
+  /**
+   * Sent after the client left a lobby.
+   */
+  public static final StatusReply LEFT_SUCCESS = new StatusReply("LEFT_SUCCESS");
+  /**
+   * Sent after the shrimp caught by the client was registered.
+   */
+  public static final StatusReply CAUGHT_SUCCESSFULLY = new StatusReply("CAUGHT_SUCCESSFULLY");
+  /**
+   * Sent after a chat message of the client was received.
+   */
+  public static final StatusReply MESSAGE_RECEIVED = new StatusReply("MESSAGE_RECEIVED");
+  /**
+   * Sent after the client became an admin.
+   */
+  public static final StatusReply BECOME_ADMIN_SUCCESSFUL =
+      new StatusReply("BECOME_ADMIN_SUCCESSFUL");
+  /**
+   * Sent when the password given to become an admin is incorrect.
+   */
+  public static final StatusReply BECOME_ADMIN_FAILED = new StatusReply("BECOME_ADMIN_FAILED");
+  /**
+   * Sent after the session of a previous connection was resumed.
+   */
+  public static final StatusReply RESUME_SUCCESS = new StatusReply("RESUME_SUCCESS");
+  /**
+   * Sent when the session of a previous connection could not be resumed.
+   */
+  public static final StatusReply RESUME_FAILED = new StatusReply("RESUME_FAILED");
+  /**
+   * Sent in reply to a heartbeat.
+   */
+  public static final StatusReply PONG = new StatusReply("PONG");
+  /**
+   * Sent after the server agreed to send large lines as deflate-compressed frames.
+   */
+  public static final StatusReply COMPRESSION_ENABLED = new StatusReply("COMPRESSION_ENABLED");
+  /**
+   * Sent after the server agreed to send the changes of the lobbies instead of the lobby list.
+   */
+  public static final StatusReply LOBBY_DELTAS_ENABLED = new StatusReply("LOBBY_DELTAS_ENABLED");
+  /**
+   * The known statuses, which are decoded as {@code StatusReply}s.
+   */
+  public static final List<StatusReply> KNOWN_STATUSES = List.of(
+      CREATE_LOBBY_SUCCESS, JOIN_SUCCESS, LOBBY_FULL, LOBBY_NOT_EXIST, LEFT_SUCCESS,
+      CAUGHT_SUCCESSFULLY, MESSAGE_RECEIVED, BECOME_ADMIN_SUCCESSFUL, BECOME_ADMIN_FAILED,
+      RESUME_SUCCESS, RESUME_FAILED, PONG, COMPRESSION_ENABLED, LOBBY_DELTAS_ENABLED);
+}
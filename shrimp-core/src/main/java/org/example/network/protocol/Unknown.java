@@ -0,0 +1,19 @@
+package org.example.network.protocol;
+
+/**
+ * Represents a message that has no decoder or could not be decoded, like a reply prefixed with a
+ * correlation id or a malformed update.
+ *
+ * @param line the line received from the server.
+ */
+public record Unknown(String line) implements ServerMessage {
+  /**
+   * Checks if the line is an update, so it should not be treated as the reply to a request.
+   *
+   * @return {@code true} if the line starts with {@code UPDATE}, or {@code false} if it does
+   *     not.
+   */
+  public boolean isUpdate() {
+    return this.line.equals("UPDATE") || this.line.startsWith("UPDATE ");
+  }
+}
@@ -0,0 +1,15 @@
+package org.example.network.protocol;
+
+import java.util.Set;
+
+/**
+ * Represents a {@code USERNAME <username> <is admin> [capabilities...]} reply, sent in response
+ * to a {@code REQUEST_USERNAME} request.
+ *
+ * @param username     the username of the client.
+ * @param admin        {@code true} if the client is an admin, or {@code false} if it is not.
+ * @param capabilities the optional protocol features the server supports.
+ */
+public record UsernameAssigned(String username, boolean admin, Set<String> capabilities)
+    implements ServerReply {
+}
@@ -0,0 +1,155 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link ChatLog} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for inserting messages at their positions and telling the listeners about them.</li>
+ * <li>Test for removing the oldest messages when the log holds more messages than it keeps.</li>
+ * <li>Test for keeping a copy built from the changes reported in step with the log through
+ * many messages out of order, ties and removals of the oldest messages.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for creating instances of {@link ChatLog} and changing the log where the parameters
+ * given are invalid.</li>
+ * </ul>
+ */
+public class ChatLogTest {
+    /**
+     * Represents a listener that keeps the changes reported, in order.
+     */
+    private static class RecordingListener implements ChatLog.Listener {
+        private final List<String> changes = new ArrayList<String>();
+
+        @Override
+        public void messageInserted(int index, ChatMessage message) {
+            this.changes.add("inserted " + message.text() + " at " + index);
+        }
+
+        @Override
+        public void messageRemoved(int index, ChatMessage message) {
+            this.changes.add("removed " + message.text() + " at " + index);
+        }
+    }
+
+    /**
+     * Positive test where the {@link ChatLog} class is able to insert messages at their
+     * positions.
+     * <p>
+     * Tests that the messages are kept from the oldest to the newest, that a message sent at
+     * the same second as others comes before them, that the listener is given the messages held
+     * when it is added and told about every message inserted after, and that a removed listener
+     * is no longer told about them.
+     */
+    @Test
+    public void testInsertMessages() {
+        ChatLog chatLog = new ChatLog();
+        chatLog.add(new ChatMessage("Atari", "first", "10:00:00"));
+        RecordingListener listener = new RecordingListener();
+
+        assertEquals(List.of("first"),
+                     chatLog.addListener(listener).stream().map(ChatMessage::text).toList());
+        assertEquals(1, chatLog.add(new ChatMessage("BMI", "newest", "10:05:00")));
+        assertEquals(0, chatLog.add(new ChatMessage("Commodore", "oldest", "09:00:00")));
+        assertEquals(1, chatLog.add(new ChatMessage("BMI", "same second", "10:00")));
+        chatLog.removeListener(listener);
+        chatLog.add(new ChatMessage("Atari", "unheard", "11:00:00"));
+
+        assertEquals(List.of("oldest", "same second", "first", "newest", "unheard"),
+                     chatLog.getMessages().stream().map(ChatMessage::text).toList());
+        assertEquals(List.of("inserted newest at 1", "inserted oldest at 0",
+                             "inserted same second at 1"), listener.changes);
+    }
+
+    /**
+     * Positive test where the {@link ChatLog} class is able to keep a bounded number of
+     * messages.
+     * <p>
+     * Tests that the oldest message is removed when a newer message is added to a full log, and
+     * that a message older than every message of a full log is not kept.
+     */
+    @Test
+    public void testKeepNewestMessages() {
+        ChatLog chatLog = new ChatLog(2);
+        RecordingListener listener = new RecordingListener();
+        chatLog.addListener(listener);
+        chatLog.add(new ChatMessage("Atari", "second", "10:00:00"));
+        chatLog.add(new ChatMessage("BMI", "third", "10:01:00"));
+
+        assertEquals(0, chatLog.add(new ChatMessage("Commodore", "between", "10:00:30")));
+        assertEquals(-1, chatLog.add(new ChatMessage("Atari", "first", "09:00:00")));
+        assertEquals(-1, chatLog.add(new ChatMessage("BMI", "tied", "10:00:30")));
+
+        assertEquals(2, chatLog.size());
+        assertEquals(List.of("between", "third"),
+                     chatLog.getMessages().stream().map(ChatMessage::text).toList());
+        assertEquals(List.of("inserted second at 0", "inserted third at 1",
+                             "inserted between at 1", "removed second at 0"), listener.changes);
+    }
+
+    /**
+     * Positive test where the {@link ChatLog} class is able to report every change a view needs
+     * to follow the log.
+     * <p>
+     * Tests that a copy of the log built only from the changes reported holds the same messages
+     * as the log after each of two thousand messages sent at random seconds, many of them at the
+     * same second, added to a log keeping seven messages, so the oldest messages are removed and
+     * the messages dropped are cleared many times.
+     */
+    @Test
+    public void testFollowChanges() {
+        ChatLog chatLog = new ChatLog(7);
+        List<ChatMessage> copy = new ArrayList<ChatMessage>();
+        chatLog.addListener(new ChatLog.Listener() {
+            @Override
+            public void messageInserted(int index, ChatMessage message) {
+                copy.add(index, message);
+            }
+
+            @Override
+            public void messageRemoved(int index, ChatMessage message) {
+                assertEquals(message, copy.remove(index));
+            }
+        });
+        Random random = new Random(42);
+        for (int index = 0; index < 2000; index++) {
+            int second = index / 2 + random.nextInt(20);
+            String time = String.format("%02d:%02d:%02d", second / 3600, second / 60 % 60,
+                                        second % 60);
+            int position = chatLog.add(new ChatMessage("Atari", "message" + index, time));
+
+            assertEquals(chatLog.getMessages(), copy);
+            if (position >= 0) {
+                assertEquals("message" + index, copy.get(position).text());
+            }
+        }
+        assertEquals(7, chatLog.size());
+    }
+
+    /**
+     * Negative test where the {@link ChatLog} class is given invalid parameters.
+     * <p>
+     * Tests that numbers of messages kept below one, {@code null} messages and {@code null}
+     * listeners are refused.
+     */
+    @Test
+    public void testInvalidParameters() {
+        ChatLog chatLog = new ChatLog();
+
+        assertThrows(IllegalArgumentException.class, () -> new ChatLog(0));
+        assertThrows(IllegalArgumentException.class, () -> chatLog.add(null));
+        assertThrows(IllegalArgumentException.class, () -> chatLog.addListener(null));
+    }
+}
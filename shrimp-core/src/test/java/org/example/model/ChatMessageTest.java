@@ -0,0 +1,110 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link ChatMessage} record and the {@link MessageComparator} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for decoding and encoding messages in the wire format, parsing the second of the
+ * day they were sent at.</li>
+ * <li>Test for sorting messages from the newest to the oldest.</li>
+ * <li>Test for round-tripping texts holding the separator or nothing, and for parsing the
+ * bounds of the day and malformed times.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for creating and decoding messages where the parameters given are invalid.</li>
+ * </ul>
+ */
+public class ChatMessageTest {
+    /**
+     * Positive test where the {@link ChatMessage} record is able to convert messages to and from
+     * the wire format.
+     * <p>
+     * Tests that the fields are decoded, that the message encodes back to the same line, and
+     * that the second of the day is parsed from times with and without seconds.
+     */
+    @Test
+    public void testDecodeAndEncode() {
+        ChatMessage message = ChatMessage.decode("Atari☐let us fish less☐12:30:15");
+
+        assertEquals("Atari", message.sender());
+        assertEquals("let us fish less", message.text());
+        assertEquals("12:30:15", message.time());
+        assertEquals(12 * 3600 + 30 * 60 + 15, message.secondOfDay());
+        assertEquals("Atari☐let us fish less☐12:30:15", message.encode());
+        assertEquals(12 * 3600 + 30 * 60, new ChatMessage("BMI", "hi", "12:30").secondOfDay());
+        assertEquals(-1, new ChatMessage("BMI", "hi", "noon").secondOfDay());
+        assertEquals(-1, new ChatMessage("BMI", "hi", "25:00:00").secondOfDay());
+    }
+
+    /**
+     * Positive test where the {@link MessageComparator} class is able to sort messages.
+     * <p>
+     * Tests that the messages are sorted from the newest to the oldest, that messages sent at
+     * the same time keep their order, and that messages with a time that could not be parsed
+     * come last.
+     */
+    @Test
+    public void testSortNewestFirst() {
+        List<ChatMessage> messages = new ArrayList<ChatMessage>();
+        messages.add(new ChatMessage("Atari", "first", "09:59:59"));
+        messages.add(new ChatMessage("BMI", "unknown", "later"));
+        messages.add(new ChatMessage("Commodore", "second", "10:00"));
+        messages.add(new ChatMessage("Atari", "third", "10:00:00"));
+        messages.add(new ChatMessage("BMI", "last", "10:00:01"));
+
+        Collections.sort(messages, new MessageComparator());
+
+        assertEquals(List.of("last", "second", "third", "first", "unknown"),
+                     messages.stream().map(ChatMessage::text).toList());
+    }
+
+    /**
+     * Positive test where the {@link ChatMessage} record is able to handle unusual messages.
+     * <p>
+     * Tests that a text holding the separator and an empty text encode and decode back to the
+     * same message, that the first and last seconds of the day are parsed, and that times with
+     * missing digits, other separators or out of range fields are not parsed.
+     */
+    @Test
+    public void testUnusualMessages() {
+        ChatMessage separated = new ChatMessage("Atari", "a☐b☐c", "12:00:00");
+        assertEquals(separated, ChatMessage.decode(separated.encode()));
+        ChatMessage empty = new ChatMessage("Atari", "", "12:00");
+        assertEquals(empty, ChatMessage.decode(empty.encode()));
+
+        assertEquals(0, new ChatMessage("BMI", "hi", "00:00:00").secondOfDay());
+        assertEquals(86399, new ChatMessage("BMI", "hi", "23:59:59").secondOfDay());
+        for (String time : List.of("", "1:00:00", "12-30", "12:3a", "12:30:5", "12:30-15",
+                                   "12:60", "12:30:60", "-1:30")) {
+            assertEquals(-1, new ChatMessage("BMI", "hi", time).secondOfDay(), time);
+        }
+    }
+
+    /**
+     * Negative test where the {@link ChatMessage} record is given invalid parameters.
+     * <p>
+     * Tests that {@code null} fields and lines without the three fields of a message are
+     * refused.
+     */
+    @Test
+    public void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ChatMessage(null, "hi", "12:00"));
+        assertThrows(IllegalArgumentException.class, () -> new ChatMessage("Atari", null, "12:00"));
+        assertThrows(IllegalArgumentException.class, () -> new ChatMessage("Atari", "hi", null));
+        assertThrows(IllegalArgumentException.class, () -> ChatMessage.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> ChatMessage.decode("Atari hi 12:00"));
+        assertThrows(IllegalArgumentException.class, () -> ChatMessage.decode("Atari☐12:00"));
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link CommunicationSchedule} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for parsing the communication rounds and finding the communication rounds.</li>
+ * <li>Test for computing the time every round starts at and lasts.</li>
+ * <li>Test for a game without communication rounds, on its own and through the settings of a
+ * game.</li>
+ * <li>Test for communication rounds given out of order, repeated, at the first and last round
+ * and with both separators.</li>
+ * <li>Test for ignoring the malformed parts and the rounds outside the game of communication
+ * rounds parsed leniently.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for creating instances of {@link CommunicationSchedule} and querying rounds where the
+ * parameters given are invalid.</li>
+ * </ul>
+ */
+public class CommunicationScheduleTest {
+    /**
+     * Positive test where the {@link CommunicationSchedule} class is able to parse the
+     * communication rounds.
+     * <p>
+     * Tests that rounds separated by {@code +} and by {@code ,} are parsed, that rounds outside
+     * the game are not communication rounds, that the next communication round is found from any
+     * round, and that an empty string is a game without communication rounds.
+     */
+    @Test
+    public void testFindCommunicationRounds() {
+        CommunicationSchedule schedule = new CommunicationSchedule("5+8", 8, 60, 30);
+
+        assertTrue(schedule.isCommunicationRound(5));
+        assertTrue(schedule.isCommunicationRound(8));
+        assertFalse(schedule.isCommunicationRound(6));
+        assertFalse(schedule.isCommunicationRound(0));
+        assertFalse(schedule.isCommunicationRound(9));
+        assertEquals(5, schedule.nextCommunicationRound(-3));
+        assertEquals(5, schedule.nextCommunicationRound(5));
+        assertEquals(8, schedule.nextCommunicationRound(6));
+        assertEquals(-1, schedule.nextCommunicationRound(9));
+        assertEquals(2, schedule.getNumberOfCommunicationRounds());
+        assertEquals("5, 8", schedule.format(", "));
+        assertEquals("2+4", new CommunicationSchedule("4,2,4", 8, 60, 30).format("+"));
+        assertEquals(0, new CommunicationSchedule("", 8, 60, 30).getNumberOfCommunicationRounds());
+    }
+
+    /**
+     * Positive test where the {@link CommunicationSchedule} class is able to compute the
+     * timeline of a game.
+     * <p>
+     * Tests that communication rounds last the round time and the communication round time, and
+     * that every round starts when the previous round ends.
+     */
+    @Test
+    public void testComputeTimeline() {
+        CommunicationSchedule schedule = new CommunicationSchedule("2+3", 4, 60, 30);
+
+        assertEquals(60, schedule.getRoundDuration(1));
+        assertEquals(90, schedule.getRoundDuration(2));
+        assertEquals(90, schedule.getRoundDuration(3));
+        assertEquals(60, schedule.getRoundDuration(4));
+        assertEquals(0, schedule.getRoundStart(1));
+        assertEquals(60, schedule.getRoundStart(2));
+        assertEquals(240, schedule.getRoundStart(4));
+        assertEquals(300, schedule.getGameDuration());
+    }
+
+    /**
+     * Positive test where the {@link CommunicationSchedule} class is able to hold a game without
+     * communication rounds.
+     * <p>
+     * Tests that no round is a communication round, that no next communication round is found
+     * from any round, that every round lasts the round time alone, that the schedule formats to
+     * an empty string that parses back to the same schedule, and that the settings of a game
+     * without communication rounds give the same schedule.
+     */
+    @Test
+    public void testEmptySchedule() {
+        CommunicationSchedule schedule = new CommunicationSchedule("", 3, 60, 30);
+
+        for (int round = 0; round <= 4; round++) {
+            assertFalse(schedule.isCommunicationRound(round));
+            assertEquals(-1, schedule.nextCommunicationRound(round));
+        }
+        assertEquals(0, schedule.getNumberOfCommunicationRounds());
+        assertEquals(60, schedule.getRoundDuration(3));
+        assertEquals(120, schedule.getRoundStart(3));
+        assertEquals(180, schedule.getGameDuration());
+        assertEquals("", schedule.format("+"));
+        assertEquals(0, new CommunicationSchedule(schedule.format("+"), 3, 60, 30)
+                .getNumberOfCommunicationRounds());
+
+        GameSettings gameSettings = new GameSettings(3, 3, 60, "", 30, 10, 50);
+        assertEquals(180, gameSettings.getCommunicationSchedule().getGameDuration());
+        assertEquals(-1, gameSettings.getCommunicationSchedule().nextCommunicationRound(1));
+        assertEquals(0, new CommunicationSchedule("", 1, 0, 0).getGameDuration());
+    }
+
+    /**
+     * Positive test where the {@link CommunicationSchedule} class is able to parse the
+     * communication rounds in any order.
+     * <p>
+     * Tests that rounds given out of order, repeated and mixing both separators are found once
+     * each and formatted in order, that the first and the last round of the game can be
+     * communication rounds, and that the last communication round is followed by none.
+     */
+    @Test
+    public void testUnorderedRounds() {
+        CommunicationSchedule schedule = new CommunicationSchedule("10,1+5,10+1", 10, 60, 30);
+
+        assertEquals(3, schedule.getNumberOfCommunicationRounds());
+        assertEquals("1+5+10", schedule.format("+"));
+        assertTrue(schedule.isCommunicationRound(1));
+        assertTrue(schedule.isCommunicationRound(10));
+        assertEquals(10, schedule.nextCommunicationRound(6));
+        assertEquals(-1, schedule.nextCommunicationRound(11));
+        assertEquals(90, schedule.getRoundDuration(10));
+        assertEquals(690, schedule.getGameDuration());
+    }
+
+    /**
+     * Positive test where the {@link CommunicationSchedule} class is able to parse communication
+     * rounds sent by a server leniently.
+     * <p>
+     * Tests that rounds with missing, repeated or other separators are found, that rounds outside
+     * the game and parts that are not numbers are ignored, and that the other parameters are
+     * still checked.
+     */
+    @Test
+    public void testLenientParse() {
+        assertEquals("5", CommunicationSchedule.lenient("5+", 8, 60, 30).format("+"));
+        assertEquals("5", CommunicationSchedule.lenient("+5", 8, 60, 30).format("+"));
+        assertEquals("4+6", CommunicationSchedule.lenient("4++6", 8, 60, 30).format("+"));
+        assertEquals("3+8", CommunicationSchedule.lenient("0+3 x 9+8;99999999999", 8, 60, 30)
+                .format("+"));
+        assertEquals("", CommunicationSchedule.lenient("", 8, 60, 30).format("+"));
+        assertEquals("", CommunicationSchedule.lenient("none", 8, 60, 30).format("+"));
+        assertEquals(510, CommunicationSchedule.lenient("+5", 8, 60, 30).getGameDuration());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CommunicationSchedule.lenient(null, 8, 60, 30));
+        assertThrows(IllegalArgumentException.class,
+                () -> CommunicationSchedule.lenient("5", 0, 60, 30));
+        assertThrows(IllegalArgumentException.class,
+                () -> CommunicationSchedule.lenient("5", 8, 60, -1));
+    }
+
+    /**
+     * Negative test where the {@link CommunicationSchedule} class is given invalid parameters.
+     * <p>
+     * Tests that {@code null} communication rounds, rounds that are not numbers separated by
+     * {@code +} or {@code ,}, rounds outside the game, invalid numbers of rounds and times, and
+     * queries for rounds outside the game are refused.
+     */
+    @Test
+    public void testInvalidParameters() {
+        CommunicationSchedule schedule = new CommunicationSchedule("1", 2, 60, 30);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new CommunicationSchedule(null, 8, 60, 30));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CommunicationSchedule("4a", 8, 60, 30));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CommunicationSchedule("4++6", 8, 60, 30));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CommunicationSchedule("4+", 8, 60, 30));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CommunicationSchedule("0+4", 8, 60, 30));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CommunicationSchedule("99999999999", 8, 60, 30));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CommunicationSchedule("1", 0, 60, 30));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CommunicationSchedule("1", 8, -1, 30));
+        assertThrows(IllegalArgumentException.class, () -> schedule.getRoundDuration(0));
+        assertThrows(IllegalArgumentException.class, () -> schedule.getRoundStart(3));
+    }
+}
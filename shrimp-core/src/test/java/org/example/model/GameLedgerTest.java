@@ -0,0 +1,170 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link GameLedger} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for recording the results of rounds and reading them through the ledger and the
+ * rounds viewing it.</li>
+ * <li>Test for recording a round after the number of rounds the ledger was created for.</li>
+ * <li>Test for keeping the results of every player apart in games of zero to seven players,
+ * while the columns grow.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for creating instances of {@link GameLedger} and recording results where the
+ * parameters given are invalid.</li>
+ * </ul>
+ */
+public class GameLedgerTest {
+    /**
+     * Positive test where the {@link GameLedger} class is able to record the results of rounds.
+     * <p>
+     * Tests that the results are read by round and player index, that the rounds recorded read
+     * the values of the players by name, and that the totals are scanned from the columns.
+     */
+    @Test
+    public void testRecordRounds() {
+        GameLedger ledger = new GameLedger(List.of(new Player("Atari", 5),
+                                                   new Player("BMI", 7)), 3);
+        ledger.recordResult(1, "Atari", 30, 150, 150);
+        ledger.recordResult(1, "BMI", 50, 200, 200);
+        Round round1 = ledger.recordRound(1, 15);
+        ledger.recordResult(2, "Atari", 20, 80, 230);
+        ledger.recordResult(2, "BMI", 10, 30, 230);
+        Round round2 = ledger.recordRound(2, 10);
+
+        assertEquals(2, ledger.getRecordedRounds());
+        assertEquals(1, ledger.getPlayerIndex("BMI"));
+        assertEquals(-1, ledger.getPlayerIndex("Commodore"));
+        assertEquals(50, ledger.getShrimpCaught(1, 1));
+        assertEquals(80, ledger.getTotalAmountOfShrimp(1));
+        assertEquals(0, ledger.getTotalAmountOfShrimp(3));
+        assertEquals(50, ledger.getTotalShrimpCaught(0));
+
+        assertEquals("Round 2", round2.getName());
+        assertEquals(10, round2.getShrimpPrice());
+        assertEquals(30, round2.getTotalAmountOfShrimp());
+        assertEquals(80, round2.getMoney("Atari"));
+        assertEquals(230, round2.getTotalMoney("BMI"));
+        assertEquals(3, round2.getProfitPerKilogram("BMI"));
+        assertEquals(0, round2.getShrimpCaught("Commodore"));
+        assertEquals(30, round1.getShrimpCaught("Atari"));
+
+        Player atari = round2.getPlayers().get("Atari");
+        assertSame(atari, round2.getPlayers().get("Atari"));
+        assertEquals(150, atari.getPreviousTotalMoney());
+        assertEquals(230, atari.getCurrentTotalMoney());
+        assertEquals(20, round2.getPlayerShrimpCaughtMap().get(atari));
+        assertEquals(80, round2.getPlayerMoneyMap().get(atari));
+    }
+
+    /**
+     * Positive test where the {@link GameLedger} class is able to record more rounds than it was
+     * created for.
+     * <p>
+     * Tests that the columns grow and keep the rounds recorded before.
+     */
+    @Test
+    public void testRecordRoundAfterNumberOfRounds() {
+        GameLedger ledger = new GameLedger(List.of(new Player("Atari", 5)), 1);
+        ledger.recordResult(1, "Atari", 30, 150, 150);
+        ledger.recordRound(1, 15);
+        ledger.recordResult(3, "Atari", 10, 50, 200);
+        Round round3 = ledger.recordRound(3, 12);
+
+        assertEquals(3, ledger.getRecordedRounds());
+        assertEquals(15, ledger.getShrimpPrice(1));
+        assertEquals(0, ledger.getShrimpCaught(2, 0));
+        assertEquals(10, round3.getShrimpCaught("Atari"));
+        assertEquals(40, ledger.getTotalShrimpCaught(0));
+    }
+
+    /**
+     * Positive test where the {@link GameLedger} class is able to hold games of any number of
+     * players.
+     * <p>
+     * Tests for games of zero, one, two, four and seven players, created for two rounds and
+     * given five, that the results recorded in players order and in reverse are read back from
+     * their own cells, that the totals of every round and every player add up only their own
+     * cells, and that the rounds read every player by name.
+     */
+    @Test
+    public void testNumbersOfPlayers() {
+        for (int numberOfPlayers : new int[] {0, 1, 2, 4, 7}) {
+            List<Player> players = new ArrayList<Player>();
+            for (int index = 0; index < numberOfPlayers; index++) {
+                players.add(new Player("Player" + index, index));
+            }
+            GameLedger ledger = new GameLedger(players, 2);
+            List<Round> rounds = new ArrayList<Round>();
+            for (int round = 1; round <= 5; round++) {
+                for (int index = numberOfPlayers - 1; index >= 0; index--) {
+                    int result = round * 100 + index;
+                    ledger.recordResult(round, "Player" + index, result, -result, result * 2);
+                }
+                rounds.add(ledger.recordRound(round, round));
+            }
+
+            assertEquals(numberOfPlayers, ledger.getNumberOfPlayers());
+            assertEquals(5, ledger.getRecordedRounds());
+            for (int round = 1; round <= 5; round++) {
+                Round recorded = rounds.get(round - 1);
+                assertEquals(round, ledger.getShrimpPrice(round));
+                assertEquals(numberOfPlayers * round * 100
+                             + numberOfPlayers * (numberOfPlayers - 1) / 2,
+                             ledger.getTotalAmountOfShrimp(round));
+                assertEquals(ledger.getTotalAmountOfShrimp(round),
+                             recorded.getTotalAmountOfShrimp());
+                assertEquals(numberOfPlayers, recorded.getPlayers().size());
+                for (int index = 0; index < numberOfPlayers; index++) {
+                    int result = round * 100 + index;
+                    assertEquals(result, ledger.getShrimpCaught(round, index));
+                    assertEquals(-result, ledger.getRoundProfit(round, index));
+                    assertEquals(result * 2, recorded.getTotalMoney("Player" + index));
+                    assertEquals(result, recorded.getShrimpCaught("Player" + index));
+                }
+            }
+            for (int index = 0; index < numberOfPlayers; index++) {
+                assertEquals(1500 + 5 * index, ledger.getTotalShrimpCaught(index));
+                assertEquals(index, ledger.getExpenses(index));
+                assertEquals("Player" + index, ledger.getPlayerName(index));
+            }
+        }
+    }
+
+    /**
+     * Negative test where the {@link GameLedger} class is given invalid parameters.
+     * <p>
+     * Tests that {@code null} players, players with the same name, negative numbers of rounds
+     * and shrimp prices, round numbers less than one and unknown players are refused.
+     */
+    @Test
+    public void testInvalidParameters() {
+        GameLedger ledger = new GameLedger(List.of(new Player("Atari", 5)), 1);
+
+        assertThrows(IllegalArgumentException.class, () -> new GameLedger(null, 1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new GameLedger(List.of(new Player("Atari", 5)), -1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new GameLedger(List.of(new Player("Atari", 5),
+                                                  new Player("Atari", 7)), 1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> ledger.recordResult(0, "Atari", 30, 150, 150));
+        assertThrows(IllegalArgumentException.class,
+                     () -> ledger.recordResult(1, "BMI", 30, 150, 150));
+        assertThrows(IllegalArgumentException.class, () -> ledger.recordRound(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> ledger.recordRound(0, 15));
+    }
+}
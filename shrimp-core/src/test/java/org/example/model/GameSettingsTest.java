@@ -2,6 +2,7 @@ package org.example.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +13,8 @@ import org.junit.jupiter.api.Test;
  * <ul>
  * <li>Test for creating an instance of {@link GameSettings} where the
  * parameters given are valid.</li>
+ * <li>Test for creating instances of {@link GameSettings} where the communication
+ * rounds given by the server are malformed or outside the game.</li>
  * </ul>
  * <p>
  * The following <b>negative</b> tests are performed:
@@ -49,10 +52,38 @@ public class GameSettingsTest {
         assertEquals(roundTime, gameSettings.getRoundTime());
         assertEquals(communicationRounds, gameSettings.getCommunicationRounds());
         assertEquals(communicationRoundTime, gameSettings.getCommunicationRoundTime());
+        assertTrue(gameSettings.getCommunicationSchedule().isCommunicationRound(6));
+        assertEquals(roundTime + communicationRoundTime,
+                gameSettings.getCommunicationSchedule().getRoundDuration(4));
         assertEquals(minShrimpKilograms, gameSettings.getMinShrimpKilograms());
         assertEquals(maxShrimpKilograms, gameSettings.getMaxShrimpKilograms());
     }
 
+    /**
+     * Positive test where the {@link GameSettings} class is able to handle creation
+     * of instances where the communication rounds given by the server are malformed
+     * or outside the game.
+     * <p>
+     * Tests that the settings are created, that they keep the communication rounds
+     * given, and that their schedule holds only the rounds of the game.
+     */
+    @Test
+    public void testCreateInstanceOfGameSettingsWithServerCommunicationRounds() {
+        String[] communicationRounds = {"5+", "+5", "", "0+5+9"};
+        String[] expectedRounds = {"5", "5", "", "5"};
+        for (int index = 0; index < communicationRounds.length; index++) {
+            GameSettings gameSettings = new GameSettings(3, 8, 60, communicationRounds[index],
+                    30, 10, 50);
+
+            assertEquals(communicationRounds[index], gameSettings.getCommunicationRounds());
+            assertEquals(expectedRounds[index],
+                    gameSettings.getCommunicationSchedule().format("+"));
+            gameSettings.setCommunicationRoundTime(20);
+            assertEquals(expectedRounds[index],
+                    gameSettings.getCommunicationSchedule().format("+"));
+        }
+    }
+
     /**
      * Negative test where the {@link GameSettings} class is able to handle creation
      * of instance where the communication rounds provided is {@code null}.
@@ -5,8 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.example.network.protocol.RoundFinished;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -16,12 +19,15 @@ import org.junit.jupiter.api.Test;
  * <ul>
  * <li>Test for creating an instance of {@link Game} where the parameters given
  * are valid.</li>
+ * <li>Test for recording the results of a round, where results for players not in the game
+ * are ignored.</li>
  * </ul>
  * <p>
  * The following <b>negative</b> tests are performed:
  * <ul>
  * <li>Test for creating an instance of {@link Game} where the name, settings
  * and players given are {@code null}.</li>
+ * <li>Test for recording a round where the results given are {@code null}.</li>
  * </ul>
  */
 public class GameTest {
@@ -37,7 +43,7 @@ public class GameTest {
     public void testCreateInstanceOfGameWithValidParameters() {
         String name = "game 1";
         GameSettings gameSettings = new GameSettings(3, 8, 120, "4,6", 600, 0, 75);
-        Map<String, Player> players = new HashMap<>();
+        Map<String, Player> players = new LinkedHashMap<>();
         Player player1 = new Player("Atari", 5);
         Player player2 = new Player("BMI", 5);
         Player player3 = new Player("Commodore", 5);
@@ -52,8 +58,9 @@ public class GameTest {
         assertEquals(players, game.getPlayers());
         assertEquals(number, game.getNumber());
         assertEquals(1, game.getCurrentRoundNum());
-        assertTrue(game.getMessages().isEmpty());
+        assertEquals(0, game.getChatLog().size());
         assertTrue(game.getRounds().isEmpty());
+        assertEquals(List.of(player1, player3), game.getOtherPlayers("BMI"));
     }
 
     /**
@@ -81,4 +88,59 @@ public class GameTest {
         assertThrows(IllegalArgumentException.class, () -> new Game(name, gameSettings, null, number));
         assertThrows(IllegalArgumentException.class, () -> new Game(null, null, null, number));
     }
+
+    /**
+     * Positive test where the {@link Game} class is able to record the results of a round.
+     * <p>
+     * Tests that the players, ledger and rounds of the game are updated, that results for
+     * players not in the game are ignored, and that the game moves on to the next round.
+     */
+    @Test
+    public void testRecordRound() {
+        GameSettings gameSettings = new GameSettings(3, 8, 120, "4,6", 600, 0, 75);
+        Map<String, Player> players = new LinkedHashMap<>();
+        Player player1 = new Player("Atari", 5);
+        Player player2 = new Player("BMI", 5);
+        players.put(player1.getName(), player1);
+        players.put(player2.getName(), player2);
+        Game game = new Game("game 1", gameSettings, players, 1);
+        player1.setCurrentTotalMoney(100);
+
+        Round round = game.recordRound(new RoundFinished(20, List.of(
+            new RoundFinished.PlayerResult("Atari", 10, 150),
+            new RoundFinished.PlayerResult("Unknown", 30, 450),
+            new RoundFinished.PlayerResult("BMI", 20, 300))));
+
+        assertEquals(1, round.getNumber());
+        assertEquals(20, round.getShrimpPrice());
+        assertEquals(round, game.getRounds().get(1));
+        assertEquals(2, game.getCurrentRoundNum());
+        assertEquals(10, player1.getShrimpCaught());
+        assertEquals(150, player1.getRoundProfit());
+        assertEquals(100, player1.getPreviousTotalMoney());
+        assertEquals(250, player1.getCurrentTotalMoney());
+        assertEquals(300, player2.getCurrentTotalMoney());
+        GameLedger ledger = game.getLedger();
+        assertEquals(1, ledger.getRecordedRounds());
+        assertEquals(250, ledger.getTotalMoney(1, ledger.getPlayerIndex("Atari")));
+        assertEquals(30, round.getTotalAmountOfShrimp());
+    }
+
+    /**
+     * Negative test where the {@link Game} class is able to handle recording a round where the
+     * results provided are {@code null}.
+     * <p>
+     * Tests that recording {@code null} results throws an {@link IllegalArgumentException} and
+     * leaves the current round unchanged.
+     */
+    @Test
+    public void testRecordRoundWithNullResults() {
+        GameSettings gameSettings = new GameSettings(3, 8, 120, "4,6", 600, 0, 75);
+        Map<String, Player> players = new LinkedHashMap<>();
+        players.put("Atari", new Player("Atari", 5));
+        Game game = new Game("game 1", gameSettings, players, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> game.recordRound(null));
+        assertEquals(1, game.getCurrentRoundNum());
+    }
 }
@@ -0,0 +1,159 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link LobbyIndex} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for adding, changing and removing single lobbies.</li>
+ * <li>Test for replacing the lobbies by a whole lobby list, reporting only the changes.</li>
+ * <li>Test for whole lobby lists naming a lobby twice or holding no lobby, and for a lobby
+ * removed and added again by deltas.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for changing the lobbies where the parameters given are invalid.</li>
+ * </ul>
+ */
+public class LobbyIndexTest {
+    /**
+     * Represents a listener that keeps the changes reported, in order.
+     */
+    private static class RecordingListener implements LobbyIndex.Listener {
+        private final List<String> changes = new ArrayList<String>();
+
+        @Override
+        public void lobbyAdded(Lobby lobby) {
+            this.changes.add("added " + lobby.getLobbyName());
+        }
+
+        @Override
+        public void lobbyRemoved(Lobby lobby) {
+            this.changes.add("removed " + lobby.getLobbyName());
+        }
+
+        @Override
+        public void lobbyReplaced(Lobby previousLobby, Lobby lobby) {
+            this.changes.add("replaced " + lobby.getLobbyName() + " "
+                             + previousLobby.getNumPlayers() + "->" + lobby.getNumPlayers());
+        }
+    }
+
+    /**
+     * Positive test where the {@link LobbyIndex} class is able to apply lobby deltas.
+     * <p>
+     * Tests that added, changed and removed lobbies are reported, that a lobby without changes
+     * is not reported, and that unknown lobbies are ignored.
+     */
+    @Test
+    public void testApplyDeltas() {
+        RecordingListener listener = new RecordingListener();
+        LobbyIndex lobbyIndex = new LobbyIndex(listener);
+        Lobby ocean = new Lobby("Ocean", 0, 3);
+
+        lobbyIndex.put(ocean);
+        lobbyIndex.put(new Lobby("Reef", 1, 3));
+        lobbyIndex.put(new Lobby("Ocean", 0, 3));
+        assertSame(ocean, lobbyIndex.get("Ocean"));
+        assertTrue(lobbyIndex.setNumberOfPlayers("Ocean", 2));
+        assertFalse(lobbyIndex.setNumberOfPlayers("Bay", 1));
+        assertEquals("Reef", lobbyIndex.remove("Reef").getLobbyName());
+        assertNull(lobbyIndex.remove("Reef"));
+
+        assertEquals(List.of("added Ocean", "added Reef", "replaced Ocean 0->2", "removed Reef"),
+                     listener.changes);
+        assertEquals(1, lobbyIndex.size());
+        assertEquals(2, lobbyIndex.get("Ocean").getNumPlayers());
+        assertEquals(3, lobbyIndex.get("Ocean").getMaxPlayers());
+    }
+
+    /**
+     * Positive test where the {@link LobbyIndex} class is able to apply a whole lobby list.
+     * <p>
+     * Tests that only the lobbies removed, added or changed are reported, that unchanged lobbies
+     * keep their instance, and that the lobbies keep the order they were added in.
+     */
+    @Test
+    public void testReplaceAll() {
+        RecordingListener listener = new RecordingListener();
+        LobbyIndex lobbyIndex = new LobbyIndex(listener);
+        Lobby reef = new Lobby("Reef", 1, 3);
+        lobbyIndex.replaceAll(List.of(new Lobby("Ocean", 0, 3), reef, new Lobby("Bay", 2, 3)));
+        listener.changes.clear();
+
+        lobbyIndex.replaceAll(List.of(new Lobby("Cove", 0, 4), new Lobby("Reef", 1, 3),
+                                      new Lobby("Ocean", 1, 3)));
+
+        assertEquals(List.of("removed Bay", "added Cove", "replaced Ocean 0->1"),
+                     listener.changes);
+        assertSame(reef, lobbyIndex.get("Reef"));
+        assertEquals(List.of("Ocean", "Reef", "Cove"),
+                     lobbyIndex.getLobbies().stream().map(Lobby::getLobbyName).toList());
+    }
+
+    /**
+     * Positive test where the {@link LobbyIndex} class is able to apply unusual lobby lists and
+     * deltas.
+     * <p>
+     * Tests that a whole lobby list naming a lobby twice keeps the last lobby of that name and
+     * reports it as a change, that a lobby removed and added again is kept after the other
+     * lobbies, that a second removal of the same lobby is not reported, and that an empty lobby
+     * list removes every lobby.
+     */
+    @Test
+    public void testUnusualChanges() {
+        RecordingListener listener = new RecordingListener();
+        LobbyIndex lobbyIndex = new LobbyIndex(listener);
+
+        lobbyIndex.replaceAll(List.of(new Lobby("Ocean", 0, 3), new Lobby("Reef", 0, 3),
+                                      new Lobby("Ocean", 2, 3)));
+        assertEquals(List.of("added Ocean", "added Reef", "replaced Ocean 0->2"),
+                     listener.changes);
+        assertEquals(2, lobbyIndex.get("Ocean").getNumPlayers());
+        listener.changes.clear();
+
+        lobbyIndex.remove("Ocean");
+        lobbyIndex.remove("Ocean");
+        lobbyIndex.put(new Lobby("Ocean", 1, 3));
+        assertEquals(List.of("removed Ocean", "added Ocean"), listener.changes);
+        assertEquals(List.of("Reef", "Ocean"),
+                     lobbyIndex.getLobbies().stream().map(Lobby::getLobbyName).toList());
+        listener.changes.clear();
+
+        lobbyIndex.replaceAll(List.of());
+        assertEquals(List.of("removed Reef", "removed Ocean"), listener.changes);
+        assertEquals(0, lobbyIndex.size());
+    }
+
+    /**
+     * Negative test where the {@link LobbyIndex} class is given invalid parameters.
+     * <p>
+     * Tests that {@code null} parameters and a negative number of players are refused.
+     */
+    @Test
+    public void testInvalidParameters() {
+        LobbyIndex lobbyIndex = new LobbyIndex(new RecordingListener());
+        lobbyIndex.put(new Lobby("Ocean", 0, 3));
+
+        assertThrows(IllegalArgumentException.class, () -> new LobbyIndex(null));
+        assertThrows(IllegalArgumentException.class, () -> lobbyIndex.put(null));
+        assertThrows(IllegalArgumentException.class, () -> lobbyIndex.remove(null));
+        assertThrows(IllegalArgumentException.class, () -> lobbyIndex.setNumberOfPlayers(null, 1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> lobbyIndex.setNumberOfPlayers("Ocean", -1));
+        assertThrows(IllegalArgumentException.class, () -> lobbyIndex.replaceAll(null));
+    }
+}
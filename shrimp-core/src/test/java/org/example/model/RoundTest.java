@@ -1,6 +1,7 @@
 package org.example.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.HashMap;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.Test;
  * <ul>
  * <li>Test for creating an instance of {@link Round} where the parameters given
  * are valid.</li>
+ * <li>Test for reading the values of the players by name from a snapshot that
+ * the maps given can no longer change.</li>
  * </ul>
  * <p>
  * The following <b>negative</b> tests are performed:
@@ -72,6 +75,41 @@ public class RoundTest {
         assertEquals(shrimpCaughtAmount1 + shrimpCaughtAmount2 + shrimpCaughtAmount3, round.getTotalAmountOfShrimp());
     }
 
+    /**
+     * Positive test where the {@link Round} class is able to keep a snapshot of
+     * the results of the players.
+     * <p>
+     * Tests that the values of the players are read by name, even when the two
+     * maps are keyed by different copies of a player, and that changing the maps
+     * given or the players afterwards does not change the round.
+     */
+    @Test
+    public void testReadSnapshotByName() {
+        Player player1 = new Player("Atari", 5);
+        Player player2 = new Player("BMI", 7);
+        Map<Player, Integer> playerShrimpCaughtMap = new HashMap<>();
+        playerShrimpCaughtMap.put(player1, 30);
+        playerShrimpCaughtMap.put(player2, 50);
+        Map<Player, Integer> playerMoneyMap = new HashMap<>();
+        playerMoneyMap.put(new Player(player1), 300);
+        playerMoneyMap.put(new Player(player2), 400);
+
+        Round round = new Round(2, 15, playerShrimpCaughtMap, playerMoneyMap);
+        playerShrimpCaughtMap.put(new Player("Commodore", 5), 20);
+        player1.setShrimpCaught(99);
+
+        assertEquals(30, round.getShrimpCaught("Atari"));
+        assertEquals(400, round.getMoney("BMI"));
+        assertEquals(10, round.getProfitPerKilogram("Atari"));
+        assertEquals(8, round.getProfitPerKilogram("BMI"));
+        assertEquals(0, round.getShrimpCaught("Commodore"));
+        assertEquals(80, round.getTotalAmountOfShrimp());
+        assertEquals(2, round.getPlayers().size());
+        assertSame(round.getPlayers(), round.getPlayers());
+        assertThrows(UnsupportedOperationException.class,
+                () -> round.getPlayerShrimpCaughtMap().put(player1, 1));
+    }
+
     /**
      * Negative test where the {@link Round} class is able to handle creation of
      * instances where the parameters are invalid.
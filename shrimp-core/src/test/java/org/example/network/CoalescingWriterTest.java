@@ -0,0 +1,206 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link CoalescingWriter} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for coalescing the messages queued while a write is in progress into one write.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for queueing messages after a write failed, which closes the stream.</li>
+ * <li>Test for queueing messages after a write threw a {@link RuntimeException}.</li>
+ * <li>Test for queueing more messages than the queue holds.</li>
+ * <li>Test for creating instances of {@link CoalescingWriter} where the parameters given are
+ * invalid.</li>
+ * </ul>
+ */
+public class CoalescingWriterTest {
+    /**
+     * Represents a stream that holds the first write until it is released.
+     */
+    private static class GatedOutputStream extends OutputStream {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public synchronized void write(int value) {
+            this.written.write(value);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            this.firstWriteStarted.countDown();
+            try {
+                this.release.await();
+            }
+            catch (InterruptedException exception) {
+                throw new IOException(exception);
+            }
+            synchronized (this) {
+                this.written.write(bytes, offset, length);
+            }
+        }
+
+        private synchronized String getWritten() {
+            return this.written.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Positive test where the {@link CoalescingWriter} class is able to coalesce messages.
+     * <p>
+     * Tests that the messages queued while the first write is held are written together in the
+     * second write, in order and with their terminators, and that the metrics follow.
+     */
+    @Test
+    public void testCoalesceQueuedMessages() throws IOException, InterruptedException {
+        GatedOutputStream outputStream = new GatedOutputStream();
+        SendMetrics sendMetrics = new SendMetrics();
+        CoalescingWriter coalescingWriter = new CoalescingWriter(outputStream, sendMetrics, 8192);
+        coalescingWriter.start();
+
+        coalescingWriter.enqueue("REQUEST_LOBBY_LIST");
+        assertTrue(outputStream.firstWriteStarted.await(5, TimeUnit.SECONDS));
+        coalescingWriter.enqueue("CHAT_MESSAGE hello");
+        coalescingWriter.enqueue("CHAT_MESSAGE there");
+        coalescingWriter.enqueue("CATCH_SHRIMP 40");
+        assertEquals(4, sendMetrics.getQueueDepth());
+        outputStream.release.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sendMetrics.getMessagesSent() < 4 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals("REQUEST_LOBBY_LIST\r\nCHAT_MESSAGE hello\r\nCHAT_MESSAGE there\r\n"
+                     + "CATCH_SHRIMP 40\r\n", outputStream.getWritten());
+        assertEquals(2, sendMetrics.getWriteCount());
+        assertEquals(0, sendMetrics.getQueueDepth());
+        assertEquals(2.0, sendMetrics.getMessagesPerWrite());
+        coalescingWriter.close();
+    }
+
+    /**
+     * Negative test where the {@link CoalescingWriter} class is able to handle a failed write.
+     * <p>
+     * Tests that a failed write closes the stream, so the connection is seen as lost, and that
+     * queueing a message afterwards throws an {@link IOException}.
+     */
+    @Test
+    public void testEnqueueAfterFailedWrite() throws IOException, InterruptedException {
+        CountDownLatch closed = new CountDownLatch(1);
+        OutputStream failingStream = new OutputStream() {
+            @Override
+            public void write(int value) throws IOException {
+                throw new IOException("Connection reset");
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+        CoalescingWriter coalescingWriter =
+                new CoalescingWriter(failingStream, new SendMetrics(), 8192);
+        coalescingWriter.start();
+        coalescingWriter.enqueue("LEAVE_LOBBY");
+
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        IOException exception =
+                assertThrows(IOException.class, () -> coalescingWriter.enqueue("LEAVE_LOBBY"));
+        assertEquals("Connection reset", exception.getCause().getMessage());
+        coalescingWriter.close();
+        assertThrows(IOException.class, () -> coalescingWriter.enqueue("LEAVE_LOBBY"));
+    }
+
+    /**
+     * Negative test where the {@link CoalescingWriter} class is able to handle a write that
+     * throws a {@link RuntimeException}.
+     * <p>
+     * Tests that the writer does not die silently: the stream is closed and queueing a message
+     * afterwards throws an {@link IOException} holding the exception.
+     */
+    @Test
+    public void testEnqueueAfterRuntimeException() throws IOException, InterruptedException {
+        CountDownLatch closed = new CountDownLatch(1);
+        OutputStream brokenStream = new OutputStream() {
+            @Override
+            public void write(int value) {
+                throw new IllegalStateException("Stream is broken");
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+        CoalescingWriter coalescingWriter =
+                new CoalescingWriter(brokenStream, new SendMetrics(), 8192);
+        coalescingWriter.start();
+        coalescingWriter.enqueue("LEAVE_LOBBY");
+
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        IOException exception =
+                assertThrows(IOException.class, () -> coalescingWriter.enqueue("LEAVE_LOBBY"));
+        assertInstanceOf(IllegalStateException.class, exception.getCause().getCause());
+        coalescingWriter.close();
+    }
+
+    /**
+     * Negative test where the {@link CoalescingWriter} class is able to handle a stream that
+     * stops draining.
+     * <p>
+     * Tests that once {@value CoalescingWriter#MAX_QUEUED_MESSAGES} messages wait behind a write
+     * that does not complete, the next message is refused with an {@link IOException}.
+     */
+    @Test
+    public void testEnqueueWhenQueueIsFull() throws IOException, InterruptedException {
+        GatedOutputStream outputStream = new GatedOutputStream();
+        CoalescingWriter coalescingWriter =
+                new CoalescingWriter(outputStream, new SendMetrics(), 8192);
+        coalescingWriter.start();
+        coalescingWriter.enqueue("REQUEST_LOBBY_LIST");
+        assertTrue(outputStream.firstWriteStarted.await(5, TimeUnit.SECONDS));
+
+        for (int message = 0; message < CoalescingWriter.MAX_QUEUED_MESSAGES; message++) {
+            coalescingWriter.enqueue("CATCH_SHRIMP 1");
+        }
+        assertThrows(IOException.class, () -> coalescingWriter.enqueue("CATCH_SHRIMP 1"));
+        outputStream.release.countDown();
+        coalescingWriter.close();
+    }
+
+    /**
+     * Negative test where the {@link CoalescingWriter} class is able to handle creation of
+     * instances where the parameters are invalid.
+     * <p>
+     * Tests that the {@code CoalescingWriter} class with invalid parameters throws an
+     * {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testCreateInstanceOfCoalescingWriterWithInvalidParameters() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CoalescingWriter(null, new SendMetrics(), 8192));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CoalescingWriter(OutputStream.nullOutputStream(), null, 8192));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CoalescingWriter(OutputStream.nullOutputStream(), new SendMetrics(), 0));
+    }
+}
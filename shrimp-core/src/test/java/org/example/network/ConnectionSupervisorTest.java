@@ -0,0 +1,196 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.model.Lobby;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link ConnectionSupervisor} and {@link ReconnectBackoff} classes.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for keeping the delays of the backoff between half of the capped delay and the capped
+ * delay.</li>
+ * <li>Test for connecting again after the server closed the connection and resuming the
+ * session.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for creating instances of {@link ConnectionSupervisor} and {@link ReconnectBackoff}
+ * where the parameters given are invalid.</li>
+ * </ul>
+ */
+public class ConnectionSupervisorTest {
+    /**
+     * Represents a listener that keeps what it was told.
+     */
+    private static class RecordingListener implements ConnectionListener {
+        private final AtomicInteger connectionsLost = new AtomicInteger();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final CompletableFuture<Object[]> restored = new CompletableFuture<>();
+
+        @Override
+        public void connectionLost(Throwable cause) {
+            this.connectionsLost.incrementAndGet();
+        }
+
+        @Override
+        public void reconnecting(int attempt, long delayMillis) {
+            this.attempts.set(attempt);
+        }
+
+        @Override
+        public void connectionRestored(String username, boolean admin, boolean resumed,
+                                       List<Lobby> lobbies) {
+            this.restored.complete(new Object[] {username, admin, resumed, lobbies});
+        }
+    }
+
+    /**
+     * Positive test where the {@link ReconnectBackoff} class is able to space the attempts.
+     * <p>
+     * Tests that every delay is between half of the capped delay and the capped delay, and that
+     * the cap stops growing at the maximum delay.
+     */
+    @Test
+    public void testBackoffDelaysStayWithinBounds() {
+        ReconnectBackoff backoff = new ReconnectBackoff(100, 5000, new Random(42));
+        for (int attempt = 0; attempt < 100; attempt++) {
+            long cap = Math.min(5000, 100L << Math.min(attempt, 20));
+            long delay = backoff.delayMillis(attempt);
+            assertTrue(delay >= cap / 2 && delay <= cap, "attempt " + attempt + ": " + delay);
+        }
+    }
+
+    /**
+     * Positive test where the {@link ConnectionSupervisor} class is able to restore a lost
+     * connection.
+     * <p>
+     * Tests that after the server closes the connection, the supervisor connects again, requests
+     * the username, resumes the session of the previous username and requests the lobbies.
+     */
+    @Test
+    public void testReconnectAndResumeSession() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            CompletableFuture<String> resumeCommand = new CompletableFuture<>();
+            CountDownLatch usernameAssigned = new CountDownLatch(1);
+            Thread server = new Thread(() ->
+            {
+                try {
+                    try (Socket first = serverSocket.accept()) {
+                        BufferedReader reader = this.createReader(first);
+                        PrintWriter writer = new PrintWriter(first.getOutputStream(), true);
+                        reader.readLine();
+                        writer.println("USERNAME bob false RESUME");
+                        usernameAssigned.await(5, TimeUnit.SECONDS);
+                    }
+                    try (Socket second = serverSocket.accept()) {
+                        BufferedReader reader = this.createReader(second);
+                        PrintWriter writer = new PrintWriter(second.getOutputStream(), true);
+                        reader.readLine();
+                        writer.println("USERNAME guest2 false RESUME");
+                        resumeCommand.complete(reader.readLine());
+                        writer.println("RESUME_SUCCESS");
+                        reader.readLine();
+                        writer.println("LOBBY_LIST Ocean.1.3");
+                        reader.readLine();
+                    }
+                }
+                catch (IOException | InterruptedException exception) {
+                    resumeCommand.completeExceptionally(exception);
+                }
+            });
+            server.start();
+
+            ServerConnection serverConnection = new ServerConnection(
+                    "localhost", serverSocket.getLocalPort(), new BlockingSocketTransport());
+            RecordingListener listener = new RecordingListener();
+            ConnectionSupervisor supervisor = new ConnectionSupervisor(
+                    serverConnection, new ReconnectBackoff(1, 5, new Random(7)), listener);
+            serverConnection.connect();
+            Thread updateListener = new Thread(() ->
+            {
+                boolean connected = true;
+                while (connected) {
+                    try {
+                        String line = serverConnection.receive();
+                        if (line == null) {
+                            throw new RuntimeException("closed");
+                        }
+                        serverConnection.handleReply(line);
+                    }
+                    catch (RuntimeException exception) {
+                        connected = supervisor.reconnect(exception);
+                    }
+                }
+            });
+            updateListener.start();
+            assertEquals("bob",
+                    serverConnection.sendUsernameRequestAsync().get(5, TimeUnit.SECONDS)[0]);
+            usernameAssigned.countDown();
+
+            Object[] restored = listener.restored.get(5, TimeUnit.SECONDS);
+            assertEquals("RESUME bob", resumeCommand.get(5, TimeUnit.SECONDS));
+            assertEquals("bob", restored[0]);
+            assertEquals(false, restored[1]);
+            assertEquals(true, restored[2]);
+            assertEquals(1, ((List<?>) restored[3]).size());
+            assertEquals("bob", serverConnection.getUsername());
+            assertEquals(1, listener.connectionsLost.get());
+            assertTrue(listener.attempts.get() >= 1);
+
+            supervisor.stop();
+            serverConnection.disconnect();
+            updateListener.join(5000);
+            server.join(5000);
+        }
+    }
+
+    /**
+     * Negative test where the {@link ConnectionSupervisor} and {@link ReconnectBackoff} classes
+     * are able to handle creation of instances where the parameters are invalid.
+     * <p>
+     * Tests that the classes with invalid parameters throw an {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testCreateInstancesWithInvalidParameters() {
+        ServerConnection serverConnection = new ServerConnection("localhost", 0);
+        ReconnectBackoff backoff = new ReconnectBackoff(1, 1, new Random());
+        RecordingListener listener = new RecordingListener();
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConnectionSupervisor(null, backoff, listener));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConnectionSupervisor(serverConnection, null, listener));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConnectionSupervisor(serverConnection, backoff, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReconnectBackoff(0, 10, new Random()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReconnectBackoff(10, 5, new Random()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReconnectBackoff(1, 10, null));
+    }
+
+    private BufferedReader createReader(Socket socket) throws IOException {
+        return new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.example.network.protocol.FinishedGame;
+import org.example.network.protocol.ProtocolCodec;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link DeflateFrame} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for encoding a large finished game into a frame and decoding it back.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for decoding frames that are malformed, corrupt, or of the wrong length.</li>
+ * </ul>
+ */
+public class DeflateFrameTest {
+    /**
+     * Creates a finished game with a long chat, where every message has non-ASCII characters.
+     *
+     * @return the line of the finished game.
+     */
+    private static String createFinishedGame() {
+        StringBuilder line = new StringBuilder(
+                "UPDATE FINISHED_GAME Ocean 1 Atari.Nova.Zeta 1.40.35.50.125.12.1.480.480.420.420"
+                + ".600.600 3.1.60.1.30.10.50 ");
+        for (int message = 0; message < 2000; message++) {
+            if (message > 0) {
+                line.append('◊');
+            }
+            line.append("Atari☐hæ⁞there⁞").append(message).append("☐12:00");
+        }
+        return line.toString();
+    }
+
+    /**
+     * Positive test where the {@link DeflateFrame} class is able to frame a line.
+     * <p>
+     * Tests that the frame is much smaller than the line, that the frame decodes back into the
+     * same line, and that the line decodes into the same finished game.
+     */
+    @Test
+    public void testEncodeAndDecodeFinishedGame() throws IOException {
+        String line = createFinishedGame();
+        String frame = DeflateFrame.encode(line);
+        assertTrue(DeflateFrame.isFrame(frame));
+        assertFalse(DeflateFrame.isFrame(line));
+        assertTrue(frame.length() < line.length() / 4, frame.length() + " of " + line.length());
+
+        String decoded = DeflateFrame.decode(frame);
+        assertEquals(line, decoded);
+        FinishedGame finishedGame = (FinishedGame) new ProtocolCodec().decode(decoded);
+        assertEquals(2000, finishedGame.chat().size());
+        assertEquals("hæ there 1999", finishedGame.chat().get(1999).message());
+        assertEquals("", DeflateFrame.decode(DeflateFrame.encode("")));
+        assertTrue(line.length() > DeflateFrame.INITIAL_CAPACITY, "line " + line.length());
+    }
+
+    /**
+     * Negative test where the {@link DeflateFrame} class is able to handle invalid frames.
+     * <p>
+     * Tests that frames with a wrong length, a corrupt or truncated payload, a length above the
+     * maximum or no payload throw an {@link IOException}.
+     */
+    @Test
+    public void testDecodeInvalidFrames() {
+        String frame = DeflateFrame.encode("UPDATE ROUND_FINISHED 12 Atari.40.480");
+        String payload = frame.substring(frame.indexOf(' ', "DEFLATE ".length()) + 1);
+
+        assertThrows(IOException.class, () -> DeflateFrame.decode("DEFLATE 10 " + payload));
+        assertThrows(IOException.class, () -> DeflateFrame.decode("DEFLATE 100 " + payload));
+        assertThrows(IOException.class, () -> DeflateFrame.decode("DEFLATE 37 !!" + payload));
+        assertThrows(IOException.class,
+                () -> DeflateFrame.decode("DEFLATE 37 " + payload.substring(0, 8)));
+        assertThrows(IOException.class,
+                () -> DeflateFrame.decode("DEFLATE " + (DeflateFrame.MAX_LENGTH + 1) + " "
+                                          + payload));
+        assertThrows(IOException.class, () -> DeflateFrame.decode("DEFLATE x " + payload));
+        assertThrows(IOException.class, () -> DeflateFrame.decode("DEFLATE 37"));
+        assertThrows(IOException.class, () -> DeflateFrame.decode("UPDATE LOBBY"));
+        assertThrows(IllegalArgumentException.class, () -> DeflateFrame.encode(null));
+    }
+}
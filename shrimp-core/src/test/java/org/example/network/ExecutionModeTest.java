@@ -0,0 +1,95 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link ExecutionMode} enum.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for running tasks on named threads and executors of every supported mode.</li>
+ * <li>Test for selecting the mode by system property, falling back to platform threads when
+ * virtual threads are not available.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for selecting a mode that does not exist.</li>
+ * </ul>
+ */
+public class ExecutionModeTest {
+    /**
+     * Clears the system property after every test.
+     */
+    @AfterEach
+    public void clearProperty() {
+        System.clearProperty(ExecutionMode.EXECUTION_MODE_PROPERTY);
+    }
+
+    /**
+     * Positive test where the {@link ExecutionMode} enum is able to run tasks.
+     * <p>
+     * Tests that the threads of every supported mode get their name and run their task, that
+     * platform threads are daemons, and that the executors run tasks.
+     */
+    @Test
+    public void testRunTasks() throws Exception {
+        for (ExecutionMode executionMode : ExecutionMode.values()) {
+            if (executionMode.isSupported()) {
+                CompletableFuture<String> threadName = new CompletableFuture<>();
+                Thread thread = executionMode.newThread("Shrimp Game Test",
+                        () -> threadName.complete(Thread.currentThread().getName()));
+                assertTrue(thread.isDaemon());
+                thread.start();
+                assertEquals("Shrimp Game Test", threadName.get(5, TimeUnit.SECONDS));
+
+                ExecutorService executor = executionMode.newExecutor("Shrimp Game Test");
+                assertEquals(42, executor.submit(() -> 42).get(5, TimeUnit.SECONDS));
+                executor.shutdown();
+            }
+        }
+        assertTrue(ExecutionMode.PLATFORM.isSupported());
+    }
+
+    /**
+     * Positive test where the {@link ExecutionMode} enum is able to read the system property.
+     * <p>
+     * Tests that platform threads are used by default, and that virtual threads are used when
+     * selected only if the JVM supports them.
+     */
+    @Test
+    public void testSelectModeBySystemProperty() {
+        assertEquals(ExecutionMode.PLATFORM, ExecutionMode.fromSystemProperties());
+        System.setProperty(ExecutionMode.EXECUTION_MODE_PROPERTY, "virtual");
+        ExecutionMode expected = ExecutionMode.VIRTUAL.isSupported()
+                                 ? ExecutionMode.VIRTUAL : ExecutionMode.PLATFORM;
+        assertEquals(expected, ExecutionMode.fromSystemProperties());
+        if (Runtime.version().feature() < 19) {
+            assertFalse(ExecutionMode.VIRTUAL.isSupported());
+            assertThrows(IllegalStateException.class,
+                    () -> ExecutionMode.VIRTUAL.newThread("Shrimp Game Test", () -> { }));
+        }
+    }
+
+    /**
+     * Negative test where the {@link ExecutionMode} enum is able to handle an invalid system
+     * property.
+     * <p>
+     * Tests that a mode that does not exist throws an {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testSelectInvalidMode() {
+        System.setProperty(ExecutionMode.EXECUTION_MODE_PROPERTY, "green");
+        assertThrows(IllegalArgumentException.class, ExecutionMode::fromSystemProperties);
+    }
+}
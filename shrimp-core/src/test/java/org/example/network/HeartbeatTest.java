@@ -0,0 +1,130 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link Heartbeat} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for sending {@code PING} to servers listing the capability, and
+ * {@code REQUEST_LOBBY_LIST} to other servers, and recording the round-trip times.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for closing the connection after too many missed heartbeats.</li>
+ * <li>Test for creating instances of {@link Heartbeat} where the parameters given are
+ * invalid.</li>
+ * </ul>
+ */
+public class HeartbeatTest {
+    /**
+     * Represents a transport that keeps the messages sent in memory.
+     */
+    private static class InMemoryTransport implements Transport {
+        private final List<String> sentMessages = new ArrayList<>();
+        private final SendMetrics sendMetrics = new SendMetrics();
+        private boolean connected = true;
+
+        @Override
+        public void connect(String hostname, int port, int timeoutMillis) {
+            this.connected = true;
+        }
+
+        @Override
+        public void send(String message) {
+            this.sentMessages.add(message);
+        }
+
+        @Override
+        public String receive() {
+            return null;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return this.connected;
+        }
+
+        @Override
+        public void close() {
+            this.connected = false;
+        }
+
+        @Override
+        public SendMetrics getSendMetrics() {
+            return this.sendMetrics;
+        }
+    }
+
+    /**
+     * Positive test where the {@link Heartbeat} class is able to measure round-trip times.
+     * <p>
+     * Tests that {@code REQUEST_LOBBY_LIST} is timed before the server listed the {@code PING}
+     * capability, that {@code PING} is sent after, and that both replies are recorded.
+     */
+    @Test
+    public void testSendHeartbeats() {
+        InMemoryTransport transport = new InMemoryTransport();
+        ServerConnection serverConnection = new ServerConnection("localhost", 0, transport);
+        Heartbeat heartbeat = new Heartbeat(serverConnection, 1000, 3);
+
+        heartbeat.beat();
+        assertEquals("REQUEST_LOBBY_LIST", transport.sentMessages.get(0));
+        serverConnection.handleReply("LOBBY_LIST Ocean.1.3");
+        assertEquals(1, heartbeat.getLatencyHistogram().getCount());
+
+        serverConnection.sendUsernameRequestAsync();
+        serverConnection.handleReply("USERNAME Atari false PING");
+        heartbeat.beat();
+        assertEquals("PING", transport.sentMessages.get(2));
+        serverConnection.handleReply("PONG");
+        assertEquals(2, heartbeat.getLatencyHistogram().getCount());
+        assertEquals(0, heartbeat.getMissedHeartbeats());
+    }
+
+    /**
+     * Negative test where the {@link Heartbeat} class is able to detect a silent server.
+     * <p>
+     * Tests that heartbeats are not sent again while the previous one waits for its reply, and
+     * that the connection is closed after the maximum number of missed heartbeats.
+     */
+    @Test
+    public void testCloseConnectionAfterMissedHeartbeats() {
+        InMemoryTransport transport = new InMemoryTransport();
+        ServerConnection serverConnection = new ServerConnection("localhost", 0, transport);
+        Heartbeat heartbeat = new Heartbeat(serverConnection, 1000, 2);
+
+        heartbeat.beat();
+        heartbeat.beat();
+        assertEquals(1, heartbeat.getMissedHeartbeats());
+        assertEquals(1, transport.sentMessages.size());
+        heartbeat.beat();
+        assertFalse(serverConnection.isConnected());
+        assertEquals(0, heartbeat.getLatencyHistogram().getCount());
+    }
+
+    /**
+     * Negative test where the {@link Heartbeat} class is able to handle creation of instances
+     * where the parameters are invalid.
+     * <p>
+     * Tests that the {@code Heartbeat} class with invalid parameters throws an
+     * {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testCreateInstanceOfHeartbeatWithInvalidParameters() {
+        ServerConnection serverConnection = new ServerConnection("localhost", 0);
+        assertThrows(IllegalArgumentException.class, () -> new Heartbeat(null, 1000, 3));
+        assertThrows(IllegalArgumentException.class, () -> new Heartbeat(serverConnection, 0, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Heartbeat(serverConnection, 1000, 0));
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link LatencyHistogram} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for every value falling into a bucket whose highest value is within 1.6% of it.</li>
+ * <li>Test for reading the percentiles, the maximum and the mean of the values recorded.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for recording a negative value and reading a percentile out of range.</li>
+ * </ul>
+ */
+public class LatencyHistogramTest {
+    /**
+     * Positive test where the {@link LatencyHistogram} class is able to bucket values precisely.
+     * <p>
+     * Tests that every value is at most the highest value of its bucket, and that the highest
+     * value of the bucket is off by less than 1.6%, from a nanosecond to about a day.
+     */
+    @Test
+    public void testBucketsKeepRelativePrecision() {
+        for (long value = 0; value < TimeUnit.DAYS.toNanos(1); value = value * 17 / 16 + 1) {
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.bucketIndex(value));
+            assertTrue(highest >= value, "value " + value);
+            assertTrue(highest - value <= value / 64, "value " + value);
+        }
+        assertEquals(Long.MAX_VALUE,
+                LatencyHistogram.highestValueOf(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    /**
+     * Positive test where the {@link LatencyHistogram} class is able to summarize the values.
+     * <p>
+     * Tests the median, the 99th percentile, the maximum and the mean of the round-trip times
+     * from 1 to 1000 milliseconds.
+     */
+    @Test
+    public void testReadPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500, TimeUnit.NANOSECONDS.toMillis(histogram.getValueAtPercentile(50)), 8);
+        assertEquals(990, TimeUnit.NANOSECONDS.toMillis(histogram.getValueAtPercentile(99)), 16);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), histogram.getMaxNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), histogram.getValueAtPercentile(100));
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(500500), histogram.getMeanNanos(), 1);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    /**
+     * Negative test where the {@link LatencyHistogram} class is able to handle invalid
+     * parameters.
+     * <p>
+     * Tests that a negative value and a percentile out of range throw an
+     * {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testInvalidParameters() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(100.1));
+        assertThrows(IllegalArgumentException.class,
+                () -> histogram.getValueAtPercentile(Double.NaN));
+    }
+}
@@ -0,0 +1,240 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.model.Lobby;
+import org.example.network.protocol.LobbyPage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link LobbyPager} class and the lobby pages of the {@link ServerConnection} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for loading the pages as they are read, prefetching the next page and keeping only
+ * the pages read last.</li>
+ * <li>Test for requesting a failed page again only after a delay growing with every failure,
+ * and loading it once a request succeeds.</li>
+ * <li>Test for loading again a page refreshed while it was loading, and dropping the pages past
+ * the end of a lobby list that shrank.</li>
+ * <li>Test for cutting a page from the whole lobby list of a server without lobby pages.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for creating instances of {@link LobbyPager} and requesting pages where the
+ * parameters given are invalid.</li>
+ * </ul>
+ */
+public class LobbyPagerTest {
+    /**
+     * Represents a transport that keeps the messages sent in memory.
+     */
+    private static class InMemoryTransport implements Transport {
+        private final List<String> sentMessages = new ArrayList<>();
+        private final SendMetrics sendMetrics = new SendMetrics();
+
+        @Override
+        public void connect(String hostname, int port, int timeoutMillis) {
+        }
+
+        @Override
+        public void send(String message) {
+            this.sentMessages.add(message);
+        }
+
+        @Override
+        public String receive() {
+            return null;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SendMetrics getSendMetrics() {
+            return this.sendMetrics;
+        }
+    }
+
+    /**
+     * Positive test where the {@link LobbyPager} class is able to load the pages of the lobby
+     * list as they are read.
+     * <p>
+     * Tests that the first page is loaded on refresh, that reading a page that is not loaded
+     * requests it along with the next page, that the listener is told about every page loaded,
+     * and that only the pages read last are kept.
+     */
+    @Test
+    public void testLoadPages() {
+        InMemoryTransport transport = new InMemoryTransport();
+        ServerConnection serverConnection = this.createConnection(transport, "LOBBY_PAGES");
+        List<String> loadedPages = new ArrayList<String>();
+        LobbyPager lobbyPager = new LobbyPager(serverConnection, 2, 2,
+            (fromIndex, toIndex, totalLobbies) ->
+                loadedPages.add(fromIndex + "-" + toIndex + "/" + totalLobbies));
+
+        lobbyPager.refresh();
+        assertEquals(List.of("REQUEST_LOBBY_LIST 0 2"), transport.sentMessages);
+        serverConnection.handleReply("LOBBY_PAGE 0 5 Ocean.0.3 Reef.1.3");
+        assertEquals(5, lobbyPager.getTotalLobbies());
+        assertEquals("Reef", lobbyPager.getLobby(1).getLobbyName());
+        assertNull(lobbyPager.getLobby(4));
+        assertEquals(List.of("REQUEST_LOBBY_LIST 0 2", "REQUEST_LOBBY_LIST 2 2",
+                             "REQUEST_LOBBY_LIST 4 2"), transport.sentMessages);
+
+        serverConnection.handleReply("LOBBY_PAGE 2 5 Bay.0.3 Cove.0.3");
+        serverConnection.handleReply("LOBBY_PAGE 4 5 Lagoon.2.3");
+        assertEquals("Lagoon", lobbyPager.getLobby(4).getLobbyName());
+        assertEquals(2, lobbyPager.getCachedPages());
+        assertEquals(List.of("0-2/5", "2-4/5", "4-5/5"), loadedPages);
+    }
+
+    /**
+     * Positive test where the {@link LobbyPager} class is able to retry a page whose request
+     * failed.
+     * <p>
+     * Tests that reading a failed page does not request it again before the delay of its
+     * failures, that the delay grows after a second failure, and that once the page is loaded a
+     * refresh requests it at once.
+     */
+    @Test
+    public void testRetryFailedPage() {
+        InMemoryTransport transport = new InMemoryTransport();
+        ServerConnection serverConnection = this.createConnection(transport, "LOBBY_PAGES");
+        AtomicLong nanoTime = new AtomicLong();
+        LobbyPager lobbyPager = new LobbyPager(serverConnection, 2, 2,
+            (fromIndex, toIndex, totalLobbies) -> {
+            }, new ReconnectBackoff(100, 1000, new Random(7)), nanoTime::get);
+
+        lobbyPager.refresh();
+        serverConnection.failPendingRequests(new IOException("connection lost"));
+        assertNull(lobbyPager.getLobby(0));
+        assertEquals(List.of("REQUEST_LOBBY_LIST 0 2"), transport.sentMessages);
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertNull(lobbyPager.getLobby(0));
+        assertEquals(List.of("REQUEST_LOBBY_LIST 0 2", "REQUEST_LOBBY_LIST 0 2"),
+                     transport.sentMessages);
+        serverConnection.failPendingRequests(new IOException("connection lost"));
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        assertNull(lobbyPager.getLobby(0));
+        assertEquals(2, transport.sentMessages.size());
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(101));
+        assertNull(lobbyPager.getLobby(0));
+        assertEquals(3, transport.sentMessages.size());
+
+        serverConnection.handleReply("LOBBY_PAGE 0 2 Ocean.0.3 Reef.1.3");
+        assertEquals("Ocean", lobbyPager.getLobby(0).getLobbyName());
+        lobbyPager.refresh();
+        assertEquals(4, transport.sentMessages.size());
+    }
+
+    /**
+     * Positive test where the {@link LobbyPager} class is able to follow a lobby list changing
+     * while pages are loading.
+     * <p>
+     * Tests that a refresh while the first page is loading does not request it twice at once
+     * but requests it again once its reply arrives, that a reply giving fewer lobbies drops the
+     * pages kept past the end of the list, and that no page past the end is prefetched.
+     */
+    @Test
+    public void testRefreshWhileLoading() {
+        InMemoryTransport transport = new InMemoryTransport();
+        ServerConnection serverConnection = this.createConnection(transport, "LOBBY_PAGES");
+        LobbyPager lobbyPager = new LobbyPager(serverConnection, 2, 3,
+            (fromIndex, toIndex, totalLobbies) -> {
+            });
+        lobbyPager.refresh();
+        serverConnection.handleReply("LOBBY_PAGE 0 5 Ocean.0.3 Reef.1.3");
+        assertNull(lobbyPager.getLobby(2));
+
+        lobbyPager.refresh();
+        lobbyPager.refresh();
+        assertEquals(List.of("REQUEST_LOBBY_LIST 0 2", "REQUEST_LOBBY_LIST 2 2",
+                             "REQUEST_LOBBY_LIST 4 2", "REQUEST_LOBBY_LIST 0 2"),
+                     transport.sentMessages);
+        serverConnection.handleReply("LOBBY_PAGE 2 5 Bay.0.3 Cove.0.3");
+        serverConnection.handleReply("LOBBY_PAGE 4 5 Lagoon.2.3");
+        assertEquals(3, lobbyPager.getCachedPages());
+
+        serverConnection.handleReply("LOBBY_PAGE 0 2 Ocean.1.3 Reef.1.3");
+        assertEquals(2, lobbyPager.getTotalLobbies());
+        assertEquals(1, lobbyPager.getCachedPages());
+        assertEquals(5, transport.sentMessages.size());
+        assertEquals("REQUEST_LOBBY_LIST 0 2", transport.sentMessages.get(4));
+        assertEquals(1, lobbyPager.getLobby(0).getNumPlayers());
+        assertEquals("Reef", lobbyPager.getLobby(1).getLobbyName());
+        assertEquals(5, transport.sentMessages.size());
+    }
+
+    /**
+     * Positive test where the {@link ServerConnection} class is able to get a page of lobbies
+     * from a server that does not list the {@code LOBBY_PAGES} capability.
+     * <p>
+     * Tests that the whole lobby list is requested and the page is cut from it.
+     */
+    @Test
+    public void testCutPageFromLobbyList() {
+        InMemoryTransport transport = new InMemoryTransport();
+        ServerConnection serverConnection = this.createConnection(transport);
+        CompletableFuture<LobbyPage> lobbyPage = serverConnection.getLobbyPageAsync(1, 2);
+
+        assertEquals(List.of("REQUEST_LOBBY_LIST"), transport.sentMessages);
+        serverConnection.handleReply("LOBBY_LIST Ocean.0.3 Reef.1.3 Bay.2.3");
+        assertEquals(1, lobbyPage.join().offset());
+        assertEquals(3, lobbyPage.join().totalLobbies());
+        assertEquals(List.of("Reef", "Bay"),
+                     lobbyPage.join().lobbies().stream().map(Lobby::getLobbyName).toList());
+    }
+
+    /**
+     * Negative test where the {@link LobbyPager} class is given invalid parameters.
+     * <p>
+     * Tests that {@code null} parameters, page sizes and numbers of pages kept below one, and
+     * negative offsets are refused.
+     */
+    @Test
+    public void testInvalidParameters() {
+        ServerConnection serverConnection = this.createConnection(new InMemoryTransport());
+        LobbyPager.Listener listener = (fromIndex, toIndex, totalLobbies) -> {
+        };
+        assertThrows(IllegalArgumentException.class, () -> new LobbyPager(null, 2, 2, listener));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new LobbyPager(serverConnection, 0, 2, listener));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new LobbyPager(serverConnection, 2, 0, listener));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new LobbyPager(serverConnection, 2, 2, null));
+        assertThrows(IllegalArgumentException.class,
+                     () -> serverConnection.getLobbyPageAsync(-1, 2));
+        assertThrows(IllegalArgumentException.class,
+                     () -> serverConnection.getLobbyPageAsync(0, 0));
+    }
+
+    private ServerConnection createConnection(InMemoryTransport transport,
+                                              String... capabilities) {
+        ServerConnection serverConnection = new ServerConnection("localhost", 0, transport);
+        serverConnection.sendUsernameRequestAsync();
+        serverConnection.handleReply("USERNAME Player1 false " + String.join(" ", capabilities));
+        transport.sentMessages.clear();
+        return serverConnection;
+    }
+}
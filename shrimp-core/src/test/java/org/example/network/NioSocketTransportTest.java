@@ -0,0 +1,100 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link NioSocketTransport} class over a loopback connection.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for receiving lines terminated by {@code \r\n} and {@code \n}, including a line
+ * larger than the initial read buffer.</li>
+ * <li>Test for sending lines to the server.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for receiving {@code null} when the server closes the connection.</li>
+ * </ul>
+ */
+public class NioSocketTransportTest {
+    /**
+     * Positive test where the {@link NioSocketTransport} class is able to split the received
+     * bytes into lines.
+     * <p>
+     * Tests that every line is received without its terminator and in order.
+     */
+    @Test
+    public void testReceiveLines() throws IOException {
+        String longLine = "UPDATE LOBBY " + "lobby.1.3 ".repeat(2000).trim();
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            NioSocketTransport transport = new NioSocketTransport();
+            transport.connect("localhost", serverSocket.getLocalPort(), 5000);
+            try (Socket socket = serverSocket.accept()) {
+                OutputStream outputStream = socket.getOutputStream();
+                outputStream.write(("USERNAME Atari false\r\nLOBBY_LIST\n" + longLine + "\r\n")
+                        .getBytes(StandardCharsets.UTF_8));
+                outputStream.flush();
+
+                assertEquals("USERNAME Atari false", transport.receive());
+                assertEquals("LOBBY_LIST", transport.receive());
+                assertEquals(longLine, transport.receive());
+            }
+            transport.close();
+        }
+    }
+
+    /**
+     * Positive test where the {@link NioSocketTransport} class is able to send lines to the
+     * server.
+     * <p>
+     * Tests that every message sent arrives as a separate line.
+     */
+    @Test
+    public void testSendLines() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            NioSocketTransport transport = new NioSocketTransport();
+            transport.connect("localhost", serverSocket.getLocalPort(), 5000);
+            try (Socket socket = serverSocket.accept()) {
+                transport.send("REQUEST_LOBBY_LIST");
+                transport.send("CHAT_MESSAGE hello☐world");
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+                assertEquals("REQUEST_LOBBY_LIST", reader.readLine());
+                assertEquals("CHAT_MESSAGE hello☐world", reader.readLine());
+            }
+            transport.close();
+        }
+    }
+
+    /**
+     * Negative test where the {@link NioSocketTransport} class is able to handle the server
+     * closing the connection.
+     * <p>
+     * Tests that {@code null} is received once the end of the stream has been reached.
+     */
+    @Test
+    public void testReceiveAfterServerClosed() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            NioSocketTransport transport = new NioSocketTransport();
+            transport.connect("localhost", serverSocket.getLocalPort(), 5000);
+            Socket socket = serverSocket.accept();
+            socket.close();
+
+            assertNull(transport.receive());
+            transport.close();
+        }
+    }
+}
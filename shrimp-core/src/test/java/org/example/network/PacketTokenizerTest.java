@@ -0,0 +1,177 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link PacketTokenizer} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for reading the tokens of a packet with the same result as splitting it.</li>
+ * <li>Test for keeping the empty tokens before a trailing delimiter and reading no token from an
+ * empty range, where splitting differs.</li>
+ * <li>Test for reading nested fields and numbers in place.</li>
+ * <li>Test for counting the tokens left the same way they are read.</li>
+ * <li>Test for appending tokens while replacing characters.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for reading tokens that are not numbers as numbers.</li>
+ * <li>Test for reading past the last token.</li>
+ * </ul>
+ */
+public class PacketTokenizerTest {
+    /**
+     * Positive test where the {@link PacketTokenizer} class is able to read the tokens of a
+     * packet.
+     * <p>
+     * Tests that the tokens read are the same as the ones given by {@link String#split(String)}
+     * for a packet ending with a single delimiter, including empty tokens between delimiters and
+     * no token after the trailing delimiter.
+     */
+    @Test
+    public void testTokensMatchSplit() {
+        String packet = "UPDATE MESSAGE_SENT  Atari hello 12:00 ";
+        String[] expectedTokens = packet.split(" ");
+        PacketTokenizer tokenizer = new PacketTokenizer().reset(packet);
+
+        for (String expectedToken : expectedTokens) {
+            assertTrue(tokenizer.hasMoreTokens());
+            assertEquals(expectedToken, tokenizer.nextString(' '));
+        }
+        assertFalse(tokenizer.hasMoreTokens());
+    }
+
+    /**
+     * Positive test where the {@link PacketTokenizer} class is able to read the empty tokens at
+     * the end of a range.
+     * <p>
+     * Tests that the empty tokens before the last delimiter are read, unlike the tokens given by
+     * {@link String#split(String)}, that a leading delimiter gives an empty token, and that an
+     * empty range or a range holding only the delimiter give the tokens documented.
+     */
+    @Test
+    public void testTrailingEmptyTokens() {
+        PacketTokenizer tokenizer = new PacketTokenizer().reset("a,,");
+
+        assertEquals(1, "a,,".split(",").length);
+        assertEquals("a", tokenizer.nextString(','));
+        assertEquals("", tokenizer.nextString(','));
+        assertFalse(tokenizer.hasMoreTokens());
+
+        tokenizer.reset(",a");
+        assertEquals("", tokenizer.nextString(','));
+        assertEquals("a", tokenizer.nextString(','));
+        assertFalse(tokenizer.hasMoreTokens());
+
+        assertFalse(tokenizer.reset("").hasMoreTokens());
+        tokenizer.reset(",");
+        assertEquals("", tokenizer.nextString(','));
+        assertFalse(tokenizer.hasMoreTokens());
+    }
+
+    /**
+     * Positive test where the {@link PacketTokenizer} class is able to count the tokens left.
+     * <p>
+     * Tests that the count matches the tokens read before and after every token, including
+     * empty tokens and a trailing delimiter, and that counting does not move the cursor.
+     */
+    @Test
+    public void testCountTokens() {
+        for (String packet : new String[] {"", ",", "a", "a,,", ",a", "a,,b,", "a,b,c"}) {
+            PacketTokenizer tokenizer = new PacketTokenizer().reset(packet);
+            int read = 0;
+            int count = tokenizer.countTokens(',');
+            while (tokenizer.hasMoreTokens()) {
+                assertEquals(count - read, tokenizer.countTokens(','), packet);
+                tokenizer.next(',');
+                read++;
+            }
+            assertEquals(count, read, packet);
+            assertEquals(0, tokenizer.countTokens(','));
+        }
+    }
+
+    /**
+     * Positive test where the {@link PacketTokenizer} class is able to read nested fields.
+     * <p>
+     * Tests that the lobbies of an UPDATE LOBBY packet are read with their numbers, and that
+     * tokens are compared and hashed without reading them as strings.
+     */
+    @Test
+    public void testReadNestedFields() {
+        PacketTokenizer tokenizer = new PacketTokenizer().reset("UPDATE LOBBY Ocean.1.3 Reef.2.+4");
+
+        assertTrue(tokenizer.nextEquals(' ', "UPDATE"));
+        assertFalse(tokenizer.nextEquals(' ', "LOBBIES"));
+        assertEquals("LOBBY".hashCode(), tokenizer.tokenHashCode());
+        PacketTokenizer lobby = tokenizer.nextField(' ', new PacketTokenizer());
+        assertEquals("Ocean", lobby.nextString('.'));
+        assertEquals(1, lobby.nextInt('.'));
+        assertEquals(3, lobby.nextInt('.'));
+        assertFalse(lobby.hasMoreTokens());
+        tokenizer.nextField(' ', lobby);
+        lobby.skip('.');
+        assertEquals(2, lobby.nextInt('.'));
+        assertEquals(4, lobby.nextInt('.'));
+        assertFalse(tokenizer.hasMoreTokens());
+
+        PacketTokenizer field = new PacketTokenizer().reset("-2147483648.2147483647");
+        assertEquals(Integer.MIN_VALUE, field.nextInt('.'));
+        assertEquals(Integer.MAX_VALUE, field.nextInt('.'));
+    }
+
+    /**
+     * Positive test where the {@link PacketTokenizer} class is able to append tokens.
+     * <p>
+     * Tests that a token is appended with the given character replaced.
+     */
+    @Test
+    public void testAppendTokenReplacingCharacter() {
+        PacketTokenizer tokenizer = new PacketTokenizer().reset("Atari☐hello⁞there☐12:00");
+        StringBuilder builder = new StringBuilder();
+
+        tokenizer.next('☐').appendToken(builder).append(',');
+        tokenizer.next('☐').appendToken(builder, '⁞', ' ');
+        assertEquals("Atari,hello there", builder.toString());
+        assertEquals("12:00", tokenizer.nextString('☐'));
+    }
+
+    /**
+     * Negative test where the {@link PacketTokenizer} class is able to handle tokens that are not
+     * numbers.
+     * <p>
+     * Tests that reading such tokens as numbers throws a {@link NumberFormatException}.
+     */
+    @Test
+    public void testReadInvalidNumbers() {
+        PacketTokenizer tokenizer = new PacketTokenizer().reset("12a - 2147483648 .");
+
+        assertThrows(NumberFormatException.class, () -> tokenizer.nextInt(' '));
+        assertThrows(NumberFormatException.class, () -> tokenizer.nextInt(' '));
+        assertThrows(NumberFormatException.class, () -> tokenizer.nextInt(' '));
+        assertThrows(NumberFormatException.class, () -> tokenizer.nextInt(' '));
+    }
+
+    /**
+     * Negative test where the {@link PacketTokenizer} class is able to handle reading past the
+     * last token.
+     * <p>
+     * Tests that reading past the last token throws an {@link IllegalStateException} and that a
+     * {@code null} source throws an {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testReadPastLastToken() {
+        PacketTokenizer tokenizer = new PacketTokenizer().reset("LEFT_SUCCESS");
+        tokenizer.skip(' ');
+
+        assertThrows(IllegalStateException.class, () -> tokenizer.next(' '));
+        assertThrows(IllegalArgumentException.class, () -> tokenizer.reset(null));
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.network.protocol.Unknown;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link ReplyQueue} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for removing replies in the order they were added.</li>
+ * <li>Test for dropping the oldest reply when the queue is full.</li>
+ * <li>Test for dropping the newest reply when the queue is full.</li>
+ * <li>Test for waiting until a reply is added by another thread.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for creating instances of {@link ReplyQueue} where the parameters given are
+ * invalid.</li>
+ * </ul>
+ */
+public class ReplyQueueTest {
+    /**
+     * Positive test where the {@link ReplyQueue} class is able to hand out replies in order.
+     * <p>
+     * Tests that the replies are removed in the order they were added and that the occupancy
+     * metrics follow.
+     */
+    @Test
+    public void testPollInOrder() {
+        ReplyQueue replyQueue = new ReplyQueue(4, ReplyQueue.OverflowPolicy.DROP_OLDEST);
+        replyQueue.offer(Reply.parse("LEFT_SUCCESS", Unknown::new));
+        replyQueue.offer(Reply.parse("MESSAGE_RECEIVED", Unknown::new));
+
+        assertEquals(2, replyQueue.size());
+        assertEquals("LEFT_SUCCESS", replyQueue.poll().getLine());
+        assertEquals("MESSAGE_RECEIVED", replyQueue.poll().getLine());
+        assertNull(replyQueue.poll());
+        assertEquals(0, replyQueue.size());
+        assertEquals(2, replyQueue.getHighWaterMark());
+        assertEquals(2, replyQueue.getAddedReplies());
+    }
+
+    /**
+     * Positive test where the {@link ReplyQueue} class is able to make room for new replies.
+     * <p>
+     * Tests that the oldest reply is dropped when a reply is added to a full queue.
+     */
+    @Test
+    public void testDropOldestWhenFull() {
+        ReplyQueue replyQueue = new ReplyQueue(2, ReplyQueue.OverflowPolicy.DROP_OLDEST);
+
+        assertTrue(replyQueue.offer(Reply.parse("1", Unknown::new)));
+        assertTrue(replyQueue.offer(Reply.parse("2", Unknown::new)));
+        assertTrue(replyQueue.offer(Reply.parse("3", Unknown::new)));
+        assertEquals(1, replyQueue.getDroppedReplies());
+        assertEquals("2", replyQueue.poll().getLine());
+        assertEquals("3", replyQueue.poll().getLine());
+    }
+
+    /**
+     * Positive test where the {@link ReplyQueue} class is able to keep the oldest replies.
+     * <p>
+     * Tests that the new reply is dropped when it is added to a full queue.
+     */
+    @Test
+    public void testDropNewestWhenFull() {
+        ReplyQueue replyQueue = new ReplyQueue(2, ReplyQueue.OverflowPolicy.DROP_NEWEST);
+
+        assertTrue(replyQueue.offer(Reply.parse("1", Unknown::new)));
+        assertTrue(replyQueue.offer(Reply.parse("2", Unknown::new)));
+        assertFalse(replyQueue.offer(Reply.parse("3", Unknown::new)));
+        assertEquals(1, replyQueue.getDroppedReplies());
+        assertEquals("1", replyQueue.poll().getLine());
+        assertEquals("2", replyQueue.poll().getLine());
+    }
+
+    /**
+     * Positive test where the {@link ReplyQueue} class is able to wake up a waiting consumer.
+     * <p>
+     * Tests that a consumer waiting for a reply receives the reply added by another thread, and
+     * that waiting with a timeout returns {@code null} when nothing is added.
+     */
+    @Test
+    public void testTakeWaitsForProducer() throws InterruptedException {
+        ReplyQueue replyQueue = new ReplyQueue(2, ReplyQueue.OverflowPolicy.DROP_OLDEST);
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            replyQueue.offer(Reply.parse("CAUGHT_SUCCESSFULLY", Unknown::new));
+        });
+        producer.start();
+
+        assertEquals("CAUGHT_SUCCESSFULLY", replyQueue.take().getLine());
+        assertNull(replyQueue.poll(10, TimeUnit.MILLISECONDS));
+        producer.join();
+    }
+
+    /**
+     * Negative test where the {@link ReplyQueue} class is able to handle creation of instances
+     * where the parameters are invalid.
+     * <p>
+     * Tests that the {@code ReplyQueue} class with invalid parameters throws an
+     * {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testCreateInstanceOfReplyQueueWithInvalidParameters() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReplyQueue(0, ReplyQueue.OverflowPolicy.DROP_OLDEST));
+        assertThrows(IllegalArgumentException.class, () -> new ReplyQueue(4, null));
+    }
+}
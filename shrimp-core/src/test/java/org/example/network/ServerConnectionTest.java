@@ -0,0 +1,201 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the request and reply matching of the {@link ServerConnection} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for matching replies without correlation ids to requests in the order the requests
+ * were sent.</li>
+ * <li>Test for matching replies with correlation ids to requests regardless of their order.</li>
+ * <li>Test for enabling compression when the server lists the {@code DEFLATE} capability.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for failing the requests waiting for a reply when the connection is lost.</li>
+ * <li>Test for skipping a corrupt compressed frame instead of failing the connection.</li>
+ * <li>Test for creating an instance of {@link ServerConnection} where the transport given is
+ * {@code null}.</li>
+ * </ul>
+ */
+public class ServerConnectionTest {
+    /**
+     * Represents a transport that keeps the messages sent in memory.
+     */
+    private static class InMemoryTransport implements Transport {
+        private final List<String> sentMessages = new ArrayList<>();
+        private final Deque<String> linesToReceive = new ArrayDeque<>();
+        private final SendMetrics sendMetrics = new SendMetrics();
+
+        @Override
+        public void connect(String hostname, int port, int timeoutMillis) {
+        }
+
+        @Override
+        public void send(String message) {
+            this.sentMessages.add(message);
+        }
+
+        @Override
+        public String receive() {
+            return this.linesToReceive.poll();
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SendMetrics getSendMetrics() {
+            return this.sendMetrics;
+        }
+    }
+
+    /**
+     * Positive test where the {@link ServerConnection} class is able to match replies without
+     * correlation ids to pipelined requests.
+     * <p>
+     * Tests that the replies complete the requests in the order the requests were sent.
+     */
+    @Test
+    public void testMatchRepliesInRequestOrder() {
+        ServerConnection serverConnection = new ServerConnection("localhost", 0, new InMemoryTransport());
+        CompletableFuture<Reply> lobbyListReply = serverConnection.sendRequest("REQUEST_LOBBY_LIST");
+        CompletableFuture<Reply> joinReply = serverConnection.sendRequest("JOIN_LOBBY Ocean");
+
+        serverConnection.handleReply("LOBBY_LIST Ocean.1.3");
+        assertTrue(lobbyListReply.isDone());
+        assertFalse(joinReply.isDone());
+
+        serverConnection.handleReply("LOBBY_NOT_EXIST");
+        assertEquals("LOBBY_LIST", lobbyListReply.join().getType());
+        assertEquals("LOBBY_NOT_EXIST", joinReply.join().getLine());
+    }
+
+    /**
+     * Positive test where the {@link ServerConnection} class is able to match replies with
+     * correlation ids to requests.
+     * <p>
+     * Tests that requests are tagged once the server lists the {@code CORRELATION_ID} capability
+     * and that replies arriving out of order complete the right requests.
+     */
+    @Test
+    public void testMatchRepliesByCorrelationId() {
+        InMemoryTransport transport = new InMemoryTransport();
+        ServerConnection serverConnection = new ServerConnection("localhost", 0, transport);
+        CompletableFuture<String[]> username = serverConnection.sendUsernameRequestAsync();
+        serverConnection.handleReply("USERNAME Atari false CORRELATION_ID");
+        assertEquals("Atari", username.join()[0]);
+        assertTrue(serverConnection.hasCapability("CORRELATION_ID"));
+
+        CompletableFuture<Reply> catchReply = serverConnection.sendCatchShrimpRequest(40);
+        CompletableFuture<Reply> messageReply = serverConnection.sendMessageRequest("hello");
+        assertEquals("@1 CATCH_SHRIMP 40", transport.sentMessages.get(1));
+        assertEquals("@2 CHAT_MESSAGE hello", transport.sentMessages.get(2));
+
+        serverConnection.handleReply("@2 MESSAGE_RECEIVED");
+        serverConnection.handleReply("@1 CAUGHT_SUCCESSFULLY");
+        assertEquals("CAUGHT_SUCCESSFULLY", catchReply.join().getLine());
+        assertEquals("MESSAGE_RECEIVED", messageReply.join().getLine());
+    }
+
+    /**
+     * Positive test where the {@link ServerConnection} class is able to enable compression.
+     * <p>
+     * Tests that compression is requested after the username when the server lists the
+     * {@code DEFLATE} capability, and that the username is only handed over after the reply.
+     */
+    @Test
+    public void testEnableCompression() {
+        InMemoryTransport transport = new InMemoryTransport();
+        ServerConnection serverConnection = new ServerConnection("localhost", 0, transport);
+        CompletableFuture<String[]> username = serverConnection.sendUsernameRequestAsync();
+        serverConnection.handleReply("USERNAME Atari false DEFLATE");
+        assertEquals("ENABLE_COMPRESSION DEFLATE", transport.sentMessages.get(1));
+        assertFalse(username.isDone());
+
+        serverConnection.handleReply("COMPRESSION_ENABLED");
+        assertEquals("Atari", username.join()[0]);
+    }
+
+    /**
+     * Negative test where the {@link ServerConnection} class is able to fail the requests waiting
+     * for a reply.
+     * <p>
+     * Tests that both correlated and uncorrelated requests are completed exceptionally, and that
+     * a later reply is not matched to a failed request.
+     */
+    @Test
+    public void testFailPendingRequests() {
+        InMemoryTransport transport = new InMemoryTransport();
+        ServerConnection serverConnection = new ServerConnection("localhost", 0, transport);
+        CompletableFuture<Reply> lobbyListReply = serverConnection.sendRequest("REQUEST_LOBBY_LIST");
+        serverConnection.failPendingRequests(new IOException("Connection reset"));
+        assertTrue(lobbyListReply.isCompletedExceptionally());
+
+        CompletableFuture<String[]> username = serverConnection.sendUsernameRequestAsync();
+        serverConnection.handleReply("USERNAME Atari false CORRELATION_ID");
+        assertEquals("Atari", username.join()[0]);
+        CompletableFuture<Reply> catchReply = serverConnection.sendCatchShrimpRequest(40);
+        serverConnection.failPendingRequests(new IOException("Connection reset"));
+        assertTrue(catchReply.isCompletedExceptionally());
+
+        serverConnection.handleReply("@1 CAUGHT_SUCCESSFULLY");
+        assertEquals(1, serverConnection.getUnmatchedReplies().size());
+    }
+
+    /**
+     * Negative test where the {@link ServerConnection} class is able to handle a corrupt
+     * compressed frame.
+     * <p>
+     * Tests that a truncated frame and a frame without a payload are skipped, and that the lines
+     * after them are still received.
+     */
+    @Test
+    public void testSkipCorruptFrame() {
+        InMemoryTransport transport = new InMemoryTransport();
+        ServerConnection serverConnection = new ServerConnection("localhost", 0, transport);
+        String frame = DeflateFrame.encode("UPDATE LOBBY_REMOVED Ocean");
+        transport.linesToReceive.add(frame.substring(0, frame.length() - 4));
+        transport.linesToReceive.add("DEFLATE 12");
+        transport.linesToReceive.add(frame);
+        transport.linesToReceive.add("LEFT_SUCCESS");
+
+        assertEquals("UPDATE LOBBY_REMOVED Ocean", serverConnection.receive());
+        assertEquals("LEFT_SUCCESS", serverConnection.receive());
+        assertNull(serverConnection.receive());
+    }
+
+    /**
+     * Negative test where the {@link ServerConnection} class is able to handle creation of
+     * instance where the transport provided is {@code null}.
+     * <p>
+     * Tests that the {@code ServerConnection} class with {@code null} as transport throws an
+     * {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testCreateInstanceOfServerConnectionWithNullTransport() {
+        assertThrows(IllegalArgumentException.class, () -> new ServerConnection("localhost", 0, null));
+    }
+}
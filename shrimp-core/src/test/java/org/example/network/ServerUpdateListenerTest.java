@@ -0,0 +1,276 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.example.model.Lobby;
+import org.example.network.protocol.FinishedGame;
+import org.example.network.protocol.GameStarted;
+import org.example.network.protocol.LobbyAdded;
+import org.example.network.protocol.LobbyPlayersChanged;
+import org.example.network.protocol.LobbyRemoved;
+import org.example.network.protocol.LobbyUpdate;
+import org.example.network.protocol.MessageSent;
+import org.example.network.protocol.RoundFinished;
+import org.example.network.protocol.ServerUpdate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link ServerUpdateListener} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for publishing every type of update to the sink, handing the replies to the
+ * connection and ignoring unknown updates.</li>
+ * <li>Test for publishing the updates received until the supervisor is stopped.</li>
+ * <li>Test for stopping a listener without a supervisor once the connection is lost.</li>
+ * <li>Test for dropping malformed updates without handing them to the connection or breaking
+ * the decoding of the packets after them.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for creating instances of {@link ServerUpdateListener} where the parameters given are
+ * invalid.</li>
+ * </ul>
+ */
+public class ServerUpdateListenerTest {
+    /**
+     * Represents a sink that keeps the events published, in order.
+     */
+    private static class RecordingSink implements GameEventSink {
+        private final List<ServerUpdate> events =
+                Collections.synchronizedList(new ArrayList<ServerUpdate>());
+
+        @Override
+        public void lobbiesUpdated(LobbyUpdate lobbyUpdate) {
+            this.events.add(lobbyUpdate);
+        }
+
+        @Override
+        public void lobbyAdded(LobbyAdded lobbyAdded) {
+            this.events.add(lobbyAdded);
+        }
+
+        @Override
+        public void lobbyRemoved(LobbyRemoved lobbyRemoved) {
+            this.events.add(lobbyRemoved);
+        }
+
+        @Override
+        public void lobbyPlayersChanged(LobbyPlayersChanged lobbyPlayersChanged) {
+            this.events.add(lobbyPlayersChanged);
+        }
+
+        @Override
+        public void gameStarted(GameStarted gameStarted) {
+            this.events.add(gameStarted);
+        }
+
+        @Override
+        public void roundFinished(RoundFinished roundFinished) {
+            this.events.add(roundFinished);
+        }
+
+        @Override
+        public void messageSent(MessageSent messageSent) {
+            this.events.add(messageSent);
+        }
+
+        @Override
+        public void gameFinished(FinishedGame finishedGame) {
+            this.events.add(finishedGame);
+        }
+    }
+
+    /**
+     * Represents a connection listener that ignores what it is told.
+     */
+    private static class IgnoringListener implements ConnectionListener {
+        @Override
+        public void connectionLost(Throwable cause) {
+        }
+
+        @Override
+        public void reconnecting(int attempt, long delayMillis) {
+        }
+
+        @Override
+        public void connectionRestored(String username, boolean admin, boolean resumed,
+                                       List<Lobby> lobbies) {
+        }
+    }
+
+    /**
+     * Positive test where the {@link ServerUpdateListener} class is able to handle packets
+     * without a connection to a server.
+     * <p>
+     * Tests that every type of update is published as its event in the order received, that
+     * the replies are handed to the connection, and that unknown updates are ignored.
+     */
+    @Test
+    public void testHandle() {
+        ServerConnection serverConnection = new ServerConnection("localhost", 0);
+        RecordingSink sink = new RecordingSink();
+        ServerUpdateListener listener = new ServerUpdateListener(
+                serverConnection, this.createSupervisor(serverConnection), sink);
+
+        listener.handle("UPDATE LOBBY Ocean.1.3");
+        listener.handle("UPDATE LOBBY_ADDED Bay.0.3");
+        listener.handle("UPDATE LOBBY_PLAYERS Bay.1");
+        listener.handle("UPDATE LOBBY_REMOVED Bay");
+        listener.handle("UPDATE GAME_STARTED Nova Zeta 8 60 5+8 30 10 50 2 Ocean");
+        listener.handle("UPDATE MESSAGE_SENT Atari hello 12:00");
+        listener.handle("UPDATE ROUND_FINISHED 12 Atari 40 480 Nova 35 420");
+        listener.handle("UPDATE FINISHED_GAME Ocean 2 Atari 1.40 3.1 NO_CHAT");
+        listener.handle("UPDATE SOMETHING_NEW 1");
+        listener.handle("CAUGHT_SUCCESSFULLY");
+
+        assertEquals(List.of(LobbyUpdate.class, LobbyAdded.class, LobbyPlayersChanged.class,
+                             LobbyRemoved.class, GameStarted.class, MessageSent.class,
+                             RoundFinished.class, FinishedGame.class),
+                     sink.events.stream().map(Object::getClass).toList());
+        assertEquals(1, serverConnection.getUnmatchedReplies().size());
+        assertEquals("CAUGHT_SUCCESSFULLY",
+                     serverConnection.getUnmatchedReplies().poll().getLine());
+    }
+
+    /**
+     * Positive test where the {@link ServerUpdateListener} class is able to publish the updates
+     * received through a connection.
+     * <p>
+     * Tests that the updates of a replayed session are published, and that the listener stops
+     * once the connection is closed and the supervisor is stopped.
+     */
+    @Test
+    public void testRun() throws InterruptedException {
+        List<TrafficRecording.RecordedLine> lines = new ArrayList<TrafficRecording.RecordedLine>();
+        for (int index = 0; index < 100; index++) {
+            lines.add(new TrafficRecording.RecordedLine(
+                    index, false, "UPDATE MESSAGE_SENT Atari message" + index + " 12:00"));
+        }
+        ReplayTransport transport =
+                new ReplayTransport(new TrafficRecording(lines), ReplayTransport.MAX_SPEED);
+        ServerConnection serverConnection = new ServerConnection("localhost", 0, transport);
+        ConnectionSupervisor supervisor = this.createSupervisor(serverConnection);
+        RecordingSink sink = new RecordingSink();
+        serverConnection.connect();
+        Thread listenerThread =
+                new Thread(new ServerUpdateListener(serverConnection, supervisor, sink));
+        listenerThread.start();
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (sink.events.size() < 100 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        supervisor.stop();
+        serverConnection.disconnect();
+        listenerThread.join(5000);
+
+        assertEquals(100, sink.events.size());
+        assertEquals("message99", ((MessageSent) sink.events.get(99)).message());
+        assertFalse(listenerThread.isAlive());
+    }
+
+    /**
+     * Positive test where the {@link ServerUpdateListener} class is able to run without a
+     * supervisor.
+     * <p>
+     * Tests that the updates received are published, and that the listener stops by itself once
+     * the connection is closed, since no supervisor connects again.
+     */
+    @Test
+    public void testRunWithoutSupervisor() throws InterruptedException {
+        List<TrafficRecording.RecordedLine> lines = List.of(
+                new TrafficRecording.RecordedLine(0, false, "UPDATE LOBBY_REMOVED Bay"),
+                new TrafficRecording.RecordedLine(1, false, "UPDATE LOBBY_ADDED Reef.0.3"));
+        ReplayTransport transport =
+                new ReplayTransport(new TrafficRecording(lines), ReplayTransport.MAX_SPEED);
+        ServerConnection serverConnection = new ServerConnection("localhost", 0, transport);
+        RecordingSink sink = new RecordingSink();
+        serverConnection.connect();
+        Thread listenerThread = new Thread(new ServerUpdateListener(serverConnection, sink));
+        listenerThread.start();
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (sink.events.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        serverConnection.disconnect();
+        listenerThread.join(5000);
+
+        assertEquals(List.of(LobbyRemoved.class, LobbyAdded.class),
+                     sink.events.stream().map(Object::getClass).toList());
+        assertFalse(listenerThread.isAlive());
+    }
+
+    /**
+     * Positive test where the {@link ServerUpdateListener} class is able to drop malformed
+     * updates.
+     * <p>
+     * Tests that updates of known types with missing or invalid fields are neither published
+     * nor handed to the connection as replies, that the updates and replies after them are
+     * decoded in full, and that the replies keep the order they were received in.
+     */
+    @Test
+    public void testDropMalformedUpdates() {
+        ServerConnection serverConnection = new ServerConnection("localhost", 0);
+        RecordingSink sink = new RecordingSink();
+        ServerUpdateListener listener = new ServerUpdateListener(
+                serverConnection, this.createSupervisor(serverConnection), sink);
+
+        listener.handle("UPDATE ROUND_FINISHED twelve Atari 40 480");
+        listener.handle("CAUGHT_SUCCESSFULLY");
+        listener.handle("UPDATE ROUND_FINISHED 12 Atari 40");
+        listener.handle("UPDATE GAME_STARTED Nova 8 60 5+8 30 10 50 2");
+        listener.handle("UPDATE LOBBY_PLAYERS Bay");
+        listener.handle("UPDATE");
+        listener.handle("UPDATE ROUND_FINISHED 12 Atari 40 480 Nova 35 420");
+        listener.handle("SOLD_SUCCESSFULLY");
+
+        assertEquals(1, sink.events.size());
+        RoundFinished roundFinished = (RoundFinished) sink.events.get(0);
+        assertEquals(12, roundFinished.shrimpPrice());
+        assertEquals(2, roundFinished.playerResults().size());
+        assertEquals("Nova", roundFinished.playerResults().get(1).playerName());
+        assertEquals(2, serverConnection.getUnmatchedReplies().size());
+        assertEquals("CAUGHT_SUCCESSFULLY",
+                     serverConnection.getUnmatchedReplies().poll().getLine());
+        assertEquals("SOLD_SUCCESSFULLY",
+                     serverConnection.getUnmatchedReplies().poll().getLine());
+    }
+
+    /**
+     * Negative test where the {@link ServerUpdateListener} class is given invalid parameters.
+     * <p>
+     * Tests that {@code null} parameters are refused.
+     */
+    @Test
+    public void testInvalidParameters() {
+        ServerConnection serverConnection = new ServerConnection("localhost", 0);
+        ConnectionSupervisor supervisor = this.createSupervisor(serverConnection);
+        GameEventSink sink = new RecordingSink();
+        assertThrows(IllegalArgumentException.class,
+                () -> new ServerUpdateListener(null, supervisor, sink));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ServerUpdateListener(serverConnection, null, sink));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ServerUpdateListener(serverConnection, supervisor, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ServerUpdateListener(serverConnection, supervisor, sink).handle(null));
+        assertThrows(IllegalArgumentException.class, () -> new ServerUpdateListener(null, sink));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ServerUpdateListener(serverConnection, null));
+    }
+
+    private ConnectionSupervisor createSupervisor(ServerConnection serverConnection) {
+        return new ConnectionSupervisor(serverConnection, new ReconnectBackoff(1, 5, new Random()),
+                                        new IgnoringListener());
+    }
+}
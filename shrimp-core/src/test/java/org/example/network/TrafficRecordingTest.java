@@ -0,0 +1,255 @@
+package org.example.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link TrafficRecorder}, {@link TrafficRecording}, {@link RecordingTransport} and
+ * {@link ReplayTransport} classes.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for recording the lines sent and received through a transport and reading them
+ * back.</li>
+ * <li>Test for replaying the received lines at a speed, and as fast as possible.</li>
+ * <li>Test for buffering the recorded lines until the recorder is flushed or closed.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for reading files that are not recordings, and recordings cut short.</li>
+ * <li>Test for sending and receiving through a transport whose recording fails.</li>
+ * <li>Test for creating instances of {@link ReplayTransport} where the parameters given are
+ * invalid.</li>
+ * </ul>
+ */
+public class TrafficRecordingTest {
+    /**
+     * Represents a transport that receives the lines given to it.
+     */
+    private static class ScriptedTransport implements Transport {
+        private final Deque<String> linesToReceive;
+        private final SendMetrics sendMetrics = new SendMetrics();
+
+        private ScriptedTransport(String... linesToReceive) {
+            this.linesToReceive = new ArrayDeque<>(Arrays.asList(linesToReceive));
+        }
+
+        @Override
+        public void connect(String hostname, int port, int timeoutMillis) {
+        }
+
+        @Override
+        public void send(String message) {
+        }
+
+        @Override
+        public String receive() {
+            return this.linesToReceive.poll();
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SendMetrics getSendMetrics() {
+            return this.sendMetrics;
+        }
+    }
+
+    /**
+     * Positive test where the {@link RecordingTransport} class is able to record traffic.
+     * <p>
+     * Tests that the lines sent and received are read back in order, with their direction and
+     * with times that never go backwards, including lines with characters outside of ASCII.
+     */
+    @Test
+    public void testRecordAndReadTraffic() throws IOException {
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        TrafficRecorder trafficRecorder = new TrafficRecorder(file);
+        RecordingTransport transport = new RecordingTransport(
+            new ScriptedTransport("USERNAME Atari false",
+                                  "UPDATE MESSAGE_SENT bob Hei⁞på⁞deg 12:00"),
+            trafficRecorder);
+
+        transport.send("REQUEST_USERNAME 1.0");
+        assertEquals("USERNAME Atari false", transport.receive());
+        assertEquals("UPDATE MESSAGE_SENT bob Hei⁞på⁞deg 12:00", transport.receive());
+        assertNull(transport.receive());
+        trafficRecorder.close();
+        assertThrows(IOException.class, () -> trafficRecorder.recordSent("LEAVE_LOBBY"));
+
+        List<TrafficRecording.RecordedLine> lines =
+            TrafficRecording.read(new ByteArrayInputStream(file.toByteArray())).lines();
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).sent());
+        assertEquals("REQUEST_USERNAME 1.0", lines.get(0).line());
+        assertFalse(lines.get(1).sent());
+        assertEquals("UPDATE MESSAGE_SENT bob Hei⁞på⁞deg 12:00", lines.get(2).line());
+        assertTrue(lines.get(0).nanos() <= lines.get(1).nanos());
+        assertTrue(lines.get(1).nanos() <= lines.get(2).nanos());
+    }
+
+    /**
+     * Positive test where the {@link ReplayTransport} class is able to replay traffic.
+     * <p>
+     * Tests that only the received lines are replayed, that a replay at ten times the speed
+     * keeps the spacing of the lines divided by ten, that a replay at the maximum speed does not
+     * wait, and that receiving after the last line waits until the transport is closed.
+     */
+    @Test
+    public void testReplayTraffic() throws Exception {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        TrafficRecording trafficRecording = new TrafficRecording(List.of(
+            new TrafficRecording.RecordedLine(0, true, "REQUEST_USERNAME 1.0"),
+            new TrafficRecording.RecordedLine(second, false, "USERNAME Atari false"),
+            new TrafficRecording.RecordedLine(2 * second, false, "LOBBY_LIST Ocean.1.3")));
+
+        ReplayTransport scaled = new ReplayTransport(trafficRecording, 10);
+        scaled.connect("localhost", 0, 0);
+        long start = System.nanoTime();
+        assertEquals("USERNAME Atari false", scaled.receive());
+        assertEquals("LOBBY_LIST Ocean.1.3", scaled.receive());
+        long elapsed = System.nanoTime() - start;
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(190), "elapsed " + elapsed);
+        assertTrue(scaled.isFinished());
+
+        ReplayTransport fastest = new ReplayTransport(trafficRecording, ReplayTransport.MAX_SPEED);
+        fastest.connect("localhost", 0, 0);
+        start = System.nanoTime();
+        fastest.send("REQUEST_USERNAME 1.0");
+        assertEquals("USERNAME Atari false", fastest.receive());
+        assertEquals("LOBBY_LIST Ocean.1.3", fastest.receive());
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(150));
+        assertEquals(1, fastest.getSendMetrics().getMessagesSent());
+
+        Thread closer = new Thread(() ->
+        {
+            try {
+                Thread.sleep(50);
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            fastest.close();
+        });
+        closer.start();
+        assertNull(fastest.receive());
+        closer.join();
+        assertThrows(IOException.class, () -> fastest.send("PING"));
+    }
+
+    /**
+     * Positive test where the {@link TrafficRecorder} class is able to buffer the lines.
+     * <p>
+     * Tests that a burst of lines is not flushed line by line, and that flushing the recorder
+     * and closing it write every line.
+     */
+    @Test
+    public void testBufferLinesUntilFlush() throws IOException {
+        int[] flushes = new int[1];
+        ByteArrayOutputStream file = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes[0]++;
+            }
+        };
+        TrafficRecorder trafficRecorder = new TrafficRecorder(file);
+        int headerFlushes = flushes[0];
+        for (int line = 0; line < 100; line++) {
+            trafficRecorder.recordReceived("UPDATE LOBBY_UPDATED Ocean" + line + ".1.3");
+        }
+        assertTrue(flushes[0] - headerFlushes <= 1, "flushes " + flushes[0]);
+
+        trafficRecorder.flush();
+        assertEquals(100, TrafficRecording.read(
+            new ByteArrayInputStream(file.toByteArray())).lines().size());
+        trafficRecorder.close();
+        assertThrows(IOException.class, trafficRecorder::flush);
+    }
+
+    /**
+     * Negative test where the {@link TrafficRecording} class is able to handle invalid files.
+     * <p>
+     * Tests that a file without the header of a recording throws an {@link IOException}, and
+     * that a recording cut short in the middle of a line is read up to the last whole line.
+     */
+    @Test
+    public void testReadInvalidRecordings() throws IOException {
+        assertThrows(IOException.class, () -> TrafficRecording.read(
+            new ByteArrayInputStream("LOBBY_LIST".getBytes(StandardCharsets.US_ASCII))));
+        assertThrows(IOException.class, () -> TrafficRecording.read(new ByteArrayInputStream(
+            new byte[0])));
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        TrafficRecorder trafficRecorder = new TrafficRecorder(file);
+        trafficRecorder.recordReceived("USERNAME Atari false");
+        trafficRecorder.recordReceived("LOBBY_LIST Ocean.1.3");
+        trafficRecorder.close();
+        byte[] truncated = Arrays.copyOf(file.toByteArray(), file.size() - 4);
+        List<TrafficRecording.RecordedLine> lines =
+            TrafficRecording.read(new ByteArrayInputStream(truncated)).lines();
+        assertEquals(1, lines.size());
+        assertEquals("USERNAME Atari false", lines.get(0).line());
+    }
+
+    /**
+     * Negative test where the {@link RecordingTransport} class is able to handle a recording
+     * that fails.
+     * <p>
+     * Tests that lines are still sent and received once the recorder fails, and that the
+     * transport stops recording.
+     */
+    @Test
+    public void testRecordingFailure() throws IOException {
+        TrafficRecorder trafficRecorder = new TrafficRecorder(new ByteArrayOutputStream());
+        ScriptedTransport scriptedTransport = new ScriptedTransport("USERNAME Atari false");
+        RecordingTransport transport = new RecordingTransport(scriptedTransport, trafficRecorder);
+        trafficRecorder.close();
+
+        transport.send("REQUEST_USERNAME 1.0");
+        assertFalse(transport.isRecording());
+        assertEquals("USERNAME Atari false", transport.receive());
+    }
+
+    /**
+     * Negative test where the {@link ReplayTransport} class is able to handle creation of
+     * instances where the parameters are invalid.
+     * <p>
+     * Tests that invalid recordings and speeds throw an {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testCreateInstanceOfReplayTransportWithInvalidParameters() {
+        TrafficRecording empty = new TrafficRecording(List.of());
+        assertThrows(IllegalArgumentException.class, () -> new ReplayTransport(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ReplayTransport(empty, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ReplayTransport(empty, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> ReplayTransport.parseSpeed("fast"));
+        assertThrows(IllegalArgumentException.class, () -> ReplayTransport.parseSpeed("-2x"));
+        assertEquals(10, ReplayTransport.parseSpeed("10x"));
+        assertEquals(ReplayTransport.MAX_SPEED, ReplayTransport.parseSpeed("max"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new RecordingTransport(new ScriptedTransport(), null));
+    }
+}
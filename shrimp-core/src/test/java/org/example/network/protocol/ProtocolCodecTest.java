@@ -0,0 +1,171 @@
+package org.example.network.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link ProtocolCodec} and {@link ClientCommands} classes.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for decoding the updates pushed by the server.</li>
+ * <li>Test for decoding a finished game and building its CSV data.</li>
+ * <li>Test for decoding the replies sent by the server.</li>
+ * <li>Test for encoding the commands sent by the client.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for decoding lines that are unknown or malformed.</li>
+ * </ul>
+ */
+public class ProtocolCodecTest {
+    /**
+     * Positive test where the {@link ProtocolCodec} class is able to decode updates.
+     * <p>
+     * Tests that the fields of the lobby, game started, round finished, message sent and lobby
+     * delta updates are decoded.
+     */
+    @Test
+    public void testDecodeUpdates() {
+        ProtocolCodec codec = new ProtocolCodec();
+
+        LobbyUpdate lobbyUpdate = (LobbyUpdate) codec.decode("UPDATE LOBBY Ocean.1.3 Reef.0.3");
+        assertEquals(2, lobbyUpdate.lobbies().size());
+        assertEquals("Reef", lobbyUpdate.lobbies().get(1).getLobbyName());
+
+        GameStarted gameStarted =
+                (GameStarted) codec.decode("UPDATE GAME_STARTED Nova Zeta 8 60 5+8 30 10 50 2 Ocean");
+        assertEquals(List.of("Nova", "Zeta"), gameStarted.opponentNames());
+        assertEquals(8, gameStarted.numberOfRounds());
+        assertEquals("5+8", gameStarted.communicationRounds());
+        assertEquals(2, gameStarted.islandNum());
+        assertEquals("Ocean", gameStarted.gameName());
+        GameStarted sixPlayerGame = (GameStarted) codec.decode(
+                "UPDATE GAME_STARTED Nova Zeta Orion Vega Lyra 8 60 5+8 30 10 50 2 Ocean");
+        assertEquals(List.of("Nova", "Zeta", "Orion", "Vega", "Lyra"),
+                     sixPlayerGame.opponentNames());
+        assertEquals(50, sixPlayerGame.maxShrimp());
+        GameStarted soloGame =
+                (GameStarted) codec.decode("UPDATE GAME_STARTED 8 60 5+8 30 10 50 2 Ocean");
+        assertEquals(List.of(), soloGame.opponentNames());
+        assertEquals(60, soloGame.roundTime());
+
+        RoundFinished roundFinished =
+                (RoundFinished) codec.decode("UPDATE ROUND_FINISHED 12 Atari 40 480 Nova 35 420");
+        assertEquals(12, roundFinished.shrimpPrice());
+        assertEquals(new RoundFinished.PlayerResult("Nova", 35, 420),
+                     roundFinished.playerResults().get(1));
+
+        assertEquals(new MessageSent("Atari", "hello there", "12:00"),
+                     codec.decode("UPDATE MESSAGE_SENT Atari hello⁞there 12:00"));
+
+        LobbyAdded lobbyAdded = (LobbyAdded) codec.decode("UPDATE LOBBY_ADDED Bay.0.4");
+        assertEquals("Bay", lobbyAdded.lobby().getLobbyName());
+        assertEquals(4, lobbyAdded.lobby().getMaxPlayers());
+        assertEquals(new LobbyRemoved("Bay"), codec.decode("UPDATE LOBBY_REMOVED Bay"));
+        assertEquals(new LobbyPlayersChanged("Bay", 2), codec.decode("UPDATE LOBBY_PLAYERS Bay.2"));
+    }
+
+    /**
+     * Positive test where the {@link ProtocolCodec} class is able to decode a finished game.
+     * <p>
+     * Tests that the fields of the game are decoded and that the CSV data lists the settings,
+     * the rounds and the chat of the game.
+     */
+    @Test
+    public void testDecodeFinishedGame() {
+        FinishedGame finishedGame = (FinishedGame) new ProtocolCodec().decode(
+                "UPDATE FINISHED_GAME Ocean 1 Atari.Nova.Zeta 1.40.35.50.125.12.1.480.480.420.420"
+                + ".600.600 3.1.60.1.30.10.50 Atari☐hello⁞there☐12:00");
+
+        assertEquals("Ocean 1", finishedGame.resultName());
+        assertEquals(1, finishedGame.numberOfRounds());
+        assertEquals(List.of(new FinishedGame.ChatEntry("Atari", "hello there", "12:00")),
+                     finishedGame.chat());
+        List<String> csvData = finishedGame.toCsvData();
+        assertEquals("3,1,60,1,30,10,50", csvData.get(5));
+        assertEquals("Rounds,Atari Shrimp Caught,Nova Shrimp Caught,Zeta Shrimp Caught,"
+                     + "Total Shrimp Caught,Shrimp Price,Profit / Shrimp kg,Atari Round Profit,"
+                     + "Atari Total Profit,Nova Round Profit,Nova Total Profit,Zeta Round Profit,"
+                     + "Zeta Total Profit", csvData.get(10));
+        assertEquals("1,40,35,50,125,12,1,480,480,420,420,600,600", csvData.get(11));
+        assertEquals("Atari,hello there,12:00", csvData.get(csvData.size() - 1));
+
+        FinishedGame noChat = (FinishedGame) new ProtocolCodec().decode(
+                "UPDATE FINISHED_GAME Ocean 2 Atari 1.40 3.1 NO_CHAT");
+        assertTrue(noChat.chat().isEmpty());
+        assertEquals("No Chat", noChat.toCsvData().get(noChat.toCsvData().size() - 1));
+    }
+
+    /**
+     * Positive test where the {@link ProtocolCodec} class is able to decode replies.
+     * <p>
+     * Tests that the username, lobby list and status replies are decoded, where the status
+     * replies are the shared constants.
+     */
+    @Test
+    public void testDecodeReplies() {
+        ProtocolCodec codec = new ProtocolCodec();
+
+        assertEquals(new UsernameAssigned("Atari", true, Set.of("CORRELATION_ID")),
+                     codec.decode("USERNAME Atari true CORRELATION_ID"));
+        assertEquals(1, ((LobbyList) codec.decode("LOBBY_LIST Ocean.1.3")).lobbies().size());
+        assertTrue(((LobbyList) codec.decode("LOBBY_LIST")).lobbies().isEmpty());
+        LobbyPage lobbyPage = (LobbyPage) codec.decode("LOBBY_PAGE 50 120 Ocean.1.3 Reef.0.3");
+        assertEquals(50, lobbyPage.offset());
+        assertEquals(120, lobbyPage.totalLobbies());
+        assertEquals("Reef", lobbyPage.lobbies().get(1).getLobbyName());
+        for (StatusReply statusReply : StatusReply.KNOWN_STATUSES) {
+            assertSame(statusReply, codec.decode(statusReply.status()));
+        }
+    }
+
+    /**
+     * Positive test where the {@link ClientCommands} class is able to encode commands.
+     * <p>
+     * Tests that the commands are encoded in the format the server reads, with the spaces of
+     * chat messages encoded.
+     */
+    @Test
+    public void testEncodeCommands() {
+        assertEquals("CATCH_SHRIMP 40", ClientCommands.catchShrimp(40));
+        assertEquals("CHAT_MESSAGE hello⁞there", ClientCommands.chatMessage("hello there"));
+        assertEquals("CREATE_LOBBY Ocean 3 8 60 5+8 30 10 50",
+                     ClientCommands.createLobby("Ocean", 3, 8, 60, "5+8", 30, 10, 50));
+        assertEquals("JOIN_LOBBY Ocean", ClientCommands.joinLobby("Ocean"));
+        assertEquals("ENABLE_LOBBY_DELTAS", ClientCommands.enableLobbyDeltas());
+        assertEquals("REQUEST_LOBBY_LIST 50 25", ClientCommands.requestLobbyList(50, 25));
+    }
+
+    /**
+     * Negative test where the {@link ProtocolCodec} class is able to handle lines that are
+     * unknown or malformed.
+     * <p>
+     * Tests that such lines are decoded as {@link Unknown}, telling updates from replies, and
+     * that a {@code null} line throws an {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testDecodeUnknownLines() {
+        ProtocolCodec codec = new ProtocolCodec();
+
+        Unknown correlatedReply = (Unknown) codec.decode("@1 CAUGHT_SUCCESSFULLY");
+        assertFalse(correlatedReply.isUpdate());
+        assertTrue(((Unknown) codec.decode("UPDATE SOMETHING_NEW 1")).isUpdate());
+        assertTrue(((Unknown) codec.decode("UPDATE ROUND_FINISHED twelve")).isUpdate());
+        assertTrue(((Unknown) codec.decode("UPDATE GAME_STARTED Nova 8 60 5+8 30 10 50 2"))
+                       .isUpdate());
+        assertTrue(((Unknown) codec.decode("UPDATE")).isUpdate());
+        assertTrue(((Unknown) codec.decode("UPDATE LOBBY_PLAYERS Bay")).isUpdate());
+        assertFalse(((Unknown) codec.decode("")).isUpdate());
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(null));
+    }
+}
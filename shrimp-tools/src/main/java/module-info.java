@@ -0,0 +1,6 @@
+module org.example.tools {
+    requires org.example.core;
+
+    exports org.example.server;
+    exports org.example.bot;
+}
@@ -0,0 +1,283 @@
+package org.example.bot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.example.model.ChatMessage;
+import org.example.model.Game;
+import org.example.model.GameSettings;
+import org.example.model.Player;
+import org.example.network.ExecutionMode;
+import org.example.network.GameEventSink;
+import org.example.network.Reply;
+import org.example.network.ServerConnection;
+import org.example.network.ServerUpdateListener;
+import org.example.network.protocol.GameStarted;
+import org.example.network.protocol.MessageSent;
+import org.example.network.protocol.RoundFinished;
+
+/**
+ * Represents a headless client that plays the Shrimp Game without JavaFX.
+ * <p>
+ * A bot reads the lines of its {@link ServerConnection} on a thread of its own and hands them to
+ * a {@link ServerUpdateListener}, which hands the replies to the connection and publishes the
+ * updates to the {@link GameEventSink} of the bot, the same way the application does. The bot
+ * keeps the game in the same model classes as the application, and does not connect again once
+ * the connection is lost.
+ * Once a game starts, the bot catches the shrimp chosen by its {@link CatchStrategy} in every
+ * round, and sends its chat message, if it has one, in the communication rounds. Every request
+ * and line is recorded in the {@link BotMetrics} given.
+ */
+public class BotClient {
+  private static final int EXPENSES_PER_KILOGRAM = 5;
+  private final ServerConnection serverConnection;
+  private final CatchStrategy catchStrategy;
+  private final BotMetrics botMetrics;
+  private final ExecutionMode executionMode;
+  private final ServerUpdateListener updateListener;
+  private final CompletableFuture<Game> gameFinished;
+  private volatile String chatMessage;
+  private volatile Game game;
+
+  /**
+   * Creates a new instance of {@code BotClient}, which does not connect until it is started.
+   *
+   * @param serverConnection the connection to the server.
+   * @param catchStrategy    the strategy choosing the shrimp to catch.
+   * @param botMetrics       the metrics to record the requests and lines in.
+   * @param executionMode    the kind of thread the lines are read on.
+   * @throws IllegalArgumentException if any of the parameters given are {@code null}.
+   */
+  public BotClient(ServerConnection serverConnection, CatchStrategy catchStrategy,
+                   BotMetrics botMetrics, ExecutionMode executionMode)
+      throws IllegalArgumentException {
+    if (serverConnection == null) {
+      throw new IllegalArgumentException("serverConnection cannot be set to null");
+    }
+    if (catchStrategy == null) {
+      throw new IllegalArgumentException("catchStrategy cannot be set to null");
+    }
+    if (botMetrics == null) {
+      throw new IllegalArgumentException("botMetrics cannot be set to null");
+    }
+    if (executionMode == null) {
+      throw new IllegalArgumentException("executionMode cannot be set to null");
+    }
+    this.serverConnection = serverConnection;
+    this.catchStrategy = catchStrategy;
+    this.botMetrics = botMetrics;
+    this.executionMode = executionMode;
+    this.updateListener = new ServerUpdateListener(serverConnection, new BotEvents());
+    this.gameFinished = new CompletableFuture<Game>();
+    this.chatMessage = null;
+    this.game = null;
+  }
+
+  /**
+   * Connects to the server, starts reading its lines and requests a username.
+   *
+   * @return a {@code CompletableFuture} that is completed with the username of the bot.
+   * @throws RuntimeException if the bot could not connect to the server.
+   */
+  public CompletableFuture<String> start() throws RuntimeException {
+    this.serverConnection.connect();
+    this.executionMode.newThread("Shrimp Game Bot Reader", this::readLines).start();
+    long start = System.nanoTime();
+    this.botMetrics.recordSent();
+    return this.track(start, this.serverConnection.sendUsernameRequestAsync())
+               .thenApply(user -> user[0]);
+  }
+
+  /**
+   * Joins the lobby with the given name. The game starts once the lobby is full.
+   *
+   * @param lobbyName the name of the lobby to join.
+   * @return a {@code CompletableFuture} that is completed with the reply of the server, or
+   *     exceptionally if the lobby is full or does not exist.
+   */
+  public CompletableFuture<Reply> joinLobby(String lobbyName) {
+    long start = System.nanoTime();
+    this.botMetrics.recordSent();
+    return this.track(start, this.serverConnection.sendJoinLobbyRequestAsync(lobbyName));
+  }
+
+  /**
+   * Closes the connection to the server, which stops the reading thread.
+   */
+  public void close() {
+    this.serverConnection.disconnect();
+    this.gameFinished.completeExceptionally(
+        new IllegalStateException("The bot was closed before the game finished."));
+  }
+
+  /**
+   * Gets the connection of the bot to the server.
+   *
+   * @return the connection to the server.
+   */
+  public ServerConnection getServerConnection() {
+    return this.serverConnection;
+  }
+
+  /**
+   * Gets the game the bot plays.
+   *
+   * @return the game, or {@code null} if no game has started.
+   */
+  public Game getGame() {
+    return this.game;
+  }
+
+  /**
+   * Gets the completion of the game of the bot.
+   *
+   * @return a {@code CompletableFuture} that is completed with the game once the results of its
+   *     last round are received.
+   */
+  public CompletableFuture<Game> getGameFinished() {
+    return this.gameFinished;
+  }
+
+  /**
+   * Sets the message the bot sends in the communication rounds.
+   *
+   * @param chatMessage the chat message, or {@code null} for a bot that does not chat.
+   */
+  public void setChatMessage(String chatMessage) {
+    this.chatMessage = chatMessage;
+  }
+
+  /**
+   * Represents the receiver of the updates of the bot, which plays the game as the updates
+   * arrive.
+   */
+  private class BotEvents implements GameEventSink {
+    @Override
+    public void gameStarted(GameStarted gameStarted) {
+      BotClient.this.handleGameStarted(gameStarted);
+    }
+
+    @Override
+    public void roundFinished(RoundFinished roundFinished) {
+      BotClient.this.handleRoundFinished(roundFinished);
+    }
+
+    @Override
+    public void messageSent(MessageSent messageSent) {
+      BotClient.this.handleMessageSent(messageSent);
+    }
+  }
+
+  /**
+   * Reads the lines of the server until the connection is closed, counting them and handing
+   * them to the update listener.
+   */
+  private void readLines() {
+    try {
+      String serverPacket = this.serverConnection.receive();
+      while (serverPacket != null) {
+        this.botMetrics.recordReceived();
+        this.updateListener.handle(serverPacket);
+        serverPacket = this.serverConnection.receive();
+      }
+    }
+    catch (RuntimeException exception) {
+      // The connection was closed, which ends the bot either way.
+    }
+    this.serverConnection.failPendingRequests(
+        new IllegalStateException("The connection to the server was closed."));
+    this.gameFinished.completeExceptionally(
+        new IllegalStateException("The connection closed before the game finished."));
+  }
+
+  /**
+   * Creates the game that started and catches shrimp in its first round.
+   *
+   * @param gameStarted the update received.
+   */
+  private void handleGameStarted(GameStarted gameStarted) {
+    Map<String, Player> players = new LinkedHashMap<String, Player>();
+    String username = this.serverConnection.getUsername();
+    players.put(username, new Player(username, EXPENSES_PER_KILOGRAM));
+    for (String opponentName : gameStarted.opponentNames()) {
+      players.put(opponentName, new Player(opponentName, EXPENSES_PER_KILOGRAM));
+    }
+    GameSettings gameSettings = new GameSettings(players.size(), gameStarted.numberOfRounds(),
+                                                 gameStarted.roundTime(),
+                                                 gameStarted.communicationRounds(),
+                                                 gameStarted.communicationRoundTime(),
+                                                 gameStarted.minShrimp(),
+                                                 gameStarted.maxShrimp());
+    this.game = new Game(gameStarted.gameName(), gameSettings, players,
+                         gameStarted.islandNum());
+    this.playRound();
+  }
+
+  /**
+   * Stores the results of a round, and plays the next round or finishes the game.
+   *
+   * @param roundFinished the update received.
+   */
+  private void handleRoundFinished(RoundFinished roundFinished) {
+    Game game = this.game;
+    if (game != null) {
+      game.recordRound(roundFinished);
+      this.botMetrics.recordRoundPlayed();
+      if (game.getCurrentRoundNum() > game.getSettings().getNumberOfRounds()) {
+        this.botMetrics.recordGameFinished();
+        this.gameFinished.complete(game);
+      }
+      else {
+        this.playRound();
+      }
+    }
+  }
+
+  /**
+   * Adds a chat message to the game.
+   *
+   * @param messageSent the update received.
+   */
+  private void handleMessageSent(MessageSent messageSent) {
+    Game game = this.game;
+    if (game != null) {
+      game.getChatLog().add(
+          new ChatMessage(messageSent.username(), messageSent.message(), messageSent.date()));
+    }
+  }
+
+  /**
+   * Sends the chat message of the bot in a communication round, and catches the shrimp chosen
+   * by the strategy.
+   */
+  private void playRound() {
+    Game game = this.game;
+    String chatMessage = this.chatMessage;
+    if (chatMessage != null && game.getSettings().getCommunicationSchedule()
+                                   .isCommunicationRound(game.getCurrentRoundNum())) {
+      long start = System.nanoTime();
+      this.botMetrics.recordSent();
+      this.track(start, this.serverConnection.sendMessageRequest(chatMessage));
+    }
+    int shrimpToCatch =
+        this.catchStrategy.chooseShrimpToCatch(game, this.serverConnection.getUsername());
+    long start = System.nanoTime();
+    this.botMetrics.recordSent();
+    this.track(start, this.serverConnection.sendCatchShrimpRequest(shrimpToCatch));
+  }
+
+  /**
+   * Records the latency of a request once its reply completes it.
+   *
+   * @param start   the time the request was sent, from {@link System#nanoTime()}.
+   * @param request the {@code CompletableFuture} of the request.
+   * @param <T>     the type of the result of the request.
+   * @return the request given.
+   */
+  private <T> CompletableFuture<T> track(long start, CompletableFuture<T> request) {
+    request.whenComplete((result, exception) ->
+        this.botMetrics.recordRequest(System.nanoTime() - start, exception != null));
+    return request;
+  }
+}
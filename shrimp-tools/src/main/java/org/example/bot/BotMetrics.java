@@ -0,0 +1,129 @@
+package org.example.bot;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.example.network.LatencyHistogram;
+
+/**
+ * Represents the metrics shared by the {@link BotClient}s of a load run.
+ * <p>
+ * A message is counted as sent when a bot hands a request to its connection, and as received
+ * for every line read from the server, replies and updates alike. A round is counted once per
+ * bot that received its results, and the latency of a request is the time from sending it to
+ * the completion of its reply.
+ */
+public class BotMetrics {
+  private final LongAdder messagesSent;
+  private final LongAdder messagesReceived;
+  private final LongAdder roundsPlayed;
+  private final LongAdder gamesFinished;
+  private final LongAdder failedRequests;
+  private final LatencyHistogram requestLatency;
+
+  /**
+   * Creates a new instance of {@code BotMetrics} with every metric set to {@code 0}.
+   */
+  public BotMetrics() {
+    this.messagesSent = new LongAdder();
+    this.messagesReceived = new LongAdder();
+    this.roundsPlayed = new LongAdder();
+    this.gamesFinished = new LongAdder();
+    this.failedRequests = new LongAdder();
+    this.requestLatency = new LatencyHistogram();
+  }
+
+  /**
+   * Records a request sent to the server.
+   */
+  public void recordSent() {
+    this.messagesSent.increment();
+  }
+
+  /**
+   * Records a line received from the server.
+   */
+  public void recordReceived() {
+    this.messagesReceived.increment();
+  }
+
+  /**
+   * Records a round whose results a bot received.
+   */
+  public void recordRoundPlayed() {
+    this.roundsPlayed.increment();
+  }
+
+  /**
+   * Records a game a bot played until its last round.
+   */
+  public void recordGameFinished() {
+    this.gamesFinished.increment();
+  }
+
+  /**
+   * Records a completed request.
+   *
+   * @param nanos  the time from sending the request to the completion of its reply.
+   * @param failed {@code true} if the request failed, or {@code false} if it did not.
+   */
+  public void recordRequest(long nanos, boolean failed) {
+    this.requestLatency.record(nanos);
+    if (failed) {
+      this.failedRequests.increment();
+    }
+  }
+
+  /**
+   * Gets the number of requests sent.
+   *
+   * @return the number of messages sent.
+   */
+  public long getMessagesSent() {
+    return this.messagesSent.sum();
+  }
+
+  /**
+   * Gets the number of lines received.
+   *
+   * @return the number of messages received.
+   */
+  public long getMessagesReceived() {
+    return this.messagesReceived.sum();
+  }
+
+  /**
+   * Gets the number of rounds played, counted once per bot.
+   *
+   * @return the number of rounds played.
+   */
+  public long getRoundsPlayed() {
+    return this.roundsPlayed.sum();
+  }
+
+  /**
+   * Gets the number of games played until their last round, counted once per bot.
+   *
+   * @return the number of games finished.
+   */
+  public long getGamesFinished() {
+    return this.gamesFinished.sum();
+  }
+
+  /**
+   * Gets the number of requests that failed.
+   *
+   * @return the number of failed requests.
+   */
+  public long getFailedRequests() {
+    return this.failedRequests.sum();
+  }
+
+  /**
+   * Gets the latencies of the requests.
+   *
+   * @return the histogram of the request latencies.
+   */
+  public LatencyHistogram getRequestLatency() {
+    return this.requestLatency;
+  }
+}
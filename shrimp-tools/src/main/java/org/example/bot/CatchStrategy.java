@@ -0,0 +1,111 @@
+package org.example.bot;
+
+import java.util.Random;
+
+import org.example.model.Game;
+import org.example.model.GameSettings;
+import org.example.model.Round;
+
+/**
+ * Represents the way a {@link BotClient} chooses the shrimp to catch in a round.
+ * <p>
+ * A strategy may keep state between rounds, so every bot should have its own instance.
+ */
+@FunctionalInterface
+public interface CatchStrategy {
+  /**
+   * Chooses the shrimp kilograms to catch in the current round of a game.
+   *
+   * @param game     the game being played, with the results of the rounds already finished.
+   * @param username the username of the bot.
+   * @return the shrimp kilograms to catch.
+   */
+  int chooseShrimpToCatch(Game game, String username);
+
+  /**
+   * Creates a strategy that always catches the minimum shrimp allowed.
+   *
+   * @return the strategy created.
+   */
+  static CatchStrategy minimum() {
+    return (game, username) -> game.getSettings().getMinShrimpKilograms();
+  }
+
+  /**
+   * Creates a strategy that always catches the maximum shrimp allowed.
+   *
+   * @return the strategy created.
+   */
+  static CatchStrategy maximum() {
+    return (game, username) -> game.getSettings().getMaxShrimpKilograms();
+  }
+
+  /**
+   * Creates a strategy that catches a uniformly random amount of shrimp within the limits of the
+   * game.
+   *
+   * @param random the source of the random amounts.
+   * @return the strategy created.
+   * @throws IllegalArgumentException if the random is {@code null}.
+   */
+  static CatchStrategy random(Random random) throws IllegalArgumentException {
+    if (random == null) {
+      throw new IllegalArgumentException("random cannot be set to null");
+    }
+    return (game, username) ->
+        {
+          GameSettings settings = game.getSettings();
+          return settings.getMinShrimpKilograms() + random.nextInt(
+              settings.getMaxShrimpKilograms() - settings.getMinShrimpKilograms() + 1);
+        };
+  }
+
+  /**
+   * Creates a strategy that catches the average of what the other players caught in the
+   * previous round, and the minimum in the first round.
+   *
+   * @return the strategy created.
+   */
+  static CatchStrategy matchAverage() {
+    return (game, username) ->
+        {
+          GameSettings settings = game.getSettings();
+          Round previousRound = game.getRounds().get(game.getCurrentRoundNum() - 1);
+          int shrimpToCatch = settings.getMinShrimpKilograms();
+          if (previousRound != null) {
+            int total = previousRound.getTotalAmountOfShrimp()
+                        - previousRound.getShrimpCaught(username);
+            int opponents = previousRound.getPlayers().size()
+                            - (previousRound.getPlayers().containsKey(username) ? 1 : 0);
+            if (opponents > 0) {
+              shrimpToCatch = Math.max(settings.getMinShrimpKilograms(),
+                                       Math.min(settings.getMaxShrimpKilograms(),
+                                                total / opponents));
+            }
+          }
+          return shrimpToCatch;
+        };
+  }
+
+  /**
+   * Creates the strategy with the given name: {@code min}, {@code max}, {@code random} or
+   * {@code average}.
+   *
+   * @param name   the name of the strategy.
+   * @param random the source of the random amounts of the {@code random} strategy.
+   * @return the strategy created.
+   * @throws IllegalArgumentException if there is no strategy with the name given.
+   */
+  static CatchStrategy fromName(String name, Random random) throws IllegalArgumentException {
+    if (name == null) {
+      throw new IllegalArgumentException("name cannot be set to null");
+    }
+    return switch (name) {
+      case "min" -> minimum();
+      case "max" -> maximum();
+      case "random" -> random(random);
+      case "average" -> matchAverage();
+      default -> throw new IllegalArgumentException("Unknown catch strategy: " + name);
+    };
+  }
+}
@@ -0,0 +1,224 @@
+package org.example.bot;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.example.network.BlockingSocketTransport;
+import org.example.network.ServerConnection;
+import org.example.network.TransportOptions;
+import org.example.network.protocol.StatusReply;
+import org.example.server.StandInServer;
+import org.example.server.StandInServerOptions;
+
+/**
+ * Represents a driver that plays many games at once with {@link BotClient}s and reports the
+ * throughput and latency the server gave them.
+ * <p>
+ * A run connects every bot first, then an admin creates one lobby per group of bots, and the
+ * clock runs from the bots joining their lobbies until every game has finished. Against a real
+ * server the lobbies are named after the time of the run, so runs do not collide.
+ */
+public class LoadGenerator {
+  /**
+   * The system property setting the hostname of the server, as for the application.
+   */
+  public static final String HOSTNAME_PROPERTY = "shrimpgame.hostname";
+  /**
+   * The system property setting the port of the server, as for the application.
+   */
+  public static final String PORT_PROPERTY = "shrimpgame.port";
+  private static final String COMMUNICATION_ROUNDS = "1";
+  private static final int COMMUNICATION_ROUND_TIME = 10;
+  private static final int MIN_SHRIMP_KILOGRAMS = 0;
+  private static final int MAX_SHRIMP_KILOGRAMS = 50;
+  private final LoadGeneratorOptions options;
+
+  /**
+   * Creates a new instance of {@code LoadGenerator}.
+   *
+   * @param options the options of the run.
+   * @throws IllegalArgumentException if the options are {@code null}, or the number of bots is
+   *                                  not a multiple of the players per lobby.
+   */
+  public LoadGenerator(LoadGeneratorOptions options) throws IllegalArgumentException {
+    if (options == null) {
+      throw new IllegalArgumentException("options cannot be set to null");
+    }
+    if (options.getNumberOfBots() % options.getPlayersPerLobby() != 0) {
+      throw new IllegalArgumentException(
+          "number of bots must be a multiple of the players per lobby");
+    }
+    this.options = options;
+  }
+
+  /**
+   * Runs a load test from the command line, against the server given by the
+   * {@code shrimpgame.hostname} and {@code shrimpgame.port} properties, or against a stand-in
+   * server if no hostname is set.
+   *
+   * @param args the number of bots, the players per lobby, the number of rounds and the catch
+   *             strategy, all optional.
+   * @throws IOException if the stand-in server could not be started.
+   */
+  public static void main(String[] args) throws IOException {
+    LoadGeneratorOptions options = new LoadGeneratorOptions();
+    options.setHostname(System.getProperty(HOSTNAME_PROPERTY));
+    options.setPort(Integer.getInteger(PORT_PROPERTY, options.getPort()));
+    if (args.length > 0) {
+      options.setNumberOfBots(Integer.parseInt(args[0]));
+    }
+    if (args.length > 1) {
+      options.setPlayersPerLobby(Integer.parseInt(args[1]));
+    }
+    if (args.length > 2) {
+      options.setNumberOfRounds(Integer.parseInt(args[2]));
+    }
+    if (args.length > 3) {
+      options.setCatchStrategy(args[3]);
+    }
+    System.out.println(new LoadGenerator(options).run());
+  }
+
+  /**
+   * Runs the bots until every game has finished, closing the bots and the stand-in server
+   * afterwards.
+   *
+   * @return the report of the run.
+   * @throws IOException if the stand-in server could not be started.
+   * @throws RuntimeException if a bot could not connect, a lobby could not be created or the
+   *                          games did not finish in time.
+   */
+  public LoadReport run() throws IOException {
+    StandInServer standInServer = null;
+    String hostname = this.options.getHostname();
+    int port = this.options.getPort();
+    if (hostname == null) {
+      StandInServerOptions serverOptions = new StandInServerOptions();
+      serverOptions.setAdminPassword(this.options.getAdminPassword());
+      serverOptions.setExecutionMode(this.options.getExecutionMode());
+      standInServer = new StandInServer(serverOptions);
+      port = standInServer.start();
+      hostname = InetAddress.getLoopbackAddress().getHostAddress();
+    }
+    BotMetrics botMetrics = new BotMetrics();
+    BotClient admin = this.createBot(hostname, port, new BotMetrics(), new Random());
+    List<BotClient> bots = new ArrayList<BotClient>();
+    try {
+      admin.start().join();
+      List<String> lobbyNames = this.createLobbies(admin.getServerConnection());
+
+      List<CompletableFuture<String>> connected = new ArrayList<CompletableFuture<String>>();
+      Random seeds = new Random();
+      for (int i = 0; i < this.options.getNumberOfBots(); i++) {
+        BotClient bot = this.createBot(hostname, port, botMetrics, new Random(seeds.nextLong()));
+        bot.setChatMessage(this.options.getChatMessage());
+        bots.add(bot);
+        connected.add(bot.start());
+      }
+      CompletableFuture.allOf(connected.toArray(new CompletableFuture<?>[0])).join();
+
+      long start = System.nanoTime();
+      List<CompletableFuture<?>> finished = new ArrayList<CompletableFuture<?>>();
+      for (int i = 0; i < bots.size(); i++) {
+        bots.get(i).joinLobby(lobbyNames.get(i / this.options.getPlayersPerLobby()));
+        finished.add(bots.get(i).getGameFinished());
+      }
+      this.awaitGames(finished);
+      long elapsedNanos = System.nanoTime() - start;
+      return new LoadReport(bots.size(), lobbyNames.size(),
+                            botMetrics.getRoundsPlayed() / this.options.getPlayersPerLobby(),
+                            botMetrics.getMessagesSent(), botMetrics.getMessagesReceived(),
+                            botMetrics.getFailedRequests(), elapsedNanos,
+                            botMetrics.getRequestLatency());
+    }
+    finally {
+      for (BotClient bot : bots) {
+        bot.close();
+      }
+      admin.close();
+      if (standInServer != null) {
+        standInServer.close();
+      }
+    }
+  }
+
+  /**
+   * Creates a bot with the strategy of the options, connecting over the transport given by the
+   * system properties.
+   *
+   * @param hostname   the hostname of the server.
+   * @param port       the port of the server.
+   * @param botMetrics the metrics of the bot.
+   * @param random     the source of the random catches of the bot.
+   * @return the bot created.
+   */
+  private BotClient createBot(String hostname, int port, BotMetrics botMetrics, Random random) {
+    TransportOptions transportOptions = TransportOptions.fromSystemProperties();
+    transportOptions.setExecutionMode(this.options.getExecutionMode());
+    ServerConnection serverConnection =
+        new ServerConnection(hostname, port, new BlockingSocketTransport(transportOptions));
+    return new BotClient(serverConnection,
+                         CatchStrategy.fromName(this.options.getCatchStrategy(), random),
+                         botMetrics, this.options.getExecutionMode());
+  }
+
+  /**
+   * Becomes an admin and creates a lobby for every group of bots.
+   *
+   * @param serverConnection the connection of the admin.
+   * @return the names of the lobbies created.
+   * @throws RuntimeException if the admin password is wrong or a lobby could not be created.
+   */
+  private List<String> createLobbies(ServerConnection serverConnection) throws RuntimeException {
+    if (!serverConnection.sendBecomeAdminRequest(this.options.getAdminPassword()).join()
+                         .getMessage().equals(StatusReply.BECOME_ADMIN_SUCCESSFUL)) {
+      throw new RuntimeException("Failed to become an admin with the password given.");
+    }
+    String runName = "Load" + Long.toString(System.currentTimeMillis(), 36);
+    int numberOfLobbies = this.options.getNumberOfBots() / this.options.getPlayersPerLobby();
+    List<String> lobbyNames = new ArrayList<String>();
+    for (int i = 0; i < numberOfLobbies; i++) {
+      String lobbyName = runName + "_" + i;
+      if (!serverConnection.sendCreateLobbyRequest(lobbyName, this.options.getPlayersPerLobby(),
+                                                   this.options.getNumberOfRounds(),
+                                                   this.options.getRoundTime(),
+                                                   COMMUNICATION_ROUNDS, COMMUNICATION_ROUND_TIME,
+                                                   MIN_SHRIMP_KILOGRAMS, MAX_SHRIMP_KILOGRAMS)
+                           .join().getMessage().equals(StatusReply.CREATE_LOBBY_SUCCESS)) {
+        throw new RuntimeException("Failed to create the lobby " + lobbyName + ".");
+      }
+      lobbyNames.add(lobbyName);
+    }
+    return lobbyNames;
+  }
+
+  /**
+   * Waits for the games of every bot to finish.
+   *
+   * @param finished the completions of the games of the bots.
+   * @throws RuntimeException if a game failed or did not finish before the timeout.
+   */
+  private void awaitGames(List<CompletableFuture<?>> finished) throws RuntimeException {
+    try {
+      CompletableFuture.allOf(finished.toArray(new CompletableFuture<?>[0]))
+                       .get(this.options.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+    }
+    catch (ExecutionException exception) {
+      throw new RuntimeException("Failed to finish the games of the bots.", exception.getCause());
+    }
+    catch (TimeoutException exception) {
+      throw new RuntimeException("Failed to finish the games of the bots in time.");
+    }
+    catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for the games of the bots.");
+    }
+  }
+}
@@ -0,0 +1,278 @@
+package org.example.bot;
+
+import java.util.Random;
+
+import org.example.network.ExecutionMode;
+
+/**
+ * Represents the options of a {@link LoadGenerator} run.
+ * <p>
+ * Without a hostname, the load generator starts an in-process stand-in server and runs the bots
+ * against it. The bots are split into lobbies of the given size, so the number of bots must be a
+ * multiple of the players per lobby. The strategy is given by name, see
+ * {@link CatchStrategy#fromName(String, Random)}.
+ */
+public class LoadGeneratorOptions {
+  private String hostname;
+  private int port;
+  private int numberOfBots;
+  private int playersPerLobby;
+  private int numberOfRounds;
+  private int roundTime;
+  private String catchStrategy;
+  private String chatMessage;
+  private String adminPassword;
+  private long timeoutMillis;
+  private ExecutionMode executionMode;
+
+  /**
+   * Creates a new instance of {@code LoadGeneratorOptions} with the default options: 90 bots in
+   * lobbies of 3 playing 10 rounds with random catches against a stand-in server.
+   */
+  public LoadGeneratorOptions() {
+    this.hostname = null;
+    this.port = 0;
+    this.numberOfBots = 90;
+    this.playersPerLobby = 3;
+    this.numberOfRounds = 10;
+    this.roundTime = 60;
+    this.catchStrategy = "random";
+    this.chatMessage = null;
+    this.adminPassword = "admin";
+    this.timeoutMillis = 120000;
+    this.executionMode = ExecutionMode.fromSystemProperties();
+  }
+
+  /**
+   * Gets the hostname of the server.
+   *
+   * @return the hostname, or {@code null} if a stand-in server is started.
+   */
+  public String getHostname() {
+    return this.hostname;
+  }
+
+  /**
+   * Sets the hostname of the server.
+   *
+   * @param hostname the hostname, or {@code null} to start a stand-in server.
+   */
+  public void setHostname(String hostname) {
+    this.hostname = hostname;
+  }
+
+  /**
+   * Gets the port of the server.
+   *
+   * @return the port of the server.
+   */
+  public int getPort() {
+    return this.port;
+  }
+
+  /**
+   * Sets the port of the server, which is ignored when a stand-in server is started.
+   *
+   * @param port the port of the server.
+   * @throws IllegalArgumentException if the port is not between {@code 0} and {@code 65535}.
+   */
+  public void setPort(int port) throws IllegalArgumentException {
+    if (port < 0 || port > 65535) {
+      throw new IllegalArgumentException("port must be between 0 and 65535");
+    }
+    this.port = port;
+  }
+
+  /**
+   * Gets the number of bots to run.
+   *
+   * @return the number of bots.
+   */
+  public int getNumberOfBots() {
+    return this.numberOfBots;
+  }
+
+  /**
+   * Sets the number of bots to run.
+   *
+   * @param numberOfBots the number of bots.
+   * @throws IllegalArgumentException if the number of bots is less than {@code 1}.
+   */
+  public void setNumberOfBots(int numberOfBots) throws IllegalArgumentException {
+    if (numberOfBots < 1) {
+      throw new IllegalArgumentException("number of bots cannot be less than 1");
+    }
+    this.numberOfBots = numberOfBots;
+  }
+
+  /**
+   * Gets the number of players in each lobby.
+   *
+   * @return the players per lobby.
+   */
+  public int getPlayersPerLobby() {
+    return this.playersPerLobby;
+  }
+
+  /**
+   * Sets the number of players in each lobby.
+   *
+   * @param playersPerLobby the players per lobby.
+   * @throws IllegalArgumentException if the number of players is less than {@code 1}.
+   */
+  public void setPlayersPerLobby(int playersPerLobby) throws IllegalArgumentException {
+    if (playersPerLobby < 1) {
+      throw new IllegalArgumentException("players per lobby cannot be less than 1");
+    }
+    this.playersPerLobby = playersPerLobby;
+  }
+
+  /**
+   * Gets the number of rounds of every game.
+   *
+   * @return the number of rounds.
+   */
+  public int getNumberOfRounds() {
+    return this.numberOfRounds;
+  }
+
+  /**
+   * Sets the number of rounds of every game.
+   *
+   * @param numberOfRounds the number of rounds.
+   * @throws IllegalArgumentException if the number of rounds is less than {@code 1}.
+   */
+  public void setNumberOfRounds(int numberOfRounds) throws IllegalArgumentException {
+    if (numberOfRounds < 1) {
+      throw new IllegalArgumentException("number of rounds cannot be less than 1");
+    }
+    this.numberOfRounds = numberOfRounds;
+  }
+
+  /**
+   * Gets the time of each round, after which the server ends the round for the bots.
+   *
+   * @return the round time in seconds.
+   */
+  public int getRoundTime() {
+    return this.roundTime;
+  }
+
+  /**
+   * Sets the time of each round, after which the server ends the round for the bots.
+   *
+   * @param roundTime the round time in seconds.
+   * @throws IllegalArgumentException if the round time is less than {@code 1}.
+   */
+  public void setRoundTime(int roundTime) throws IllegalArgumentException {
+    if (roundTime < 1) {
+      throw new IllegalArgumentException("round time cannot be less than 1");
+    }
+    this.roundTime = roundTime;
+  }
+
+  /**
+   * Gets the name of the strategy of the bots.
+   *
+   * @return the name of the catch strategy.
+   */
+  public String getCatchStrategy() {
+    return this.catchStrategy;
+  }
+
+  /**
+   * Sets the name of the strategy of the bots.
+   *
+   * @param catchStrategy the name of the catch strategy.
+   * @throws IllegalArgumentException if there is no strategy with the name given.
+   */
+  public void setCatchStrategy(String catchStrategy) throws IllegalArgumentException {
+    CatchStrategy.fromName(catchStrategy, new Random());
+    this.catchStrategy = catchStrategy;
+  }
+
+  /**
+   * Gets the message the bots send in the communication rounds.
+   *
+   * @return the chat message, or {@code null} if the bots do not chat.
+   */
+  public String getChatMessage() {
+    return this.chatMessage;
+  }
+
+  /**
+   * Sets the message the bots send in the communication rounds. The lobbies of a run have the
+   * first round as their communication round.
+   *
+   * @param chatMessage the chat message, or {@code null} if the bots do not chat.
+   */
+  public void setChatMessage(String chatMessage) {
+    this.chatMessage = chatMessage;
+  }
+
+  /**
+   * Gets the password the lobbies are created with.
+   *
+   * @return the admin password.
+   */
+  public String getAdminPassword() {
+    return this.adminPassword;
+  }
+
+  /**
+   * Sets the password the lobbies are created with.
+   *
+   * @param adminPassword the admin password.
+   * @throws IllegalArgumentException if the password is {@code null}.
+   */
+  public void setAdminPassword(String adminPassword) throws IllegalArgumentException {
+    if (adminPassword == null) {
+      throw new IllegalArgumentException("adminPassword cannot be set to null");
+    }
+    this.adminPassword = adminPassword;
+  }
+
+  /**
+   * Gets the time to wait for every game to finish.
+   *
+   * @return the timeout in milliseconds.
+   */
+  public long getTimeoutMillis() {
+    return this.timeoutMillis;
+  }
+
+  /**
+   * Sets the time to wait for every game to finish.
+   *
+   * @param timeoutMillis the timeout in milliseconds.
+   * @throws IllegalArgumentException if the timeout is less than {@code 1}.
+   */
+  public void setTimeoutMillis(long timeoutMillis) throws IllegalArgumentException {
+    if (timeoutMillis < 1) {
+      throw new IllegalArgumentException("timeout cannot be less than 1");
+    }
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Gets the kind of threads the bots, and the stand-in server, run on.
+   *
+   * @return the execution mode of the run.
+   */
+  public ExecutionMode getExecutionMode() {
+    return this.executionMode;
+  }
+
+  /**
+   * Sets the kind of threads the bots, and the stand-in server, run on.
+   *
+   * @param executionMode the execution mode of the run.
+   * @throws IllegalArgumentException if the execution mode is {@code null}.
+   */
+  public void setExecutionMode(ExecutionMode executionMode) throws IllegalArgumentException {
+    if (executionMode == null) {
+      throw new IllegalArgumentException("executionMode cannot be set to null");
+    }
+    this.executionMode = executionMode;
+  }
+}
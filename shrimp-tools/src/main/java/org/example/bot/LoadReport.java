@@ -0,0 +1,79 @@
+package org.example.bot;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.network.LatencyHistogram;
+
+/**
+ * Represents the outcome of a {@link LoadGenerator} run.
+ *
+ * @param numberOfBots    the number of bots that played.
+ * @param games           the number of games played until their last round.
+ * @param rounds          the number of game rounds finished, counted once per game.
+ * @param messagesSent    the number of requests sent by the bots.
+ * @param messagesReceived the number of lines received by the bots.
+ * @param failedRequests  the number of requests that failed.
+ * @param elapsedNanos    the time from the first bot joining to the last game finishing.
+ * @param requestLatency  the latencies of the requests of the bots.
+ */
+public record LoadReport(int numberOfBots, long games, long rounds, long messagesSent,
+                         long messagesReceived, long failedRequests, long elapsedNanos,
+                         LatencyHistogram requestLatency) {
+  /**
+   * Gets the number of game rounds finished per second.
+   *
+   * @return the throughput of rounds.
+   */
+  public double roundsPerSecond() {
+    return this.perSecond(this.rounds);
+  }
+
+  /**
+   * Gets the number of messages sent and received per second.
+   *
+   * @return the throughput of messages.
+   */
+  public double messagesPerSecond() {
+    return this.perSecond(this.messagesSent + this.messagesReceived);
+  }
+
+  /**
+   * Describes the report in a few lines, with the latencies in milliseconds.
+   *
+   * @return the report described.
+   */
+  @Override
+  public String toString() {
+    return String.format(
+        "%d bots, %d games, %d rounds in %.2f s%n"
+        + "Throughput: %.1f rounds/s, %.1f messages/s (%d sent, %d received, %d failed)%n"
+        + "Request latency: p50 %.2f ms | p90 %.2f ms | p99 %.2f ms | max %.2f ms",
+        this.numberOfBots, this.games, this.rounds, this.elapsedNanos / 1e9,
+        this.roundsPerSecond(), this.messagesPerSecond(), this.messagesSent,
+        this.messagesReceived, this.failedRequests, toMillis(this.requestLatency, 50),
+        toMillis(this.requestLatency, 90), toMillis(this.requestLatency, 99),
+        this.requestLatency.getMaxNanos() / 1e6);
+  }
+
+  /**
+   * Gets a count per second of the elapsed time.
+   *
+   * @param count the count.
+   * @return the count per second, or {@code 0} if no time elapsed.
+   */
+  private double perSecond(long count) {
+    return this.elapsedNanos == 0 ? 0 : count * (double) TimeUnit.SECONDS.toNanos(1)
+                                        / this.elapsedNanos;
+  }
+
+  /**
+   * Gets a percentile of a histogram in milliseconds.
+   *
+   * @param histogram  the histogram.
+   * @param percentile the percentile.
+   * @return the value at the percentile in milliseconds.
+   */
+  private static double toMillis(LatencyHistogram histogram, double percentile) {
+    return histogram.getValueAtPercentile(percentile) / 1e6;
+  }
+}
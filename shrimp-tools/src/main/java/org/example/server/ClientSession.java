@@ -0,0 +1,152 @@
+package org.example.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import org.example.network.DeflateFrame;
+
+/**
+ * Represents the connection of a client to the {@link StandInServer}.
+ * <p>
+ * The session reads the lines of the client on a thread of its own and hands them to the server.
+ * The lines for the client are written in the order they are sent, compressed into a
+ * {@link DeflateFrame} when the client enabled compression and the line is long enough.
+ */
+class ClientSession implements Runnable {
+  private final StandInServer server;
+  private final Socket socket;
+  private final OutputStream outputStream;
+  private volatile String username;
+  private volatile boolean admin;
+  private volatile boolean compressionEnabled;
+  private volatile boolean lobbyDeltasEnabled;
+
+  /**
+   * Creates a new instance of {@code ClientSession}.
+   *
+   * @param server the server the client connected to.
+   * @param socket the socket of the connection.
+   * @throws IOException if the stream of the socket could not be opened.
+   */
+  ClientSession(StandInServer server, Socket socket) throws IOException {
+    this.server = server;
+    this.socket = socket;
+    this.outputStream = socket.getOutputStream();
+    this.admin = false;
+    this.compressionEnabled = false;
+    this.lobbyDeltasEnabled = false;
+  }
+
+  @Override
+  public void run() {
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(this.socket.getInputStream(), StandardCharsets.UTF_8))) {
+      String line = reader.readLine();
+      while (line != null) {
+        this.server.handle(this, line);
+        line = reader.readLine();
+      }
+    }
+    catch (IOException exception) {
+      // The client is gone either way.
+    }
+    finally {
+      this.close();
+      this.server.disconnected(this);
+    }
+  }
+
+  /**
+   * Writes a line to the client, ignoring failures, since the reader thread notices a lost
+   * connection.
+   *
+   * @param line the line to write, without its line terminator.
+   * @param compressionThreshold the length from which the line is compressed.
+   */
+  synchronized void write(String line, int compressionThreshold) {
+    String frame = line;
+    if (this.compressionEnabled && line.length() >= compressionThreshold) {
+      frame = DeflateFrame.encode(line);
+    }
+    try {
+      this.outputStream.write((frame + "\r\n").getBytes(StandardCharsets.UTF_8));
+      this.outputStream.flush();
+    }
+    catch (IOException exception) {
+      this.close();
+    }
+  }
+
+  /**
+   * Closes the connection to the client.
+   */
+  void close() {
+    try {
+      this.socket.close();
+    }
+    catch (IOException exception) {
+      // The socket is closed as far as the server is concerned.
+    }
+  }
+
+  /**
+   * Gets the username of the client.
+   *
+   * @return the username, or {@code null} if none was assigned yet.
+   */
+  String getUsername() {
+    return this.username;
+  }
+
+  /**
+   * Sets the username of the client.
+   *
+   * @param username the username of the client.
+   */
+  void setUsername(String username) {
+    this.username = username;
+  }
+
+  /**
+   * Checks if the client is an admin.
+   *
+   * @return {@code true} if the client is an admin, or {@code false} if it is not.
+   */
+  boolean isAdmin() {
+    return this.admin;
+  }
+
+  /**
+   * Makes the client an admin.
+   */
+  void becomeAdmin() {
+    this.admin = true;
+  }
+
+  /**
+   * Enables compression of the long lines written to the client.
+   */
+  void enableCompression() {
+    this.compressionEnabled = true;
+  }
+
+  /**
+   * Enables the lobby deltas, so the client is sent the changes of the lobbies instead of the
+   * whole lobby list.
+   */
+  void enableLobbyDeltas() {
+    this.lobbyDeltasEnabled = true;
+  }
+
+  /**
+   * Checks if the client enabled the lobby deltas.
+   *
+   * @return {@code true} if the lobby deltas are enabled, or {@code false} if they are not.
+   */
+  boolean isLobbyDeltasEnabled() {
+    return this.lobbyDeltasEnabled;
+  }
+}
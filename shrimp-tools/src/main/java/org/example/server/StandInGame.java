@@ -0,0 +1,346 @@
+package org.example.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import org.example.model.ChatMessage;
+import org.example.model.CommunicationSchedule;
+
+/**
+ * Represents a lobby of the {@link StandInServer} and the game played in it once it is full.
+ * <p>
+ * The players are known by their usernames, so a player that resumed its session on a new
+ * connection keeps its place. The shrimp price of a round starts at {@value #BASE_PRICE} dollars
+ * and drops by a dollar for every 5 kilograms caught by all players, and every player pays
+ * {@value #EXPENSES_PER_KILOGRAM} dollars per kilogram caught, like the calculation screens of
+ * the client explain. A player that did not catch shrimp before the round ended catches the
+ * minimum amount.
+ */
+class StandInGame {
+  /**
+   * The price of a kilogram of shrimp when no shrimp is caught.
+   */
+  static final int BASE_PRICE = 45;
+  /**
+   * The expenses of a player per kilogram of shrimp caught.
+   */
+  static final int EXPENSES_PER_KILOGRAM = 5;
+  private final String name;
+  private final int maxPlayers;
+  private final int numberOfRounds;
+  private final int roundTime;
+  private final String communicationRounds;
+  private final CommunicationSchedule communicationSchedule;
+  private final int communicationRoundTime;
+  private final int minShrimp;
+  private final int maxShrimp;
+  private final List<String> players;
+  private final Map<String, Integer> catches;
+  private Map<String, Integer> lastCatches;
+  private int lastShrimpPrice;
+  private final Map<String, Integer> totalProfits;
+  private final List<String> roundRows;
+  private final List<String> chat;
+  private int islandNumber;
+  private int currentRound;
+  private ScheduledFuture<?> roundTimer;
+
+  /**
+   * Creates a new instance of {@code StandInGame}, a lobby waiting for players.
+   *
+   * @param name                   the name of the lobby.
+   * @param maxPlayers             the number of players the game starts with.
+   * @param numberOfRounds         the number of rounds of the game.
+   * @param roundTime              the time of each round in seconds.
+   * @param communicationRounds    the communication rounds, separated by {@code +}.
+   * @param communicationRoundTime the extra time of a communication round in seconds.
+   * @param minShrimp              the minimum amount of shrimp kilograms to catch.
+   * @param maxShrimp              the maximum amount of shrimp kilograms to catch.
+   * @throws IllegalArgumentException if a setting is out of range.
+   */
+  StandInGame(String name, int maxPlayers, int numberOfRounds, int roundTime,
+              String communicationRounds, int communicationRoundTime, int minShrimp,
+              int maxShrimp) throws IllegalArgumentException {
+    if (name == null || name.isBlank()) {
+      throw new IllegalArgumentException("name cannot be set to null or blank");
+    }
+    if (maxPlayers < 1 || numberOfRounds < 1 || roundTime < 1 || communicationRoundTime < 0) {
+      throw new IllegalArgumentException("game settings out of range");
+    }
+    if (minShrimp < 0 || maxShrimp < minShrimp) {
+      throw new IllegalArgumentException("shrimp range out of range");
+    }
+    this.name = name;
+    this.maxPlayers = maxPlayers;
+    this.numberOfRounds = numberOfRounds;
+    this.roundTime = roundTime;
+    this.communicationRounds = communicationRounds;
+    this.communicationSchedule = new CommunicationSchedule(communicationRounds, numberOfRounds,
+                                                           roundTime, communicationRoundTime);
+    this.communicationRoundTime = communicationRoundTime;
+    this.minShrimp = minShrimp;
+    this.maxShrimp = maxShrimp;
+    this.players = new ArrayList<String>();
+    this.catches = new LinkedHashMap<String, Integer>();
+    this.lastCatches = Map.of();
+    this.lastShrimpPrice = 0;
+    this.totalProfits = new LinkedHashMap<String, Integer>();
+    this.roundRows = new ArrayList<String>();
+    this.chat = new ArrayList<String>();
+    this.currentRound = 0;
+  }
+
+  /**
+   * Gets the name of the lobby.
+   *
+   * @return the name of the lobby.
+   */
+  String getName() {
+    return this.name;
+  }
+
+  /**
+   * Gets the players of the lobby, in the order they joined.
+   *
+   * @return the usernames of the players.
+   */
+  List<String> getPlayers() {
+    return Collections.unmodifiableList(this.players);
+  }
+
+  /**
+   * Checks if the lobby has as many players as the game starts with.
+   *
+   * @return {@code true} if the lobby is full, or {@code false} if it is not.
+   */
+  boolean isFull() {
+    return this.players.size() >= this.maxPlayers;
+  }
+
+  /**
+   * Adds a player to the lobby.
+   *
+   * @param player the username of the player.
+   */
+  void addPlayer(String player) {
+    this.players.add(player);
+  }
+
+  /**
+   * Removes a player from the lobby.
+   *
+   * @param player the username of the player.
+   * @return {@code true} if the player was in the lobby, or {@code false} if it was not.
+   */
+  boolean removePlayer(String player) {
+    return this.players.remove(player);
+  }
+
+  /**
+   * Encodes the lobby for a {@code LOBBY_LIST} reply or an {@code UPDATE LOBBY}.
+   *
+   * @return the lobby in the format {@code <name>.<players>.<max players>}.
+   */
+  String encodeLobby() {
+    return this.name + "." + this.players.size() + "." + this.maxPlayers;
+  }
+
+  /**
+   * Encodes the number of players in the lobby for an {@code UPDATE LOBBY_PLAYERS}.
+   *
+   * @return the lobby in the format {@code <name>.<players>}.
+   */
+  String encodeLobbyPlayers() {
+    return this.name + "." + this.players.size();
+  }
+
+  /**
+   * Starts the game with the players in the lobby.
+   *
+   * @param islandNumber the number of the island the game is played on.
+   */
+  void start(int islandNumber) {
+    this.islandNumber = islandNumber;
+    this.currentRound = 1;
+    for (String player : this.players) {
+      this.totalProfits.put(player, 0);
+    }
+  }
+
+  /**
+   * Checks if the game started.
+   *
+   * @return {@code true} if the game started, or {@code false} if the lobby is still waiting.
+   */
+  boolean isStarted() {
+    return this.currentRound > 0;
+  }
+
+  /**
+   * Checks if every round of the game was played.
+   *
+   * @return {@code true} if the game is finished, or {@code false} if it is not.
+   */
+  boolean isFinished() {
+    return this.currentRound > this.numberOfRounds;
+  }
+
+  /**
+   * Gets the number of the round being played.
+   *
+   * @return the number of the round, starting at {@code 1}.
+   */
+  int getCurrentRound() {
+    return this.currentRound;
+  }
+
+  /**
+   * Gets the time players have to catch shrimp in the current round, which is longer in
+   * communication rounds.
+   *
+   * @return the time of the round in seconds.
+   */
+  int getCurrentRoundTime() {
+    return this.communicationSchedule.getRoundDuration(this.currentRound);
+  }
+
+  /**
+   * Sets the timer ending the current round, cancelling the timer of the previous round.
+   *
+   * @param roundTimer the timer ending the current round, or {@code null} for none.
+   */
+  void setRoundTimer(ScheduledFuture<?> roundTimer) {
+    if (this.roundTimer != null) {
+      this.roundTimer.cancel(false);
+    }
+    this.roundTimer = roundTimer;
+  }
+
+  /**
+   * Encodes the {@code GAME_STARTED} update sent to a player.
+   *
+   * @param recipient the username of the player.
+   * @return the update encoded.
+   */
+  String encodeGameStarted(String recipient) {
+    StringBuilder update = new StringBuilder("UPDATE GAME_STARTED");
+    for (String player : this.players) {
+      if (!player.equals(recipient)) {
+        update.append(' ').append(player);
+      }
+    }
+    return update.append(' ').append(this.numberOfRounds).append(' ').append(this.roundTime)
+                 .append(' ').append(this.communicationRounds).append(' ')
+                 .append(this.communicationRoundTime).append(' ').append(this.minShrimp)
+                 .append(' ').append(this.maxShrimp).append(' ').append(this.islandNumber)
+                 .append(' ').append(this.name).toString();
+  }
+
+  /**
+   * Registers the shrimp a player catches in the current round.
+   *
+   * @param player       the username of the player.
+   * @param shrimpCaught the shrimp kilograms caught.
+   * @return {@code true} if the amount was accepted, or {@code false} if it is out of range or
+   *     the player is not in the game.
+   */
+  boolean catchShrimp(String player, int shrimpCaught) {
+    boolean accepted = this.isStarted() && !this.isFinished() && this.players.contains(player)
+                       && shrimpCaught >= this.minShrimp && shrimpCaught <= this.maxShrimp;
+    if (accepted) {
+      this.catches.put(player, shrimpCaught);
+    }
+    return accepted;
+  }
+
+  /**
+   * Checks if every player caught shrimp in the current round.
+   *
+   * @return {@code true} if every player caught shrimp, or {@code false} if some did not.
+   */
+  boolean allPlayersCaughtShrimp() {
+    return this.catches.keySet().containsAll(this.players);
+  }
+
+  /**
+   * Ends the current round, computing the shrimp price and the profit of every player, and
+   * moves on to the next round.
+   *
+   * @return the price of a kilogram of shrimp in the round.
+   */
+  int finishRound() {
+    int totalCaught = 0;
+    for (String player : this.players) {
+      this.catches.putIfAbsent(player, this.minShrimp);
+      totalCaught += this.catches.get(player);
+    }
+    int shrimpPrice = Math.max(0, BASE_PRICE - (int) (0.2 * totalCaught));
+    StringBuilder caughtFields = new StringBuilder();
+    StringBuilder profitFields = new StringBuilder();
+    for (String player : this.players) {
+      int roundProfit = (shrimpPrice - EXPENSES_PER_KILOGRAM) * this.catches.get(player);
+      int totalProfit = this.totalProfits.merge(player, roundProfit, Integer::sum);
+      caughtFields.append('.').append(this.catches.get(player));
+      profitFields.append('.').append(roundProfit).append('.').append(totalProfit);
+    }
+    this.roundRows.add(this.currentRound + caughtFields.toString() + "." + totalCaught + "."
+                       + shrimpPrice + "." + (shrimpPrice - EXPENSES_PER_KILOGRAM)
+                       + profitFields);
+    this.lastShrimpPrice = shrimpPrice;
+    this.lastCatches = new LinkedHashMap<String, Integer>(this.catches);
+    this.catches.clear();
+    this.currentRound++;
+    return shrimpPrice;
+  }
+
+  /**
+   * Encodes the {@code ROUND_FINISHED} update of the last round finished for a player, who is
+   * listed first.
+   *
+   * @param recipient the username of the player.
+   * @return the update encoded.
+   */
+  String encodeRoundFinished(String recipient) {
+    StringBuilder update = new StringBuilder("UPDATE ROUND_FINISHED ").append(
+        this.lastShrimpPrice);
+    List<String> order = new ArrayList<String>(this.players);
+    if (order.remove(recipient)) {
+      order.add(0, recipient);
+    }
+    for (String player : order) {
+      int shrimpCaught = this.lastCatches.getOrDefault(player, 0);
+      update.append(' ').append(player).append(' ').append(shrimpCaught).append(' ')
+            .append((this.lastShrimpPrice - EXPENSES_PER_KILOGRAM) * shrimpCaught);
+    }
+    return update.toString();
+  }
+
+  /**
+   * Adds a chat message to the log of the game.
+   *
+   * @param player  the username of the sender.
+   * @param message the message, with its spaces encoded.
+   * @param time    the time the message was sent.
+   */
+  void addChatMessage(String player, String message, String time) {
+    this.chat.add(new ChatMessage(player, message, time).encode());
+  }
+
+  /**
+   * Encodes the {@code FINISHED_GAME} update sent to the admins.
+   *
+   * @param gameNumber the number of the game among the games finished by the server.
+   * @return the update encoded.
+   */
+  String encodeFinishedGame(int gameNumber) {
+    return "UPDATE FINISHED_GAME " + this.name + " " + gameNumber + " "
+           + String.join(".", this.players) + " " + String.join(",", this.roundRows) + " "
+           + this.players.size() + "." + this.numberOfRounds + "." + this.roundTime + "."
+           + this.communicationRounds + "." + this.communicationRoundTime + "." + this.minShrimp
+           + "." + this.maxShrimp + " " + (this.chat.isEmpty() ? "NO_CHAT"
+                                                                : String.join("◊", this.chat));
+  }
+}
@@ -0,0 +1,717 @@
+package org.example.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.example.network.ConnectionSupervisor;
+import org.example.network.DeflateFrame;
+import org.example.network.Heartbeat;
+import org.example.network.PacketTokenizer;
+import org.example.network.Reply;
+import org.example.network.ServerConnection;
+import org.example.network.protocol.Unknown;
+
+/**
+ * Represents a stand-in for the Shrimp Game server that runs in the same process as the client,
+ * so the network code can be tested and benchmarked on a machine without network.
+ * <p>
+ * The server speaks the protocol of the client: it assigns usernames, makes admins, creates,
+ * lists and updates lobbies, starts the game when a lobby is full, ends every round when every
+ * player caught shrimp or the round time ran out, computes the shrimp price and the profits,
+ * relays the chat, and sends every finished game to the admins. It lists the capabilities given
+ * by its {@link StandInServerOptions}, and honours the ones it lists: correlation ids,
+ * {@value ConnectionSupervisor#RESUME_CAPABILITY} of a session lost in a game,
+ * {@value Heartbeat#PING_CAPABILITY}, {@value DeflateFrame#CAPABILITY} frames,
+ * {@value ServerConnection#LOBBY_DELTAS_CAPABILITY}, sent instead of the whole lobby list to the
+ * clients that enable them, and {@value ServerConnection#LOBBY_PAGES_CAPABILITY} of the lobby
+ * list.
+ * <p>
+ * Every command is handled under a single lock, and its reply is sent before the updates it
+ * causes. The lines for a client are written on the thread that handles the command, or, if a
+ * latency is set, by a scheduler once the latency passed.
+ */
+public class StandInServer implements Closeable {
+  private static final String USERNAME_PREFIX = "Player";
+  private final StandInServerOptions options;
+  private final Object lock;
+  private final Set<ClientSession> connections;
+  private final Map<String, ClientSession> sessions;
+  private final Map<String, StandInGame> lobbies;
+  private final Map<String, StandInGame> gamesByPlayer;
+  private final Set<String> detachedPlayers;
+  private final List<Map.Entry<ClientSession, String>> outbox;
+  private final PacketTokenizer command;
+  private final ScheduledExecutorService scheduler;
+  private final CountDownLatch closedLatch;
+  private ServerSocket serverSocket;
+  private int nextUsername;
+  private int nextIsland;
+  private int finishedGames;
+  private volatile boolean closed;
+
+  /**
+   * Creates a new instance of {@code StandInServer}, which does not listen until it is started.
+   *
+   * @param options the options of the server.
+   * @throws IllegalArgumentException if the options are {@code null}.
+   */
+  public StandInServer(StandInServerOptions options) throws IllegalArgumentException {
+    if (options == null) {
+      throw new IllegalArgumentException("options cannot be set to null");
+    }
+    this.options = options;
+    this.lock = new Object();
+    this.connections = new HashSet<ClientSession>();
+    this.sessions = new HashMap<String, ClientSession>();
+    this.lobbies = new LinkedHashMap<String, StandInGame>();
+    this.gamesByPlayer = new HashMap<String, StandInGame>();
+    this.detachedPlayers = new HashSet<String>();
+    this.outbox = new ArrayList<Map.Entry<ClientSession, String>>();
+    this.command = new PacketTokenizer();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+        {
+          Thread thread = new Thread(runnable, "Shrimp Game Stand-in Scheduler");
+          thread.setDaemon(true);
+          return thread;
+        });
+    this.closedLatch = new CountDownLatch(1);
+    this.nextUsername = 0;
+    this.nextIsland = 0;
+    this.finishedGames = 0;
+    this.closed = false;
+  }
+
+  /**
+   * Starts a stand-in server from the command line, and serves clients until the process is
+   * stopped or the thread running it is interrupted. The threads of the server are daemons, so
+   * the method blocks until the server is closed to keep the process alive.
+   *
+   * @param args the port, the latency in milliseconds and the burst size, all optional.
+   * @throws IOException if the server could not listen on the port.
+   * @throws InterruptedException if the thread was interrupted while the server was running.
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    StandInServerOptions options = new StandInServerOptions();
+    if (args.length > 0) {
+      options.setPort(Integer.parseInt(args[0]));
+    }
+    if (args.length > 1) {
+      options.setLatencyMillis(Long.parseLong(args[1]));
+    }
+    if (args.length > 2) {
+      options.setBurstSize(Integer.parseInt(args[2]));
+    }
+    StandInServer server = new StandInServer(options);
+    Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+    try {
+      System.out.println("Stand-in Shrimp Game server listening on port " + server.start());
+      server.awaitClose();
+    }
+    finally {
+      server.close();
+    }
+  }
+
+  /**
+   * Starts listening for clients on the loopback address.
+   *
+   * @return the port the server listens on.
+   * @throws IOException if the server could not listen on the port.
+   * @throws IllegalStateException if the server was already started.
+   */
+  public int start() throws IOException, IllegalStateException {
+    synchronized (this.lock) {
+      if (this.serverSocket != null) {
+        throw new IllegalStateException("Server already started.");
+      }
+      this.serverSocket = new ServerSocket(this.options.getPort(), 50,
+                                           InetAddress.getLoopbackAddress());
+    }
+    this.options.getExecutionMode().newThread("Shrimp Game Stand-in Acceptor",
+                                              this::acceptClients).start();
+    if (this.options.getBurstSize() > 0) {
+      this.scheduler.scheduleAtFixedRate(this::sendBurst, this.options.getBurstIntervalMillis(),
+                                         this.options.getBurstIntervalMillis(),
+                                         TimeUnit.MILLISECONDS);
+    }
+    return this.getPort();
+  }
+
+  /**
+   * Gets the port the server listens on.
+   *
+   * @return the port, or {@code -1} if the server was not started.
+   */
+  public int getPort() {
+    synchronized (this.lock) {
+      return this.serverSocket == null ? -1 : this.serverSocket.getLocalPort();
+    }
+  }
+
+  /**
+   * Waits until the server is closed.
+   *
+   * @throws InterruptedException if the thread was interrupted while waiting.
+   */
+  public void awaitClose() throws InterruptedException {
+    this.closedLatch.await();
+  }
+
+  /**
+   * Stops listening and closes the connections of every client.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    this.closedLatch.countDown();
+    this.scheduler.shutdownNow();
+    List<ClientSession> openConnections;
+    synchronized (this.lock) {
+      openConnections = new ArrayList<ClientSession>(this.connections);
+      try {
+        if (this.serverSocket != null) {
+          this.serverSocket.close();
+        }
+      }
+      catch (IOException exception) {
+        // The server is closed as far as the clients are concerned.
+      }
+    }
+    for (ClientSession session : openConnections) {
+      session.close();
+    }
+  }
+
+  /**
+   * Accepts clients until the server is closed, serving each on a thread of its own.
+   */
+  private void acceptClients() {
+    while (!this.closed) {
+      try {
+        Socket socket = this.serverSocket.accept();
+        socket.setTcpNoDelay(true);
+        ClientSession session = new ClientSession(this, socket);
+        synchronized (this.lock) {
+          this.connections.add(session);
+        }
+        this.options.getExecutionMode().newThread("Shrimp Game Stand-in Client", session)
+                    .start();
+      }
+      catch (IOException exception) {
+        // The server socket was closed, or the client left before it was served.
+      }
+    }
+  }
+
+  /**
+   * Handles a line received from a client, sending the reply with the correlation id of the
+   * command, followed by the updates the command caused.
+   *
+   * @param session the session of the client.
+   * @param line    the line received.
+   */
+  void handle(ClientSession session, String line) {
+    // The commands are dispatched from their line, so the request is not decoded.
+    Reply request = Reply.parse(line, Unknown::new);
+    synchronized (this.lock) {
+      String reply;
+      try {
+        reply = this.dispatch(session, request.getLine());
+      }
+      catch (IllegalStateException | IllegalArgumentException exception) {
+        reply = "INVALID_COMMAND";
+      }
+      if (request.hasCorrelationId()
+          && this.options.getCapabilities().contains("CORRELATION_ID")) {
+        reply = "@" + request.getCorrelationId() + " " + reply;
+      }
+      this.deliver(session, reply);
+      this.flushOutbox();
+    }
+  }
+
+  /**
+   * Forgets a client that disconnected. A player lost in a game keeps its place until the end of
+   * the game if the server lists the {@code RESUME} capability, and leaves the game otherwise,
+   * while a player lost in a lobby leaves the lobby.
+   *
+   * @param session the session of the client.
+   */
+  void disconnected(ClientSession session) {
+    synchronized (this.lock) {
+      this.connections.remove(session);
+      String username = session.getUsername();
+      if (username != null && this.sessions.get(username) == session) {
+        this.sessions.remove(username);
+        StandInGame game = this.gamesByPlayer.get(username);
+        if (game != null && game.isStarted()) {
+          if (this.hasCapability(ConnectionSupervisor.RESUME_CAPABILITY)) {
+            this.detachedPlayers.add(username);
+          }
+        }
+        else if (game != null) {
+          this.leaveLobby(username);
+        }
+      }
+      this.flushOutbox();
+    }
+  }
+
+  /**
+   * Runs a command and returns its reply. The updates caused by the command are added to the
+   * outbox.
+   *
+   * @param session the session of the client.
+   * @param line    the command, without its correlation id.
+   * @return the reply to the command.
+   */
+  private String dispatch(ClientSession session, String line) {
+    PacketTokenizer packet = this.command.reset(line);
+    String type = packet.nextString(' ');
+    return switch (type) {
+      case "REQUEST_USERNAME" -> this.assignUsername(session);
+      case "RESUME" -> this.resume(session, packet.nextString(' '));
+      case "PING" -> this.hasCapability(Heartbeat.PING_CAPABILITY) ? "PONG" : "UNKNOWN_COMMAND";
+      case "ENABLE_COMPRESSION" -> this.enableCompression(session);
+      case "ENABLE_LOBBY_DELTAS" -> this.enableLobbyDeltas(session);
+      case "BECOME_ADMIN" -> this.becomeAdmin(session, packet.nextString(' '));
+      case "REQUEST_LOBBY_LIST" -> this.listLobbies(packet);
+      case "CREATE_LOBBY" -> this.createLobby(packet);
+      case "JOIN_LOBBY" -> this.joinLobby(session, packet.nextString(' '));
+      case "LEAVE_LOBBY" -> this.leaveLobby(session.getUsername());
+      case "CATCH_SHRIMP" -> this.catchShrimp(session, packet.nextInt(' '));
+      case "CHAT_MESSAGE" -> this.sendChatMessage(session, packet.nextString(' '));
+      default -> "UNKNOWN_COMMAND";
+    };
+  }
+
+  /**
+   * Assigns a new username to a client.
+   *
+   * @param session the session of the client.
+   * @return the {@code USERNAME} reply, listing the capabilities of the server.
+   */
+  private String assignUsername(ClientSession session) {
+    if (session.getUsername() != null) {
+      this.sessions.remove(session.getUsername());
+    }
+    this.nextUsername++;
+    String username = USERNAME_PREFIX + this.nextUsername;
+    session.setUsername(username);
+    this.sessions.put(username, session);
+    StringBuilder reply = new StringBuilder("USERNAME ").append(username).append(' ')
+                                                          .append(session.isAdmin());
+    for (String capability : this.options.getCapabilities()) {
+      reply.append(' ').append(capability);
+    }
+    return reply.toString();
+  }
+
+  /**
+   * Hands the place of a player lost in a game over to a new connection.
+   *
+   * @param session          the session of the new connection.
+   * @param previousUsername the username of the lost connection.
+   * @return {@code RESUME_SUCCESS} if the place was handed over, or {@code RESUME_FAILED} if
+   *     there is no such place.
+   */
+  private String resume(ClientSession session, String previousUsername) {
+    String reply = "RESUME_FAILED";
+    if (this.hasCapability(ConnectionSupervisor.RESUME_CAPABILITY)
+        && this.detachedPlayers.remove(previousUsername)) {
+      this.sessions.remove(session.getUsername());
+      session.setUsername(previousUsername);
+      this.sessions.put(previousUsername, session);
+      reply = "RESUME_SUCCESS";
+    }
+    return reply;
+  }
+
+  /**
+   * Enables compression of the long lines sent to a client.
+   *
+   * @param session the session of the client.
+   * @return the reply to the request.
+   */
+  private String enableCompression(ClientSession session) {
+    String reply = "UNKNOWN_COMMAND";
+    if (this.hasCapability(DeflateFrame.CAPABILITY)) {
+      session.enableCompression();
+      reply = "COMPRESSION_ENABLED";
+    }
+    return reply;
+  }
+
+  /**
+   * Lists the lobbies waiting for players, or a page of them if the request gives an offset and
+   * a limit and the server lists the {@value ServerConnection#LOBBY_PAGES_CAPABILITY}
+   * capability.
+   *
+   * @param packet the tokenizer positioned after the type of the command.
+   * @return the reply to the request.
+   */
+  private String listLobbies(PacketTokenizer packet) {
+    String reply;
+    if (packet.hasMoreTokens() && this.hasCapability(ServerConnection.LOBBY_PAGES_CAPABILITY)) {
+      int offset = packet.nextInt(' ');
+      int limit = packet.nextInt(' ');
+      StringBuilder lobbyFields = new StringBuilder();
+      int totalLobbies = 0;
+      for (StandInGame lobby : this.lobbies.values()) {
+        if (!lobby.isStarted()) {
+          if (totalLobbies >= offset && totalLobbies < offset + limit) {
+            lobbyFields.append(' ').append(lobby.encodeLobby());
+          }
+          totalLobbies++;
+        }
+      }
+      reply = "LOBBY_PAGE " + offset + " " + totalLobbies + lobbyFields;
+    }
+    else {
+      reply = "LOBBY_LIST" + this.encodeLobbies();
+    }
+    return reply;
+  }
+
+  /**
+   * Enables the lobby deltas for a client.
+   *
+   * @param session the session of the client.
+   * @return the reply to the request.
+   */
+  private String enableLobbyDeltas(ClientSession session) {
+    String reply = "UNKNOWN_COMMAND";
+    if (this.hasCapability(ServerConnection.LOBBY_DELTAS_CAPABILITY)) {
+      session.enableLobbyDeltas();
+      reply = "LOBBY_DELTAS_ENABLED";
+    }
+    return reply;
+  }
+
+  /**
+   * Makes a client an admin if the password is right.
+   *
+   * @param session  the session of the client.
+   * @param password the password given.
+   * @return the reply to the request.
+   */
+  private String becomeAdmin(ClientSession session, String password) {
+    String reply = "BECOME_ADMIN_FAILED";
+    if (this.options.getAdminPassword().equals(password)) {
+      session.becomeAdmin();
+      reply = "BECOME_ADMIN_SUCCESSFUL";
+    }
+    return reply;
+  }
+
+  /**
+   * Creates a lobby and tells every client about it.
+   *
+   * @param packet the tokenizer positioned after the type of the command.
+   * @return the reply to the request.
+   */
+  private String createLobby(PacketTokenizer packet) {
+    String name = packet.nextString(' ');
+    String reply = "LOBBY_EXISTS";
+    if (!this.lobbies.containsKey(name)) {
+      this.lobbies.put(name, new StandInGame(name, packet.nextInt(' '), packet.nextInt(' '),
+                                             packet.nextInt(' '), packet.nextString(' '),
+                                             packet.nextInt(' '), packet.nextInt(' '),
+                                             packet.nextInt(' ')));
+      this.broadcastLobbies("UPDATE LOBBY_ADDED " + this.lobbies.get(name).encodeLobby());
+      reply = "CREATE_LOBBY_SUCCESS";
+    }
+    return reply;
+  }
+
+  /**
+   * Adds a client to a lobby, leaving the lobby it was in, and starts the game once the lobby is
+   * full.
+   *
+   * @param session   the session of the client.
+   * @param lobbyName the name of the lobby.
+   * @return the reply to the request.
+   */
+  private String joinLobby(ClientSession session, String lobbyName) {
+    String username = session.getUsername();
+    StandInGame lobby = this.lobbies.get(lobbyName);
+    String reply;
+    if (lobby == null || lobby.isStarted()) {
+      reply = "LOBBY_NOT_EXIST";
+    }
+    else if (lobby.isFull()) {
+      reply = "LOBBY_FULL";
+    }
+    else {
+      this.leaveLobby(username);
+      lobby.addPlayer(username);
+      this.gamesByPlayer.put(username, lobby);
+      if (lobby.isFull()) {
+        this.startGame(lobby);
+        this.broadcastLobbies("UPDATE LOBBY_REMOVED " + lobby.getName());
+      }
+      else {
+        this.broadcastLobbies("UPDATE LOBBY_PLAYERS " + lobby.encodeLobbyPlayers());
+      }
+      reply = "JOIN_SUCCESS";
+    }
+    return reply;
+  }
+
+  /**
+   * Removes a client from the lobby it is in, unless its game started.
+   *
+   * @param username the username of the client.
+   * @return the reply to the request.
+   */
+  private String leaveLobby(String username) {
+    StandInGame lobby = this.gamesByPlayer.get(username);
+    if (lobby != null && !lobby.isStarted()) {
+      lobby.removePlayer(username);
+      this.gamesByPlayer.remove(username);
+      this.broadcastLobbies("UPDATE LOBBY_PLAYERS " + lobby.encodeLobbyPlayers());
+    }
+    return "LEFT_SUCCESS";
+  }
+
+  /**
+   * Starts the game of a full lobby.
+   *
+   * @param game the game to start.
+   */
+  private void startGame(StandInGame game) {
+    this.nextIsland++;
+    game.start(this.nextIsland);
+    for (String player : game.getPlayers()) {
+      this.send(player, game.encodeGameStarted(player));
+    }
+    this.scheduleRoundEnd(game);
+  }
+
+  /**
+   * Registers the shrimp a client catches, ending the round if every player caught shrimp.
+   *
+   * @param session      the session of the client.
+   * @param shrimpCaught the shrimp kilograms caught.
+   * @return the reply to the request.
+   */
+  private String catchShrimp(ClientSession session, int shrimpCaught) {
+    StandInGame game = this.gamesByPlayer.get(session.getUsername());
+    String reply = "CATCH_FAILED";
+    if (game != null && game.catchShrimp(session.getUsername(), shrimpCaught)) {
+      reply = "CAUGHT_SUCCESSFULLY";
+      if (game.allPlayersCaughtShrimp()) {
+        this.finishRound(game);
+      }
+    }
+    return reply;
+  }
+
+  /**
+   * Relays a chat message to every player of the game of the client.
+   *
+   * @param session the session of the client.
+   * @param message the message, with its spaces encoded.
+   * @return the reply to the request.
+   */
+  private String sendChatMessage(ClientSession session, String message) {
+    StandInGame game = this.gamesByPlayer.get(session.getUsername());
+    String reply = "NOT_IN_GAME";
+    if (game != null && game.isStarted()) {
+      String time = new SimpleDateFormat("HH:mm").format(new Date());
+      game.addChatMessage(session.getUsername(), message, time);
+      for (String player : game.getPlayers()) {
+        this.send(player, "UPDATE MESSAGE_SENT " + session.getUsername() + " " + message + " "
+                          + time);
+      }
+      reply = "MESSAGE_RECEIVED";
+    }
+    return reply;
+  }
+
+  /**
+   * Schedules the end of the current round of a game, once the time of the round ran out.
+   *
+   * @param game the game being played.
+   */
+  private void scheduleRoundEnd(StandInGame game) {
+    int round = game.getCurrentRound();
+    game.setRoundTimer(this.schedule(() ->
+        {
+          synchronized (this.lock) {
+            if (game.getCurrentRound() == round && !game.isFinished()) {
+              this.finishRound(game);
+              this.flushOutbox();
+            }
+          }
+        }, game.getCurrentRoundTime(), TimeUnit.SECONDS));
+  }
+
+  /**
+   * Ends the current round of a game, sending the results to the players, and the game to the
+   * admins if it was the last round.
+   *
+   * @param game the game being played.
+   */
+  private void finishRound(StandInGame game) {
+    game.finishRound();
+    for (String player : game.getPlayers()) {
+      this.send(player, game.encodeRoundFinished(player));
+    }
+    if (game.isFinished()) {
+      game.setRoundTimer(null);
+      this.finishedGames++;
+      String finishedGame = game.encodeFinishedGame(this.finishedGames);
+      for (ClientSession session : this.sessions.values()) {
+        if (session.isAdmin()) {
+          this.outbox.add(Map.entry(session, finishedGame));
+        }
+      }
+      this.lobbies.remove(game.getName());
+      for (String player : game.getPlayers()) {
+        this.gamesByPlayer.remove(player);
+        this.detachedPlayers.remove(player);
+      }
+    }
+    else {
+      this.scheduleRoundEnd(game);
+    }
+  }
+
+  /**
+   * Sends a change of the lobbies to every client that enabled the lobby deltas, and the lobbies
+   * waiting for players to every other client.
+   *
+   * @param lobbyDelta the update describing the change.
+   */
+  private void broadcastLobbies(String lobbyDelta) {
+    String update = null;
+    for (ClientSession session : this.sessions.values()) {
+      if (session.isLobbyDeltasEnabled()) {
+        this.outbox.add(Map.entry(session, lobbyDelta));
+      }
+      else {
+        if (update == null) {
+          update = "UPDATE LOBBY" + this.encodeLobbies();
+        }
+        this.outbox.add(Map.entry(session, update));
+      }
+    }
+  }
+
+  /**
+   * Sends a burst of lobby updates to every client.
+   */
+  private void sendBurst() {
+    synchronized (this.lock) {
+      String update = "UPDATE LOBBY" + this.encodeLobbies();
+      for (ClientSession session : this.sessions.values()) {
+        for (int index = 0; index < this.options.getBurstSize(); index++) {
+          this.outbox.add(Map.entry(session, update));
+        }
+      }
+      this.flushOutbox();
+    }
+  }
+
+  /**
+   * Encodes the lobbies waiting for players, each preceded by a space.
+   *
+   * @return the lobbies encoded.
+   */
+  private String encodeLobbies() {
+    StringBuilder lobbyFields = new StringBuilder();
+    for (StandInGame lobby : this.lobbies.values()) {
+      if (!lobby.isStarted()) {
+        lobbyFields.append(' ').append(lobby.encodeLobby());
+      }
+    }
+    return lobbyFields.toString();
+  }
+
+  /**
+   * Adds an update for a player to the outbox, unless the player is disconnected.
+   *
+   * @param player the username of the player.
+   * @param update the update to send.
+   */
+  private void send(String player, String update) {
+    ClientSession session = this.sessions.get(player);
+    if (session != null) {
+      this.outbox.add(Map.entry(session, update));
+    }
+  }
+
+  /**
+   * Sends the updates in the outbox in the order they were added.
+   */
+  private void flushOutbox() {
+    for (Map.Entry<ClientSession, String> update : this.outbox) {
+      this.deliver(update.getKey(), update.getValue());
+    }
+    this.outbox.clear();
+  }
+
+  /**
+   * Writes a line to a client, after the latency if one is set.
+   *
+   * @param session the session of the client.
+   * @param line    the line to write.
+   */
+  private void deliver(ClientSession session, String line) {
+    int compressionThreshold = this.options.getCompressionThreshold();
+    if (this.options.getLatencyMillis() > 0 && !this.closed) {
+      this.schedule(() -> session.write(line, compressionThreshold),
+                    this.options.getLatencyMillis(), TimeUnit.MILLISECONDS);
+    }
+    else {
+      session.write(line, compressionThreshold);
+    }
+  }
+
+  /**
+   * Schedules a task on the scheduler of the server, unless the server is closed.
+   *
+   * @param task  the task to run.
+   * @param delay the time to wait before running the task.
+   * @param unit  the unit of the delay.
+   * @return the task scheduled, or {@code null} if the server is closed.
+   */
+  private ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+    ScheduledFuture<?> scheduledTask = null;
+    try {
+      scheduledTask = this.scheduler.schedule(task, delay, unit);
+    }
+    catch (RejectedExecutionException exception) {
+      // The server is closed, so the task is of no use.
+    }
+    return scheduledTask;
+  }
+
+  /**
+   * Checks if the server lists a capability.
+   *
+   * @param capability the capability to check.
+   * @return {@code true} if the server lists the capability, or {@code false} if it does not.
+   */
+  private boolean hasCapability(String capability) {
+    return this.options.getCapabilities().contains(capability);
+  }
+}
@@ -0,0 +1,226 @@
+package org.example.server;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.example.network.ExecutionMode;
+
+/**
+ * Represents the options of a {@link StandInServer}.
+ * <p>
+ * By default the server listens on a free port, answers at once, lists every capability the
+ * client knows and sends no bursts. A latency delays every line sent to a client, which stands
+ * in for the distance to the remote server. A burst size above {@code 0} sends that many extra
+ * {@code UPDATE LOBBY} lines to every client at every burst interval, which stands in for the
+ * bursts of updates at the end of a class.
+ */
+public class StandInServerOptions {
+  /**
+   * The capabilities listed by default: correlation ids, session resume, heartbeats, lobby deltas,
+   * lobby pages and compression.
+   */
+  public static final Set<String> DEFAULT_CAPABILITIES = Collections.unmodifiableSet(
+      new LinkedHashSet<String>(
+          List.of("CORRELATION_ID", "RESUME", "PING", "LOBBY_DELTAS", "LOBBY_PAGES", "DEFLATE")));
+  private int port;
+  private long latencyMillis;
+  private int burstSize;
+  private long burstIntervalMillis;
+  private Set<String> capabilities;
+  private String adminPassword;
+  private int compressionThreshold;
+  private ExecutionMode executionMode;
+
+  /**
+   * Creates a new instance of {@code StandInServerOptions} with the default options.
+   */
+  public StandInServerOptions() {
+    this.port = 0;
+    this.latencyMillis = 0;
+    this.burstSize = 0;
+    this.burstIntervalMillis = 1000;
+    this.capabilities = DEFAULT_CAPABILITIES;
+    this.adminPassword = "admin";
+    this.compressionThreshold = 1024;
+    this.executionMode = ExecutionMode.PLATFORM;
+  }
+
+  /**
+   * Gets the port the server listens on.
+   *
+   * @return the port, or {@code 0} if a free port is chosen.
+   */
+  public int getPort() {
+    return this.port;
+  }
+
+  /**
+   * Sets the port the server listens on.
+   *
+   * @param port the port, or {@code 0} to choose a free port.
+   * @throws IllegalArgumentException if the port is not between {@code 0} and {@code 65535}.
+   */
+  public void setPort(int port) throws IllegalArgumentException {
+    if (port < 0 || port > 65535) {
+      throw new IllegalArgumentException("port must be between 0 and 65535");
+    }
+    this.port = port;
+  }
+
+  /**
+   * Gets the delay added before every line sent to a client.
+   *
+   * @return the latency in milliseconds.
+   */
+  public long getLatencyMillis() {
+    return this.latencyMillis;
+  }
+
+  /**
+   * Sets the delay added before every line sent to a client.
+   *
+   * @param latencyMillis the latency in milliseconds, or {@code 0} for none.
+   * @throws IllegalArgumentException if the latency is negative.
+   */
+  public void setLatencyMillis(long latencyMillis) throws IllegalArgumentException {
+    if (latencyMillis < 0) {
+      throw new IllegalArgumentException("latency cannot be less than 0");
+    }
+    this.latencyMillis = latencyMillis;
+  }
+
+  /**
+   * Gets the number of extra lobby updates sent to every client at every burst interval.
+   *
+   * @return the size of a burst, or {@code 0} if no bursts are sent.
+   */
+  public int getBurstSize() {
+    return this.burstSize;
+  }
+
+  /**
+   * Sets the number of extra lobby updates sent to every client at every burst interval.
+   *
+   * @param burstSize the size of a burst, or {@code 0} for no bursts.
+   * @throws IllegalArgumentException if the size is negative.
+   */
+  public void setBurstSize(int burstSize) throws IllegalArgumentException {
+    if (burstSize < 0) {
+      throw new IllegalArgumentException("burst size cannot be less than 0");
+    }
+    this.burstSize = burstSize;
+  }
+
+  /**
+   * Gets the time between two bursts.
+   *
+   * @return the burst interval in milliseconds.
+   */
+  public long getBurstIntervalMillis() {
+    return this.burstIntervalMillis;
+  }
+
+  /**
+   * Sets the time between two bursts.
+   *
+   * @param burstIntervalMillis the burst interval in milliseconds.
+   * @throws IllegalArgumentException if the interval is less than {@code 1}.
+   */
+  public void setBurstIntervalMillis(long burstIntervalMillis) throws IllegalArgumentException {
+    if (burstIntervalMillis < 1) {
+      throw new IllegalArgumentException("burst interval cannot be less than 1");
+    }
+    this.burstIntervalMillis = burstIntervalMillis;
+  }
+
+  /**
+   * Gets the capabilities listed in the {@code USERNAME} reply.
+   *
+   * @return the capabilities of the server.
+   */
+  public Set<String> getCapabilities() {
+    return this.capabilities;
+  }
+
+  /**
+   * Sets the capabilities listed in the {@code USERNAME} reply. The server only uses the
+   * capabilities it lists, so an empty set stands in for an old server.
+   *
+   * @param capabilities the capabilities of the server.
+   * @throws IllegalArgumentException if the capabilities are {@code null}.
+   */
+  public void setCapabilities(Set<String> capabilities) throws IllegalArgumentException {
+    if (capabilities == null) {
+      throw new IllegalArgumentException("capabilities cannot be set to null");
+    }
+    this.capabilities = Collections.unmodifiableSet(new LinkedHashSet<String>(capabilities));
+  }
+
+  /**
+   * Gets the password of the admins.
+   *
+   * @return the password of the admins.
+   */
+  public String getAdminPassword() {
+    return this.adminPassword;
+  }
+
+  /**
+   * Sets the password of the admins.
+   *
+   * @param adminPassword the password of the admins.
+   * @throws IllegalArgumentException if the password is {@code null} or blank.
+   */
+  public void setAdminPassword(String adminPassword) throws IllegalArgumentException {
+    if (adminPassword == null || adminPassword.isBlank()) {
+      throw new IllegalArgumentException("admin password cannot be set to null or blank");
+    }
+    this.adminPassword = adminPassword;
+  }
+
+  /**
+   * Gets the length from which lines are sent compressed to clients that enabled compression.
+   *
+   * @return the compression threshold in characters.
+   */
+  public int getCompressionThreshold() {
+    return this.compressionThreshold;
+  }
+
+  /**
+   * Sets the length from which lines are sent compressed to clients that enabled compression.
+   *
+   * @param compressionThreshold the compression threshold in characters.
+   * @throws IllegalArgumentException if the threshold is negative.
+   */
+  public void setCompressionThreshold(int compressionThreshold)
+      throws IllegalArgumentException {
+    if (compressionThreshold < 0) {
+      throw new IllegalArgumentException("compression threshold cannot be less than 0");
+    }
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  /**
+   * Gets the kind of threads the connections of the clients are served on.
+   *
+   * @return the execution mode of the server.
+   */
+  public ExecutionMode getExecutionMode() {
+    return this.executionMode;
+  }
+
+  /**
+   * Sets the kind of threads the connections of the clients are served on.
+   *
+   * @param executionMode the execution mode of the server.
+   * @throws IllegalArgumentException if the execution mode is {@code null}.
+   */
+  public void setExecutionMode(ExecutionMode executionMode) throws IllegalArgumentException {
+    if (executionMode == null) {
+      throw new IllegalArgumentException("executionMode cannot be set to null");
+    }
+    this.executionMode = executionMode;
+  }
+}
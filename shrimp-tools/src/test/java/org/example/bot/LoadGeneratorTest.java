@@ -0,0 +1,139 @@
+package org.example.bot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.example.model.Game;
+import org.example.model.GameSettings;
+import org.example.model.Player;
+import org.example.model.Round;
+import org.example.network.ExecutionMode;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link LoadGenerator} and {@link CatchStrategy} classes.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for playing every game of a run against a stand-in server.</li>
+ * <li>Test for playing a game of six players.</li>
+ * <li>Test for choosing catches within the limits of the game.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for creating instances of {@link LoadGenerator} and {@link LoadGeneratorOptions}
+ * where the parameters given are invalid.</li>
+ * </ul>
+ */
+public class LoadGeneratorTest {
+    /**
+     * Positive test where the {@link LoadGenerator} class is able to play games with bots.
+     * <p>
+     * Tests that every game and round of a run is played, that the bots chat in the
+     * communication round, and that the latency of every request is recorded.
+     */
+    @Test
+    public void testRunAgainstStandInServer() throws Exception {
+        LoadGeneratorOptions options = new LoadGeneratorOptions();
+        options.setNumberOfBots(9);
+        options.setPlayersPerLobby(3);
+        options.setNumberOfRounds(4);
+        options.setCatchStrategy("average");
+        options.setChatMessage("Fish less");
+        options.setTimeoutMillis(20000);
+        options.setExecutionMode(ExecutionMode.PLATFORM);
+
+        LoadReport report = new LoadGenerator(options).run();
+        assertEquals(9, report.numberOfBots());
+        assertEquals(3, report.games());
+        assertEquals(12, report.rounds());
+        assertEquals(0, report.failedRequests());
+        // A username, a join, 4 catches and a chat message per bot.
+        assertEquals(9 * 7, report.messagesSent());
+        assertEquals(report.messagesSent(), report.requestLatency().getCount());
+        assertTrue(report.roundsPerSecond() > 0);
+        assertTrue(report.toString().contains("12 rounds"));
+    }
+
+    /**
+     * Positive test where the {@link LoadGenerator} class is able to play games of more than
+     * three players.
+     * <p>
+     * Tests that the bots of a lobby of six decode the five opponents of their game, record the
+     * results of all six players and finish every round.
+     */
+    @Test
+    public void testRunSixPlayerGame() throws Exception {
+        LoadGeneratorOptions options = new LoadGeneratorOptions();
+        options.setNumberOfBots(6);
+        options.setPlayersPerLobby(6);
+        options.setNumberOfRounds(2);
+        options.setTimeoutMillis(20000);
+        options.setExecutionMode(ExecutionMode.PLATFORM);
+
+        LoadReport report = new LoadGenerator(options).run();
+        assertEquals(1, report.games());
+        assertEquals(2, report.rounds());
+        assertEquals(0, report.failedRequests());
+    }
+
+    /**
+     * Positive test where the {@link CatchStrategy} interface is able to choose catches.
+     * <p>
+     * Tests that the strategies stay within the limits of the game, and that the average
+     * strategy catches the average of the opponents in the previous round.
+     */
+    @Test
+    public void testStrategiesChooseWithinLimits() {
+        Map<String, Player> players = new HashMap<>();
+        Player bot = new Player("bot", 5);
+        Player first = new Player("first", 5);
+        Player second = new Player("second", 5);
+        players.put("bot", bot);
+        players.put("first", first);
+        players.put("second", second);
+        Game game = new Game("Reef", new GameSettings(3, 5, 60, "1", 30, 10, 50), players, 1);
+
+        assertEquals(10, CatchStrategy.minimum().chooseShrimpToCatch(game, "bot"));
+        assertEquals(50, CatchStrategy.maximum().chooseShrimpToCatch(game, "bot"));
+        assertEquals(10, CatchStrategy.matchAverage().chooseShrimpToCatch(game, "bot"));
+        CatchStrategy random = CatchStrategy.random(new Random(7));
+        for (int i = 0; i < 100; i++) {
+            int shrimpToCatch = random.chooseShrimpToCatch(game, "bot");
+            assertTrue(shrimpToCatch >= 10 && shrimpToCatch <= 50);
+        }
+
+        Map<Player, Integer> shrimpCaught = new HashMap<>();
+        shrimpCaught.put(bot, 50);
+        shrimpCaught.put(first, 20);
+        shrimpCaught.put(second, 30);
+        game.getRounds().put(1, new Round(1, 25, shrimpCaught, new HashMap<>()));
+        game.setCurrentRoundNum(2);
+        assertEquals(25, CatchStrategy.matchAverage().chooseShrimpToCatch(game, "bot"));
+    }
+
+    /**
+     * Negative test where the {@link LoadGenerator} class is able to handle invalid parameters.
+     * <p>
+     * Tests that invalid options, unknown strategies and a number of bots that does not fill
+     * whole lobbies throw an {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testCreateInstanceOfLoadGeneratorWithInvalidParameters() {
+        LoadGeneratorOptions options = new LoadGeneratorOptions();
+        assertThrows(IllegalArgumentException.class, () -> options.setNumberOfBots(0));
+        assertThrows(IllegalArgumentException.class, () -> options.setPlayersPerLobby(0));
+        assertThrows(IllegalArgumentException.class, () -> options.setCatchStrategy("greedy"));
+        assertThrows(IllegalArgumentException.class, () -> options.setExecutionMode(null));
+        assertThrows(IllegalArgumentException.class, () -> new LoadGenerator(null));
+        options.setNumberOfBots(10);
+        assertThrows(IllegalArgumentException.class, () -> new LoadGenerator(options));
+        assertThrows(IllegalArgumentException.class, () -> CatchStrategy.random(null));
+    }
+}
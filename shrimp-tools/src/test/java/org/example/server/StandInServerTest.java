@@ -0,0 +1,330 @@
+package org.example.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.example.network.DeflateFrame;
+import org.example.network.ServerConnection;
+import org.example.network.protocol.FinishedGame;
+import org.example.network.protocol.GameStarted;
+import org.example.network.protocol.LobbyAdded;
+import org.example.network.protocol.LobbyPage;
+import org.example.network.protocol.LobbyPlayersChanged;
+import org.example.network.protocol.LobbyRemoved;
+import org.example.network.protocol.MessageSent;
+import org.example.network.protocol.ProtocolCodec;
+import org.example.network.protocol.RoundFinished;
+import org.example.network.protocol.ServerMessage;
+import org.example.network.protocol.ServerUpdate;
+import org.example.network.protocol.StatusReply;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link StandInServer} class.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for playing a whole game with three players and an admin, who is sent the lobby
+ * deltas and pages.</li>
+ * <li>Test for delaying the replies by the latency and compressing long lines.</li>
+ * <li>Test for serving clients from the command line until the thread running it is
+ * interrupted.</li>
+ * </ul>
+ * <p>
+ * The following <b>negative</b> tests are performed:
+ * <ul>
+ * <li>Test for the replies to requests that cannot be fulfilled.</li>
+ * <li>Test for creating instances of {@link StandInServerOptions} where the options given are
+ * invalid.</li>
+ * </ul>
+ */
+public class StandInServerTest {
+    /**
+     * Represents a client that hands the replies to its connection and keeps the updates.
+     */
+    private static class TestClient {
+        private final ServerConnection serverConnection;
+        private final BlockingQueue<ServerUpdate> updates = new LinkedBlockingQueue<>();
+
+        private TestClient(int port) {
+            this.serverConnection = new ServerConnection("127.0.0.1", port);
+            this.serverConnection.connect();
+            Thread reader = new Thread(() ->
+            {
+                ProtocolCodec codec = new ProtocolCodec();
+                try {
+                    String line = this.serverConnection.receive();
+                    while (line != null) {
+                        ServerMessage message = codec.decode(line);
+                        if (message instanceof ServerUpdate update) {
+                            this.updates.offer(update);
+                        }
+                        else {
+                            this.serverConnection.handleReply(line);
+                        }
+                        line = this.serverConnection.receive();
+                    }
+                }
+                catch (RuntimeException exception) {
+                    // The connection was closed at the end of the test.
+                }
+            });
+            reader.setDaemon(true);
+            reader.start();
+            this.serverConnection.sendUsernameRequest();
+        }
+
+        private <T extends ServerUpdate> T awaitUpdate(Class<T> type)
+            throws InterruptedException {
+            ServerUpdate update = this.updates.poll(5, TimeUnit.SECONDS);
+            while (update != null && !type.isInstance(update)) {
+                update = this.updates.poll(5, TimeUnit.SECONDS);
+            }
+            assertNotNull(update, "no " + type.getSimpleName() + " received");
+            return type.cast(update);
+        }
+    }
+
+    /**
+     * Positive test where the {@link StandInServer} class is able to run a game.
+     * <p>
+     * Tests that three players joining a lobby of three start a game, that the results of a
+     * round list the receiving player first with the price of the shrimp and the profits, that
+     * chat messages reach the players, that the admin is sent the lobby as deltas and pages and that the
+     * admin receives the finished game.
+     */
+    @Test
+    public void testPlayWholeGame() throws Exception {
+        try (StandInServer server = new StandInServer(new StandInServerOptions())) {
+            int port = server.start();
+            TestClient admin = new TestClient(port);
+            assertEquals(StatusReply.BECOME_ADMIN_SUCCESSFUL.status(),
+                         admin.serverConnection.sendBecomeAdminRequest("admin").join().getLine());
+            assertEquals(StatusReply.CREATE_LOBBY_SUCCESS.status(),
+                         admin.serverConnection.sendCreateLobbyRequest("Reef", 3, 2, 60, "1", 30,
+                                                                       10, 50).join().getLine());
+            assertEquals("Reef", admin.awaitUpdate(LobbyAdded.class).lobby().getLobbyName());
+            LobbyPage lobbyPage = admin.serverConnection.getLobbyPageAsync(0, 10).join();
+            assertEquals(1, lobbyPage.totalLobbies());
+            assertEquals("Reef", lobbyPage.lobbies().get(0).getLobbyName());
+
+            List<TestClient> players = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                TestClient player = new TestClient(port);
+                player.serverConnection.sendJoinLobbyRequest("Reef");
+                players.add(player);
+            }
+            assertEquals(new LobbyPlayersChanged("Reef", 1),
+                         admin.awaitUpdate(LobbyPlayersChanged.class));
+            assertEquals(new LobbyRemoved("Reef"), admin.awaitUpdate(LobbyRemoved.class));
+            for (TestClient player : players) {
+                GameStarted gameStarted = player.awaitUpdate(GameStarted.class);
+                assertEquals(2, gameStarted.opponentNames().size());
+                assertEquals("Reef", gameStarted.gameName());
+                assertEquals(2, gameStarted.numberOfRounds());
+            }
+
+            for (int round = 0; round < 2; round++) {
+                for (TestClient player : players) {
+                    assertEquals(StatusReply.CAUGHT_SUCCESSFULLY.status(),
+                                 player.serverConnection.sendCatchShrimpRequest(20).join()
+                                                        .getLine());
+                }
+                for (TestClient player : players) {
+                    RoundFinished roundFinished = player.awaitUpdate(RoundFinished.class);
+                    assertEquals(33, roundFinished.shrimpPrice());
+                    assertEquals(player.serverConnection.getUsername(),
+                                 roundFinished.playerResults().get(0).playerName());
+                    assertEquals(560, roundFinished.playerResults().get(0).roundProfit());
+                }
+                if (round == 0) {
+                    assertEquals(StatusReply.MESSAGE_RECEIVED.status(),
+                                 players.get(0).serverConnection.sendMessageRequest("Fish less")
+                                                                .join().getLine());
+                    MessageSent messageSent = players.get(1).awaitUpdate(MessageSent.class);
+                    assertEquals("Fish less", messageSent.message());
+                }
+            }
+
+            FinishedGame finishedGame = admin.awaitUpdate(FinishedGame.class);
+            assertEquals("Reef", finishedGame.gameName());
+            assertEquals(3, finishedGame.playerNames().size());
+            assertEquals(2, finishedGame.rounds().size());
+            assertEquals(1, finishedGame.chat().size());
+            assertEquals("Fish less", finishedGame.chat().get(0).message());
+        }
+    }
+
+    /**
+     * Positive test where the {@link StandInServer} class is able to shape its replies.
+     * <p>
+     * Tests that a reply is not sent before the latency has passed, and that lines from the
+     * compression threshold are sent as deflate frames once compression is enabled.
+     */
+    @Test
+    public void testLatencyAndCompression() throws Exception {
+        StandInServerOptions options = new StandInServerOptions();
+        options.setLatencyMillis(50);
+        options.setCompressionThreshold(8);
+        try (StandInServer server = new StandInServer(options);
+             Socket socket = new Socket("127.0.0.1", server.start())) {
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter writer = new PrintWriter(socket.getOutputStream(), true);
+
+            long start = System.nanoTime();
+            writer.println("REQUEST_USERNAME 1.0");
+            String username = reader.readLine();
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+            assertTrue(username.startsWith("USERNAME "));
+            assertTrue(username.endsWith(DeflateFrame.CAPABILITY));
+
+            writer.println("ENABLE_COMPRESSION DEFLATE");
+            String compressionEnabled = reader.readLine();
+            assertTrue(DeflateFrame.isFrame(compressionEnabled));
+            assertEquals(StatusReply.COMPRESSION_ENABLED.status(),
+                         DeflateFrame.decode(compressionEnabled));
+            writer.println("CREATE_LOBBY Reef 3 2 60 1 30 10 50");
+            writer.println("REQUEST_LOBBY_LIST");
+            String frame = reader.readLine();
+            while (!DeflateFrame.isFrame(frame)
+                   || !DeflateFrame.decode(frame).startsWith("LOBBY_LIST")) {
+                frame = reader.readLine();
+            }
+            assertEquals("LOBBY_LIST Reef.0.3", DeflateFrame.decode(frame));
+            writer.println("PING");
+            assertEquals(StatusReply.PONG.status(), reader.readLine());
+        }
+    }
+
+    /**
+     * Positive test where the {@link StandInServer} class is able to run from the command line.
+     * <p>
+     * Tests that {@link StandInServer#main(String[])} keeps serving a client after it started
+     * listening, and that it closes the connections and returns once its thread is interrupted.
+     */
+    @Test
+    public void testRunFromCommandLine() throws Exception {
+        int port;
+        try (ServerSocket freePort = new ServerSocket(0)) {
+            port = freePort.getLocalPort();
+        }
+        Thread mainThread = new Thread(() -> {
+            try {
+                StandInServer.main(new String[] {String.valueOf(port)});
+            }
+            catch (IOException | InterruptedException exception) {
+                // The test interrupts the server to stop it.
+            }
+        });
+        mainThread.start();
+
+        Socket socket = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (socket == null) {
+            try {
+                socket = new Socket("127.0.0.1", port);
+            }
+            catch (IOException exception) {
+                assertTrue(System.nanoTime() < deadline);
+                Thread.sleep(10);
+            }
+        }
+        try (Socket client = socket) {
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter writer = new PrintWriter(client.getOutputStream(), true);
+            Thread.sleep(100);
+            writer.println("REQUEST_USERNAME 1.0");
+            assertTrue(reader.readLine().startsWith("USERNAME "));
+            assertTrue(mainThread.isAlive());
+
+            mainThread.interrupt();
+            mainThread.join(5000);
+            assertFalse(mainThread.isAlive());
+            assertNull(reader.readLine());
+        }
+    }
+
+    /**
+     * Negative test where the {@link StandInServer} class is able to refuse requests.
+     * <p>
+     * Tests that joining a lobby that does not exist or is full, becoming an admin with the wrong
+     * password, catching shrimp outside of a game and unknown commands are refused.
+     */
+    @Test
+    public void testRefuseInvalidRequests() throws IOException {
+        StandInServerOptions options = new StandInServerOptions();
+        options.setCapabilities(Set.of());
+        try (StandInServer server = new StandInServer(options);
+             Socket socket = new Socket("127.0.0.1", server.start())) {
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter writer = new PrintWriter(socket.getOutputStream(), true);
+            writer.println("REQUEST_USERNAME 1.0");
+            reader.readLine();
+
+            writer.println("JOIN_LOBBY Atlantis");
+            assertEquals(StatusReply.LOBBY_NOT_EXIST.status(), reader.readLine());
+            writer.println("BECOME_ADMIN hunter2");
+            assertEquals(StatusReply.BECOME_ADMIN_FAILED.status(), reader.readLine());
+            writer.println("CREATE_LOBBY Reef 1 2 60 1 30 10 50");
+            assertEquals(StatusReply.CREATE_LOBBY_SUCCESS.status(), reader.readLine());
+            writer.println("CATCH_SHRIMP 20");
+            assertEquals("CATCH_FAILED", this.readReply(reader));
+            writer.println("DIVE");
+            assertEquals("UNKNOWN_COMMAND", this.readReply(reader));
+            writer.println("PING");
+            assertEquals("UNKNOWN_COMMAND", this.readReply(reader));
+        }
+    }
+
+    /**
+     * Negative test where the {@link StandInServerOptions} class is able to handle invalid
+     * options.
+     * <p>
+     * Tests that setting an invalid option throws an {@link IllegalArgumentException}.
+     */
+    @Test
+    public void testSetInvalidOptions() {
+        StandInServerOptions options = new StandInServerOptions();
+        assertThrows(IllegalArgumentException.class, () -> options.setPort(65536));
+        assertThrows(IllegalArgumentException.class, () -> options.setLatencyMillis(-1));
+        assertThrows(IllegalArgumentException.class, () -> options.setBurstSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> options.setBurstIntervalMillis(0));
+        assertThrows(IllegalArgumentException.class, () -> options.setCapabilities(null));
+        assertThrows(IllegalArgumentException.class, () -> options.setAdminPassword(null));
+        assertThrows(IllegalArgumentException.class, () -> options.setCompressionThreshold(-1));
+        assertThrows(IllegalArgumentException.class, () -> options.setExecutionMode(null));
+        assertThrows(IllegalArgumentException.class, () -> new StandInServer(null));
+    }
+
+    /**
+     * Reads the next reply, skipping the updates.
+     */
+    private String readReply(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.startsWith("UPDATE ")) {
+            line = reader.readLine();
+        }
+        return line;
+    }
+}
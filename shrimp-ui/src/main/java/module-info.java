@@ -1,4 +1,5 @@
 module org.example {
+    requires transitive org.example.core;
     requires javafx.controls;
     requires javafx.fxml;
     requires java.desktop;
@@ -10,12 +11,10 @@ module org.example {
 
     opens org.example to javafx.graphics, javafx.base;
     exports org.example;
+    exports org.example.ui;
+    opens org.example.ui to javafx.base, javafx.graphics;
     exports org.example.ui.controllers;
     opens org.example.ui.controllers to javafx.base, javafx.graphics, javafx.fxml;
-    exports org.example.network;
-    opens org.example.network to javafx.base, javafx.graphics;
-    exports org.example.model;
-    opens org.example.model to javafx.base, javafx.graphics;
     exports org.example.ui.view;
     opens org.example.ui.view to javafx.base, javafx.graphics;
-}
\ No newline at end of file
+}
@@ -2,14 +2,21 @@ package org.example;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import javafx.application.Application;
 import javafx.application.Platform;
-import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Scene;
@@ -20,13 +27,10 @@ import javafx.scene.control.Label;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
-import javafx.scene.control.TextArea;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.image.Image;
-import javafx.scene.layout.GridPane;
 import javafx.stage.Stage;
+import javafx.util.Callback;
 import org.example.model.GameResult;
-import org.example.model.MessageComparator;
 import org.example.ui.controllers.CatchShrimpScreenController;
 import org.example.ui.controllers.ChatScreenController;
 import org.example.ui.controllers.CreateGameScreenController;
@@ -36,11 +40,31 @@ import org.example.ui.controllers.JoinGameScreenController;
 import org.example.ui.controllers.MainMenuScreenController;
 import org.example.model.Game;
 import org.example.model.Lobby;
+import org.example.model.LobbyIndex;
 import org.example.model.Player;
 import org.example.model.Round;
 import org.example.model.User;
+import org.example.ui.FxChatLog;
+import org.example.ui.FxGameEventSink;
+import org.example.ui.FxLobbyList;
+import org.example.ui.FxPagedLobbyList;
+import org.example.ui.FxUpdateScheduler;
+import org.example.network.BlockingSocketTransport;
+import org.example.network.ConnectionListener;
+import org.example.network.ConnectionSupervisor;
+import org.example.network.ExecutionMode;
+import org.example.network.Heartbeat;
+import org.example.network.NioSocketTransport;
+import org.example.network.ReconnectBackoff;
+import org.example.network.RecordingTransport;
+import org.example.network.ReplayTransport;
 import org.example.network.ServerConnection;
 import org.example.network.ServerUpdateListener;
+import org.example.network.TrafficRecorder;
+import org.example.network.TrafficRecording;
+import org.example.network.Transport;
+import org.example.network.TransportOptions;
+import org.example.network.protocol.ClientCommands;
 import org.example.ui.view.CatchShrimpScreen;
 import org.example.ui.view.CreateGameScreen;
 import org.example.ui.view.DownloadGameDataScreen;
@@ -67,11 +91,22 @@ import org.example.ui.view.ShrimpPriceCalculationScreen;
  * @version 1.3.0
  * @since 2023-04-02
  */
-public class ShrimpGameApp extends Application {
+public class ShrimpGameApp extends Application implements ConnectionListener {
   private Stage primaryStage;
-  public static final String VERSION = "1.7.7";
+  public static final String VERSION = ClientCommands.VERSION;
   private static final String HOSTNAME = "35.228.211.136";
   private static final int PORT = 8080;
+  private static final String HOSTNAME_PROPERTY = "shrimpgame.hostname";
+  private static final String PORT_PROPERTY = "shrimpgame.port";
+  private static final String TRANSPORT_PROPERTY = "shrimpgame.transport";
+  private static final String RECORD_PROPERTY = "shrimpgame.record";
+  private static final String REPLAY_PROPERTY = "shrimpgame.replay";
+  private static final String REPLAY_SPEED_PROPERTY = "shrimpgame.replaySpeed";
+  private static final String TITLE = "Shrimp Game";
+  private static final long RECONNECT_INITIAL_DELAY_MILLIS = 250;
+  private static final long RECONNECT_MAX_DELAY_MILLIS = 15000;
+  private static final long HEARTBEAT_INTERVAL_MILLIS = 5000;
+  private static final int MAX_MISSED_HEARTBEATS = 3;
   private Scene mainScreen; 
   private Scene mainAdminScreen;
   private Scene createGameScreen;
@@ -91,6 +126,9 @@ public class ShrimpGameApp extends Application {
   private Lobby selectedLobby;
   private User user;
   private ServerConnection serverConnection;
+  private ConnectionSupervisor connectionSupervisor;
+  private Heartbeat heartbeat;
+  private TrafficRecorder trafficRecorder;
   private MainMenuScreenController mainMenuScreenController;
   private CreateGameScreenController createGameScreenController;
   private JoinGameScreenController joinGameScreenController;
@@ -103,17 +141,22 @@ public class ShrimpGameApp extends Application {
   private TableView<Round> scoreboardTableview;
   private TableView<Round> gameOverScoreboardTableview;
   private TableView<GameResult> gameResultTableView;
-  private GridPane chatMessageGrid;
+  private FxChatLog chatLog;
   private boolean scoreboardTableViewInitialized;
   private boolean gameOverScoreboardTableviewInitialized;
   private Game game;
-  private List<Lobby> lobbies;
+  private FxLobbyList lobbyList;
+  private LobbyIndex lobbyIndex;
+  private FxPagedLobbyList pagedLobbyList;
   private List<GameResult> gameResults;
   private boolean gameStarted;
   private boolean allPlayersCaughtShrimp;
   private List<Label> roundTimerLabels;
   private List<Label> amountOfShrimpCaughtValueLabels;
   private Thread serverUpdateListener;
+  private ExecutionMode executionMode;
+  private ExecutorService backgroundExecutor;
+  private FxUpdateScheduler updateScheduler;
 
   /**
    * The {@code start} method is called when the application is launched. It initializes the main
@@ -181,6 +224,20 @@ public class ShrimpGameApp extends Application {
       alert.setContentText("Any unsaved changes will be lost.");
       Optional<ButtonType> result = alert.showAndWait();
       if (result.get() == ButtonType.OK) {
+        if (this.connectionSupervisor != null) {
+          this.connectionSupervisor.stop();
+        }
+        if (this.heartbeat != null) {
+          this.heartbeat.stop();
+        }
+        if (this.trafficRecorder != null) {
+          try {
+            this.trafficRecorder.close();
+          }
+          catch (IOException exception) {
+            // The client exits either way, and the lines flushed before are kept.
+          }
+        }
         System.exit(0);
         Platform.exit();
       }
@@ -190,6 +247,10 @@ public class ShrimpGameApp extends Application {
   private void initializeTableViews() {
     this.joinGameLobbyTableView = new TableView<>();
     this.joinedGameLobbyTableView = new TableView<>();
+    this.lobbyList = new FxLobbyList();
+    this.lobbyIndex = new LobbyIndex(this.lobbyList);
+    this.joinGameLobbyTableView.setItems(this.lobbyList.getLobbies());
+    this.joinedGameLobbyTableView.setItems(this.lobbyList.getLobbies());
     this.scoreboardTableview = new TableView<>();
     this.gameOverScoreboardTableview = new TableView<>();
     this.gameResultTableView = new TableView<>();
@@ -198,10 +259,14 @@ public class ShrimpGameApp extends Application {
   }
 
   private void initializeGameComponents() {
-    this.chatMessageGrid = new GridPane();
     this.roundTimerLabels = new ArrayList<>();
     this.amountOfShrimpCaughtValueLabels = new ArrayList<>();
     this.gameResults = new ArrayList<>();
+    this.executionMode = ExecutionMode.fromSystemProperties();
+    this.backgroundExecutor = this.executionMode.newExecutor("Shrimp Game Background");
+    this.updateScheduler = new FxUpdateScheduler();
+    this.updateScheduler.start();
+    this.chatLog = new FxChatLog(this.updateScheduler);
     this.createUser();
     this.gameStarted = false;
   }
@@ -445,12 +510,12 @@ public class ShrimpGameApp extends Application {
   }
 
   /**
-   * Gets the chat message {@code GridPane}.
+   * Gets the chat log shown by the chat screens.
    *
-   * @return the chat message {@code GridPane}.
+   * @return the chat log.
    */
-  public GridPane getChatMessageGrid() {
-    return this.chatMessageGrid;
+  public FxChatLog getChatLog() {
+    return this.chatLog;
   }
 
   /**
@@ -488,6 +553,71 @@ public class ShrimpGameApp extends Application {
     this.selectedLobby = selectedLobby;
   }
 
+  /**
+   * Gets the kind of threads the network and background work runs on, selected at startup by the
+   * {@code shrimpgame.executionMode} system property.
+   *
+   * @return the execution mode of the application.
+   */
+  public ExecutionMode getExecutionMode() {
+    return this.executionMode;
+  }
+
+  /**
+   * Runs a blocking task, like waiting for the reply to a request or writing a file, on a
+   * background thread, and then runs the outcome on the JavaFX application thread.
+   *
+   * @param task      the blocking task.
+   * @param onSuccess run on the JavaFX application thread if the task completed.
+   * @param onFailure run on the JavaFX application thread with the exception if the task failed.
+   */
+  public void runInBackground(Runnable task, Runnable onSuccess,
+                              Consumer<RuntimeException> onFailure) {
+    this.callInBackground(() ->
+                          {
+                            task.run();
+                            return null;
+                          }, result -> onSuccess.run(), onFailure);
+  }
+
+  /**
+   * Runs a blocking task computing a result, like waiting for the reply to a request, on a
+   * background thread, and then hands the result or the failure to the JavaFX application
+   * thread.
+   *
+   * @param task      the blocking task.
+   * @param onSuccess run on the JavaFX application thread with the result if the task completed.
+   * @param onFailure run on the JavaFX application thread with the exception if the task failed.
+   * @param <T>       the type of the result.
+   */
+  public <T> void callInBackground(Supplier<T> task, Consumer<T> onSuccess,
+                                   Consumer<RuntimeException> onFailure) {
+    this.backgroundExecutor.execute(() ->
+                                    {
+                                      try {
+                                        T result = task.get();
+                                        Platform.runLater(() -> onSuccess.accept(result));
+                                      }
+                                      catch (RuntimeException exception) {
+                                        Platform.runLater(() -> onFailure.accept(exception));
+                                      }
+                                    });
+  }
+
+  /**
+   * Shows the message of a failed request in an error dialog.
+   *
+   * @param exception the exception the request failed with.
+   */
+  public void showErrorDialog(RuntimeException exception) {
+    Alert errorDialog = new Alert(Alert.AlertType.ERROR);
+    errorDialog.setTitle("Error");
+    errorDialog.setHeaderText(null);
+    errorDialog.setContentText(exception.getMessage());
+    this.addIconToDialog(errorDialog);
+    errorDialog.showAndWait();
+  }
+
   /**
    * Gets the {@code ServerUpdateListener}.
    *
@@ -497,6 +627,16 @@ public class ShrimpGameApp extends Application {
     return this.serverUpdateListener;
   }
 
+  /**
+   * Gets the scheduler that redraws the lobby tables, the chat, the scoreboards and the game
+   * results at most once per pulse.
+   *
+   * @return the update scheduler.
+   */
+  public FxUpdateScheduler getUpdateScheduler() {
+    return this.updateScheduler;
+  }
+
   /**
    * Sets the primary stage to display a specified scene.
    *
@@ -515,7 +655,7 @@ public class ShrimpGameApp extends Application {
                         this.primaryStage.setScene(scene);
 
 
-                        this.primaryStage.setTitle("Shrimp Game");
+                        this.primaryStage.setTitle(TITLE);
                         this.primaryStage.setMinHeight(600);
                         this.primaryStage.setMinWidth(700);
                         this.primaryStage.show();
@@ -578,16 +718,17 @@ public class ShrimpGameApp extends Application {
    * @return a {@code List} of lobbies.
    */
   public List<Lobby> getLobbies() {
-    return this.lobbies;
+    return this.lobbyIndex.getLobbies();
   }
 
   /**
-   * Sets the {@link List} of lobbies.
+   * Gets the index of the lobbies shown by the lobby tables. Must only be changed on the JavaFX
+   * application thread.
    *
-   * @param lobbies the {@code List} of lobbies to set.
+   * @return the lobby index.
    */
-  public void setLobbies(List<Lobby> lobbies) {
-    this.lobbies = lobbies;
+  public LobbyIndex getLobbyIndex() {
+    return this.lobbyIndex;
   }
 
   /**
@@ -743,7 +884,9 @@ public class ShrimpGameApp extends Application {
   }
 
   /**
-   * Initializes the server connection to the game server.
+   * Initializes the server connection to the game server. The {@code shrimpgame.hostname} and
+   * {@code shrimpgame.port} system properties point the client at another server, for example a
+   * {@code StandInServer} of the {@code shrimp-tools} module.
    * Returns a primitive String array containing the username and whether the user is an admin or
    * not.
    * If the initialization fails, a {@link RuntimeException} is thrown.
@@ -753,14 +896,29 @@ public class ShrimpGameApp extends Application {
    */
   private String[] initServerConnection() {
     String[] input;
-    this.serverConnection = new ServerConnection(HOSTNAME, PORT);
+    Transport transport = this.createTransport();
+    this.serverConnection = new ServerConnection(System.getProperty(HOSTNAME_PROPERTY, HOSTNAME),
+                                                 Integer.getInteger(PORT_PROPERTY, PORT),
+                                                 transport);
+    this.connectionSupervisor = new ConnectionSupervisor(this.serverConnection,
+        new ReconnectBackoff(RECONNECT_INITIAL_DELAY_MILLIS, RECONNECT_MAX_DELAY_MILLIS,
+                             new Random()), this);
 
     try {
       this.serverConnection.connect();
       // Create Update Listener
-      this.serverUpdateListener = new Thread(new ServerUpdateListener(this));
+      ServerUpdateListener updateListener =
+          new ServerUpdateListener(this.serverConnection, this.connectionSupervisor,
+                                   new FxGameEventSink(this));
+      this.serverUpdateListener = this.executionMode.newThread("Shrimp Game Update Listener",
+                                                               updateListener);
       this.serverUpdateListener.start();
       input = this.serverConnection.sendUsernameRequest();
+      if (!(transport instanceof ReplayTransport)) {
+        this.heartbeat = new Heartbeat(this.serverConnection, HEARTBEAT_INTERVAL_MILLIS,
+                                       MAX_MISSED_HEARTBEATS);
+        this.heartbeat.start();
+      }
     }
     catch (RuntimeException exception) {
       throw new RuntimeException("Failed to initialize the server connection.");
@@ -768,6 +926,141 @@ public class ShrimpGameApp extends Application {
     return input;
   }
 
+  /**
+   * Returns the supervisor that connects to the server again after the connection was lost.
+   *
+   * @return the ConnectionSupervisor object.
+   */
+  public ConnectionSupervisor getConnectionSupervisor() {
+    return this.connectionSupervisor;
+  }
+
+  /**
+   * Returns the heartbeat that measures the round-trip time to the server.
+   *
+   * @return the Heartbeat object, or {@code null} if the server could not be reached at start.
+   */
+  public Heartbeat getHeartbeat() {
+    return this.heartbeat;
+  }
+
+  /**
+   * Shows that the connection to the server was lost in the title of the window.
+   *
+   * @param cause the reason the connection was lost.
+   */
+  @Override
+  public void connectionLost(Throwable cause) {
+    Platform.runLater(() -> this.primaryStage.setTitle(TITLE + " - Connection lost"));
+  }
+
+  /**
+   * Shows the attempt to connect to the server again in the title of the window.
+   *
+   * @param attempt     the number of the attempt, starting at {@code 1}.
+   * @param delayMillis the time waited before the attempt in milliseconds.
+   */
+  @Override
+  public void reconnecting(int attempt, long delayMillis) {
+    Platform.runLater(() -> this.primaryStage.setTitle(
+        TITLE + " - Reconnecting (attempt " + attempt + ")..."));
+  }
+
+  /**
+   * Updates the user and the lobbies after the connection to the server was restored. If a game
+   * was in progress and the session could not be resumed, the game is ended and the user is
+   * returned to the main screen.
+   *
+   * @param username the username of the client.
+   * @param admin    {@code true} if the client is an admin, or {@code false} if it is not.
+   * @param resumed  {@code true} if the session of the previous connection was resumed, or
+   *                 {@code false} if the client starts a new session.
+   * @param lobbies  the lobbies in the server.
+   */
+  @Override
+  public void connectionRestored(String username, boolean admin, boolean resumed,
+                                 List<Lobby> lobbies) {
+    Platform.runLater(() ->
+                      {
+                        this.primaryStage.setTitle(TITLE);
+                        this.user.setName(username);
+                        this.user.setIsAdmin(admin);
+                        this.updateLobbyTable(lobbies);
+                        if (!resumed && this.isGameStarted()) {
+                          this.abandonGame();
+                        }
+                      });
+  }
+
+  /**
+   * Ends the game in progress after its session was lost with the connection, and returns the
+   * user to the main screen.
+   */
+  private void abandonGame() {
+    if (this.game != null && this.game.getRoundTimer() != null) {
+      this.game.getRoundTimer().stop();
+    }
+    this.setGameStarted(false);
+    Alert gameLostDialog = new Alert(Alert.AlertType.INFORMATION);
+    gameLostDialog.setTitle("Game lost");
+    gameLostDialog.setHeaderText(null);
+    gameLostDialog.setContentText("The connection to the server was lost and the game could not "
+                                  + "be resumed.");
+    this.addIconToDialog(gameLostDialog);
+    gameLostDialog.show();
+    this.setScene(this.getMainScreen());
+  }
+
+  /**
+   * Creates the transport used by the server connection. The non-blocking transport is used when
+   * the {@code shrimpgame.transport} system property is set to {@code nio}, otherwise the
+   * blocking transport is used. The socket options are read from the system properties listed
+   * in {@link TransportOptions}.
+   * <p>
+   * When the {@code shrimpgame.replay} system property names a {@link TrafficRecording}, the
+   * recording is replayed instead of connecting to the server, at the speed given by the
+   * {@code shrimpgame.replaySpeed} system property, like {@code 1}, {@code 10x} or {@code max}.
+   * When the {@code shrimpgame.record} system property names a file, the traffic with the server
+   * is recorded into it.
+   *
+   * @return the transport used by the server connection.
+   * @throws RuntimeException if the recording could not be read or created.
+   */
+  private Transport createTransport() throws RuntimeException {
+    Transport transport;
+    String replayFile = System.getProperty(REPLAY_PROPERTY);
+    String recordFile = System.getProperty(RECORD_PROPERTY);
+    if (replayFile != null) {
+      try {
+        transport = new ReplayTransport(TrafficRecording.read(Path.of(replayFile)),
+            ReplayTransport.parseSpeed(System.getProperty(REPLAY_SPEED_PROPERTY, "1")));
+      }
+      catch (IOException exception) {
+        throw new RuntimeException("Failed to read the traffic recording " + replayFile + ".");
+      }
+    }
+    else {
+      TransportOptions transportOptions = TransportOptions.fromSystemProperties();
+      if ("nio".equalsIgnoreCase(System.getProperty(TRANSPORT_PROPERTY))) {
+        transport = new NioSocketTransport(transportOptions);
+      }
+      else {
+        transport = new BlockingSocketTransport(transportOptions);
+      }
+      if (recordFile != null) {
+        try {
+          this.trafficRecorder = new TrafficRecorder(Path.of(recordFile));
+        }
+        catch (IOException exception) {
+          throw new RuntimeException(
+              "Failed to create the traffic recording " + recordFile + ".");
+        }
+        transport = new RecordingTransport(transport, this.trafficRecorder);
+      }
+    }
+    return transport;
+  }
+
   /**
    * Sets the table view for the lobby. The table view contains two columns: one for the lobby name,
    * and one for the number of players currently in the lobby.
@@ -777,13 +1070,15 @@ public class ShrimpGameApp extends Application {
   public void setLobbyTableView(TableView<Lobby> lobbyTableView) {
     TableColumn<Lobby, String> lobbyNameCol = new TableColumn<>("Lobby");
     lobbyTableView.setPlaceholder(new Label("There are no created lobbies yet"));
-    lobbyNameCol.setCellValueFactory(new PropertyValueFactory<>("lobbyName"));
+    lobbyNameCol.setCellValueFactory(
+        cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getLobbyName()));
     lobbyNameCol.setResizable(false);
     lobbyNameCol.setReorderable(false);
     lobbyNameCol.prefWidthProperty().bind(lobbyTableView.widthProperty().multiply(0.5));
 
     TableColumn<Lobby, Integer> playerCountCol = new TableColumn<>("Players");
-    playerCountCol.setCellValueFactory(new PropertyValueFactory<>("numPlayers"));
+    playerCountCol.setCellValueFactory(
+        cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getNumPlayers()));
     playerCountCol.setResizable(false);
     playerCountCol.setReorderable(false);
     playerCountCol.prefWidthProperty().bind(lobbyTableView.widthProperty().multiply(0.5));
@@ -807,28 +1102,76 @@ public class ShrimpGameApp extends Application {
         }
         else {
           Lobby lobby = getTableView().getItems().get(getIndex());
-          int maxPlayers = lobby.getMaxPlayers();
-          String text = String.format("%d/%d", item, maxPlayers);
-          setText(text);
+          if (lobby == FxPagedLobbyList.LOADING) {
+            setText("");
+          }
+          else {
+            int maxPlayers = lobby.getMaxPlayers();
+            String text = String.format("%d/%d", item, maxPlayers);
+            setText(text);
+          }
         }
       }
     });
 
-    List<Lobby> lobbies;
-    lobbies = this.getServerConnection().getExistingLobbies();
-    ObservableList<Lobby> observableLobbies = FXCollections.observableArrayList(lobbies);
-    lobbyTableView.setItems(observableLobbies);
+    if (this.getServerConnection().hasCapability(ServerConnection.LOBBY_PAGES_CAPABILITY)) {
+      // The lobbies are loaded a page at a time as the table is scrolled, so a server with
+      // hundreds of lobbies does not hold up the screen or fill the memory.
+      if (this.pagedLobbyList == null) {
+        this.pagedLobbyList = new FxPagedLobbyList(this.getServerConnection());
+      }
+      lobbyTableView.setItems(this.pagedLobbyList);
+    }
+    else {
+      // The lobby list is requested without waiting for the reply, so the requests of both
+      // lobby tables are sent back to back instead of waiting for each other.
+      this.getServerConnection().getExistingLobbiesAsync().thenAccept(
+          lobbies -> Platform.runLater(() -> this.updateLobbyTable(lobbies)));
+    }
   }
 
   /**
-   * Updates the lobby table.
+   * Updates the lobby tables with the whole lobby list. Only the lobbies added, removed or
+   * changed since the last update are redrawn. If the lobbies are loaded a page at a time, the
+   * pages shown are loaded again instead.
    *
-   * @param lobbies the lobbies to update the table with.
+   * @param lobbies the lobbies to update the tables with.
    */
   public void updateLobbyTable(List<Lobby> lobbies) {
-    ObservableList<Lobby> observableLobbies = FXCollections.observableArrayList(lobbies);
-    this.joinGameLobbyTableView.setItems(observableLobbies);
-    this.joinedGameLobbyTableView.setItems(observableLobbies);
+    if (this.pagedLobbyList != null) {
+      this.pagedLobbyList.refresh();
+    }
+    else {
+      this.lobbyIndex.replaceAll(lobbies);
+    }
+  }
+
+  /**
+   * Gets the list of lobbies loaded a page at a time, if the server sends the lobby list one
+   * page at a time.
+   *
+   * @return the paged lobby list, or {@code null} if the whole lobby list is kept.
+   */
+  public FxPagedLobbyList getPagedLobbyList() {
+    return this.pagedLobbyList;
+  }
+
+  /**
+   * Creates a cell value factory for a scoreboard column that reads the value of a round once,
+   * and hands the same observable value to every cell showing the round afterwards. Rounds do
+   * not change once created, so the value is never stale, and scrolling or redrawing the
+   * scoreboard creates no objects per cell.
+   *
+   * @param value the function reading the value of the column from a round.
+   * @param <T>   the type of the value.
+   * @return the cell value factory.
+   */
+  private static <T> Callback<TableColumn.CellDataFeatures<Round, T>, ObservableValue<T>>
+      cachedRoundValue(Function<Round, T> value) {
+    Map<Round, ObservableValue<T>> values = new HashMap<>();
+    Function<Round, ObservableValue<T>> readValue =
+        round -> new ReadOnlyObjectWrapper<T>(value.apply(round));
+    return cellData -> values.computeIfAbsent(cellData.getValue(), readValue);
   }
 
   /**
@@ -838,121 +1181,75 @@ public class ShrimpGameApp extends Application {
    */
   public void setScoreboardTableView(TableView<Round> scoreboardTableView) {
     TableColumn<Round, String> roundNumberCol = new TableColumn<>("Rounds");
-    roundNumberCol.setCellValueFactory(new PropertyValueFactory<>("name"));
+    roundNumberCol.setCellValueFactory(cachedRoundValue(Round::getName));
     roundNumberCol.setResizable(false);
     roundNumberCol.setReorderable(false);
     roundNumberCol.prefWidthProperty().bind(scoreboardTableView.widthProperty().multiply(0.1));
 
-    TableColumn<Round, Integer> player1ShrimpCol = new TableColumn<>(this.getUser().getName());
-    player1ShrimpCol.setCellValueFactory(cellData ->
-                                         {
-                                           Map<Player, Integer> playerShrimpCaughtMap =
-                                               cellData.getValue().getPlayerShrimpCaughtMap();
-                                           Map<String, Player> players =
-                                               cellData.getValue().getPlayers();
-                                           Integer shrimpCaught = playerShrimpCaughtMap.get(
-                                               players.get(this.getUser().getName()));
-                                           return new SimpleIntegerProperty(
-                                               shrimpCaught == null ? 0 : shrimpCaught).asObject();
-                                         });
-    player1ShrimpCol.setResizable(false);
-    player1ShrimpCol.setReorderable(false);
-    player1ShrimpCol.prefWidthProperty().bind(scoreboardTableView.widthProperty().multiply(0.1));
-
-    List<Player> otherPlayers = new ArrayList<>(this.getGame().getPlayers().values());
-    otherPlayers.remove(this.getGame().getPlayers().get(this.getUser().getName()));
-
-    TableColumn<Round, Integer> player2ShrimpCol = new TableColumn<>(otherPlayers.get(0).getName());
-    player2ShrimpCol.setCellValueFactory(cellData ->
-                                         {
-                                           Map<Player, Integer> playerShrimpCaughtMap =
-                                               cellData.getValue().getPlayerShrimpCaughtMap();
-                                           Map<String, Player> players =
-                                               cellData.getValue().getPlayers();
-                                           Integer shrimpCaught = playerShrimpCaughtMap.get(
-                                               players.get(otherPlayers.get(0).getName()));
-                                           return new SimpleIntegerProperty(
-                                               shrimpCaught == null ? 0 : shrimpCaught).asObject();
-                                         });
-    player2ShrimpCol.setResizable(false);
-    player2ShrimpCol.setReorderable(false);
-    player2ShrimpCol.prefWidthProperty().bind(scoreboardTableView.widthProperty().multiply(0.1));
-
-    TableColumn<Round, Integer> player3ShrimpCol = new TableColumn<>(otherPlayers.get(1).getName());
-    player3ShrimpCol.setCellValueFactory(cellData ->
-                                         {
-                                           Map<Player, Integer> playerShrimpCaughtMap =
-                                               cellData.getValue().getPlayerShrimpCaughtMap();
-                                           Map<String, Player> players =
-                                               cellData.getValue().getPlayers();
-                                           Integer shrimpCaught = playerShrimpCaughtMap.get(
-                                               players.get(otherPlayers.get(1).getName()));
-                                           return new SimpleIntegerProperty(
-                                               shrimpCaught == null ? 0 : shrimpCaught).asObject();
-                                         });
-    player3ShrimpCol.setResizable(false);
-    player3ShrimpCol.setReorderable(false);
-    player3ShrimpCol.prefWidthProperty().bind(scoreboardTableView.widthProperty().multiply(0.1));
+    String userName = this.getUser().getName();
+    List<String> playerNames = new ArrayList<>();
+    playerNames.add(userName);
+    for (Player otherPlayer : this.getGame().getOtherPlayers(userName)) {
+      playerNames.add(otherPlayer.getName());
+    }
+    List<TableColumn<Round, Integer>> playerShrimpCols = new ArrayList<>();
+    for (String playerName : playerNames) {
+      TableColumn<Round, Integer> playerShrimpCol = new TableColumn<>(playerName);
+      playerShrimpCol.setCellValueFactory(
+          cachedRoundValue(round -> round.getShrimpCaught(playerName)));
+      playerShrimpCol.setResizable(false);
+      playerShrimpCol.setReorderable(false);
+      playerShrimpCol.prefWidthProperty().bind(
+          scoreboardTableView.widthProperty().multiply(0.3 / playerNames.size()));
+      playerShrimpCol.setCellFactory(tc -> new TableCell<>() {
+        @Override
+        protected void updateItem(Integer item, boolean empty) {
+          super.updateItem(item, empty);
+          setText(empty || item == null ? "" : item + "kg");
+          setStyle("-fx-alignment: CENTER;");
+        }
+      });
+      playerShrimpCols.add(playerShrimpCol);
+    }
 
     TableColumn<Round, Integer> totalShrimpCol = new TableColumn<>("Total Shrimp");
-    totalShrimpCol.setCellValueFactory(cellData -> new SimpleIntegerProperty(
-        cellData.getValue().getTotalAmountOfShrimp()).asObject());
+    totalShrimpCol.setCellValueFactory(cachedRoundValue(Round::getTotalAmountOfShrimp));
     totalShrimpCol.setResizable(false);
     totalShrimpCol.setReorderable(false);
     totalShrimpCol.prefWidthProperty().bind(scoreboardTableView.widthProperty().multiply(0.1));
 
     TableColumn<Round, Integer> shrimpPriceCol = new TableColumn<>("Shrimp Price");
-    shrimpPriceCol.setCellValueFactory(new PropertyValueFactory<>("shrimpPrice"));
+    shrimpPriceCol.setCellValueFactory(cachedRoundValue(Round::getShrimpPrice));
     shrimpPriceCol.setResizable(false);
     shrimpPriceCol.setReorderable(false);
     shrimpPriceCol.prefWidthProperty().bind(scoreboardTableView.widthProperty().multiply(0.1));
 
     TableColumn<Round, Integer> profitPerKgCol = new TableColumn<>("Profit / Shrimp kg");
-    profitPerKgCol.setCellValueFactory(cellData ->
-                                       {
-                                         Integer shrimpPrice = cellData.getValue().getShrimpPrice();
-                                         Integer profitPerKg =
-                                             shrimpPrice - this.getGame().getPlayers().get(
-                                                 this.getUser().getName()).getExpenses();
-                                         return new SimpleIntegerProperty(
-                                             profitPerKg == null ? 0 : profitPerKg).asObject();
-                                       });
+    profitPerKgCol.setCellValueFactory(
+        cachedRoundValue(round -> round.getProfitPerKilogram(userName)));
     profitPerKgCol.setResizable(false);
     profitPerKgCol.setReorderable(false);
     profitPerKgCol.prefWidthProperty().bind(scoreboardTableView.widthProperty().multiply(0.2));
 
     TableColumn<Round, Integer> roundProfitCol = new TableColumn<>("Round Profit");
-    roundProfitCol.setCellValueFactory(cellData ->
-                                       {
-                                         Map<String, Player> players =
-                                             cellData.getValue().getPlayers();
-                                         Integer roundProfit = players.get(this.getUser().getName())
-                                                                      .getRoundProfit();
-                                         return new SimpleIntegerProperty(
-                                             roundProfit == null ? 0 : roundProfit).asObject();
-                                       });
+    roundProfitCol.setCellValueFactory(
+        cachedRoundValue(round -> round.getMoney(userName)));
     roundProfitCol.setResizable(false);
     roundProfitCol.setReorderable(false);
     roundProfitCol.prefWidthProperty().bind(scoreboardTableView.widthProperty().multiply(0.1));
 
     TableColumn<Round, Integer> totalMoneyCol = new TableColumn<>("Total Profit");
-    totalMoneyCol.setCellValueFactory(cellData ->
-                                      {
-                                        Map<String, Player> players =
-                                            cellData.getValue().getPlayers();
-                                        Integer totalMoney = players.get(this.getUser().getName())
-                                                                    .getCurrentTotalMoney();
-                                        return new SimpleIntegerProperty(
-                                            totalMoney == null ? 0 : totalMoney).asObject();
-                                      });
+    totalMoneyCol.setCellValueFactory(
+        cachedRoundValue(round -> round.getTotalMoney(userName)));
     totalMoneyCol.setResizable(false);
     totalMoneyCol.setReorderable(false);
     totalMoneyCol.prefWidthProperty().bind(scoreboardTableView.widthProperty().multiply(0.1));
 
 
-    scoreboardTableView.getColumns().addAll(roundNumberCol, player1ShrimpCol, player2ShrimpCol,
-                                            player3ShrimpCol, totalShrimpCol, shrimpPriceCol,
-                                            profitPerKgCol, roundProfitCol, totalMoneyCol);
+    scoreboardTableView.getColumns().add(roundNumberCol);
+    scoreboardTableView.getColumns().addAll(playerShrimpCols);
+    scoreboardTableView.getColumns().addAll(totalShrimpCol, shrimpPriceCol, profitPerKgCol,
+                                            roundProfitCol, totalMoneyCol);
     scoreboardTableView.setPlaceholder(new Label("There are no round results yet"));
 
     roundNumberCol.setCellFactory(tc -> new TableCell<>() {
@@ -964,33 +1261,6 @@ public class ShrimpGameApp extends Application {
       }
     });
 
-    player1ShrimpCol.setCellFactory(tc -> new TableCell<>() {
-      @Override
-      protected void updateItem(Integer item, boolean empty) {
-        super.updateItem(item, empty);
-        setText(empty || item == null ? "" : item + "kg");
-        setStyle("-fx-alignment: CENTER;");
-      }
-    });
-
-    player2ShrimpCol.setCellFactory(tc -> new TableCell<>() {
-      @Override
-      protected void updateItem(Integer item, boolean empty) {
-        super.updateItem(item, empty);
-        setText(empty || item == null ? "" : item + "kg");
-        setStyle("-fx-alignment: CENTER;");
-      }
-    });
-
-    player3ShrimpCol.setCellFactory(tc -> new TableCell<>() {
-      @Override
-      protected void updateItem(Integer item, boolean empty) {
-        super.updateItem(item, empty);
-        setText(empty || item == null ? "" : item + "kg");
-        setStyle("-fx-alignment: CENTER;");
-      }
-    });
-
     totalShrimpCol.setCellFactory(tc -> new TableCell<>() {
       @Override
       protected void updateItem(Integer item, boolean empty) {
@@ -1066,19 +1336,22 @@ public class ShrimpGameApp extends Application {
   public void setGameResultTableView(TableView<GameResult> gameResultTableView) {
     TableColumn<GameResult, String> finishedGameNameCol = new TableColumn<>("Finished Games");
     gameResultTableView.setPlaceholder(new Label("There are no finished games yet"));
-    finishedGameNameCol.setCellValueFactory(new PropertyValueFactory<>("name"));
+    finishedGameNameCol.setCellValueFactory(
+        cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getName()));
     finishedGameNameCol.setResizable(false);
     finishedGameNameCol.setReorderable(false);
     finishedGameNameCol.prefWidthProperty().bind(gameResultTableView.widthProperty().multiply(0.5));
 
     TableColumn<GameResult, Integer> gameRoundsCol = new TableColumn<>("Rounds");
-    gameRoundsCol.setCellValueFactory(new PropertyValueFactory<>("numberOfRounds"));
+    gameRoundsCol.setCellValueFactory(
+        cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getNumberOfRounds()));
     gameRoundsCol.setResizable(false);
     gameRoundsCol.setReorderable(false);
     gameRoundsCol.prefWidthProperty().bind(gameResultTableView.widthProperty().multiply(0.2));
 
     TableColumn<GameResult, String> timeEndedCol = new TableColumn<>("Time Ended");
-    timeEndedCol.setCellValueFactory(new PropertyValueFactory<>("timeFinished"));
+    timeEndedCol.setCellValueFactory(
+        cellData -> new ReadOnlyObjectWrapper<>(cellData.getValue().getTimeFinished()));
     timeEndedCol.setResizable(false);
     timeEndedCol.setReorderable(false);
     timeEndedCol.prefWidthProperty().bind(gameResultTableView.widthProperty().multiply(0.3));
@@ -1141,39 +1414,6 @@ public class ShrimpGameApp extends Application {
     this.gameResultTableView.setItems(observableGameResults);
   }
 
-  /**
-   * Updates the chat message grid.
-   *
-   * @param messages a {@link List} of messages to update the chat message grid with.
-   */
-  public void updateChatMessageGrid(List<String> messages) {
-    this.chatMessageGrid.getChildren().clear();
-    Collections.sort(messages, new MessageComparator());
-    int row = 0;
-    for (String message : messages) {
-      String[] messageParts = message.split("☐");
-      String usernamePart = messageParts[0];
-      String messagePart = messageParts[1];
-      String datePart = messageParts[2];
-
-      Label usernameLbl = new Label(usernamePart);
-      usernameLbl.getStyleClass().add("username-label");
-
-      TextArea messageTextArea = new TextArea(messagePart);
-      messageTextArea.getStyleClass().add("message-textarea");
-      messageTextArea.setEditable(false);
-      messageTextArea.setWrapText(true);
-
-      Label dateLbl = new Label(datePart);
-      dateLbl.getStyleClass().add("date-label");
-
-      this.chatMessageGrid.add(usernameLbl, 0, row);
-      this.chatMessageGrid.add(messageTextArea, 1, row);
-      this.chatMessageGrid.add(dateLbl, 2, row);
-      row++;
-    }
-  }
-
   /**
    * Initializes the game screens.
    */
@@ -0,0 +1,159 @@
+package org.example.ui;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextArea;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import org.example.model.ChatLog;
+import org.example.model.ChatMessage;
+
+/**
+ * Represents the rows of chat messages shown by the chat screens, kept in step with the
+ * {@link ChatLog} of the game.
+ * <p>
+ * The log keeps the messages from the oldest to the newest, and the rows show them from the
+ * newest to the oldest, so the position of every change is counted from the end of the rows.
+ * Every message inserted into or removed from the log adds or removes the one row at its
+ * position, so a new message does not rebuild the chat. The changes are queued on the thread
+ * that made them and applied on the JavaFX application thread once per pulse through the
+ * {@link FxUpdateScheduler}. The rows are shared by the chat screens.
+ */
+public class FxChatLog {
+  /**
+   * Represents a change of the log to apply to the rows.
+   *
+   * @param listener the listener told about the change.
+   * @param index    the position of the message.
+   * @param message  the message inserted, or {@code null} if the message was removed.
+   */
+  private record Change(ChatLog.Listener listener, int index, ChatMessage message) {
+  }
+
+  private static final double NAME_WIDTH = 120;
+  private static final double TIME_WIDTH = 70;
+  private final FxUpdateScheduler updateScheduler;
+  private final VBox rows;
+  private final Queue<Change> pendingChanges;
+  private ChatLog chatLog;
+  private ChatLog.Listener listener;
+
+  /**
+   * Creates a new instance of {@code FxChatLog} without rows.
+   *
+   * @param updateScheduler the scheduler applying the changes.
+   * @throws IllegalArgumentException if the scheduler given is set to {@code null}.
+   */
+  public FxChatLog(FxUpdateScheduler updateScheduler) throws IllegalArgumentException {
+    if (updateScheduler == null) {
+      throw new IllegalArgumentException("updateScheduler cannot be set to null");
+    }
+    this.updateScheduler = updateScheduler;
+    this.rows = new VBox();
+    this.rows.setSpacing(10);
+    this.rows.setPadding(new Insets(20));
+    this.pendingChanges = new ConcurrentLinkedQueue<Change>();
+  }
+
+  /**
+   * Shows the messages of a chat log, and keeps the rows in step with it. Must be called on the
+   * JavaFX application thread.
+   *
+   * @param chatLog the chat log to show, or {@code null} to show no messages.
+   */
+  public void show(ChatLog chatLog) {
+    if (this.chatLog != null) {
+      this.chatLog.removeListener(this.listener);
+    }
+    this.chatLog = chatLog;
+    this.listener = new ChatLog.Listener() {
+      @Override
+      public void messageInserted(int index, ChatMessage message) {
+        FxChatLog.this.scheduleChange(new Change(this, index, message));
+      }
+
+      @Override
+      public void messageRemoved(int index, ChatMessage message) {
+        FxChatLog.this.scheduleChange(new Change(this, index, null));
+      }
+    };
+    this.rows.getChildren().clear();
+    if (chatLog != null) {
+      List<ChatMessage> messages = chatLog.addListener(this.listener);
+      for (int index = messages.size() - 1; index >= 0; index--) {
+        this.rows.getChildren().add(createRow(messages.get(index)));
+      }
+    }
+  }
+
+  /**
+   * Gets the rows of chat messages shown by the chat screens.
+   *
+   * @return the rows, from the newest to the oldest message.
+   */
+  public VBox getRows() {
+    return this.rows;
+  }
+
+  /**
+   * Queues a change of the log, and schedules the changes queued to be applied.
+   *
+   * @param change the change.
+   */
+  private void scheduleChange(Change change) {
+    this.pendingChanges.add(change);
+    this.updateScheduler.schedule(FxUpdateScheduler.Region.CHAT, this::applyChanges);
+  }
+
+  /**
+   * Applies the changes queued, in the order they were made, skipping the changes of a log
+   * that is no longer shown. The rows hold the messages of the log in reverse, so a message at
+   * a position of the log is shown that many rows from the last row.
+   */
+  private void applyChanges() {
+    Change change = this.pendingChanges.poll();
+    while (change != null) {
+      if (change.listener() == this.listener) {
+        int rowCount = this.rows.getChildren().size();
+        if (change.message() != null) {
+          this.rows.getChildren().add(rowCount - change.index(), createRow(change.message()));
+        }
+        else {
+          this.rows.getChildren().remove(rowCount - 1 - change.index());
+        }
+      }
+      change = this.pendingChanges.poll();
+    }
+  }
+
+  /**
+   * Creates the row showing a message: the sender, the text and the time it was sent.
+   *
+   * @param message the message.
+   * @return the row.
+   */
+  private static HBox createRow(ChatMessage message) {
+    Label usernameLbl = new Label(message.sender());
+    usernameLbl.getStyleClass().add("username-label");
+    usernameLbl.setMinWidth(NAME_WIDTH);
+    usernameLbl.setPrefWidth(NAME_WIDTH);
+
+    TextArea messageTextArea = new TextArea(message.text());
+    messageTextArea.getStyleClass().add("message-textarea");
+    messageTextArea.setEditable(false);
+    messageTextArea.setWrapText(true);
+    HBox.setHgrow(messageTextArea, Priority.ALWAYS);
+
+    Label dateLbl = new Label(message.time());
+    dateLbl.getStyleClass().add("date-label");
+    dateLbl.setMinWidth(TIME_WIDTH);
+
+    HBox row = new HBox(usernameLbl, messageTextArea, dateLbl);
+    row.setSpacing(10);
+    return row;
+  }
+}
@@ -0,0 +1,271 @@
+package org.example.ui;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javafx.application.Platform;
+import org.example.ShrimpGameApp;
+import org.example.model.ChatMessage;
+import org.example.model.CommunicationSchedule;
+import org.example.model.Game;
+import org.example.model.GameResult;
+import org.example.model.GameSettings;
+import org.example.model.LobbyIndex;
+import org.example.model.Player;
+import org.example.network.GameEventSink;
+import org.example.network.ServerUpdateListener;
+import org.example.network.protocol.FinishedGame;
+import org.example.network.protocol.GameStarted;
+import org.example.network.protocol.LobbyAdded;
+import org.example.network.protocol.LobbyPlayersChanged;
+import org.example.network.protocol.LobbyRemoved;
+import org.example.network.protocol.LobbyUpdate;
+import org.example.network.protocol.MessageSent;
+import org.example.network.protocol.RoundFinished;
+import org.example.network.protocol.ServerUpdate;
+
+/**
+ * Represents the sink that applies the game events published by a {@link ServerUpdateListener}
+ * to the application.
+ * <p>
+ * Every event is handed over to the JavaFX application thread, where both the state of the
+ * {@link ShrimpGameApp} and its screens are updated, so they are only touched by one thread and
+ * the listener goes on receiving while the screens are built. The lobby tables, the chat, the
+ * scoreboards and the game results are redrawn through the {@link FxUpdateScheduler} of the
+ * application, so a burst of events redraws each of them once per pulse. The lobby updates are
+ * queued and applied together once per pulse, to the {@link LobbyIndex} of the application; the
+ * changes before the last whole lobby list in the queue are skipped, since the list replaces them.
+ * <p>
+ * The order of publishing is kept only within each kind of update: the game events are applied in
+ * the order they were published, and so are the lobby updates, but a lobby update may be applied
+ * before or after a game event published around it. The two touch separate state of the
+ * application, so this does not change the outcome.
+ */
+public class FxGameEventSink implements GameEventSink {
+  private final ShrimpGameApp shrimpGameApp;
+  private final Queue<ServerUpdate> pendingLobbyUpdates;
+
+  /**
+   * Creates a new instance of {@code FxGameEventSink}.
+   *
+   * @param shrimpGameApp the main application.
+   * @throws IllegalArgumentException if the parameter given is set to {@code null}.
+   */
+  public FxGameEventSink(ShrimpGameApp shrimpGameApp) throws IllegalArgumentException {
+    if (shrimpGameApp == null) {
+      throw new IllegalArgumentException("shrimpGameApp cannot be set to null");
+    }
+    this.shrimpGameApp = shrimpGameApp;
+    this.pendingLobbyUpdates = new ConcurrentLinkedQueue<ServerUpdate>();
+  }
+
+  @Override
+  public void lobbiesUpdated(LobbyUpdate lobbyUpdate) {
+    this.scheduleLobbyUpdate(lobbyUpdate);
+  }
+
+  @Override
+  public void lobbyAdded(LobbyAdded lobbyAdded) {
+    this.scheduleLobbyUpdate(lobbyAdded);
+  }
+
+  @Override
+  public void lobbyRemoved(LobbyRemoved lobbyRemoved) {
+    this.scheduleLobbyUpdate(lobbyRemoved);
+  }
+
+  @Override
+  public void lobbyPlayersChanged(LobbyPlayersChanged lobbyPlayersChanged) {
+    this.scheduleLobbyUpdate(lobbyPlayersChanged);
+  }
+
+  @Override
+  public void gameStarted(GameStarted gameStarted) {
+    Platform.runLater(() -> this.applyGameStarted(gameStarted));
+  }
+
+  @Override
+  public void roundFinished(RoundFinished roundFinished) {
+    Platform.runLater(() -> this.applyRoundFinished(roundFinished));
+  }
+
+  @Override
+  public void messageSent(MessageSent messageSent) {
+    Platform.runLater(() -> this.applyMessageSent(messageSent));
+  }
+
+  @Override
+  public void gameFinished(FinishedGame finishedGame) {
+    Platform.runLater(() -> this.applyFinishedGame(finishedGame));
+  }
+
+  /**
+   * Queues a lobby update, and schedules the lobby updates queued to be applied.
+   *
+   * @param lobbyUpdate the update received.
+   */
+  private void scheduleLobbyUpdate(ServerUpdate lobbyUpdate) {
+    this.pendingLobbyUpdates.add(lobbyUpdate);
+    this.shrimpGameApp.getUpdateScheduler().schedule(FxUpdateScheduler.Region.LOBBIES,
+                                                     this::applyLobbyUpdates);
+  }
+
+  /**
+   * Applies the lobby updates queued, in the order they were received, starting from the last
+   * UPDATE LOBBY packet queued. If the lobbies are loaded a page at a time, the pages shown are
+   * loaded again instead.
+   */
+  private void applyLobbyUpdates() {
+    List<ServerUpdate> lobbyUpdates = new ArrayList<ServerUpdate>();
+    int firstUpdate = 0;
+    ServerUpdate lobbyUpdate = this.pendingLobbyUpdates.poll();
+    while (lobbyUpdate != null) {
+      if (lobbyUpdate instanceof LobbyUpdate) {
+        firstUpdate = lobbyUpdates.size();
+      }
+      lobbyUpdates.add(lobbyUpdate);
+      lobbyUpdate = this.pendingLobbyUpdates.poll();
+    }
+    if (this.shrimpGameApp.getPagedLobbyList() != null) {
+      this.shrimpGameApp.getPagedLobbyList().refresh();
+    }
+    else {
+      LobbyIndex lobbyIndex = this.shrimpGameApp.getLobbyIndex();
+      for (ServerUpdate update : lobbyUpdates.subList(firstUpdate, lobbyUpdates.size())) {
+        if (update instanceof LobbyUpdate snapshot) {
+          lobbyIndex.replaceAll(snapshot.lobbies());
+        }
+        else if (update instanceof LobbyAdded lobbyAdded) {
+          lobbyIndex.put(lobbyAdded.lobby());
+        }
+        else if (update instanceof LobbyRemoved lobbyRemoved) {
+          lobbyIndex.remove(lobbyRemoved.lobbyName());
+        }
+        else if (update instanceof LobbyPlayersChanged lobbyPlayersChanged) {
+          lobbyIndex.setNumberOfPlayers(lobbyPlayersChanged.lobbyName(),
+                                        lobbyPlayersChanged.numberOfPlayers());
+        }
+      }
+    }
+  }
+
+  /**
+   * Applies an UPDATE GAME_STARTED packet by creating the game and showing the game screens.
+   *
+   * @param gameStarted the update received.
+   */
+  private void applyGameStarted(GameStarted gameStarted) {
+    Map<String, Player> players = new LinkedHashMap<String, Player>();
+    Player user = new Player(this.shrimpGameApp.getUser().getName(), 5);
+    players.put(user.getName(), user);
+    for (String opponentName : gameStarted.opponentNames()) {
+      Player opponent = new Player(opponentName, 5);
+      players.put(opponent.getName(), opponent);
+    }
+    GameSettings gameSettings = new GameSettings(players.size(), gameStarted.numberOfRounds(),
+                                                 gameStarted.roundTime(),
+                                                 gameStarted.communicationRounds(),
+                                                 gameStarted.communicationRoundTime(),
+                                                 gameStarted.minShrimp(),
+                                                 gameStarted.maxShrimp());
+    Game game = new Game(gameStarted.gameName(), gameSettings, players, gameStarted.islandNum());
+    this.shrimpGameApp.setGameStarted(true);
+    this.shrimpGameApp.setGame(game);
+    this.shrimpGameApp.getChatLog().show(game.getChatLog());
+    if (this.shrimpGameApp.getSelectedLobby() != null) {
+      this.shrimpGameApp.getLobbyIndex().remove(
+          this.shrimpGameApp.getSelectedLobby().getLobbyName());
+    }
+    this.shrimpGameApp.setSelectedLobby(null);
+
+    this.createRoundTimer();
+
+    this.shrimpGameApp.resetScoreboardTables();
+    this.shrimpGameApp.initGameScreens();
+    this.shrimpGameApp.setScene(this.shrimpGameApp.getGameStartedScreen());
+    this.shrimpGameApp.getGame().getRoundTimer().start();
+  }
+
+  /**
+   * Applies an UPDATE ROUND_FINISHED packet by storing the results of the round and showing
+   * the round summary.
+   *
+   * @param roundFinished the update received.
+   */
+  private void applyRoundFinished(RoundFinished roundFinished) {
+    Game game = this.shrimpGameApp.getGame();
+    this.shrimpGameApp.setAllPlayersCaughtShrimp(true);
+    game.recordRound(roundFinished);
+    if (!roundFinished.playerResults().isEmpty()) {
+      Player firstPlayer = game.getPlayers().get(
+          roundFinished.playerResults().get(0).playerName());
+      game.getPlayers().get(this.shrimpGameApp.getUser().getName())
+          .setCurrentTotalMoney(firstPlayer.getCurrentTotalMoney());
+    }
+    this.shrimpGameApp.initRoundResultsScreens();
+    game.getPlayers().get(this.shrimpGameApp.getUser().getName()).setShrimpCaught(-1);
+
+    this.shrimpGameApp.setScene(this.shrimpGameApp.getShrimpCaughtSummaryScreen());
+    game.getRoundTimer().stop();
+    if (game.getCurrentRoundNum() <= game.getSettings().getNumberOfRounds()) {
+      this.createRoundTimer();
+      game.getRoundTimer().start();
+    }
+    this.shrimpGameApp.getUpdateScheduler().schedule(
+        FxUpdateScheduler.Region.SCOREBOARD,
+        () -> this.shrimpGameApp.updateScoreboardTable(new ArrayList<>(game.getRounds().values())));
+  }
+
+  /**
+   * Applies an UPDATE MESSAGE_SENT packet by adding the message to the chat log, which inserts
+   * its row into the chat.
+   *
+   * @param messageSent the update received.
+   */
+  private void applyMessageSent(MessageSent messageSent) {
+    this.shrimpGameApp.getGame().getChatLog().add(
+        new ChatMessage(messageSent.username(), messageSent.message(), messageSent.date()));
+  }
+
+  /**
+   * Applies an UPDATE FINISHED_GAME packet by adding the result of the game.
+   *
+   * @param finishedGame the update received.
+   */
+  private void applyFinishedGame(FinishedGame finishedGame) {
+    Date now = new Date();
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTime(now);
+    SimpleDateFormat dateFormat = new SimpleDateFormat("HH:mm:ss");
+    String formattedTime = dateFormat.format(calendar.getTime());
+    GameResult gameResult = new GameResult(finishedGame.resultName(),
+                                           finishedGame.numberOfRounds(),
+                                           finishedGame.toCsvData(), formattedTime);
+
+    this.shrimpGameApp.getGameResults().add(gameResult);
+    this.shrimpGameApp.getUpdateScheduler().schedule(
+        FxUpdateScheduler.Region.RESULTS,
+        () -> this.shrimpGameApp.updateGameResultTable(this.shrimpGameApp.getGameResults()));
+  }
+
+  /**
+   * Creates the round timer.
+   */
+  public void createRoundTimer() {
+    this.shrimpGameApp.getGame().setRoundTimer(
+        new FxRoundTimer(this.shrimpGameApp, this.shrimpGameApp.getRoundTimerLabels()));
+    CommunicationSchedule communicationSchedule =
+        this.shrimpGameApp.getGame().getSettings().getCommunicationSchedule();
+    int currentRound = this.shrimpGameApp.getGame().getCurrentRoundNum();
+    if (communicationSchedule.isCommunicationRound(currentRound)) {
+      this.shrimpGameApp.getGame().getRoundTimer().setSecondsLeft(
+          communicationSchedule.getRoundDuration(currentRound));
+    }
+  }
+}
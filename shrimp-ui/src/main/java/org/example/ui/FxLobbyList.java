@@ -0,0 +1,85 @@
+package org.example.ui;
+
+import java.util.HashMap;
+import java.util.Map;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.example.model.Lobby;
+import org.example.model.LobbyIndex;
+
+/**
+ * Represents the list of lobbies shown by the lobby tables, kept in step with a
+ * {@link LobbyIndex}.
+ * <p>
+ * Every change of the index is applied to the list in place, so a table showing the list only
+ * redraws the rows that changed instead of being given a new list. The row of every lobby is
+ * kept by its name, so a change never searches the list: a removed lobby's row is taken by the
+ * last row, and a replaced lobby keeps its row. The list is shared by the lobby tables, and must
+ * only be changed on the JavaFX application thread.
+ */
+public class FxLobbyList implements LobbyIndex.Listener {
+  private final ObservableList<Lobby> lobbies;
+  private final Map<String, Integer> rowIndexes;
+
+  /**
+   * Creates a new instance of {@code FxLobbyList} without lobbies.
+   */
+  public FxLobbyList() {
+    this(FXCollections.observableArrayList());
+  }
+
+  /**
+   * Creates a new instance of {@code FxLobbyList} keeping the lobbies in an empty list.
+   *
+   * @param lobbies the empty list to keep the lobbies in.
+   * @throws IllegalArgumentException if the list given is set to {@code null} or not empty.
+   */
+  FxLobbyList(ObservableList<Lobby> lobbies) throws IllegalArgumentException {
+    if (lobbies == null || !lobbies.isEmpty()) {
+      throw new IllegalArgumentException("lobbies cannot be set to null or hold lobbies");
+    }
+    this.lobbies = lobbies;
+    this.rowIndexes = new HashMap<String, Integer>();
+  }
+
+  @Override
+  public void lobbyAdded(Lobby lobby) {
+    this.rowIndexes.put(lobby.getLobbyName(), this.lobbies.size());
+    this.lobbies.add(lobby);
+  }
+
+  @Override
+  public void lobbyRemoved(Lobby lobby) {
+    Integer index = this.rowIndexes.remove(lobby.getLobbyName());
+    if (index != null) {
+      int lastIndex = this.lobbies.size() - 1;
+      if (index != lastIndex) {
+        Lobby lastLobby = this.lobbies.get(lastIndex);
+        this.lobbies.set(index, lastLobby);
+        this.rowIndexes.put(lastLobby.getLobbyName(), index);
+      }
+      this.lobbies.remove(lastIndex);
+    }
+  }
+
+  @Override
+  public void lobbyReplaced(Lobby previousLobby, Lobby lobby) {
+    Integer index = this.rowIndexes.remove(previousLobby.getLobbyName());
+    if (index != null) {
+      this.rowIndexes.put(lobby.getLobbyName(), index);
+      this.lobbies.set(index, lobby);
+    }
+    else {
+      this.lobbyAdded(lobby);
+    }
+  }
+
+  /**
+   * Gets the list of lobbies shown by the lobby tables.
+   *
+   * @return the observable list of lobbies.
+   */
+  public ObservableList<Lobby> getLobbies() {
+    return this.lobbies;
+  }
+}
@@ -0,0 +1,101 @@
+package org.example.ui;
+
+import java.util.Collections;
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import org.example.model.Lobby;
+import org.example.network.LobbyPager;
+import org.example.network.ServerConnection;
+
+/**
+ * Represents the list of lobbies shown by the lobby tables when the server sends the lobby list
+ * one page at a time.
+ * <p>
+ * The list has as many lobbies as the server, but only the pages kept by its
+ * {@link LobbyPager} are held. A table only reads the lobbies of the rows it shows, so the pages
+ * are loaded as the user scrolls, and the rows of a page that is not loaded yet show
+ * {@link #LOADING} until it arrives. The list must only be read on the JavaFX application
+ * thread, where the pages loaded are applied.
+ */
+public class FxPagedLobbyList extends ObservableListBase<Lobby> implements LobbyPager.Listener {
+  /**
+   * The lobby shown in the rows of a page that is not loaded yet.
+   */
+  public static final Lobby LOADING = new Lobby("Loading...", 0, 0);
+  private static final int PAGE_SIZE = 50;
+  private static final int MAX_CACHED_PAGES = 4;
+  private final LobbyPager lobbyPager;
+  private int size;
+
+  /**
+   * Creates a new instance of {@code FxPagedLobbyList}, and requests the first page.
+   *
+   * @param serverConnection the connection the pages are requested through.
+   * @throws IllegalArgumentException if the connection given is set to {@code null}.
+   */
+  public FxPagedLobbyList(ServerConnection serverConnection) throws IllegalArgumentException {
+    this.lobbyPager = new LobbyPager(serverConnection, PAGE_SIZE, MAX_CACHED_PAGES, this);
+    this.size = 0;
+    this.lobbyPager.refresh();
+  }
+
+  @Override
+  public Lobby get(int index) {
+    if (index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    Lobby lobby = this.lobbyPager.getLobby(index);
+    return lobby != null ? lobby : LOADING;
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public void lobbiesLoaded(int fromIndex, int toIndex, int totalLobbies) {
+    Platform.runLater(() -> this.applyLoadedLobbies(fromIndex, toIndex, totalLobbies));
+  }
+
+  /**
+   * Loads the pages shown again, after the lobbies changed.
+   */
+  public void refresh() {
+    this.lobbyPager.refresh();
+  }
+
+  /**
+   * Gets the pager loading the pages of the list.
+   *
+   * @return the lobby pager.
+   */
+  public LobbyPager getLobbyPager() {
+    return this.lobbyPager;
+  }
+
+  /**
+   * Tells the tables showing the list that the number of lobbies changed, and that the lobbies
+   * of a page were loaded.
+   *
+   * @param fromIndex    the position of the first lobby of the page.
+   * @param toIndex      the position after the last lobby of the page.
+   * @param totalLobbies the number of lobbies in the server.
+   */
+  private void applyLoadedLobbies(int fromIndex, int toIndex, int totalLobbies) {
+    int previousSize = this.size;
+    this.size = totalLobbies;
+    this.beginChange();
+    int replacedTo = Math.min(toIndex, Math.min(previousSize, totalLobbies));
+    if (fromIndex < replacedTo) {
+      this.nextReplace(fromIndex, replacedTo, Collections.nCopies(replacedTo - fromIndex, LOADING));
+    }
+    if (totalLobbies > previousSize) {
+      this.nextAdd(previousSize, totalLobbies);
+    }
+    else if (totalLobbies < previousSize) {
+      this.nextRemove(totalLobbies, Collections.nCopies(previousSize - totalLobbies, LOADING));
+    }
+    this.endChange();
+  }
+}
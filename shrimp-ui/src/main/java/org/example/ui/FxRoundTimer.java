@@ -1,30 +1,32 @@
-package org.example.model;
+package org.example.ui;
 
 import java.util.List;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
-import javafx.scene.control.Alert;
 import javafx.scene.control.Label;
 import javafx.util.Duration;
 import org.example.ShrimpGameApp;
+import org.example.model.RoundTimer;
+import org.example.network.ServerConnection;
+import org.example.network.protocol.StatusReply;
 
 /**
  * Represents a timer for the application that counts down seconds during the current round of
- * the game.
+ * the game, showing the time left on the labels given with a JavaFX {@link Timeline}.
  */
-public class Timer {
+public class FxRoundTimer implements RoundTimer {
   private int secondsLeft;
   private final ShrimpGameApp shrimpGameApp;
   private Timeline timeline;
   private final int roundNum;
 
   /**
-   * Creates a new instance of {@code Timer}.
+   * Creates a new instance of {@code FxRoundTimer}.
    *
    * @param shrimpGameApp the {@code ShrimpGameApp} object used to get the game information.
    * @param timeLabels    a list of labels for displaying time.
    */
-  public Timer(ShrimpGameApp shrimpGameApp, List<Label> timeLabels) {
+  public FxRoundTimer(ShrimpGameApp shrimpGameApp, List<Label> timeLabels) {
     this.shrimpGameApp = shrimpGameApp;
     this.secondsLeft = shrimpGameApp.getGame().getSettings().getRoundTime();
     this.roundNum = shrimpGameApp.getGame().getCurrentRoundNum();
@@ -64,40 +66,22 @@ public class Timer {
       // If the time is up, stop the timeline
       if (this.secondsLeft == 0) {
         this.timeline.stop();
-        if (shrimpGameApp.getGame().getCurrentRoundNum() == this.roundNum) {
-          try {
-            if (!this.shrimpGameApp.getGame().getPlayers().get(
+        if (shrimpGameApp.getGame().getCurrentRoundNum() == this.roundNum
+            && !this.shrimpGameApp.getGame().getPlayers().get(
                 this.shrimpGameApp.getUser().getName()).hasCaughtShrimp()) {
-              int minShrimpKg = this.shrimpGameApp.getGame().getSettings().getMinShrimpKilograms();
-              int serverPacketsSize =
-                  this.shrimpGameApp.getServerConnection().getServerPackets().size();
-              this.shrimpGameApp.getServerConnection().sendCatchShrimpRequest(minShrimpKg);
-              String response = "";
-              synchronized (this.shrimpGameApp.getServerConnection().getServerPackets()) {
-                while (this.shrimpGameApp.getServerConnection().getServerPackets().size()
-                       == serverPacketsSize) {
-                  try {
-                    this.shrimpGameApp.getServerConnection().getServerPackets().wait();
-                  }
-                  catch (InterruptedException exception) {
-                    throw new RuntimeException("Thread was interrupted");
-                  }
+          int minShrimpKg = this.shrimpGameApp.getGame().getSettings().getMinShrimpKilograms();
+          ServerConnection serverConnection = this.shrimpGameApp.getServerConnection();
+          this.shrimpGameApp.callInBackground(
+              () -> serverConnection.awaitReply(
+                  serverConnection.sendCatchShrimpRequest(minShrimpKg)).getMessage(),
+              response ->
+              {
+                if (!response.equals(StatusReply.CAUGHT_SUCCESSFULLY)) {
+                  this.shrimpGameApp.showErrorDialog(
+                      new RuntimeException("Failed to catch shrimp."));
                 }
-                response = this.shrimpGameApp.getServerConnection().getNextServerPacket();
-              }
-              if (!response.equals("CAUGHT_SUCCESSFULLY")) {
-                throw new RuntimeException("Failed to catch shrimp.");
-              }
-            }
-          }
-          catch (RuntimeException exception) {
-            Alert errorDialog = new Alert(Alert.AlertType.ERROR);
-            errorDialog.setTitle("Error");
-            errorDialog.setHeaderText(null);
-            errorDialog.setContentText(exception.getMessage());
-            this.shrimpGameApp.addIconToDialog(errorDialog);
-            errorDialog.showAndWait();
-          }
+              },
+              this.shrimpGameApp::showErrorDialog);
         }
       }
     }));
@@ -107,6 +91,7 @@ public class Timer {
   /**
    * Starts the timeline.
    */
+  @Override
   public void start() {
     this.timeline.play();
   }
@@ -114,6 +99,7 @@ public class Timer {
   /**
    * Stops the timeline.
    */
+  @Override
   public void stop() {
     this.timeline.stop();
   }
@@ -123,6 +109,7 @@ public class Timer {
    *
    * @return the seconds remaining.
    */
+  @Override
   public int getSecondsLeft() {
     return secondsLeft;
   }
@@ -132,6 +119,7 @@ public class Timer {
    *
    * @param secondsLeft the remaining seconds to assign to the timer.
    */
+  @Override
   public void setSecondsLeft(int secondsLeft) {
     this.secondsLeft = secondsLeft;
   }
@@ -141,6 +129,7 @@ public class Timer {
    *
    * @return {@code true} if there are no seconds remaining, or {@code false} if there is.
    */
+  @Override
   public boolean isFinished() {
     boolean isFinished = false;
     if (this.secondsLeft == 0) {
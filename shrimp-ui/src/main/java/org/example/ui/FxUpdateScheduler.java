@@ -0,0 +1,179 @@
+package org.example.ui;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javafx.application.Platform;
+
+/**
+ * Represents a scheduler of the updates of the screens that keeps one pending update per region
+ * of the screens, and applies the pending updates together in a single task on the JavaFX
+ * application thread.
+ * <p>
+ * An update scheduled for a region replaces the update still pending for it, since it redraws
+ * the same region from newer state. Only the update that finds no task waiting posts one with
+ * {@link Platform#runLater(Runnable)}, and the updates scheduled until the task runs are applied
+ * by it. A burst of updates from the network thread, like the lobby updates sent when many
+ * lobbies fill up at once, is therefore drawn once instead of queueing a redraw per update, and
+ * nothing runs on the JavaFX application thread while no update is scheduled. The updates can
+ * be scheduled from any thread, and are applied once the scheduler is started.
+ * <p>
+ * The scheduler counts, per region, the updates applied and the updates replaced before they
+ * were applied.
+ */
+public class FxUpdateScheduler {
+  /**
+   * Represents a region of the screens redrawn by an update.
+   */
+  public enum Region {
+    /**
+     * The lobby tables.
+     */
+    LOBBIES,
+    /**
+     * The chat of the game.
+     */
+    CHAT,
+    /**
+     * The scoreboard tables.
+     */
+    SCOREBOARD,
+    /**
+     * The table of game results of the admin.
+     */
+    RESULTS
+  }
+
+  private final AtomicReferenceArray<Runnable> pendingUpdates;
+  private final AtomicLongArray appliedUpdates;
+  private final AtomicLongArray coalescedUpdates;
+  private final Executor applyExecutor;
+  private final AtomicBoolean applyScheduled;
+  private volatile boolean started;
+
+  /**
+   * Creates a new instance of {@code FxUpdateScheduler}, which applies no updates until it is
+   * started.
+   */
+  public FxUpdateScheduler() {
+    this(Platform::runLater);
+  }
+
+  /**
+   * Creates a new instance of {@code FxUpdateScheduler} posting the task applying the pending
+   * updates to the executor given, which applies no updates until it is started.
+   *
+   * @param applyExecutor the executor running the task applying the pending updates.
+   * @throws IllegalArgumentException if the executor given is set to {@code null}.
+   */
+  FxUpdateScheduler(Executor applyExecutor) throws IllegalArgumentException {
+    if (applyExecutor == null) {
+      throw new IllegalArgumentException("applyExecutor cannot be set to null");
+    }
+    int regions = Region.values().length;
+    this.pendingUpdates = new AtomicReferenceArray<Runnable>(regions);
+    this.appliedUpdates = new AtomicLongArray(regions);
+    this.coalescedUpdates = new AtomicLongArray(regions);
+    this.applyExecutor = applyExecutor;
+    this.applyScheduled = new AtomicBoolean(false);
+    this.started = false;
+  }
+
+  /**
+   * Starts applying the pending updates, including the ones scheduled before the scheduler was
+   * started.
+   */
+  public void start() {
+    this.started = true;
+    for (int region = 0; region < this.pendingUpdates.length(); region++) {
+      if (this.pendingUpdates.get(region) != null) {
+        this.requestApply();
+      }
+    }
+  }
+
+  /**
+   * Stops applying the pending updates. The updates scheduled until the scheduler is started
+   * again are kept pending.
+   */
+  public void stop() {
+    this.started = false;
+  }
+
+  /**
+   * Schedules the update of a region, replacing the update still pending for it.
+   *
+   * @param region the region the update redraws.
+   * @param update the update.
+   * @throws IllegalArgumentException if any of the parameters given are set to {@code null}.
+   */
+  public void schedule(Region region, Runnable update) throws IllegalArgumentException {
+    if (region == null) {
+      throw new IllegalArgumentException("region cannot be set to null");
+    }
+    if (update == null) {
+      throw new IllegalArgumentException("update cannot be set to null");
+    }
+    if (this.pendingUpdates.getAndSet(region.ordinal(), update) != null) {
+      this.coalescedUpdates.incrementAndGet(region.ordinal());
+    }
+    this.requestApply();
+  }
+
+  /**
+   * Posts the task applying the pending updates, unless the scheduler is stopped or the task is
+   * already waiting to run.
+   */
+  private void requestApply() {
+    if (this.started && this.applyScheduled.compareAndSet(false, true)) {
+      this.applyExecutor.execute(this::runApply);
+    }
+  }
+
+  /**
+   * Runs the task applying the pending updates. The task is marked as run before the updates are
+   * taken, so an update scheduled while they are applied posts the task again.
+   */
+  private void runApply() {
+    this.applyScheduled.set(false);
+    if (this.started) {
+      this.applyPendingUpdates();
+    }
+  }
+
+  /**
+   * Applies the update pending for every region, in the order of the regions. Called by the task
+   * posted when an update is scheduled once the scheduler is started.
+   */
+  public void applyPendingUpdates() {
+    for (Region region : Region.values()) {
+      Runnable update = this.pendingUpdates.getAndSet(region.ordinal(), null);
+      if (update != null) {
+        this.appliedUpdates.incrementAndGet(region.ordinal());
+        update.run();
+      }
+    }
+  }
+
+  /**
+   * Gets the number of updates of a region that were applied.
+   *
+   * @param region the region.
+   * @return the number of updates applied.
+   */
+  public long getAppliedUpdates(Region region) {
+    return this.appliedUpdates.get(region.ordinal());
+  }
+
+  /**
+   * Gets the number of updates of a region that were replaced by a newer update before they
+   * were applied.
+   *
+   * @param region the region.
+   * @return the number of updates coalesced.
+   */
+  public long getCoalescedUpdates(Region region) {
+    return this.coalescedUpdates.get(region.ordinal());
+  }
+}
@@ -6,6 +6,9 @@ import javafx.scene.control.ButtonType;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
 import org.example.ShrimpGameApp;
+import org.example.network.ServerConnection;
+import org.example.network.protocol.ServerMessage;
+import org.example.network.protocol.StatusReply;
 import org.example.ui.view.GameScreen;
 import org.example.ui.view.CatchShrimpScreen;
 
@@ -58,61 +61,14 @@ public class CatchShrimpScreenController {
         this.shrimpGameApp.addIconToDialog(confirmDialog);
         Optional<ButtonType> result = confirmDialog.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
-          try {
-            int serverPacketsSize =
-                this.shrimpGameApp.getServerConnection().getServerPackets().size();
-            this.shrimpGameApp.getServerConnection().sendCatchShrimpRequest(shrimpCaught);
-            String response = "";
-            synchronized (this.shrimpGameApp.getServerConnection().getServerPackets()) {
-              while (this.shrimpGameApp.getServerConnection().getServerPackets().size()
-                     == serverPacketsSize) {
-                try {
-                  this.shrimpGameApp.getServerConnection().getServerPackets().wait();
-                }
-                catch (InterruptedException exception) {
-                  throw new RuntimeException("Thread was interrupted");
-                }
-              }
-              response = this.shrimpGameApp.getServerConnection().getNextServerPacket();
-            }
-            this.shrimpGameApp.getGame().getPlayers().get(this.shrimpGameApp.getUser().getName())
-                              .setShrimpCaught(shrimpCaught);
-
-            if (response.equals("CAUGHT_SUCCESSFULLY")) {
-              Alert successDialog = new Alert(Alert.AlertType.INFORMATION);
-              successDialog.setTitle("Success");
-              successDialog.setHeaderText(null);
-              successDialog.setContentText("Caught shrimp successfully!");
-
-              catchShrimpTextArea.setText("");
-              errorLbl.setVisible(false);
-              this.shrimpGameApp.addIconToDialog(successDialog);
-
-              if (this.shrimpGameApp.allPlayersCaughtShrimp()) {
-                this.shrimpGameApp.setScene(this.shrimpGameApp.getShrimpCaughtSummaryScreen());
-              }
-              else {
-                int roundNum = this.shrimpGameApp.getGame().getCurrentRoundNum();
-                successDialog.showAndWait();
-                if (this.shrimpGameApp.getGame().getCurrentRoundNum() == roundNum) {
-                  GameScreen.setOPTION("Overview");
-                  this.shrimpGameApp.initGameScreens();
-                  this.shrimpGameApp.setScene(this.shrimpGameApp.getGameCaughtShrimpScreen());
-                }
-              }
-            }
-            else {
-              throw new RuntimeException("Failed to catch shrimp.");
-            }
-          }
-          catch (RuntimeException exception) {
-            Alert errorDialog = new Alert(Alert.AlertType.ERROR);
-            errorDialog.setTitle("Error");
-            errorDialog.setHeaderText(null);
-            errorDialog.setContentText(exception.getMessage());
-            this.shrimpGameApp.addIconToDialog(errorDialog);
-            errorDialog.showAndWait();
-          }
+          ServerConnection serverConnection = this.shrimpGameApp.getServerConnection();
+          int roundNum = this.shrimpGameApp.getGame().getCurrentRoundNum();
+          this.shrimpGameApp.callInBackground(
+              () -> serverConnection.awaitReply(
+                  serverConnection.sendCatchShrimpRequest(shrimpCaught)).getMessage(),
+              response -> this.showCatchResult(response, shrimpCaught, roundNum,
+                                               catchShrimpTextArea, errorLbl),
+              this.shrimpGameApp::showErrorDialog);
         }
       }
       catch (NumberFormatException exception) {
@@ -125,4 +81,46 @@ public class CatchShrimpScreenController {
       }
     }
   }
+
+  /**
+   * Shows the reply to the request catching shrimp, unless the round it was sent in is over.
+   *
+   * @param response            the reply of the server.
+   * @param shrimpCaught        the amount of shrimp caught.
+   * @param roundNum            the number of the round the request was sent in.
+   * @param catchShrimpTextArea the text area the amount was entered in.
+   * @param errorLbl            the label displaying an error if the amount is invalid.
+   */
+  private void showCatchResult(ServerMessage response, int shrimpCaught, int roundNum,
+                               TextArea catchShrimpTextArea, Label errorLbl) {
+    if (this.shrimpGameApp.getGame().getCurrentRoundNum() == roundNum) {
+      this.shrimpGameApp.getGame().getPlayers().get(this.shrimpGameApp.getUser().getName())
+                        .setShrimpCaught(shrimpCaught);
+      if (response.equals(StatusReply.CAUGHT_SUCCESSFULLY)) {
+        Alert successDialog = new Alert(Alert.AlertType.INFORMATION);
+        successDialog.setTitle("Success");
+        successDialog.setHeaderText(null);
+        successDialog.setContentText("Caught shrimp successfully!");
+
+        catchShrimpTextArea.setText("");
+        errorLbl.setVisible(false);
+        this.shrimpGameApp.addIconToDialog(successDialog);
+
+        if (this.shrimpGameApp.allPlayersCaughtShrimp()) {
+          this.shrimpGameApp.setScene(this.shrimpGameApp.getShrimpCaughtSummaryScreen());
+        }
+        else {
+          successDialog.showAndWait();
+          if (this.shrimpGameApp.getGame().getCurrentRoundNum() == roundNum) {
+            GameScreen.setOPTION("Overview");
+            this.shrimpGameApp.initGameScreens();
+            this.shrimpGameApp.setScene(this.shrimpGameApp.getGameCaughtShrimpScreen());
+          }
+        }
+      }
+      else {
+        this.shrimpGameApp.showErrorDialog(new RuntimeException("Failed to catch shrimp."));
+      }
+    }
+  }
 }
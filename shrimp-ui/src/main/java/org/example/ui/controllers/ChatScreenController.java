@@ -1,9 +1,10 @@
 package org.example.ui.controllers;
 
-import javafx.scene.control.Alert;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
 import org.example.ShrimpGameApp;
+import org.example.network.ServerConnection;
+import org.example.network.protocol.StatusReply;
 
 /**
  * Represents the controller for {@code ChatScreen}.
@@ -22,7 +23,8 @@ public class ChatScreenController {
   }
 
   /**
-   * Handles pressing the "Send" button.
+   * Handles pressing the "Send" button. The message is sent on a background thread, and an
+   * error is shown if the server did not receive it.
    * 
    * @param messageTxtArea the text area for the message to be sent.
    * @param errorLbl the label displaying an error if the amount is invalid.
@@ -49,35 +51,21 @@ public class ChatScreenController {
         if (trimmedMessage.length() > 300) {
           throw new IllegalArgumentException("Message cannot be greater than 300 characters.");
         }
-        try {
-          int serverPacketsSize =
-              this.shrimpGameApp.getServerConnection().getServerPackets().size();
-          this.shrimpGameApp.getServerConnection().sendMessageRequest(trimmedMessage);
-          String response = "";
-          synchronized (this.shrimpGameApp.getServerConnection().getServerPackets()) {
-            while (this.shrimpGameApp.getServerConnection().getServerPackets().size()
-                   == serverPacketsSize) {
-              try {
-                this.shrimpGameApp.getServerConnection().getServerPackets().wait();
+        ServerConnection serverConnection = this.shrimpGameApp.getServerConnection();
+        this.shrimpGameApp.callInBackground(
+            () -> serverConnection.awaitReply(
+                serverConnection.sendMessageRequest(trimmedMessage)).getMessage(),
+            response ->
+            {
+              if (response.equals(StatusReply.MESSAGE_RECEIVED)) {
+                errorLbl.setVisible(false);
               }
-              catch (InterruptedException exception) {
-                throw new RuntimeException("Thread was interrupted");
+              else {
+                this.shrimpGameApp.showErrorDialog(
+                    new RuntimeException("Failed to send message."));
               }
-            }
-            response = this.shrimpGameApp.getServerConnection().getNextServerPacket();
-          }
-          if (!response.equals("MESSAGE_RECEIVED")) {
-            throw new RuntimeException("Failed to send message.");
-          }
-          errorLbl.setVisible(false);
-        } catch (RuntimeException exception) {
-          Alert errorDialog = new Alert(Alert.AlertType.ERROR);
-          errorDialog.setTitle("Error");
-          errorDialog.setHeaderText(null);
-          errorDialog.setContentText(exception.getMessage());
-          this.shrimpGameApp.addIconToDialog(errorDialog);
-          errorDialog.showAndWait();
-        }
+            },
+            this.shrimpGameApp::showErrorDialog);
       } catch (IllegalArgumentException exception) {
         errorLbl.setText(exception.getMessage());
         errorLbl.setVisible(true);
@@ -1,13 +1,15 @@
 package org.example.ui.controllers;
 
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import org.example.ShrimpGameApp;
+import org.example.model.CommunicationSchedule;
+import org.example.network.ServerConnection;
+import org.example.network.protocol.StatusReply;
 
 /**
  * The CreateGameScreenController class controls the behavior of the Create Game screen, where
@@ -34,7 +36,8 @@ public class CreateGameScreenController {
   /**
    * Handles the "Create Game" button press by validating user input, displaying error messages for
    * invalid input or failures in the game creation process, and creating a game lobby upon
-   * receiving valid input.
+   * receiving valid input. The request is sent on a background thread, and the reply is shown
+   * once it arrives.
    *
    * @param gameLobbyNameField the TextField for entering the game lobby name.
    * @param maxPlayersField    the TextField for entering the maximum number of players.
@@ -80,9 +83,6 @@ public class CreateGameScreenController {
           throw new IllegalArgumentException(
               "Round time has to be between 30 and " + 120 * 5 + " " + "seconds");
         }
-        else if (communicationRounds.matches("(.*)[^\\d,](.*)")) {
-          throw new IllegalArgumentException("Communication rounds cannot contain characters.");
-        }
         else if (commRoundTime < 30 || commRoundTime > 120 * 5) {
           throw new IllegalArgumentException(
               "Communication time has to be between 30 and " + 120 * 5 + " " + "seconds");
@@ -95,14 +95,10 @@ public class CreateGameScreenController {
           throw new IllegalArgumentException(
               "Max shrimp to catch has to be between 50 and 80 kilograms");
         }
-        List<String> rounds = Arrays.stream(communicationRounds.split(",")).toList();
-        for (String round : rounds) {
-          if (Integer.parseInt(round) < 1) {
-            throw new IllegalArgumentException("There are no negative rounds in the game");
-          }
-          else if (Integer.parseInt(round) > numRounds) {
-            throw new IllegalArgumentException("The last round in the game is round " + numRounds);
-          }
+        CommunicationSchedule communicationSchedule =
+            new CommunicationSchedule(communicationRounds, numRounds, roundTime, commRoundTime);
+        if (communicationSchedule.getNumberOfCommunicationRounds() == 0) {
+          throw new IllegalArgumentException("There has to be at least one communication round");
         }
         Alert confirmDialog = new Alert(Alert.AlertType.CONFIRMATION);
         confirmDialog.setTitle("Create Game");
@@ -112,65 +108,46 @@ public class CreateGameScreenController {
             + "%d%nRound Time: %d seconds%nCommunication rounds: %s%nCommunication Time: "
             + "%d seconds%nMinimum Shrimp "
             + "kg to Catch: %dkg%nMaximum Shrimp kg to Catch: %dkg%n", gameLobbyNameField.getText(),
-            maxPlayers, numRounds, roundTime, communicationRounds, commRoundTime, minShrimp,
-            maxShrimp));
+            maxPlayers, numRounds, roundTime, communicationSchedule.format(","), commRoundTime,
+            minShrimp, maxShrimp));
         this.shrimpGameApp.addIconToDialog(confirmDialog);
         Optional<ButtonType> result = confirmDialog.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
-          try {
-            int serverPacketsSize =
-                this.shrimpGameApp.getServerConnection().getServerPackets().size();
-            this.shrimpGameApp.getServerConnection().sendCreateLobbyRequest(
-                gameLobbyNameField.getText(), maxPlayers, numRounds, roundTime,
-                communicationRounds.replace(",", "+"),
-                commRoundTime, minShrimp, maxShrimp);
-            String response = "";
-            synchronized (this.shrimpGameApp.getServerConnection().getServerPackets()) {
-              while (this.shrimpGameApp.getServerConnection().getServerPackets().size()
-                     == serverPacketsSize) {
-                try {
-                  this.shrimpGameApp.getServerConnection().getServerPackets().wait();
+          ServerConnection serverConnection = this.shrimpGameApp.getServerConnection();
+          String lobbyName = gameLobbyNameField.getText();
+          this.shrimpGameApp.callInBackground(
+              () -> serverConnection.awaitReply(serverConnection.sendCreateLobbyRequest(
+                  lobbyName, maxPlayers, numRounds, roundTime, communicationSchedule.format("+"),
+                  commRoundTime, minShrimp, maxShrimp)).getMessage(),
+              response ->
+              {
+                if (response.equals(StatusReply.CREATE_LOBBY_SUCCESS)) {
+                  // Lobby created successfully
+                  Alert successDialog = new Alert(Alert.AlertType.INFORMATION);
+                  successDialog.setTitle("Success");
+                  successDialog.setHeaderText(null);
+                  successDialog.setContentText("Game lobby created successfully!");
+                  // Reset the text fields
+                  gameLobbyNameField.setText("");
+                  maxPlayersField.setText("");
+                  numRoundsField.setText("");
+                  roundTimeField.setText("");
+                  commRoundsField.setText("");
+                  commRoundTimeField.setText("");
+                  minShrimpField.setText("");
+                  maxShrimpField.setText("");
+                  errorLbl.setVisible(false);
+                  this.shrimpGameApp.addIconToDialog(successDialog);
+                  successDialog.showAndWait();
+                  this.shrimpGameApp.setScene(this.shrimpGameApp.getMainScreen());
                 }
-                catch (InterruptedException exception) {
-                  throw new RuntimeException("Thread was interrupted");
+                else {
+                  // Failed to create lobby
+                  this.shrimpGameApp.showErrorDialog(
+                      new RuntimeException("Failed to create game lobby."));
                 }
-              }
-              response = this.shrimpGameApp.getServerConnection().getNextServerPacket();
-            }
-
-            if (response.equals("CREATE_LOBBY_SUCCESS")) {
-              // Lobby created successfully
-              Alert successDialog = new Alert(Alert.AlertType.INFORMATION);
-              successDialog.setTitle("Success");
-              successDialog.setHeaderText(null);
-              successDialog.setContentText("Game lobby created successfully!");
-              // Reset the text fields
-              gameLobbyNameField.setText("");
-              maxPlayersField.setText("");
-              numRoundsField.setText("");
-              roundTimeField.setText("");
-              commRoundsField.setText("");
-              commRoundTimeField.setText("");
-              minShrimpField.setText("");
-              maxShrimpField.setText("");
-              errorLbl.setVisible(false);
-              this.shrimpGameApp.addIconToDialog(successDialog);
-              successDialog.showAndWait();
-              this.shrimpGameApp.setScene(this.shrimpGameApp.getMainScreen());
-            }
-            else {
-              // Failed to create lobby
-              throw new RuntimeException("Failed to create game lobby.");
-            }
-          }
-          catch (RuntimeException exception) {
-            Alert errorDialog = new Alert(Alert.AlertType.ERROR);
-            errorDialog.setTitle("Error");
-            errorDialog.setHeaderText(null);
-            errorDialog.setContentText(exception.getMessage());
-            this.shrimpGameApp.addIconToDialog(errorDialog);
-            errorDialog.showAndWait();
-          }
+              },
+              this.shrimpGameApp::showErrorDialog);
         }
       }
       catch (NumberFormatException exception) {
@@ -42,23 +42,36 @@ public class DownloadGameDataScreenController {
     File file = fileChooser.showSaveDialog(null);
 
     if (file != null) {
-      try {
-        // Open an OutputStreamWriter to write the CSV data to the file using UTF-8 encoding
-        OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
-
-        // Write the CSV data to the file
-        for (String line : gameResult.getCsvData()) {
-          writer.write(line + "\n");
-        }
+      this.shrimpGameApp.runInBackground(() -> this.writeCsvFile(gameResult, file), () -> { },
+                                         this.shrimpGameApp::showErrorDialog);
+    }
+  }
 
-        // Close the OutputStreamWriter
-        writer.close();
+  /**
+   * Writes the CSV data of a game to a file and opens the folder of the file. Runs on a
+   * background thread, so the JavaFX application thread never waits for the disk.
+   *
+   * @param gameResult the results of the game.
+   * @param file       the file to write.
+   * @throws RuntimeException if the file could not be written.
+   */
+  private void writeCsvFile(GameResult gameResult, File file) throws RuntimeException {
+    try {
+      // Open an OutputStreamWriter to write the CSV data to the file using UTF-8 encoding
+      OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
 
-        // Open the file explorer to show the saved CSV file
-        Desktop.getDesktop().open(file.getParentFile());
-      } catch (IOException e) {
-        e.printStackTrace();
+      // Write the CSV data to the file
+      for (String line : gameResult.getCsvData()) {
+        writer.write(line + "\n");
       }
+
+      // Close the OutputStreamWriter
+      writer.close();
+
+      // Open the file explorer to show the saved CSV file
+      Desktop.getDesktop().open(file.getParentFile());
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to write the game data to " + file + ".", e);
     }
   }
 }
@@ -1,6 +1,5 @@
 package org.example.ui.controllers;
 
-import java.util.ArrayList;
 import java.util.Optional;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
@@ -34,7 +33,7 @@ public class GameOverScreenController {
     if (result.isPresent() && result.get() == ButtonType.OK) {
       this.shrimpGameApp.setScene(this.shrimpGameApp.getMainScreen());
       this.shrimpGameApp.setGameStarted(false);
-      this.shrimpGameApp.updateChatMessageGrid(new ArrayList<String>());
+      this.shrimpGameApp.getChatLog().show(null);
     }
   }
 
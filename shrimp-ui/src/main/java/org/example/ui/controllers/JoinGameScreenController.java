@@ -0,0 +1,81 @@
+package org.example.ui.controllers;
+
+import javafx.scene.control.Alert;
+import org.example.ShrimpGameApp;
+import org.example.model.Lobby;
+
+/**
+ * This class is the controller for the join game screen in the Shrimp Game application. It handles
+ * user input and updates the UI accordingly. It allows the user to join a selected lobby or leave a
+ * lobby they have already joined.
+ *
+ * @author Tiago Brito
+ * @version 1.3.0
+ * @since 2023-04-02
+ */
+public class JoinGameScreenController {
+  private final ShrimpGameApp shrimpGameApp;
+
+  /**
+   * Creates a new instance of the {@code JoinGameScreenController} class.
+   *
+   * @param shrimpGameApp the instance of the main application class
+   */
+  public JoinGameScreenController(ShrimpGameApp shrimpGameApp) {
+    this.shrimpGameApp = shrimpGameApp;
+
+  }
+
+  /**
+   * Handles the "Join" button being pressed. 
+   * Sends a join lobby request to the server on a background thread and updates the UI
+   * accordingly once the reply arrives.
+   *
+   * @param selectedLobby the selected lobby object
+   */
+  public void handleJoinButton(Lobby selectedLobby) {
+    this.shrimpGameApp.runInBackground(
+        () -> this.shrimpGameApp.getServerConnection()
+                                .sendJoinLobbyRequest(selectedLobby.getLobbyName()),
+        () ->
+        {
+          Alert successDialog = new Alert(Alert.AlertType.INFORMATION);
+          successDialog.setTitle("Success");
+          successDialog.setHeaderText(null);
+          successDialog.setContentText("Joined the lobby successfully!");
+          this.shrimpGameApp.addIconToDialog(successDialog);
+          this.shrimpGameApp.setSelectedLobby(selectedLobby);
+          if (this.shrimpGameApp.isGameStarted())
+          {
+            this.shrimpGameApp.setScene(this.shrimpGameApp.getGameStartedScreen());
+          }
+          else {
+            successDialog.showAndWait();
+            if (!this.shrimpGameApp.isGameStarted())
+            {
+              this.shrimpGameApp.setScene(this.shrimpGameApp.getJoinedGameScreen());
+            }
+          }
+        },
+        this.shrimpGameApp::showErrorDialog);
+  }
+
+  /**
+   * Handles the leave button click event. Sends a leave lobby request to the server on a
+   * background thread and updates the UI accordingly once the reply arrives.
+   */
+  public void handleLeaveButton() {
+    this.shrimpGameApp.runInBackground(
+        () -> this.shrimpGameApp.getServerConnection().sendLeaveLobbyRequest(),
+        () ->
+        {
+          this.shrimpGameApp.setSelectedLobby(null);
+          this.shrimpGameApp.setScene(this.shrimpGameApp.getJoinGameScreen());
+        },
+        exception ->
+        {
+          this.shrimpGameApp.showErrorDialog(exception);
+          this.shrimpGameApp.setScene(this.shrimpGameApp.getJoinGameScreen());
+        });
+  }
+}
@@ -11,6 +11,9 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import org.example.ShrimpGameApp;
+import org.example.network.ServerConnection;
+import org.example.network.protocol.ServerMessage;
+import org.example.network.protocol.StatusReply;
 
 /**
  * This class serves as the controller for the main menu screen of the Shrimp Game application.
@@ -41,6 +44,7 @@ public class MainMenuScreenController {
    * If the password is correct, the user will be granted admin privileges and directed to the
    * main menu screen.
    * If the password is incorrect, an error message will be displayed.
+   * The request is sent on a background thread, and the reply is shown once it arrives.
    */
   public void handleBecomeAdminButton() {
     Dialog<String> dialog = new Dialog<>();
@@ -84,54 +88,46 @@ public class MainMenuScreenController {
 
     Optional<String> result = dialog.showAndWait();
     if (result.isPresent()) {
-      try {
-        this.shrimpGameApp.getServerConnection().connect();
-        int serverPacketsSize =
-            this.shrimpGameApp.getServerConnection().getServerPackets().size();
-        this.shrimpGameApp.getServerConnection().sendBecomeAdminRequest(result.get());
-        String serverResponse = "";
-        synchronized (this.shrimpGameApp.getServerConnection().getServerPackets()) {
-          while (this.shrimpGameApp.getServerConnection().getServerPackets().size()
-                 == serverPacketsSize) {
-            try {
-              this.shrimpGameApp.getServerConnection().getServerPackets().wait();
-            }
-            catch (InterruptedException exception) {
-              throw new RuntimeException("Thread was interrupted");
-            }
-          }
-          serverResponse = this.shrimpGameApp.getServerConnection().getNextServerPacket();
-        }
-        if (serverResponse.equals("BECOME_ADMIN_SUCCESSFUL")) {
-          this.shrimpGameApp.getUser().setIsAdmin(true);
-          this.shrimpGameApp.setScene(this.shrimpGameApp.getMainScreen());
-        }
-        else if (serverResponse.equals("BECOME_ADMIN_FAILED")) {
-          Alert alert = new Alert(Alert.AlertType.ERROR);
-          alert.setTitle("Incorrect Password");
-          alert.setHeaderText(null);
-          alert.setContentText("The password you entered is incorrect. Please try again.");
-          this.shrimpGameApp.addIconToDialog(alert);
-          alert.showAndWait();
-        }
-        else {
-          Alert alert = new Alert(Alert.AlertType.ERROR);
-          alert.setTitle("No Server Connection");
-          alert.setHeaderText(null);
-          alert.setContentText("Failed to receive a response from the server. Make sure you"
-                               + " are connected to the Internet!");
-          this.shrimpGameApp.addIconToDialog(alert);
-          alert.showAndWait();
-        }
-      }
-      catch (RuntimeException exception) {
-        Alert alert = new Alert(Alert.AlertType.ERROR);
-        alert.setTitle("Error");
-        alert.setHeaderText(null);
-        alert.setContentText(exception.getMessage());
-        this.shrimpGameApp.addIconToDialog(alert);
-        alert.showAndWait();
-      }
+      ServerConnection serverConnection = this.shrimpGameApp.getServerConnection();
+      this.shrimpGameApp.callInBackground(
+          () ->
+          {
+            serverConnection.connect();
+            return serverConnection.awaitReply(
+                serverConnection.sendBecomeAdminRequest(result.get())).getMessage();
+          },
+          this::showBecomeAdminResult,
+          this.shrimpGameApp::showErrorDialog);
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Shows the reply to the request to become an administrator, directing the user to the main
+   * menu screen if the password was correct.
+   *
+   * @param serverResponse the reply of the server.
+   */
+  private void showBecomeAdminResult(ServerMessage serverResponse) {
+    if (serverResponse.equals(StatusReply.BECOME_ADMIN_SUCCESSFUL)) {
+      this.shrimpGameApp.getUser().setIsAdmin(true);
+      this.shrimpGameApp.setScene(this.shrimpGameApp.getMainScreen());
+    }
+    else if (serverResponse.equals(StatusReply.BECOME_ADMIN_FAILED)) {
+      Alert alert = new Alert(Alert.AlertType.ERROR);
+      alert.setTitle("Incorrect Password");
+      alert.setHeaderText(null);
+      alert.setContentText("The password you entered is incorrect. Please try again.");
+      this.shrimpGameApp.addIconToDialog(alert);
+      alert.showAndWait();
+    }
+    else {
+      Alert alert = new Alert(Alert.AlertType.ERROR);
+      alert.setTitle("No Server Connection");
+      alert.setHeaderText(null);
+      alert.setContentText("Failed to receive a response from the server. Make sure you"
+                           + " are connected to the Internet!");
+      this.shrimpGameApp.addIconToDialog(alert);
+      alert.showAndWait();
+    }
+  }
+}
@@ -1,28 +1,23 @@
 package org.example.ui.view;
 
-import java.util.Collections;
-import java.util.List;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
-import javafx.scene.control.TextArea;
 import javafx.scene.image.Image;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundImage;
 import javafx.scene.layout.BackgroundPosition;
 import javafx.scene.layout.BackgroundRepeat;
 import javafx.scene.layout.BackgroundSize;
-import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import org.example.ShrimpGameApp;
-import org.example.model.MessageComparator;
 
 /**
  * This class represents the game over screen that show the chat from the game.
@@ -51,39 +46,10 @@ public abstract class GameOverViewChatScreen {
     chatBox.setPadding(new Insets(30));
     chatBox.setAlignment(Pos.CENTER);
 
-    GridPane chatGrid = shrimpGameApp.getChatMessageGrid();
-    chatGrid.setPadding(new Insets(20));
-    chatGrid.setHgap(10);
-    chatGrid.setVgap(10);
-
-    ScrollPane chatScrollPane = new ScrollPane(chatGrid);
+    ScrollPane chatScrollPane = new ScrollPane(shrimpGameApp.getChatLog().getRows());
+    chatScrollPane.setFitToWidth(true);
     chatScrollPane.setPrefHeight(450);
 
-    List<String> messages = shrimpGameApp.getGame().getMessages();
-    Collections.sort(messages, new MessageComparator());
-    int row = 0;
-    for (String message : messages) {
-      String[] messageParts = message.split("☐");
-      String usernamePart = messageParts[0];
-      String messagePart = messageParts[1];
-      String datePart = messageParts[2];
-
-      Label usernameLbl = new Label(usernamePart);
-      usernameLbl.getStyleClass().add("username-label");
-
-      TextArea messageTextArea = new TextArea(messagePart);
-      messageTextArea.getStyleClass().add("message-textarea");
-      messageTextArea.setEditable(false);
-      messageTextArea.setWrapText(true);
-
-      Label dateLbl = new Label(datePart);
-
-      chatGrid.add(usernameLbl, 0, row);
-      chatGrid.add(messageTextArea, 1, row);
-      chatGrid.add(dateLbl, 2, row);
-      row++;
-    }
-
     chatBox.getChildren().addAll(chatScrollPane);
 
     HBox buttonBox = new HBox();
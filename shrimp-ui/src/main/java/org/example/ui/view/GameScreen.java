@@ -1,8 +1,6 @@
 package org.example.ui.view;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -26,7 +24,6 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import org.example.ShrimpGameApp;
-import org.example.model.MessageComparator;
 import org.example.model.Player;
 import org.example.model.Round;
 
@@ -41,6 +38,9 @@ public abstract class GameScreen {
   private static VBox RULES;
   private static VBox CHAT;
   private static Image OVERVIEW_BACKGROUND;
+  private static final int PLAYERS_PER_ROW = 3;
+  private static final int PLAYER_IMAGES = 3;
+  private static final int PLAYER_IMAGE_HEIGHT = 133;
 
   /**
    * Sets the OPTION field.
@@ -186,10 +186,10 @@ public abstract class GameScreen {
     VBox content = new VBox();
     content.setPrefSize(600, 600);
     content.setAlignment(Pos.CENTER);
-    List<Player> otherPlayers = new ArrayList<>(shrimpGameApp.getGame().getPlayers().values());
     Player player = shrimpGameApp.getGame().getPlayers().get(shrimpGameApp.getUser().getName());
-    otherPlayers.remove(player);
-    Iterator<Player> iterator = otherPlayers.iterator();
+    List<Player> players = new ArrayList<>();
+    players.add(player);
+    players.addAll(shrimpGameApp.getGame().getOtherPlayers(player.getName()));
 
     // Create the content for each menu item
     if (option.equals("Overview")) {
@@ -280,45 +280,24 @@ public abstract class GameScreen {
       grid.setVgap(10);
       grid.setHgap(10);
 
-      Label player1Lbl = new Label(player.getName());
-      player1Lbl.getStyleClass().add("name-label");
-      player1Lbl.setPadding(new Insets(0, 10, 0, 10));
-      Image player1Image = new Image(
-          shrimpGameApp.getClass().getResourceAsStream("/images/player1.png"));
-      VBox player1Box = new VBox();
-      player1Box.setPrefWidth(200);
-      player1Box.setPrefHeight(200);
-      player1Box.setSpacing(10);
-      player1Box.setAlignment(Pos.CENTER);
-      player1Box.getChildren().addAll(player1Lbl, new ImageView(player1Image));
-
-      Label player2Lbl = new Label(iterator.next().getName());
-      player2Lbl.getStyleClass().add("name-label");
-      player2Lbl.setPadding(new Insets(0, 10, 0, 10));
-      Image player2Image = new Image(
-          shrimpGameApp.getClass().getResourceAsStream("/images/player2.png"));
-      VBox player2Box = new VBox();
-      player2Box.setPrefWidth(200);
-      player2Box.setPrefHeight(200);
-      player2Box.setSpacing(10);
-      player2Box.setAlignment(Pos.CENTER);
-      player2Box.getChildren().addAll(player2Lbl, new ImageView(player2Image));
-
-      Label player3Lbl = new Label(iterator.next().getName());
-      player3Lbl.getStyleClass().add("name-label");
-      player3Lbl.setPadding(new Insets(0, 10, 0, 10));
-      Image player3Image = new Image(
-          shrimpGameApp.getClass().getResourceAsStream("/images/player3.png"));
-      VBox player3Box = new VBox();
-      player3Box.setPrefWidth(200);
-      player3Box.setPrefHeight(200);
-      player3Box.setSpacing(10);
-      player3Box.setAlignment(Pos.CENTER);
-      player3Box.getChildren().addAll(player3Lbl, new ImageView(player3Image));
-
-      grid.add(player1Box, 0, 0);
-      grid.add(player2Box, 1, 0);
-      grid.add(player3Box, 2, 0);
+      int rows = (players.size() + PLAYERS_PER_ROW - 1) / PLAYERS_PER_ROW;
+      for (int index = 0; index < players.size(); index++) {
+        Label playerLbl = new Label(players.get(index).getName());
+        playerLbl.getStyleClass().add("name-label");
+        playerLbl.setPadding(new Insets(0, 10, 0, 10));
+        Image playerImage = new Image(shrimpGameApp.getClass().getResourceAsStream(
+            "/images/player" + (index % PLAYER_IMAGES + 1) + ".png"));
+        ImageView playerImageView = new ImageView(playerImage);
+        playerImageView.setPreserveRatio(true);
+        playerImageView.setFitHeight(PLAYER_IMAGE_HEIGHT / rows);
+        VBox playerBox = new VBox();
+        playerBox.setPrefWidth(200);
+        playerBox.setPrefHeight(200 / rows);
+        playerBox.setSpacing(10);
+        playerBox.setAlignment(Pos.CENTER);
+        playerBox.getChildren().addAll(playerLbl, playerImageView);
+        grid.add(playerBox, index % PLAYERS_PER_ROW, index / PLAYERS_PER_ROW);
+      }
       grid.setAlignment(Pos.CENTER);
 
       Label roundsLeftLbl = new Label(
@@ -453,13 +432,8 @@ public abstract class GameScreen {
       titleContainer.setAlignment(Pos.CENTER);
       titleContainer.getChildren().addAll(roundInfo, titleLbl);
 
-      String[] communicationRounds =
-          shrimpGameApp.getGame().getSettings().getCommunicationRounds().split("\\+");
-      List<Integer> commRoundNums = new ArrayList<Integer>();
-      for (String communicationRound : communicationRounds) {
-        commRoundNums.add(Integer.parseInt(communicationRound));
-      }
-      if (commRoundNums.contains(shrimpGameApp.getGame().getCurrentRoundNum())) {
+      if (shrimpGameApp.getGame().getSettings().getCommunicationSchedule()
+                       .isCommunicationRound(shrimpGameApp.getGame().getCurrentRoundNum())) {
         VBox chatBox = new VBox();
         chatBox.setPadding(new Insets(30));
         chatBox.setAlignment(Pos.CENTER);
@@ -489,40 +463,10 @@ public abstract class GameScreen {
         inputBox.setPadding(new Insets(20, 0, 0, 0));
         inputBox.setAlignment(Pos.CENTER);
 
-        GridPane chatGrid = shrimpGameApp.getChatMessageGrid();
-        chatGrid.setPadding(new Insets(20));
-        chatGrid.setHgap(10);
-        chatGrid.setVgap(10);
-
-
-        ScrollPane chatScrollPane = new ScrollPane(chatGrid);
+        ScrollPane chatScrollPane = new ScrollPane(shrimpGameApp.getChatLog().getRows());
+        chatScrollPane.setFitToWidth(true);
         chatScrollPane.setPrefHeight(450);
 
-        List<String> messages = shrimpGameApp.getGame().getMessages();
-        Collections.sort(messages, new MessageComparator());
-        int row = 0;
-        for (String message : messages) {
-          String[] messageParts = message.split("☐");
-          String usernamePart = messageParts[0];
-          String messagePart = messageParts[1];
-          String datePart = messageParts[2];
-
-          Label usernameLbl = new Label(usernamePart);
-          usernameLbl.getStyleClass().add("username-label");
-
-          TextArea messageTextArea = new TextArea(messagePart);
-          messageTextArea.getStyleClass().add("message-textarea");
-          messageTextArea.setEditable(false);
-          messageTextArea.setWrapText(true);
-
-          Label dateLbl = new Label(datePart);
-
-          chatGrid.add(usernameLbl, 0, row);
-          chatGrid.add(messageTextArea, 1, row);
-          chatGrid.add(dateLbl, 2, row);
-          row++;
-        }
-
         chatBox.getChildren().addAll(chatScrollPane, inputBox, errorLbl);
 
         content.getChildren().addAll(titleContainer, chatBox);
@@ -543,9 +487,8 @@ public abstract class GameScreen {
 
         String info =
             "Communication is not allowed in round " + shrimpGameApp.getGame().getCurrentRoundNum()
-            + ".\n\nCommunication is only allowed in rounds: " + shrimpGameApp.getGame()
-                                                                              .getSettings()
-                                                                              .getCommunicationRounds().replace("+", ",");
+            + ".\n\nCommunication is only allowed in rounds: "
+            + shrimpGameApp.getGame().getSettings().getCommunicationSchedule().format(",");
         Label infoLbl = new Label(info);
         infoLbl.setWrapText(true);
         infoLbl.setFont(Font.font("Helvetica", 20));
@@ -1,10 +1,6 @@
 package org.example.ui.view;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -38,10 +34,14 @@ public abstract class GameStartedScreen {
    */
   public static Scene getGameStartedScene(ShrimpGameApp shrimpGameApp) {
     Game game = shrimpGameApp.getGame();
-    Map<String, Player> otherPlayers = new HashMap<>(game.getPlayers());
-    otherPlayers.remove(shrimpGameApp.getUser().getName(),
-                        otherPlayers.get(shrimpGameApp.getUser().getName()));
-    Iterator<Player> iterator = otherPlayers.values().iterator();
+    List<Player> otherPlayers = game.getOtherPlayers(shrimpGameApp.getUser().getName());
+    StringBuilder otherPlayerNames = new StringBuilder();
+    for (int index = 0; index < otherPlayers.size(); index++) {
+      if (index > 0) {
+        otherPlayerNames.append(index == otherPlayers.size() - 1 ? " and " : ", ");
+      }
+      otherPlayerNames.append(otherPlayers.get(index).getName());
+    }
 
     VBox root = new VBox();
     root.setSpacing(20);
@@ -72,8 +72,8 @@ public abstract class GameStartedScreen {
         + "you are a fisherman competing against" + " other " + "fishermen on " + game.getName()
         + " Island " + game.getNumber() + ".\n\n"
         + "Your goal is to make the most profit possible each round.\n\n"
-        + "The other fishermen you are competing against are " + iterator.next().getName() + " and "
-        + iterator.next().getName() + ".\n\n" + "The game consists of " + game.getSettings()
+        + "The other fishermen you are competing against are " + otherPlayerNames + ".\n\n"
+        + "The game consists of " + game.getSettings()
                                                                               .getNumberOfRounds()
         + " rounds, with each round lasting for " + game.getSettings().getRoundTime() + " seconds"
         + ".\n\nDuring each round, you must decide how much shrimp you want to catch this round "
@@ -100,13 +100,8 @@ public abstract class GameStartedScreen {
     continueBtn.setPrefHeight(80);
     continueBtn.setOnAction(event ->
                             {
-                              String[] communicationRounds =
-                                  shrimpGameApp.getGame().getSettings().getCommunicationRounds().split("\\+");
-                              List<Integer> commRoundNums = new ArrayList<Integer>();
-                              for (String communicationRound : communicationRounds) {
-                                commRoundNums.add(Integer.parseInt(communicationRound));
-                              }
-                              if (commRoundNums.contains(shrimpGameApp.getGame().getCurrentRoundNum()))
+                              if (shrimpGameApp.getGame().getSettings().getCommunicationSchedule()
+                                               .isCommunicationRound(shrimpGameApp.getGame().getCurrentRoundNum()))
                               {
                                 GameScreen.setOPTION("Chat");
                                 shrimpGameApp.initGameScreens();
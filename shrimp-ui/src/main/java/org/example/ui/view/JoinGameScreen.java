@@ -17,6 +17,7 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import org.example.ShrimpGameApp;
+import org.example.ui.FxPagedLobbyList;
 import org.example.model.Lobby;
 
 /**
@@ -60,7 +61,8 @@ public abstract class JoinGameScreen {
                         {
                           Lobby selectedLobby =
                               lobbyTableView.getSelectionModel().getSelectedItem();
-                          if (selectedLobby != null) {
+                          if (selectedLobby != null
+                              && selectedLobby != FxPagedLobbyList.LOADING) {
                             shrimpGameApp.getJoinGameScreenController().handleJoinButton(
                                 selectedLobby);
                           }
@@ -1,6 +1,10 @@
 package org.example.ui.view;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -18,7 +22,10 @@ import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 import org.example.ShrimpGameApp;
+import org.example.network.Heartbeat;
+import org.example.network.LatencyHistogram;
 
 /**
  * The {@code MainAdminScreen} abstract class represents the main screen for administrators of
@@ -27,7 +34,9 @@ import org.example.ShrimpGameApp;
  * which returns a
  * {@link javafx.scene.Scene Scene} object representing the main screen for administrators.
  * This class is responsible for displaying the welcome message, providing buttons to create a game,
- * join a game, and quit the game, and setting the background image of the main screen.
+ * join a game, and quit the game, and setting the background image of the main screen. A label
+ * at the bottom shows the round-trip times to the server measured by the {@link Heartbeat},
+ * refreshed every second while the screen is shown on a window only.
  *
  * @author Tiago Brito
  * @version 1.3.0
@@ -93,8 +102,25 @@ public abstract class MainAdminScreen {
     VBox.setVgrow(spacer2, Priority.ALWAYS);
 
 
+    Label latencyLbl = new Label();
+    latencyLbl.getStyleClass().add("latency-label");
+    updateLatencyLabel(shrimpGameApp, latencyLbl);
+    Timeline latencyTimeline = new Timeline(
+        new KeyFrame(Duration.seconds(1), event -> updateLatencyLabel(shrimpGameApp, latencyLbl)));
+    latencyTimeline.setCycleCount(Animation.INDEFINITE);
+    mainAdminScene.windowProperty().addListener((observable, oldWindow, newWindow) ->
+                                                {
+                                                  if (newWindow != null) {
+                                                    updateLatencyLabel(shrimpGameApp, latencyLbl);
+                                                    latencyTimeline.play();
+                                                  }
+                                                  else {
+                                                    latencyTimeline.stop();
+                                                  }
+                                                });
+
     root.getChildren().addAll(spacer1, welcomeLbl, createGameBtn, joinGameBtn, downloadDataBtn,
-                              quitBtn, spacer2);
+                              quitBtn, spacer2, latencyLbl);
     root.setAlignment(Pos.CENTER);
 
     Image backgroundImage = new Image(
@@ -106,4 +132,25 @@ public abstract class MainAdminScreen {
     root.setBackground(new Background(background));
     return mainAdminScene;
   }
+
+  /**
+   * Shows the median, the 99th percentile and the maximum of the round-trip times to the server
+   * in the label given.
+   *
+   * @param shrimpGameApp the {@link ShrimpGameApp} object holding the heartbeat.
+   * @param latencyLbl    the label showing the round-trip times.
+   */
+  private static void updateLatencyLabel(ShrimpGameApp shrimpGameApp, Label latencyLbl) {
+    Heartbeat heartbeat = shrimpGameApp.getHeartbeat();
+    if (heartbeat == null || heartbeat.getLatencyHistogram().getCount() == 0) {
+      latencyLbl.setText("Latency: measuring...");
+    }
+    else {
+      LatencyHistogram histogram = heartbeat.getLatencyHistogram();
+      latencyLbl.setText(String.format("Latency p50 %d ms | p99 %d ms | max %d ms",
+                         TimeUnit.NANOSECONDS.toMillis(histogram.getValueAtPercentile(50)),
+                         TimeUnit.NANOSECONDS.toMillis(histogram.getValueAtPercentile(99)),
+                         TimeUnit.NANOSECONDS.toMillis(histogram.getMaxNanos())));
+    }
+  }
 }
@@ -1,7 +1,5 @@
 package org.example.ui.view;
 
-import java.util.ArrayList;
-import java.util.List;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -146,13 +144,8 @@ public abstract class RoundProfitMoneyCalculationScreen {
                               {
                                 RoundProfitMoneyCalculationScreen.setAllLabelsVisible(false);
                                 shrimpGameApp.setAllPlayersCaughtShrimp(false);
-                                String[] communicationRounds =
-                                    shrimpGameApp.getGame().getSettings().getCommunicationRounds().split("\\+");
-                                List<Integer> commRoundNums = new ArrayList<Integer>();
-                                for (String communicationRound : communicationRounds) {
-                                  commRoundNums.add(Integer.parseInt(communicationRound));
-                                }
-                                if (commRoundNums.contains(shrimpGameApp.getGame().getCurrentRoundNum()))
+                                if (shrimpGameApp.getGame().getSettings().getCommunicationSchedule()
+                                                 .isCommunicationRound(shrimpGameApp.getGame().getCurrentRoundNum()))
                                 {
                                   GameScreen.setOPTION("Chat");
                                   shrimpGameApp.initGameScreens();
@@ -172,13 +165,8 @@ public abstract class RoundProfitMoneyCalculationScreen {
                                 currentStep++;
                                 if (currentStep > stepLabels.length) {
                                   shrimpGameApp.setAllPlayersCaughtShrimp(false);
-                                  String[] communicationRounds =
-                                      shrimpGameApp.getGame().getSettings().getCommunicationRounds().split("\\+");
-                                  List<Integer> commRoundNums = new ArrayList<Integer>();
-                                  for (String communicationRound : communicationRounds) {
-                                    commRoundNums.add(Integer.parseInt(communicationRound));
-                                  }
-                                  if (commRoundNums.contains(shrimpGameApp.getGame().getCurrentRoundNum()))
+                                  if (shrimpGameApp.getGame().getSettings().getCommunicationSchedule()
+                                                   .isCommunicationRound(shrimpGameApp.getGame().getCurrentRoundNum()))
                                   {
                                     GameScreen.setOPTION("Chat");
                                     shrimpGameApp.initGameScreens();
@@ -221,13 +209,8 @@ public abstract class RoundProfitMoneyCalculationScreen {
                           {
                             RoundProfitMoneyCalculationScreen.setAllLabelsVisible(false);
                             shrimpGameApp.setAllPlayersCaughtShrimp(false);
-                            String[] communicationRounds =
-                                shrimpGameApp.getGame().getSettings().getCommunicationRounds().split("\\+");
-                            List<Integer> commRoundNums = new ArrayList<Integer>();
-                            for (String communicationRound : communicationRounds) {
-                              commRoundNums.add(Integer.parseInt(communicationRound));
-                            }
-                            if (commRoundNums.contains(shrimpGameApp.getGame().getCurrentRoundNum()))
+                            if (shrimpGameApp.getGame().getSettings().getCommunicationSchedule()
+                                             .isCommunicationRound(shrimpGameApp.getGame().getCurrentRoundNum()))
                             {
                               GameScreen.setOPTION("Chat");
                               shrimpGameApp.initGameScreens();
@@ -11,6 +11,7 @@ import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Background;
@@ -19,6 +20,7 @@ import javafx.scene.layout.BackgroundPosition;
 import javafx.scene.layout.BackgroundRepeat;
 import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -30,6 +32,11 @@ import org.example.model.Player;
  * This class represents the shrimp caught summary screen of the Shrimp Game application.
  */
 public abstract class ShrimpCaughtSummaryScreen {
+  private static final int PLAYERS_PER_ROW = 3;
+  private static final String[] BAR_CHART_STYLES = {
+      "blue-bar-chart", "green-bar-chart", "red-bar-chart"
+  };
+
   /**
    * Returns a {@link javafx.scene.Scene Scene} object representing the shrimp caught summary screen 
    * of the Shrimp Game application.
@@ -59,15 +66,10 @@ public abstract class ShrimpCaughtSummaryScreen {
     gridContainer.setPadding(new Insets(0, 100, 0, 100));
     playersGrid.setAlignment(Pos.CENTER);
 
-    List<Player> otherPlayers = new ArrayList<>(shrimpGameApp.getGame().getPlayers().values());
-    Player player1 = shrimpGameApp.getGame().getPlayers().get(shrimpGameApp.getUser().getName());
-    otherPlayers.remove(player1);
-    Player player2 = otherPlayers.get(0);
-    Player player3 = otherPlayers.get(1);
+    String userName = shrimpGameApp.getUser().getName();
     List<Player> players = new ArrayList<>();
-    players.add(player1);
-    players.add(player2);
-    players.add(player3);
+    players.add(shrimpGameApp.getGame().getPlayers().get(userName));
+    players.addAll(shrimpGameApp.getGame().getOtherPlayers(userName));
 
     int tickUnit = 10;
     int maxShrimpCaught = 80;
@@ -82,7 +84,8 @@ public abstract class ShrimpCaughtSummaryScreen {
       playerBox.setSpacing(10);
 
       Image playerImage = new Image(
-          shrimpGameApp.getClass().getResourceAsStream("/images/player" + (i + 1) + ".png"));
+          shrimpGameApp.getClass().getResourceAsStream(
+              "/images/player" + (i % BAR_CHART_STYLES.length + 1) + ".png"));
       ImageView playerImageView = new ImageView(playerImage);
       playerImageView.setFitWidth(100);
       playerImageView.setFitHeight(100);
@@ -98,15 +101,7 @@ public abstract class ShrimpCaughtSummaryScreen {
       yAxis.setTickLabelFont(Font.font("Helvetica"));
       yAxis.setTickLabelFill(Color.BLACK);
       BarChart<String, Number> chart = new BarChart<>(xAxis, yAxis);
-      if (i == 0) {
-        chart.getStyleClass().add("blue-bar-chart");
-      }
-      else if (i == 1) {
-        chart.getStyleClass().add("green-bar-chart");
-      }
-      else if (i == 2) {
-        chart.getStyleClass().add("red-bar-chart");
-      }
+      chart.getStyleClass().add(BAR_CHART_STYLES[i % BAR_CHART_STYLES.length]);
       chart.setLegendVisible(false);
       chart.setPrefWidth(200);
       chart.setPadding(new Insets(20));
@@ -119,7 +114,14 @@ public abstract class ShrimpCaughtSummaryScreen {
 
       playerBox.getChildren().addAll(playerNameLbl, playerImageView, chart);
 
-      playersGrid.add(playerBox, i, 0);
+      playersGrid.add(playerBox, i % PLAYERS_PER_ROW, i / PLAYERS_PER_ROW);
+    }
+
+    if (players.size() > PLAYERS_PER_ROW) {
+      ScrollPane playersScrollPane = new ScrollPane(playersGrid);
+      playersScrollPane.setFitToWidth(true);
+      gridContainer.getChildren().setAll(playersScrollPane);
+      VBox.setVgrow(gridContainer, Priority.ALWAYS);
     }
 
     // Add continue button
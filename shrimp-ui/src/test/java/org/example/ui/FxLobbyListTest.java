@@ -0,0 +1,126 @@
+package org.example.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import org.example.model.Lobby;
+import org.example.model.LobbyIndex;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link FxLobbyList} class. The lobbies are kept in a list counting how often it is
+ * read, so the tests can tell that a change does not search the list.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for removing and replacing lobbies among many lobbies without searching the
+ * list.</li>
+ * <li>Test for keeping the rows of the lobbies in step with a {@link LobbyIndex} through
+ * removals of the first, middle and last lobbies and a whole new lobby list.</li>
+ * </ul>
+ */
+public class FxLobbyListTest {
+    /**
+     * Represents a list counting the reads of its elements and the searches for elements.
+     */
+    private static class CountingList extends ArrayList<Lobby> {
+        private int reads;
+
+        @Override
+        public Lobby get(int index) {
+            this.reads++;
+            return super.get(index);
+        }
+
+        @Override
+        public int indexOf(Object element) {
+            this.reads += this.size();
+            return super.indexOf(element);
+        }
+
+        @Override
+        public int lastIndexOf(Object element) {
+            this.reads += this.size();
+            return super.lastIndexOf(element);
+        }
+
+        @Override
+        public boolean remove(Object element) {
+            this.reads += this.size();
+            return super.remove(element);
+        }
+    }
+
+    /**
+     * Positive test where the {@link FxLobbyList} class is able to remove and replace lobbies
+     * without searching the list.
+     * <p>
+     * Tests that removing a lobby from the middle of ten thousand lobbies reads a single row,
+     * the last row that takes its place, and that replacing a lobby reads no row.
+     */
+    @Test
+    public void testChangeWithoutSearching() {
+        CountingList rows = new CountingList();
+        FxLobbyList lobbyList = new FxLobbyList(FXCollections.observableList(rows));
+        for (int index = 0; index < 10000; index++) {
+            lobbyList.lobbyAdded(new Lobby("Lobby" + index, 0, 3));
+        }
+        rows.reads = 0;
+
+        lobbyList.lobbyRemoved(new Lobby("Lobby5000", 0, 3));
+        assertEquals(1, rows.reads);
+        assertEquals("Lobby9999", rows.get(5000).getLobbyName());
+
+        rows.reads = 0;
+        lobbyList.lobbyReplaced(new Lobby("Lobby9999", 0, 3), new Lobby("Lobby9999", 2, 3));
+        assertEquals(0, rows.reads);
+        assertEquals(2, rows.get(5000).getNumPlayers());
+        assertEquals(9999, rows.size());
+    }
+
+    /**
+     * Positive test where the {@link FxLobbyList} class is able to follow a
+     * {@link LobbyIndex}.
+     * <p>
+     * Tests that after removing the first, a middle and the last lobby, replacing lobbies that
+     * were moved by earlier removals, and applying a whole new lobby list, the rows hold exactly
+     * the lobbies of the index.
+     */
+    @Test
+    public void testFollowLobbyIndex() {
+        FxLobbyList lobbyList = new FxLobbyList();
+        LobbyIndex lobbyIndex = new LobbyIndex(lobbyList);
+        for (int index = 0; index < 6; index++) {
+            lobbyIndex.put(new Lobby("Lobby" + index, 0, 3));
+        }
+
+        lobbyIndex.remove("Lobby0");
+        lobbyIndex.remove("Lobby3");
+        lobbyIndex.remove("Lobby4");
+        lobbyIndex.setNumberOfPlayers("Lobby5", 1);
+        lobbyIndex.setNumberOfPlayers("Lobby1", 2);
+        assertSameLobbies(lobbyIndex.getLobbies(), lobbyList.getLobbies());
+
+        lobbyIndex.replaceAll(List.of(new Lobby("Lobby5", 3, 3), new Lobby("Lobby7", 0, 3),
+                                      new Lobby("Lobby2", 0, 3)));
+        assertSameLobbies(lobbyIndex.getLobbies(), lobbyList.getLobbies());
+        assertEquals(3, lobbyList.getLobbies().size());
+    }
+
+    /**
+     * Asserts that the rows hold the same lobbies as the index, in any order.
+     *
+     * @param expected the lobbies of the index.
+     * @param actual   the rows.
+     */
+    private static void assertSameLobbies(List<Lobby> expected, List<Lobby> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (Lobby lobby : expected) {
+            assertEquals(1, actual.stream().filter(row -> row == lobby).count(),
+                         lobby.getLobbyName());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link FxUpdateScheduler} class. The tasks the scheduler posts are kept in a queue
+ * and run by the tests instead of the JavaFX application thread, so the tests can tell how many
+ * tasks were posted.
+ * <p>
+ * The following <b>positive</b> tests are performed:
+ * <ul>
+ * <li>Test for applying only the latest update of every region, once, with a single task posted
+ * for a burst of updates.</li>
+ * <li>Test for posting no task while no update is scheduled or the scheduler is stopped, and
+ * applying the updates kept pending once it is started.</li>
+ * <li>Test for posting the task again for an update scheduled while the updates are
+ * applied.</li>
+ * <li>Test for losing no update when many threads schedule updates while the updates are
+ * applied.</li>
+ * </ul>
+ */
+public class FxUpdateSchedulerTest {
+    private final ConcurrentLinkedQueue<Runnable> postedTasks =
+            new ConcurrentLinkedQueue<Runnable>();
+
+    /**
+     * Runs the tasks posted by the scheduler, including the ones posted while they run.
+     *
+     * @return the number of tasks run.
+     */
+    private int runPostedTasks() {
+        int tasks = 0;
+        Runnable task = this.postedTasks.poll();
+        while (task != null) {
+            task.run();
+            tasks++;
+            task = this.postedTasks.poll();
+        }
+        return tasks;
+    }
+
+    /**
+     * Positive test where the {@link FxUpdateScheduler} class is able to coalesce updates.
+     * <p>
+     * Tests that a burst of updates posts a single task, which applies the latest update of
+     * every region in the order of the regions, and that the counters add up to the updates
+     * scheduled.
+     */
+    @Test
+    public void testCoalesceBurstIntoOneTask() {
+        FxUpdateScheduler scheduler = new FxUpdateScheduler(this.postedTasks::add);
+        scheduler.start();
+        List<String> applied = new ArrayList<String>();
+        for (int index = 0; index < 30; index++) {
+            String lobbies = "lobbies" + index;
+            scheduler.schedule(FxUpdateScheduler.Region.LOBBIES, () -> applied.add(lobbies));
+        }
+        scheduler.schedule(FxUpdateScheduler.Region.RESULTS, () -> applied.add("results"));
+        scheduler.schedule(FxUpdateScheduler.Region.CHAT, () -> applied.add("chat"));
+
+        assertEquals(1, this.postedTasks.size());
+        assertEquals(1, this.runPostedTasks());
+        assertEquals(List.of("lobbies29", "chat", "results"), applied);
+        assertEquals(1, scheduler.getAppliedUpdates(FxUpdateScheduler.Region.LOBBIES));
+        assertEquals(29, scheduler.getCoalescedUpdates(FxUpdateScheduler.Region.LOBBIES));
+        assertEquals(0, scheduler.getAppliedUpdates(FxUpdateScheduler.Region.SCOREBOARD));
+
+        scheduler.schedule(FxUpdateScheduler.Region.CHAT, () -> applied.add("chat again"));
+        assertEquals(1, this.runPostedTasks());
+        assertEquals("chat again", applied.get(applied.size() - 1));
+        assertEquals(2, scheduler.getAppliedUpdates(FxUpdateScheduler.Region.CHAT));
+    }
+
+    /**
+     * Positive test where the {@link FxUpdateScheduler} class is able to stay idle.
+     * <p>
+     * Tests that no task is posted while nothing is scheduled or the scheduler is stopped, that
+     * the updates scheduled meanwhile are kept, and that starting the scheduler applies them.
+     */
+    @Test
+    public void testIdleUntilStarted() {
+        FxUpdateScheduler scheduler = new FxUpdateScheduler(this.postedTasks::add);
+        scheduler.start();
+        assertEquals(0, this.postedTasks.size());
+
+        scheduler.stop();
+        AtomicInteger applied = new AtomicInteger();
+        scheduler.schedule(FxUpdateScheduler.Region.SCOREBOARD, applied::incrementAndGet);
+        assertEquals(0, this.postedTasks.size());
+
+        scheduler.start();
+        assertEquals(1, this.runPostedTasks());
+        assertEquals(1, applied.get());
+        assertEquals(0, this.runPostedTasks());
+    }
+
+    /**
+     * Positive test where the {@link FxUpdateScheduler} class is able to apply an update
+     * scheduled by an update being applied.
+     * <p>
+     * Tests that the update scheduled while the updates are applied posts a new task instead of
+     * being left pending.
+     */
+    @Test
+    public void testScheduleWhileApplying() {
+        FxUpdateScheduler scheduler = new FxUpdateScheduler(this.postedTasks::add);
+        scheduler.start();
+        List<String> applied = new ArrayList<String>();
+        scheduler.schedule(FxUpdateScheduler.Region.LOBBIES, () -> {
+            applied.add("lobbies");
+            scheduler.schedule(FxUpdateScheduler.Region.LOBBIES, () -> applied.add("refresh"));
+        });
+
+        assertEquals(2, this.runPostedTasks());
+        assertEquals(List.of("lobbies", "refresh"), applied);
+    }
+
+    /**
+     * Positive test where the {@link FxUpdateScheduler} class is able to take updates from many
+     * threads at once.
+     * <p>
+     * Tests that while four threads schedule updates of the same regions and the tasks posted
+     * are run at the same time, every update is either applied or replaced, and the last update of
+     * every thread is applied.
+     */
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException {
+        FxUpdateScheduler scheduler = new FxUpdateScheduler(this.postedTasks::add);
+        scheduler.start();
+        int threads = 4;
+        int updatesPerThread = 10000;
+        AtomicInteger lastUpdatesApplied = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            FxUpdateScheduler.Region region = FxUpdateScheduler.Region.values()[thread];
+            new Thread(() -> {
+                for (int update = 1; update < updatesPerThread; update++) {
+                    scheduler.schedule(region, () -> { });
+                }
+                scheduler.schedule(region, lastUpdatesApplied::incrementAndGet);
+                done.countDown();
+            }).start();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (done.getCount() > 0 && System.nanoTime() < deadline) {
+            this.runPostedTasks();
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        this.runPostedTasks();
+
+        long updates = 0;
+        for (FxUpdateScheduler.Region region : FxUpdateScheduler.Region.values()) {
+            updates += scheduler.getAppliedUpdates(region) + scheduler.getCoalescedUpdates(region);
+        }
+        assertEquals(threads * updatesPerThread, updates);
+        assertEquals(threads, lastUpdatesApplied.get());
+    }
+}